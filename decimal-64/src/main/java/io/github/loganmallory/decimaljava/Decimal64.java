@@ -2,10 +2,16 @@ package io.github.loganmallory.decimaljava;
 
 import io.github.loganmallory.decimaljava.annotations.Decimal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 
 import static io.github.loganmallory.decimaljava.Decimal64.Internal.Data.getMantissa;
@@ -219,6 +225,10 @@ public class Decimal64 {
             public static class Parts {
 
                 public static @Decimal long fromParts(long mantissa, int exponent) {
+                    return fromParts(mantissa, exponent, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long fromParts(long mantissa, int exponent, @NotNull RoundingMode roundingMode) {
                     // fast path zero
                     if (mantissa == 0) {
                         return ZERO;
@@ -231,7 +241,7 @@ public class Decimal64 {
                     }
 
                     // slower, but handles all cases
-                    return fromPartsPossibleFlowNoZero(mantissa, exponent);
+                    return fromPartsPossibleFlowNoZero(mantissa, exponent, roundingMode);
                 }
 
                 public static @Decimal long fromPartsFiniteLessThan16DigitsNoFlowNoZero(long mantissa, int exponent) {
@@ -253,24 +263,33 @@ public class Decimal64 {
                 }
 
                 public static @Decimal long fromPartsPossibleFlowNoZero(long mantissa, int exponent) {
+                    return fromPartsPossibleFlowNoZero(mantissa, exponent, RoundingMode.HALF_EVEN);
+                }
+
+                /**
+                 * Rounds the mantissa to {@value PRECISION} digits with the given rounding mode.
+                 * Values too large for the exponent overflow to -/+ Inf regardless of the rounding mode,
+                 * and values with magnitude below 10^{@value MIN_EXPONENT} underflow to zero.
+                 */
+                public static @Decimal long fromPartsPossibleFlowNoZero(long mantissa, int exponent, @NotNull RoundingMode roundingMode) {
                     if (exponent < MIN_EXPONENT) {
                         // overflow guaranteed
                         return mantissa > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
                     }
 
+                    int sign = FastMath.sign(mantissa);
+
                     // trim mantissa to 16 digits (may pop back up to 17 after rounding though)
                     int drop = FastMath.nDigits(mantissa) - PRECISION; // [-15, 3]
                     if (drop > 0) {
-                        // TODO: switch on drop with fallthrough /= 10
                         long div = FastMath.i64TenToThe(drop);
-                        int remainder = Math.abs((int) (mantissa % div)); // at most 3 digits
-                        mantissa /= div;
+                        long quotient = mantissa / div;
+                        long remainder = Math.abs(mantissa - (quotient * div)); // at most 3 digits
+                        mantissa = quotient;
                         exponent -= drop;
 
-                        // apply half-even rounding
-                        int half = (int) (5 * div / 10);
-                        if (remainder > half || (remainder == half && mantissa % 2 != 0)) {
-                            mantissa += FastMath.sign(mantissa);
+                        if (Maths.Round.roundAwayFromZero(roundingMode, sign, mantissa, Long.compare(remainder, div >> 1), remainder != 0)) {
+                            mantissa += sign;
                         }
                     }
 
@@ -295,14 +314,13 @@ public class Decimal64 {
                             return ZERO; // underflow
                         }
                         long div = FastMath.i64TenToThe(drop);
-                        long remainder = Math.abs(mantissa % div);
-                        mantissa /= div;
+                        long quotient = mantissa / div;
+                        long remainder = Math.abs(mantissa - (quotient * div));
+                        mantissa = quotient;
                         exponent -= drop;
 
-                        // apply half-even rounding
-                        long half = 5 * div / 10;
-                        if (remainder > half || (remainder == half && mantissa % 2 != 0)) {
-                            mantissa += FastMath.sign(mantissa);
+                        if (Maths.Round.roundAwayFromZero(roundingMode, sign, mantissa, Long.compare(remainder, div >> 1), remainder != 0)) {
+                            mantissa += sign;
                         }
 
                         // strip trailing zeros
@@ -318,6 +336,54 @@ public class Decimal64 {
                     assert exponent >= -255 && exponent <= 255 : "exponent must be in range [-255, 255]";
                     return Internal.Data.makeUnsafe(mantissa, exponent);
                 }
+
+                /**
+                 * Creates a Decimal from a sign and an unsigned 128-bit mantissa (mantissaHi, mantissaLo),
+                 * rounding half-even to {@value PRECISION} digits.
+                 * The mantissa must be less than 10^36.
+                 */
+                public static @Decimal long fromPartsU128(int sign, long mantissaHi, long mantissaLo, int exponent) {
+                    return fromPartsU128(sign, mantissaHi, mantissaLo, exponent, RoundingMode.HALF_EVEN);
+                }
+
+                /**
+                 * Creates a Decimal from a sign and an unsigned 128-bit mantissa (mantissaHi, mantissaLo),
+                 * rounding to {@value PRECISION} digits with the given rounding mode.
+                 * The mantissa must be less than 10^36.
+                 */
+                public static @Decimal long fromPartsU128(int sign, long mantissaHi, long mantissaLo, int exponent, @NotNull RoundingMode roundingMode) {
+                    if (mantissaHi == 0 && mantissaLo >= 0) {
+                        // fits in an i64
+                        return fromParts(mantissaLo * sign, exponent, roundingMode);
+                    }
+
+                    // keep the first 18 digits, the rest only matter as a sticky digit for rounding
+                    int drop = FastMath.nDigitsU128(mantissaHi, mantissaLo) - (PRECISION + 2); // [1, 18]
+                    assert drop >= 1 && drop <= 18 : "mantissa must be in range [2^63, 10^36)";
+                    long div = FastMath.i64TenToThe(drop);
+                    long mantissa = FastMath.divideU128ByU64(mantissaHi, mantissaLo, div);
+                    boolean sticky = (mantissaLo - mantissa * div) != 0;
+
+                    // safety: mantissa is 18 digits, so fromParts(..) rounds away the sticky digit
+                    return fromParts(foldSticky(mantissa, sticky) * sign, exponent - drop, roundingMode);
+                }
+
+                /**
+                 * Folds a sticky flag, i.e. whether any non-zero digits were truncated off the end of the mantissa,
+                 * into the mantissa's last digit. The last digit is nudged away from 0 and 5, so that rounding it off
+                 * later gives the same result as rounding the exact (untruncated) value.
+                 * <h1>Unsafe: Does not validate inputs</h1>
+                 * The mantissa must have more than {@value PRECISION} digits, so its last digit is always rounded off.
+                 */
+                public static long foldSticky(long mantissa, boolean sticky) {
+                    if (sticky) {
+                        long last = Math.abs(mantissa % 10);
+                        if (last == 0 || last == 5) {
+                            mantissa += FastMath.sign(mantissa);
+                        }
+                    }
+                    return mantissa;
+                }
             }
 
             public static class I64 {
@@ -360,7 +426,7 @@ public class Decimal64 {
                     if (Compare.DecimalVsDecimal.compareFinite(decimal, i64Max) <= 0) {
                         if (exponent > 0) {
                             // decimal is like 1.23
-                            decimal = Maths.Round.round(decimal, 0);
+                            decimal = Maths.Round.round(decimal, 0, RoundingMode.HALF_EVEN);
                             mantissa = getMantissa(decimal) * sign;
                             exponent = getExponent(decimal);
                         }
@@ -458,7 +524,7 @@ public class Decimal64 {
                     if (Compare.DecimalVsDecimal.compareFinite(decimal, i32Max) <= 0) {
                         if (exponent > 0) {
                             // decimal is like 1.23
-                            decimal = Maths.Round.round(decimal, 0);
+                            decimal = Maths.Round.round(decimal, 0, RoundingMode.HALF_EVEN);
                             mantissa = getMantissa(decimal) * sign;
                             exponent = getExponent(decimal);
                         }
@@ -619,11 +685,40 @@ public class Decimal64 {
                 }
 
                 public static @Decimal long fromString(@NotNull ByteBuffer str) {
-                    var charSeq = new ByteBufferCharSequence(str);
-                    return Str.fromString(charSeq, 0, str.limit() - str.position());
+                    return Str.fromAscii(str, str.position(), str.remaining());
                 }
 
+                @SuppressWarnings("fenum:binary")
                 public static @Decimal long fromString(@NotNull CharSequence str, int offset, int len) {
+                    @Decimal long decimal = parse(str, offset, len);
+                    if (decimal == INVALID) {
+                        throw invalid(str, offset, len);
+                    }
+                    return decimal;
+                }
+
+                /**
+                 * Same as {@link #fromString(CharSequence, int, int)}, but returns the given fallback for invalid input instead
+                 * of throwing, so a burst of bad input costs the same as good input.
+                 * Doesn't allocate.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long tryFromString(@NotNull CharSequence str, int offset, int len, @Decimal long invalid) {
+                    @Decimal long decimal = parse(str, offset, len);
+                    return decimal == INVALID ? invalid : decimal;
+                }
+
+                /**
+                 * Returned by the parse methods for invalid input, it's never a valid Decimal.
+                 * The public methods turn it into a NumberFormatException, or the caller's fallback.
+                 */
+                static final @Decimal long INVALID = Data.makeUnsafe(1, SPECIAL_EXPONENT);
+
+                /** A grouping separator that never matches a char or byte, i.e. grouping isn't allowed */
+                static final int NO_GROUPING = Integer.MAX_VALUE;
+
+                /** Parses the range ignoring surrounding whitespace, returns {@link #INVALID} if it isn't a decimal */
+                private static @Decimal long parse(@NotNull CharSequence str, int offset, int len) {
                     // throw on invalid indexes
                     Objects.checkFromToIndex(offset, offset + len, str.length());
 
@@ -638,7 +733,7 @@ public class Decimal64 {
 
                     // was it all blank?
                     if (i == n) {
-                        throw new NumberFormatException("Invalid decimal string: '" + str.subSequence(offset, offset + len) + "'");
+                        return INVALID;
                     }
                     int head = i;
 
@@ -653,7 +748,7 @@ public class Decimal64 {
                         if (bytesFinishNan(str, i+1, n)) {
                             return NAN;
                         }
-                        throw new NumberFormatException("Invalid decimal string: '" + str.subSequence(head, tail) + "'");
+                        return INVALID;
                     }
 
                     // check for sign
@@ -668,7 +763,7 @@ public class Decimal64 {
 
                     // anything left?
                     if (i == n) {
-                        throw new NumberFormatException("Invalid decimal string: '" + str.subSequence(offset, offset + len) + "'");
+                        return INVALID;
                     }
 
                     // check for infinity
@@ -676,7 +771,7 @@ public class Decimal64 {
                         if (bytesFinishInfinity(str, i+1, n)) {
                             return sign > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
                         }
-                        throw new NumberFormatException("Invalid decimal string: '" + str.subSequence(head, tail) + "'");
+                        return INVALID;
                     }
 
                     // ignore leading zeros
@@ -689,572 +784,3688 @@ public class Decimal64 {
                         return ZERO;
                     }
 
-                    // TODO use custom parsing
-                    return Str.fromStringFinite(str, head, tail - head);
+                    return parseFinite(str, head, tail - head, null);
                 }
 
+                /**
+                 * The number of significant digits the parsers accumulate, 2 past the precision, so with a sticky digit
+                 * for anything further the single rounding in fromParts(..) is exact.
+                 * 18 digits always fit in a long.
+                 */
+                public static final int MAX_PARSED_DIGITS = PRECISION + 2;
+
+                /** While the mantissa is below this it has room for another digit, i.e. it has < {@value MAX_PARSED_DIGITS} digits */
+                static final long PARSED_MANTISSA_LIMIT = 100_000_000_000_000_000L;
+
+                /** While the mantissa is below this it has room for 8 more digits */
+                private static final long EIGHT_DIGITS_MANTISSA_LIMIT = 10_000_000_000L;
+
+                /** Parsed powers, the digits after 'E', saturate here, far past anything a string's length could cancel out */
+                static final long PARSED_POWER_LIMIT = 1_000_000_000_000L;
+
+                /** Exponents are clamped to +/- this, which over/underflows even with {@value MAX_PARSED_DIGITS} digits */
+                private static final int MAX_PARSED_EXPONENT = 1_000_000_000;
+
+                /**
+                 * Parses a finite decimal string, e.g. "-123.4500" or "1.2345E-7", without whitespace.
+                 * More than {@value PRECISION} significant digits are rounded half-even, and out of range values overflow to
+                 * -/+ Inf or underflow to zero the same as {@link Parts#fromParts(long, int)}.
+                 * Doesn't allocate unless the string is invalid.
+                 */
+                @SuppressWarnings("fenum:binary")
                 public static @Decimal long fromStringFinite(@NotNull CharSequence str, int offset, int len) {
-                    var string = String.valueOf(str.subSequence(offset, offset + len));
-                    BigDecimal bigDecimal;
-                    try {
-                        bigDecimal = new BigDecimal(string, MathContext.DECIMAL64);
-                    } catch (Exception e) {
-                        throw new NumberFormatException("Invalid decimal string: '" + string + "'");
+                    @Decimal long decimal = parseFinite(str, offset, len, null);
+                    if (decimal == INVALID) {
+                        throw invalid(str, offset, len);
                     }
-                    return BigDec.fromBigDecimal(bigDecimal);
+                    return decimal;
                 }
 
-                public static boolean bytesFinishNan(@NotNull CharSequence str, int i, int n) {
-                    assert str.charAt(i - 1) == 'N';
-                    return n - i == 2 && str.charAt(i) == 'a' && str.charAt(i+1) == 'N';
+                /**
+                 * If consumed is null the whole range must be a decimal, else parsing stops at the first char that can't
+                 * continue it, and consumed[0] is set to the number of chars used. Returns {@link #INVALID} if there's no decimal.
+                 */
+                private static @Decimal long parseFinite(@NotNull CharSequence str, int offset, int len, int @Nullable [] consumed) {
+                    return parseFinite(str, offset, len, consumed, '.', NO_GROUPING);
                 }
 
-                public static boolean bytesFinishInfinity(@NotNull CharSequence str, int i, int n) {
-                    assert str.charAt(i - 1) == 'I';
-                    return n - i == 7 && str.charAt(i) == 'n' && str.charAt(i+1) == 'f' && str.charAt(i+2) == 'i'
-                                && str.charAt(i+3) == 'n' && str.charAt(i+4) == 'i' && str.charAt(i+5) == 't'
-                                && str.charAt(i+6) == 'y';
-                }
+                /**
+                 * Same as {@link #parseFinite(CharSequence, int, int, int[])} with the given separators, see {@link DecimalParser}.
+                 * A grouping separator is only allowed between two integer digits.
+                 */
+                static @Decimal long parseFinite(@NotNull CharSequence str, int offset, int len, int @Nullable [] consumed, char decimalSeparator, int groupingSeparator) {
+                    int i = offset;
+                    int n = offset + len;
 
-                public static @NotNull String toString(@Decimal long decimal) {
-                    ByteBuffer buf;
+                    int sign = 1;
+                    if (i < n) {
+                        switch (str.charAt(i)) {
+                            case '-':
+                                sign = -1;
+                                // fallthrough
+                            case '+':
+                                i++;
+                        }
+                    }
 
-                    if (Internal.Data.isFinite(decimal)) {
-                        long mantissa = getMantissa(decimal);
-                        int exponent = getExponent(decimal);
-                        int size = FastMath.nDigits(mantissa) + 2 + Math.abs(exponent); // digits + sign + point + place on number line
-                        buf = ByteBuffer.allocate(size);
-                    } else {
-                        buf = ByteBuffer.allocate(9);
+                    long mantissa = 0;
+                    int exponent = 0;    // digits after the point, less any integer digits past MAX_PARSED_DIGITS
+                    boolean sticky = false;
+                    boolean point = false;
+                    boolean anyDigit = false;
+
+                    for (; i < n; i++) {
+                        char c = str.charAt(i);
+                        int digit = c - '0';
+                        if (digit >= 0 && digit <= 9) {
+                            anyDigit = true;
+                            if (mantissa < PARSED_MANTISSA_LIMIT) {
+                                // leading zeros leave the mantissa at 0, but do move the point
+                                mantissa = mantissa * 10 + digit;
+                                if (point) {
+                                    exponent++;
+                                }
+                            } else {
+                                // past the digits that can affect rounding, only remember if it's non-zero
+                                sticky |= digit != 0;
+                                if (!point) {
+                                    exponent--;
+                                }
+                            }
+                        } else if (c == decimalSeparator && !point) {
+                            point = true;
+                        } else if (c == groupingSeparator && !point && anyDigit && isDigit(str.charAt(i - 1)) && i + 1 < n && isDigit(str.charAt(i + 1))) {
+                            // e.g. the commas in "1,234,567.89"
+                        } else if ((c == 'E' || c == 'e') && anyDigit) {
+                            // scientific notation, the exponent ends the number
+                            int j = i + 1;
+                            boolean negativePower = false;
+                            if (j < n && (str.charAt(j) == '-' || str.charAt(j) == '+')) {
+                                negativePower = str.charAt(j) == '-';
+                                j++;
+                            }
+                            int powerStart = j;
+                            long power = 0;
+                            while (j < n) {
+                                int powerDigit = str.charAt(j) - '0';
+                                if (powerDigit < 0 || powerDigit > 9) {
+                                    break;
+                                }
+                                // saturate, any power this large over/underflows whatever the digits are
+                                power = power < PARSED_POWER_LIMIT ? power * 10 + powerDigit : power;
+                                j++;
+                            }
+                            if (j == powerStart || (j < n && consumed == null)) {
+                                // e.g. "1E", "1E+" or "1E3.5", a prefix like "1.5EUR" stops before the 'E'
+                                if (consumed == null) {
+                                    return INVALID;
+                                }
+                                break;
+                            }
+                            exponent = applyPower(exponent, negativePower ? -power : power);
+                            i = j;
+                            break;
+                        } else if (consumed != null) {
+                            break;
+                        } else {
+                            return INVALID;
+                        }
                     }
 
-                    toString(decimal, buf);
+                    if (consumed != null) {
+                        consumed[0] = i - offset;
+                    }
+                    if (!anyDigit) {
+                        // e.g. "-" or "."
+                        return INVALID;
+                    }
+                    return fromParsedDigits(sign, mantissa, exponent, sticky);
+                }
 
-                    return new String(buf.array(), 0, buf.position(), US_ASCII);
+                private static boolean isDigit(int c) {
+                    return c >= '0' && c <= '9';
                 }
 
-                public static final byte[] NAN_ASCII = new byte[]{'N', 'a', 'N'};
-                public static final byte[] POSITIVE_INFINITY_ASCII = new byte[]{'+', 'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
-                public static final byte[] NEGATIVE_INFINITY_ASCII = new byte[]{'-', 'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+                /** Applies a parsed power of ten, e.g. the 3 in "1.5E3", to the count of digits after the point */
+                static int applyPower(long exponent, long power) {
+                    // safety: both are far below 2^62, and the clamped result still over/underflows the same
+                    long scaled = exponent - power;
+                    return (int) Math.max(Math.min(scaled, MAX_PARSED_EXPONENT), -MAX_PARSED_EXPONENT);
+                }
 
-                public static void toString(@Decimal long decimal, @NotNull ByteBuffer out) {
-                    if (!Internal.Data.isFinite(decimal)) {
-                        if (decimal == NAN) {
-                            out.put(NAN_ASCII);
-                        } else if (decimal == NEGATIVE_INFINITY) {
-                            out.put(NEGATIVE_INFINITY_ASCII);
-                        } else {
-                            out.put(POSITIVE_INFINITY_ASCII);
-                        }
-                        return;
+                /** Rounds the digits accumulated by a parser, a mantissa of <= {@value MAX_PARSED_DIGITS} digits plus a sticky flag */
+                static @Decimal long fromParsedDigits(int sign, long mantissa, int exponent, boolean sticky) {
+                    if (mantissa == 0) {
+                        return ZERO;
                     }
 
-                    long mantissa = getMantissa(decimal);
-                    int exponent = getExponent(decimal);
+                    if (sticky) {
+                        // safety: sticky is only set once the mantissa has MAX_PARSED_DIGITS > 16 digits
+                        mantissa = Parts.foldSticky(mantissa, true);
+                    }
 
-                    if (mantissa == 0) {
-                        // fast path zero
-                        out.put((byte) '0');
-                        return;
+                    // safety: fromParts(..) rounds the mantissa to 16 digits and handles over/underflow
+                    return Parts.fromParts(mantissa * sign, exponent);
+                }
+
+                /**
+                 * Parses ASCII bytes the same as {@link #fromString(CharSequence, int, int)}, reading 8 digits at a time.
+                 * Doesn't allocate unless the bytes are invalid.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromAscii(byte @NotNull [] buf, int offset, int len) {
+                    @Decimal long decimal = parseAscii(buf, offset, len);
+                    if (decimal == INVALID) {
+                        throw invalid(new String(buf, offset, len, US_ASCII), 0, len);
                     }
+                    return decimal;
+                }
 
-                    if (exponent == 0) {
-                        // just an integer, e.g. 123
-                        FastEncoding.write_i64(mantissa, out);
-                        return;
+                /** Same as {@link #tryFromString(CharSequence, int, int, long)}, for ASCII bytes */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long tryFromAscii(byte @NotNull [] buf, int offset, int len, @Decimal long invalid) {
+                    @Decimal long decimal = parseAscii(buf, offset, len);
+                    return decimal == INVALID ? invalid : decimal;
+                }
+
+                private static @Decimal long parseAscii(byte @NotNull [] buf, int offset, int len) {
+                    // throw on invalid indexes
+                    Objects.checkFromIndexSize(offset, len, buf.length);
+
+                    int i = offset;
+                    int n = offset + len;
+
+                    // ignore leading and trailing whitespace
+                    while (i < n && Character.isWhitespace(buf[i])) {
+                        i++;
+                    }
+                    if (i == n) {
+                        return INVALID;
+                    }
+                    while (n > i + 1 && Character.isWhitespace(buf[n - 1])) {
+                        n--;
                     }
 
-                    if (exponent < 0) {
-                        // also an integer, but with trailing zeros, e.g. 31400
-                        FastEncoding.write_i64(mantissa, out);
-                        for (int i = 0; i < -exponent; i++) {
-                            out.put((byte) '0');
+                    byte c = buf[i];
+                    if (c == 'N') {
+                        if (n - i == 3 && buf[i + 1] == 'a' && buf[i + 2] == 'N') {
+                            return NAN;
                         }
-                        return;
+                        return INVALID;
                     }
 
-                    // some digits are on right side of decimal point, e.g. 12.345 or 0.0123
-
-                    int n_digits = FastMath.nDigits(mantissa);
-                    if (n_digits > exponent) {
-                        // digits are split across left and right side, e.g. 12.345
-                        // exponent is in range [1, 15]
-                        long pow = FastMath.i64TenToThe(exponent);
-                        long left = mantissa / pow;
-                        long right = Math.abs(mantissa - (left * pow));
-                        FastEncoding.write_i64(left, out);
-                        out.put((byte) '.');
-                        int n_leading_zeros = exponent - FastMath.nDigits(right);
-                        for (int i = 0; i < n_leading_zeros && i < 14; i++) {
-                            // mantissa <= 16 digits, so at most 14 zeros
-                            out.put((byte) '0');
+                    int j = (c == '-' || c == '+') ? i + 1 : i;
+                    if (j == n) {
+                        // just a sign
+                        return INVALID;
+                    }
+                    if (buf[j] == 'I') {
+                        if (asciiFinishesInfinity(buf, j + 1, n)) {
+                            return c == '-' ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
                         }
-                        FastEncoding.write_i64(right, out);
-                        return;
+                        return INVALID;
                     }
 
-                    // all digits are all on right side, e.g. 0.0123
-                    if (mantissa < 0) {
-                        out.put((byte) '-');
-                    }
-                    out.put((byte) '0');
-                    out.put((byte) '.');
-                    int n_leading_zeros = exponent - n_digits;
-                    for (int i = 0; i < n_leading_zeros; i++) {
-                        out.put((byte) '0');
+                    return parseAsciiFinite(buf, i, n - i, null);
+                }
+
+                /**
+                 * Parses finite ASCII bytes the same as {@link #fromStringFinite(CharSequence, int, int)}.
+                 * Runs of 8 digits are checked and converted as one long with SWAR arithmetic, see {@link FastEncoding#parseEightDigits(long)}.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromAsciiFinite(byte @NotNull [] buf, int offset, int len) {
+                    @Decimal long decimal = parseAsciiFinite(buf, offset, len, null);
+                    if (decimal == INVALID) {
+                        throw invalid(new String(buf, offset, len, US_ASCII), 0, len);
                     }
-                    FastEncoding.write_i64(Math.abs(mantissa), out);
+                    return decimal;
                 }
-            }
-        }
 
-        public static class Compare {
+                /** Same as {@link #parseFinite(CharSequence, int, int, int[])}, for ASCII bytes */
+                private static @Decimal long parseAsciiFinite(byte @NotNull [] buf, int offset, int len, int @Nullable [] consumed) {
+                    return parseAsciiFinite(buf, offset, len, consumed, (byte) '.', NO_GROUPING);
+                }
 
-            public static class DecimalVsDecimal {
+                /** Same as {@link #parseFinite(CharSequence, int, int, int[], char, int)}, for ASCII bytes */
+                static @Decimal long parseAsciiFinite(byte @NotNull [] buf, int offset, int len, int @Nullable [] consumed, byte decimalSeparator, int groupingSeparator) {
+                    int i = offset;
+                    int n = offset + len;
 
-                @SuppressWarnings("fenum:return")
-                public static boolean equal(@Decimal long decimalA, @Decimal long decimalB) {
-                    return decimalA == decimalB;
+                    int sign = 1;
+                    if (i < n && (buf[i] == '-' || buf[i] == '+')) {
+                        sign = buf[i] == '-' ? -1 : 1;
+                        i++;
+                    }
+
+                    long mantissa = 0;
+                    int exponent = 0;
+                    boolean sticky = false;
+                    boolean point = false;
+                    boolean anyDigit = false;
+
+                    while (i < n) {
+                        // 8 digits at a time, while they either all fit in the mantissa or are all past it
+                        if (n - i >= 8 && (mantissa < EIGHT_DIGITS_MANTISSA_LIMIT || mantissa >= PARSED_MANTISSA_LIMIT)) {
+                            long word = (long) FastEncoding.I64_LE_BYTE_ARRAY.get(buf, i);
+                            if (FastEncoding.isEightDigits(word)) {
+                                anyDigit = true;
+                                if (mantissa < EIGHT_DIGITS_MANTISSA_LIMIT) {
+                                    mantissa = mantissa * 100_000_000 + FastEncoding.parseEightDigits(word);
+                                    exponent += point ? 8 : 0;
+                                } else {
+                                    sticky |= word != FastEncoding.ASCII_ZEROS_i64;
+                                    exponent -= point ? 0 : 8;
+                                }
+                                i += 8;
+                                continue;
+                            }
+                        }
+
+                        byte c = buf[i];
+                        int digit = c - '0';
+                        if (digit >= 0 && digit <= 9) {
+                            anyDigit = true;
+                            if (mantissa < PARSED_MANTISSA_LIMIT) {
+                                mantissa = mantissa * 10 + digit;
+                                exponent += point ? 1 : 0;
+                            } else {
+                                sticky |= digit != 0;
+                                exponent -= point ? 0 : 1;
+                            }
+                        } else if (c == decimalSeparator && !point) {
+                            point = true;
+                        } else if (c == groupingSeparator && !point && anyDigit && isDigit(buf[i - 1]) && i + 1 < n && isDigit(buf[i + 1])) {
+                            // e.g. the commas in "1,234,567.89"
+                        } else if ((c == 'E' || c == 'e') && anyDigit) {
+                            // scientific notation, the exponent ends the number
+                            int j = i + 1;
+                            boolean negativePower = false;
+                            if (j < n && (buf[j] == '-' || buf[j] == '+')) {
+                                negativePower = buf[j] == '-';
+                                j++;
+                            }
+                            int powerStart = j;
+                            long power = 0;
+                            while (j < n) {
+                                int powerDigit = buf[j] - '0';
+                                if (powerDigit < 0 || powerDigit > 9) {
+                                    break;
+                                }
+                                // saturate, any power this large over/underflows whatever the digits are
+                                power = power < PARSED_POWER_LIMIT ? power * 10 + powerDigit : power;
+                                j++;
+                            }
+                            if (j == powerStart || (j < n && consumed == null)) {
+                                // e.g. "1E", "1E+" or "1E3.5", a prefix like "1.5EUR" stops before the 'E'
+                                if (consumed == null) {
+                                    return INVALID;
+                                }
+                                break;
+                            }
+                            exponent = applyPower(exponent, negativePower ? -power : power);
+                            i = j;
+                            break;
+                        } else if (consumed != null) {
+                            break;
+                        } else {
+                            return INVALID;
+                        }
+                        i++;
+                    }
+
+                    if (consumed != null) {
+                        consumed[0] = i - offset;
+                    }
+                    if (!anyDigit) {
+                        return INVALID;
+                    }
+                    return fromParsedDigits(sign, mantissa, exponent, sticky);
                 }
 
-                public static @Decimal long min(@Decimal long decimalA, @Decimal long decimalB) {
-                    return Internal.Compare.DecimalVsDecimal.compare(decimalA, decimalB) <= 0 ? decimalA : decimalB;
+                /**
+                 * Parses ASCII bytes from the ByteBuffer the same as {@link #fromAscii(byte[], int, int)}.
+                 * Uses absolute indexes, so the buffer's position and limit are unchanged. Works on heap and direct buffers.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromAscii(@NotNull ByteBuffer buf, int offset, int len) {
+                    @Decimal long decimal = parseAscii(buf, offset, len);
+                    if (decimal == INVALID) {
+                        throw invalid(asciiToString(buf, offset, len), 0, len);
+                    }
+                    return decimal;
                 }
 
-                public static @Decimal long max(@Decimal long decimalA, @Decimal long decimalB) {
-                    return Internal.Compare.DecimalVsDecimal.compare(decimalA, decimalB) >= 0 ? decimalA : decimalB;
+                /** Same as {@link #tryFromString(CharSequence, int, int, long)}, for ASCII bytes */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long tryFromAscii(@NotNull ByteBuffer buf, int offset, int len, @Decimal long invalid) {
+                    @Decimal long decimal = parseAscii(buf, offset, len);
+                    return decimal == INVALID ? invalid : decimal;
                 }
 
-                public static int compare(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
-                        return compareNonFinite(decimalA, decimalB);
+                private static @Decimal long parseAscii(@NotNull ByteBuffer buf, int offset, int len) {
+                    // throw on invalid indexes
+                    Objects.checkFromIndexSize(offset, len, buf.limit());
+
+                    int i = offset;
+                    int n = offset + len;
+
+                    // ignore leading and trailing whitespace
+                    while (i < n && Character.isWhitespace(buf.get(i))) {
+                        i++;
+                    }
+                    if (i == n) {
+                        return INVALID;
+                    }
+                    while (n > i + 1 && Character.isWhitespace(buf.get(n - 1))) {
+                        n--;
                     }
-                    return compareFinite(decimalA, decimalB);
-                }
 
-                @SuppressWarnings("fenum:argument")
-                public static int compareNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (decimalA == decimalB) {
-                        return 0;
+                    byte c = buf.get(i);
+                    if (c == 'N') {
+                        if (n - i == 3 && buf.get(i + 1) == 'a' && buf.get(i + 2) == 'N') {
+                            return NAN;
+                        }
+                        return INVALID;
                     }
 
-                    // NaN is always greater
-                    if (decimalA == NAN) {
-                        return 1;
+                    int j = (c == '-' || c == '+') ? i + 1 : i;
+                    if (j == n) {
+                        // just a sign
+                        return INVALID;
                     }
-                    if (decimalB == NAN) {
-                        return -1;
+                    if (buf.get(j) == 'I') {
+                        if (asciiFinishesInfinity(buf, j + 1, n)) {
+                            return c == '-' ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+                        }
+                        return INVALID;
                     }
 
-                    // at least one of the decimals is infinity
-                    // safety: the mantissa for -/+ infinity are signed, so raw values can be compared
-                    return Long.compare(decimalA, decimalB);
+                    return parseAsciiFinite(buf, i, n - i, null);
                 }
 
-                public static int compareFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (decimalA == decimalB) {
-                        return 0;
+                /** Same as {@link #fromAsciiFinite(byte[], int, int)}, for a heap or direct ByteBuffer */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromAsciiFinite(@NotNull ByteBuffer buf, int offset, int len) {
+                    @Decimal long decimal = parseAsciiFinite(buf, offset, len, null);
+                    if (decimal == INVALID) {
+                        throw invalid(asciiToString(buf, offset, len), 0, len);
                     }
+                    return decimal;
+                }
 
-                    long a_mantissa = getMantissa(decimalA);
-                    int a_exponent  = getExponent(decimalA);
-                    long b_mantissa = getMantissa(decimalB);
-                    int b_exponent  = getExponent(decimalB);
+                /** Same as {@link #parseFinite(CharSequence, int, int, int[])}, for ASCII bytes in a ByteBuffer */
+                private static @Decimal long parseAsciiFinite(@NotNull ByteBuffer buf, int offset, int len, int @Nullable [] consumed) {
+                    int i = offset;
+                    int n = offset + len;
 
-                    return compareFinite(a_mantissa, a_exponent, b_mantissa, b_exponent);
-                }
+                    int sign = 1;
+                    if (i < n && (buf.get(i) == '-' || buf.get(i) == '+')) {
+                        sign = buf.get(i) == '-' ? -1 : 1;
+                        i++;
+                    }
 
-                public static int compareFinite(long a_mantissa, int a_exponent, long b_mantissa, int b_exponent) {
-                    // if zeros, positive vs. negative, or same exponent, we can just compare mantissas
-                    if (a_mantissa == 0 || b_mantissa == 0 || (a_mantissa < 0) != (b_mantissa < 0) || a_exponent == b_exponent) {
-                        return Long.compare(a_mantissa, b_mantissa);
+                    long mantissa = 0;
+                    int exponent = 0;
+                    boolean sticky = false;
+                    boolean point = false;
+                    boolean anyDigit = false;
+
+                    while (i < n) {
+                        // 8 digits at a time, while they either all fit in the mantissa or are all past it
+                        if (n - i >= 8 && (mantissa < EIGHT_DIGITS_MANTISSA_LIMIT || mantissa >= PARSED_MANTISSA_LIMIT)) {
+                            long word = (long) FastEncoding.I64_LE_BYTE_BUFFER.get(buf, i);
+                            if (FastEncoding.isEightDigits(word)) {
+                                anyDigit = true;
+                                if (mantissa < EIGHT_DIGITS_MANTISSA_LIMIT) {
+                                    mantissa = mantissa * 100_000_000 + FastEncoding.parseEightDigits(word);
+                                    exponent += point ? 8 : 0;
+                                } else {
+                                    sticky |= word != FastEncoding.ASCII_ZEROS_i64;
+                                    exponent -= point ? 0 : 8;
+                                }
+                                i += 8;
+                                continue;
+                            }
+                        }
+
+                        byte c = buf.get(i);
+                        int digit = c - '0';
+                        if (digit >= 0 && digit <= 9) {
+                            anyDigit = true;
+                            if (mantissa < PARSED_MANTISSA_LIMIT) {
+                                mantissa = mantissa * 10 + digit;
+                                exponent += point ? 1 : 0;
+                            } else {
+                                sticky |= digit != 0;
+                                exponent -= point ? 0 : 1;
+                            }
+                        } else if (c == '.' && !point) {
+                            point = true;
+                        } else if ((c == 'E' || c == 'e') && anyDigit) {
+                            // scientific notation, the exponent ends the number
+                            int j = i + 1;
+                            boolean negativePower = false;
+                            if (j < n && (buf.get(j) == '-' || buf.get(j) == '+')) {
+                                negativePower = buf.get(j) == '-';
+                                j++;
+                            }
+                            int powerStart = j;
+                            long power = 0;
+                            while (j < n) {
+                                int powerDigit = buf.get(j) - '0';
+                                if (powerDigit < 0 || powerDigit > 9) {
+                                    break;
+                                }
+                                // saturate, any power this large over/underflows whatever the digits are
+                                power = power < PARSED_POWER_LIMIT ? power * 10 + powerDigit : power;
+                                j++;
+                            }
+                            if (j == powerStart || (j < n && consumed == null)) {
+                                // e.g. "1E", "1E+" or "1E3.5", a prefix like "1.5EUR" stops before the 'E'
+                                if (consumed == null) {
+                                    return INVALID;
+                                }
+                                break;
+                            }
+                            exponent = applyPower(exponent, negativePower ? -power : power);
+                            i = j;
+                            break;
+                        } else if (consumed != null) {
+                            break;
+                        } else {
+                            return INVALID;
+                        }
+                        i++;
                     }
 
-                    // safety: a_exponent != b_exponent, a and b are same sign, neither are zero,
-                    // mantissas are <= 16 digits, and exponents are in range [-255, 255]
-                    return compareFiniteSignedUnsafe(a_mantissa, a_exponent, b_mantissa, b_exponent);
+                    if (consumed != null) {
+                        consumed[0] = i - offset;
+                    }
+                    if (!anyDigit) {
+                        return INVALID;
+                    }
+                    return fromParsedDigits(sign, mantissa, exponent, sticky);
                 }
 
-                public static int compareFiniteSignedUnsafe(long a_mantissa, int a_exponent, long b_mantissa, int b_exponent) {
-                    assert a_exponent != b_exponent: "a_exponent and b_exponent must be different";
-                    assert FastMath.sameSign(a_mantissa, b_mantissa): "a_mantissa and b_mantissa must have same sign";
-                    assert a_mantissa != 0 && b_mantissa != 0: "a_mantissa and b_mantissa must not be zero";
-                    assert FastMath.nDigits(a_mantissa) <= 16: "n_digits(a_mantissa) must be <= 16";
-                    assert FastMath.nDigits(b_mantissa) <= 16: "n_digits(b_mantissa) must be <= 16";
-                    assert a_exponent >= -255 && a_exponent <= 255: "a_exponent must be in range [-255, 255]";
-                    assert b_exponent >= -255 && b_exponent <= 255: "b_exponent must be in range [-255, 255]";
-
-                    if (a_mantissa >= 0) {
-                        return compareFiniteUnsignedUnsafe(a_mantissa, a_exponent, b_mantissa, b_exponent);
-                    } else {
-                        return compareFiniteUnsignedUnsafe(-a_mantissa, a_exponent, -b_mantissa, b_exponent) * -1;
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromString(char @NotNull [] chars, int offset, int len) {
+                    @Decimal long decimal = parse(chars, offset, len);
+                    if (decimal == INVALID) {
+                        throw invalid(CharBuffer.wrap(chars), offset, len);
                     }
+                    return decimal;
                 }
 
-                public static int compareFiniteUnsignedUnsafe(long a_mantissa, int a_exponent, long b_mantissa, int b_exponent) {
-                    assert a_exponent != b_exponent: "a_exponent and b_exponent must be different";
-                    assert FastMath.sameSign(a_mantissa, b_mantissa): "a_mantissa and b_mantissa must have same sign";
-                    assert a_mantissa != 0 && b_mantissa != 0: "a_mantissa and b_mantissa must not be zero";
-                    assert FastMath.nDigits(a_mantissa) <= 16: "n_digits(a_mantissa) must be <= 16";
-                    assert FastMath.nDigits(b_mantissa) <= 16: "n_digits(b_mantissa) must be <= 16";
-                    assert a_exponent >= -255 && a_exponent <= 255: "a_exponent must be in range [-255, 255]";
-                    assert b_exponent >= -255 && b_exponent <= 255: "b_exponent must be in range [-255, 255]";
-                    assert a_mantissa >= 0 && b_mantissa >= 0: "a_mantissa and b_mantissa must be >= 0";
+                /** Same as {@link #tryFromString(CharSequence, int, int, long)}, for a char[] */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long tryFromString(char @NotNull [] chars, int offset, int len, @Decimal long invalid) {
+                    @Decimal long decimal = parse(chars, offset, len);
+                    return decimal == INVALID ? invalid : decimal;
+                }
 
-                    int a_n_digits = FastMath.nDigits(a_mantissa);
-                    int b_n_digits = FastMath.nDigits(b_mantissa);
+                /**
+                 * Same as {@link #fromString(CharSequence, int, int)}, but with String's charAt(..) and no other CharSequence's
+                 * in the profile, so a call site that also sees e.g. StringBuilders doesn't stop the parser inlining.
+                 * Short strings are copied into a thread local char[] with one bulk copy and parsed from there.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromString(@NotNull String str, int offset, int len) {
+                    @Decimal long decimal = parse(str, offset, len);
+                    if (decimal == INVALID) {
+                        throw invalid(str, offset, len);
+                    }
+                    return decimal;
+                }
 
-                    return compareFiniteUnsignedUnsafe(a_mantissa, a_exponent, b_mantissa, b_exponent, a_n_digits, b_n_digits);
+                /** Same as {@link #tryFromString(CharSequence, int, int, long)}, for a String, see {@link #fromString(String, int, int)} */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long tryFromString(@NotNull String str, int offset, int len, @Decimal long invalid) {
+                    @Decimal long decimal = parse(str, offset, len);
+                    return decimal == INVALID ? invalid : decimal;
                 }
 
-                public static int compareFiniteUnsignedUnsafe(long a_mantissa, int a_exponent, long b_mantissa, int b_exponent, int a_n_digits, int b_n_digits) {
-                    assert a_exponent != b_exponent: "a_exponent and b_exponent must be different";
-                    assert FastMath.sameSign(a_mantissa, b_mantissa): "a_mantissa and b_mantissa must have same sign";
-                    assert a_mantissa != 0 && b_mantissa != 0: "a_mantissa and b_mantissa must not be zero";
-                    assert FastMath.nDigits(a_mantissa) <= 16: "n_digits(a_mantissa) must be <= 16";
-                    assert FastMath.nDigits(b_mantissa) <= 16: "n_digits(b_mantissa) must be <= 16";
-                    assert a_exponent >= -255 && a_exponent <= 255: "a_exponent must be in range [-255, 255]";
-                    assert b_exponent >= -255 && b_exponent <= 255: "b_exponent must be in range [-255, 255]";
-                    assert a_mantissa >= 0 && b_mantissa >= 0: "a_mantissa and b_mantissa must be >= 0";
+                /** The longest String copied into {@link #SCRATCH_CHARS}, longer ones are parsed as a CharSequence */
+                private static final int MAX_SCRATCH_CHARS = 64;
 
-                    // if same number of digits, just compare exponents
-                    if (a_n_digits == b_n_digits) {
-                        return Integer.compare(b_exponent, a_exponent);
+                private static final ThreadLocal<char[]> SCRATCH_CHARS = ThreadLocal.withInitial(() -> new char[MAX_SCRATCH_CHARS]);
+
+                private static @Decimal long parse(@NotNull String str, int offset, int len) {
+                    // throw on invalid indexes
+                    Objects.checkFromIndexSize(offset, len, str.length());
+
+                    if (len > MAX_SCRATCH_CHARS) {
+                        return parse((CharSequence) str, offset, len);
+                    }
+                    char[] chars = SCRATCH_CHARS.get();
+                    str.getChars(offset, offset + len, chars, 0);
+                    return parse(chars, 0, len);
+                }
+
+                /** Same as {@link #parse(CharSequence, int, int)}, for a char[] */
+                private static @Decimal long parse(char @NotNull [] chars, int offset, int len) {
+                    // throw on invalid indexes
+                    Objects.checkFromIndexSize(offset, len, chars.length);
+
+                    int i = offset;
+                    int n = offset + len;
+
+                    // ignore leading and trailing whitespace
+                    while (i < n && Character.isWhitespace(chars[i])) {
+                        i++;
+                    }
+                    if (i == n) {
+                        return INVALID;
+                    }
+                    while (n > i + 1 && Character.isWhitespace(chars[n - 1])) {
+                        n--;
+                    }
+
+                    char c = chars[i];
+                    if (c == 'N') {
+                        if (n - i == 3 && chars[i + 1] == 'a' && chars[i + 2] == 'N') {
+                            return NAN;
+                        }
+                        return INVALID;
+                    }
+
+                    int j = (c == '-' || c == '+') ? i + 1 : i;
+                    if (j == n) {
+                        // just a sign
+                        return INVALID;
+                    }
+                    if (chars[j] == 'I') {
+                        if (n - j == 8 && chars[j + 1] == 'n' && chars[j + 2] == 'f' && chars[j + 3] == 'i'
+                                && chars[j + 4] == 'n' && chars[j + 5] == 'i' && chars[j + 6] == 't' && chars[j + 7] == 'y') {
+                            return c == '-' ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+                        }
+                        return INVALID;
+                    }
+
+                    return parseFinite(chars, i, n - i, null);
+                }
+
+                /** Same as {@link #parseFinite(CharSequence, int, int, int[])}, for a char[] */
+                private static @Decimal long parseFinite(char @NotNull [] chars, int offset, int len, int @Nullable [] consumed) {
+                    int i = offset;
+                    int n = offset + len;
+
+                    int sign = 1;
+                    if (i < n && (chars[i] == '-' || chars[i] == '+')) {
+                        sign = chars[i] == '-' ? -1 : 1;
+                        i++;
+                    }
+
+                    long mantissa = 0;
+                    int exponent = 0;
+                    boolean sticky = false;
+                    boolean point = false;
+                    boolean anyDigit = false;
+
+                    while (i < n) {
+                        char c = chars[i];
+                        int digit = c - '0';
+                        if (digit >= 0 && digit <= 9) {
+                            anyDigit = true;
+                            if (mantissa < PARSED_MANTISSA_LIMIT) {
+                                mantissa = mantissa * 10 + digit;
+                                exponent += point ? 1 : 0;
+                            } else {
+                                sticky |= digit != 0;
+                                exponent -= point ? 0 : 1;
+                            }
+                        } else if (c == '.' && !point) {
+                            point = true;
+                        } else if ((c == 'E' || c == 'e') && anyDigit) {
+                            // scientific notation, the exponent ends the number
+                            int j = i + 1;
+                            boolean negativePower = false;
+                            if (j < n && (chars[j] == '-' || chars[j] == '+')) {
+                                negativePower = chars[j] == '-';
+                                j++;
+                            }
+                            int powerStart = j;
+                            long power = 0;
+                            while (j < n) {
+                                int powerDigit = chars[j] - '0';
+                                if (powerDigit < 0 || powerDigit > 9) {
+                                    break;
+                                }
+                                // saturate, any power this large over/underflows whatever the digits are
+                                power = power < PARSED_POWER_LIMIT ? power * 10 + powerDigit : power;
+                                j++;
+                            }
+                            if (j == powerStart || (j < n && consumed == null)) {
+                                // e.g. "1E", "1E+" or "1E3.5", a prefix like "1.5EUR" stops before the 'E'
+                                if (consumed == null) {
+                                    return INVALID;
+                                }
+                                break;
+                            }
+                            exponent = applyPower(exponent, negativePower ? -power : power);
+                            i = j;
+                            break;
+                        } else if (consumed != null) {
+                            break;
+                        } else {
+                            return INVALID;
+                        }
+                        i++;
+                    }
+
+                    if (consumed != null) {
+                        consumed[0] = i - offset;
+                    }
+                    if (!anyDigit) {
+                        return INVALID;
+                    }
+                    return fromParsedDigits(sign, mantissa, exponent, sticky);
+                }
+
+                /**
+                 * Parses the decimal at the start of the range, stopping at the first char that can't continue it,
+                 * e.g. the SOH in "101.25\u0001" or the comma in "101.25,3".
+                 * Sets consumed[0] to the number of chars used, so delimited fields are only scanned once.
+                 * Whitespace isn't skipped. Throws a NumberFormatException if the range doesn't start with a decimal.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromStringPrefix(@NotNull CharSequence str, int offset, int len, int @NotNull [] consumed) {
+                    @Decimal long decimal = parsePrefix(str, offset, len, consumed);
+                    if (decimal == INVALID) {
+                        throw invalid(str, offset, Math.min(consumed[0] + 1, len));
+                    }
+                    return decimal;
+                }
+
+                /**
+                 * Same as {@link #fromStringPrefix(CharSequence, int, int, int[])}, but returns the given fallback instead of
+                 * throwing if the range doesn't start with a decimal, then consumed[0] is where parsing stopped.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long tryFromStringPrefix(@NotNull CharSequence str, int offset, int len, int @NotNull [] consumed, @Decimal long invalid) {
+                    @Decimal long decimal = parsePrefix(str, offset, len, consumed);
+                    return decimal == INVALID ? invalid : decimal;
+                }
+
+                private static @Decimal long parsePrefix(@NotNull CharSequence str, int offset, int len, int @NotNull [] consumed) {
+                    // throw on invalid indexes
+                    Objects.checkFromIndexSize(offset, len, str.length());
+
+                    int n = offset + len;
+                    if (n - offset >= 3 && str.charAt(offset) == 'N' && bytesFinishNan(str, offset + 1, offset + 3)) {
+                        consumed[0] = 3;
+                        return NAN;
+                    }
+                    int j = offset < n && (str.charAt(offset) == '-' || str.charAt(offset) == '+') ? offset + 1 : offset;
+                    if (n - j >= 8 && str.charAt(j) == 'I' && bytesFinishInfinity(str, j + 1, j + 8)) {
+                        consumed[0] = j + 8 - offset;
+                        return str.charAt(offset) == '-' ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+                    }
+                    return parseFinite(str, offset, len, consumed);
+                }
+
+                /** Same as {@link #fromStringPrefix(CharSequence, int, int, int[])}, for ASCII bytes */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromAsciiPrefix(byte @NotNull [] buf, int offset, int len, int @NotNull [] consumed) {
+                    @Decimal long decimal = parseAsciiPrefix(buf, offset, len, consumed);
+                    if (decimal == INVALID) {
+                        String str = new String(buf, offset, Math.min(consumed[0] + 1, len), US_ASCII);
+                        throw invalid(str, 0, str.length());
+                    }
+                    return decimal;
+                }
+
+                /** Same as {@link #tryFromStringPrefix(CharSequence, int, int, int[], long)}, for ASCII bytes */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long tryFromAsciiPrefix(byte @NotNull [] buf, int offset, int len, int @NotNull [] consumed, @Decimal long invalid) {
+                    @Decimal long decimal = parseAsciiPrefix(buf, offset, len, consumed);
+                    return decimal == INVALID ? invalid : decimal;
+                }
+
+                private static @Decimal long parseAsciiPrefix(byte @NotNull [] buf, int offset, int len, int @NotNull [] consumed) {
+                    // throw on invalid indexes
+                    Objects.checkFromIndexSize(offset, len, buf.length);
+
+                    int n = offset + len;
+                    if (n - offset >= 3 && buf[offset] == 'N' && buf[offset + 1] == 'a' && buf[offset + 2] == 'N') {
+                        consumed[0] = 3;
+                        return NAN;
+                    }
+                    int j = offset < n && (buf[offset] == '-' || buf[offset] == '+') ? offset + 1 : offset;
+                    if (n - j >= 8 && buf[j] == 'I' && asciiFinishesInfinity(buf, j + 1, j + 8)) {
+                        consumed[0] = j + 8 - offset;
+                        return buf[offset] == '-' ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+                    }
+                    return parseAsciiFinite(buf, offset, len, consumed);
+                }
+
+                /** Same as {@link #fromStringPrefix(CharSequence, int, int, int[])}, for ASCII bytes in a ByteBuffer, using absolute indexes */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long fromAsciiPrefix(@NotNull ByteBuffer buf, int offset, int len, int @NotNull [] consumed) {
+                    @Decimal long decimal = parseAsciiPrefix(buf, offset, len, consumed);
+                    if (decimal == INVALID) {
+                        String str = asciiToString(buf, offset, Math.min(consumed[0] + 1, len));
+                        throw invalid(str, 0, str.length());
+                    }
+                    return decimal;
+                }
+
+                /** Same as {@link #tryFromStringPrefix(CharSequence, int, int, int[], long)}, for ASCII bytes */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long tryFromAsciiPrefix(@NotNull ByteBuffer buf, int offset, int len, int @NotNull [] consumed, @Decimal long invalid) {
+                    @Decimal long decimal = parseAsciiPrefix(buf, offset, len, consumed);
+                    return decimal == INVALID ? invalid : decimal;
+                }
+
+                private static @Decimal long parseAsciiPrefix(@NotNull ByteBuffer buf, int offset, int len, int @NotNull [] consumed) {
+                    // throw on invalid indexes
+                    Objects.checkFromIndexSize(offset, len, buf.limit());
+
+                    int n = offset + len;
+                    if (n - offset >= 3 && buf.get(offset) == 'N' && buf.get(offset + 1) == 'a' && buf.get(offset + 2) == 'N') {
+                        consumed[0] = 3;
+                        return NAN;
+                    }
+                    int j = offset < n && (buf.get(offset) == '-' || buf.get(offset) == '+') ? offset + 1 : offset;
+                    if (n - j >= 8 && buf.get(j) == 'I' && asciiFinishesInfinity(buf, j + 1, j + 8)) {
+                        consumed[0] = j + 8 - offset;
+                        return buf.get(offset) == '-' ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+                    }
+                    return parseAsciiFinite(buf, offset, len, consumed);
+                }
+
+                private static boolean asciiFinishesInfinity(byte @NotNull [] buf, int i, int n) {
+                    return n - i == 7 && buf[i] == 'n' && buf[i + 1] == 'f' && buf[i + 2] == 'i'
+                            && buf[i + 3] == 'n' && buf[i + 4] == 'i' && buf[i + 5] == 't' && buf[i + 6] == 'y';
+                }
+
+                private static boolean asciiFinishesInfinity(@NotNull ByteBuffer buf, int i, int n) {
+                    return n - i == 7 && buf.get(i) == 'n' && buf.get(i + 1) == 'f' && buf.get(i + 2) == 'i'
+                            && buf.get(i + 3) == 'n' && buf.get(i + 4) == 'i' && buf.get(i + 5) == 't' && buf.get(i + 6) == 'y';
+                }
+
+                private static @NotNull String asciiToString(@NotNull ByteBuffer buf, int offset, int len) {
+                    byte[] out = new byte[len];
+                    buf.get(offset, out);
+                    return new String(out, US_ASCII);
+                }
+
+                /** The exception for an invalid range, quoted without surrounding whitespace unless that leaves nothing or just a sign */
+                static @NotNull NumberFormatException invalid(@NotNull CharSequence str, int offset, int len) {
+                    int head = offset;
+                    int tail = offset + len;
+                    while (head < tail && Character.isWhitespace(str.charAt(head))) {
+                        head++;
+                    }
+                    while (tail > head && Character.isWhitespace(str.charAt(tail - 1))) {
+                        tail--;
+                    }
+                    if (head == tail || (tail - head == 1 && (str.charAt(head) == '-' || str.charAt(head) == '+'))) {
+                        head = offset;
+                        tail = offset + len;
+                    }
+                    return new NumberFormatException("Invalid decimal string: '" + str.subSequence(head, tail) + "'");
+                }
+
+                public static boolean bytesFinishNan(@NotNull CharSequence str, int i, int n) {
+                    assert str.charAt(i - 1) == 'N';
+                    return n - i == 2 && str.charAt(i) == 'a' && str.charAt(i+1) == 'N';
+                }
+
+                public static boolean bytesFinishInfinity(@NotNull CharSequence str, int i, int n) {
+                    assert str.charAt(i - 1) == 'I';
+                    return n - i == 7 && str.charAt(i) == 'n' && str.charAt(i+1) == 'f' && str.charAt(i+2) == 'i'
+                                && str.charAt(i+3) == 'n' && str.charAt(i+4) == 'i' && str.charAt(i+5) == 't'
+                                && str.charAt(i+6) == 'y';
+                }
+
+                /**
+                 * The longest string a Decimal formats to, e.g. "-1234567890123456" followed by {@value Internal#MAX_EXPONENT} zeros.
+                 * Fractions are shorter, at most "-0." then {@value Internal#MAX_EXPONENT} digits.
+                 */
+                public static final int MAX_STRING_LENGTH = 1 + PRECISION - MIN_EXPONENT;
+
+                /** Formatted bytes on their way to a char[], StringBuilder or Appendable */
+                private static final ThreadLocal<byte[]> SCRATCH_BYTES = ThreadLocal.withInitial(() -> new byte[MAX_STRING_LENGTH]);
+
+                /** Formatted chars on their way to a StringBuilder */
+                private static final ThreadLocal<char[]> SCRATCH_FORMAT_CHARS = ThreadLocal.withInitial(() -> new char[MAX_STRING_LENGTH]);
+
+                public static @NotNull String toString(@Decimal long decimal) {
+                    // the String copies the bytes either way, so an exact size array would only add an allocation
+                    byte[] bytes = SCRATCH_BYTES.get();
+                    int len = formatTo(decimal, bytes, 0);
+                    return new String(bytes, 0, len, US_ASCII);
+                }
+
+                public static final byte[] NAN_ASCII = new byte[]{'N', 'a', 'N'};
+                public static final byte[] POSITIVE_INFINITY_ASCII = new byte[]{'+', 'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+                public static final byte[] NEGATIVE_INFINITY_ASCII = new byte[]{'-', 'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+
+                /**
+                 * Writes the decimal at the buffer's position, and advances it.
+                 * Throws a BufferOverflowException, without writing anything, if the buffer has too little room.
+                 */
+                public static void toString(@Decimal long decimal, @NotNull ByteBuffer out) {
+                    int len = formattedLength(decimal);
+                    if (out.remaining() < len) {
+                        throw new BufferOverflowException();
+                    }
+                    if (out.hasArray()) {
+                        // straight into the backing array
+                        formatTo(decimal, out.array(), out.arrayOffset() + out.position());
+                        out.position(out.position() + len);
+                        return;
+                    }
+                    byte[] bytes = SCRATCH_BYTES.get();
+                    formatTo(decimal, bytes, 0);
+                    out.put(bytes, 0, len);
+                }
+
+                /**
+                 * Writes the decimal as ASCII into dst at the offset, and returns the offset after the last byte.
+                 * Throws an IndexOutOfBoundsException if dst is too small, with dst partly written.
+                 * At most {@value #MAX_STRING_LENGTH} bytes are written.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static int formatTo(@Decimal long decimal, byte @NotNull [] dst, int offset) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        byte[] special = decimal == NAN ? NAN_ASCII : decimal == NEGATIVE_INFINITY ? NEGATIVE_INFINITY_ASCII : POSITIVE_INFINITY_ASCII;
+                        System.arraycopy(special, 0, dst, offset, special.length);
+                        return offset + special.length;
+                    }
+
+                    long mantissa = getMantissa(decimal);
+                    int exponent = getExponent(decimal);
+
+                    if (mantissa == 0) {
+                        // fast path zero
+                        dst[offset] = '0';
+                        return offset + 1;
+                    }
+
+                    if (exponent == 0) {
+                        // just an integer, e.g. 123
+                        return FastEncoding.write_i64(mantissa, dst, offset);
+                    }
+
+                    if (exponent < 0) {
+                        // also an integer, but with trailing zeros, e.g. 31400
+                        int i = FastEncoding.write_i64(mantissa, dst, offset);
+                        Arrays.fill(dst, i, i - exponent, (byte) '0');
+                        return i - exponent;
+                    }
+
+                    // some digits are on right side of decimal point, e.g. 12.345 or 0.0123
+
+                    int n_digits = FastMath.nDigits(mantissa);
+                    if (n_digits > exponent) {
+                        // digits are split across left and right side, e.g. 12.345
+                        // exponent is in range [1, 15]
+                        long pow = FastMath.i64TenToThe(exponent);
+                        long left = mantissa / pow;
+                        long right = Math.abs(mantissa - (left * pow));
+                        int i = FastEncoding.write_i64(left, dst, offset);
+                        dst[i++] = '.';
+                        // mantissa <= 16 digits, so at most 14 zeros
+                        int n_leading_zeros = exponent - FastMath.nDigits(right);
+                        Arrays.fill(dst, i, i + n_leading_zeros, (byte) '0');
+                        return FastEncoding.write_i64(right, dst, i + n_leading_zeros);
+                    }
+
+                    // all digits are all on right side, e.g. 0.0123
+                    int i = offset;
+                    if (mantissa < 0) {
+                        dst[i++] = '-';
+                    }
+                    dst[i++] = '0';
+                    dst[i++] = '.';
+                    int n_leading_zeros = exponent - n_digits;
+                    Arrays.fill(dst, i, i + n_leading_zeros, (byte) '0');
+                    return FastEncoding.write_i64(Math.abs(mantissa), dst, i + n_leading_zeros);
+                }
+
+                /**
+                 * The number of bytes {@link #formatTo(long, byte[], int)} writes for the decimal, without formatting it.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static int formattedLength(@Decimal long decimal) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return decimal == NAN ? NAN_ASCII.length : POSITIVE_INFINITY_ASCII.length;
+                    }
+
+                    long mantissa = getMantissa(decimal);
+                    if (mantissa == 0) {
+                        return 1;
+                    }
+
+                    int exponent = getExponent(decimal);
+                    int n_sign = mantissa < 0 ? 1 : 0;
+                    int n_digits = FastMath.nDigits(mantissa);
+                    if (exponent <= 0) {
+                        // the digits then trailing zeros, e.g. 31400
+                        return n_sign + n_digits - exponent;
+                    }
+                    if (n_digits > exponent) {
+                        // the digits split by the point, e.g. 12.345
+                        return n_sign + n_digits + 1;
+                    }
+                    // "0." then leading zeros and the digits, e.g. 0.0123
+                    return n_sign + 2 + exponent;
+                }
+
+                /**
+                 * Same as {@link #formatTo(long, byte[], int)}, for chars.
+                 */
+                public static int formatTo(@Decimal long decimal, char @NotNull [] dst, int offset) {
+                    byte[] bytes = SCRATCH_BYTES.get();
+                    int len = formatTo(decimal, bytes, 0);
+                    Objects.checkFromIndexSize(offset, len, dst.length);
+                    for (int i = 0; i < len; i++) {
+                        dst[offset + i] = (char) bytes[i];
+                    }
+                    return offset + len;
+                }
+
+                /**
+                 * Appends the decimal to the StringBuilder, and returns it.
+                 */
+                public static @NotNull StringBuilder appendTo(@Decimal long decimal, @NotNull StringBuilder out) {
+                    // one bulk append, a char at a time is ~1.5x slower
+                    char[] chars = SCRATCH_FORMAT_CHARS.get();
+                    int len = formatTo(decimal, chars, 0);
+                    return out.append(chars, 0, len);
+                }
+
+                /**
+                 * Appends the decimal to the Appendable, e.g. a Writer, and returns it.
+                 */
+                public static <A extends Appendable> @NotNull A appendTo(@Decimal long decimal, @NotNull A out) throws IOException {
+                    byte[] bytes = SCRATCH_BYTES.get();
+                    int len = formatTo(decimal, bytes, 0);
+                    for (int i = 0; i < len; i++) {
+                        out.append((char) bytes[i]);
+                    }
+                    return out;
+                }
+
+                /**
+                 * The longest scientific or engineering string, e.g. "-1.234567890123456E+270" or "-123.4567890123456E-255".
+                 * The power of ten is in [-255, 270], so has at most 3 digits.
+                 */
+                public static final int MAX_SCIENTIFIC_STRING_LENGTH = 1 + PRECISION + 1 + 2 + 3;
+
+                /** By default {@link #formatShortest(long, int, byte[], int)} writes at most this many padding zeros, same as BigDecimal's -6 adjusted exponent */
+                public static final int DEFAULT_MAX_PLAIN_ZEROS = 6;
+
+                /** The longest string {@link #formatShortest(long, byte[], int)} writes, e.g. "-0.000000" then 16 digits */
+                public static final int MAX_SHORTEST_STRING_LENGTH = 3 + PRECISION + DEFAULT_MAX_PLAIN_ZEROS;
+
+                /**
+                 * Writes the decimal in scientific notation into dst at the offset, and returns the offset after the last byte.
+                 * One digit before the point, no trailing zeros, and a signed power of ten, e.g. "1.25E+7", "-3E-250" or "0E+0".
+                 * NaN and infinities are written as by {@link #formatTo(long, byte[], int)}.
+                 * At most {@value #MAX_SCIENTIFIC_STRING_LENGTH} bytes are written.
+                 */
+                public static int formatScientific(@Decimal long decimal, byte @NotNull [] dst, int offset) {
+                    return formatScientific(decimal, false, dst, offset);
+                }
+
+                /**
+                 * Same as {@link #formatScientific(long, byte[], int)}, with the power of ten a multiple of 3,
+                 * and 1 to 3 digits before the point, e.g. "12.5E+6" or "100E-252".
+                 */
+                public static int formatEngineering(@Decimal long decimal, byte @NotNull [] dst, int offset) {
+                    return formatScientific(decimal, true, dst, offset);
+                }
+
+                private static int formatScientific(@Decimal long decimal, boolean engineering, byte @NotNull [] dst, int offset) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return formatTo(decimal, dst, offset);
+                    }
+
+                    long mantissa = getMantissa(decimal);
+                    int exponent = getExponent(decimal);
+
+                    int i = offset;
+                    if (mantissa == 0) {
+                        dst[i++] = '0';
+                        dst[i++] = 'E';
+                        dst[i++] = '+';
+                        dst[i++] = '0';
+                        return i;
+                    }
+
+                    // drop trailing zeros, they'd be written after the point
+                    while (mantissa % 10 == 0) {
+                        mantissa /= 10;
+                        exponent--;
+                    }
+
+                    int n_digits = FastMath.nDigits(mantissa);
+                    int power = n_digits - 1 - exponent;
+                    int n_int_digits = 1;
+                    if (engineering) {
+                        int engineeringPower = Math.floorDiv(power, 3) * 3;
+                        n_int_digits += power - engineeringPower;
+                        power = engineeringPower;
+                    }
+
+                    if (mantissa < 0) {
+                        dst[i++] = '-';
+                    }
+                    int digitsEnd = FastEncoding.write_i64(Math.abs(mantissa), dst, i);
+                    if (n_digits > n_int_digits) {
+                        // move the fraction digits over for the point
+                        System.arraycopy(dst, i + n_int_digits, dst, i + n_int_digits + 1, n_digits - n_int_digits);
+                        dst[i + n_int_digits] = '.';
+                        i = digitsEnd + 1;
+                    } else {
+                        // e.g. "100E+3", engineering only
+                        Arrays.fill(dst, digitsEnd, i + n_int_digits, (byte) '0');
+                        i += n_int_digits;
+                    }
+
+                    dst[i++] = 'E';
+                    dst[i++] = (byte) (power < 0 ? '-' : '+');
+                    return FastEncoding.write_i64(Math.abs(power), dst, i);
+                }
+
+                /**
+                 * Writes the decimal as by {@link #formatShortest(long, int, byte[], int)}, with at most {@value #DEFAULT_MAX_PLAIN_ZEROS} padding zeros.
+                 * At most {@value #MAX_SHORTEST_STRING_LENGTH} bytes are written.
+                 */
+                public static int formatShortest(@Decimal long decimal, byte @NotNull [] dst, int offset) {
+                    return formatShortest(decimal, DEFAULT_MAX_PLAIN_ZEROS, dst, offset);
+                }
+
+                /**
+                 * Writes the decimal as by {@link #formatTo(long, byte[], int)} if that needs at most maxPlainZeros zeros
+                 * between its digits and the point, e.g. "0.00125" or "125000", otherwise as by {@link #formatScientific(long, byte[], int)},
+                 * e.g. "1.25E-250". Returns the offset after the last byte.
+                 * At most max({@value #MAX_SCIENTIFIC_STRING_LENGTH}, 3 + {@value Internal#PRECISION} + maxPlainZeros) bytes are written.
+                 */
+                public static int formatShortest(@Decimal long decimal, int maxPlainZeros, byte @NotNull [] dst, int offset) {
+                    if (maxPlainZeros < 0) {
+                        throw new IllegalArgumentException("Max plain zeros must be >= 0, got " + maxPlainZeros);
+                    }
+                    if (usePlain(decimal, maxPlainZeros)) {
+                        return formatTo(decimal, dst, offset);
+                    }
+                    return formatScientific(decimal, false, dst, offset);
+                }
+
+                /** Whether the plain form of the decimal has at most maxPlainZeros zeros between its digits and the point */
+                private static boolean usePlain(@Decimal long decimal, int maxPlainZeros) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return true;
+                    }
+                    long mantissa = getMantissa(decimal);
+                    int exponent = getExponent(decimal);
+                    int n_digits = FastMath.nDigits(mantissa);
+                    int n_zeros = mantissa == 0 ? 0 : exponent < 0 ? -exponent : Math.max(exponent - n_digits, 0);
+                    return n_zeros <= maxPlainZeros;
+                }
+
+                /**
+                 * The number of bytes {@link #formatScientific(long, byte[], int)} writes for the decimal, without formatting it.
+                 */
+                public static int formattedScientificLength(@Decimal long decimal) {
+                    return formattedScientificLength(decimal, false);
+                }
+
+                /**
+                 * The number of bytes {@link #formatEngineering(long, byte[], int)} writes for the decimal, without formatting it.
+                 */
+                public static int formattedEngineeringLength(@Decimal long decimal) {
+                    return formattedScientificLength(decimal, true);
+                }
+
+                private static int formattedScientificLength(@Decimal long decimal, boolean engineering) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return formattedLength(decimal);
+                    }
+
+                    long mantissa = getMantissa(decimal);
+                    if (mantissa == 0) {
+                        // "0E+0"
+                        return 4;
+                    }
+
+                    // same steps as formatScientific(..)
+                    int exponent = getExponent(decimal);
+                    while (mantissa % 10 == 0) {
+                        mantissa /= 10;
+                        exponent--;
+                    }
+                    int n_digits = FastMath.nDigits(mantissa);
+                    int power = n_digits - 1 - exponent;
+                    int n_int_digits = 1;
+                    if (engineering) {
+                        int engineeringPower = Math.floorDiv(power, 3) * 3;
+                        n_int_digits += power - engineeringPower;
+                        power = engineeringPower;
+                    }
+
+                    int n_sign = mantissa < 0 ? 1 : 0;
+                    int n_mantissa = n_digits > n_int_digits ? n_digits + 1 : n_int_digits;
+                    return n_sign + n_mantissa + 2 + FastMath.nDigits(power);
+                }
+
+                /**
+                 * The number of bytes {@link #formatShortest(long, int, byte[], int)} writes for the decimal, without formatting it.
+                 */
+                public static int formattedShortestLength(@Decimal long decimal, int maxPlainZeros) {
+                    if (maxPlainZeros < 0) {
+                        throw new IllegalArgumentException("Max plain zeros must be >= 0, got " + maxPlainZeros);
+                    }
+                    return usePlain(decimal, maxPlainZeros) ? formattedLength(decimal) : formattedScientificLength(decimal, false);
+                }
+
+                public static @NotNull String toScientificString(@Decimal long decimal) {
+                    byte[] bytes = SCRATCH_BYTES.get();
+                    int len = formatScientific(decimal, false, bytes, 0);
+                    return new String(bytes, 0, len, US_ASCII);
+                }
+
+                public static @NotNull String toEngineeringString(@Decimal long decimal) {
+                    byte[] bytes = SCRATCH_BYTES.get();
+                    int len = formatScientific(decimal, true, bytes, 0);
+                    return new String(bytes, 0, len, US_ASCII);
+                }
+
+                public static @NotNull String toShortestString(@Decimal long decimal) {
+                    byte[] bytes = SCRATCH_BYTES.get();
+                    int len = formatShortest(decimal, DEFAULT_MAX_PLAIN_ZEROS, bytes, 0);
+                    return new String(bytes, 0, len, US_ASCII);
+                }
+
+                /** The longest fixed scale string, before padding to a width, the longest integer then a point and {@value Internal#MAX_EXPONENT} zeros */
+                public static final int MAX_FIXED_STRING_LENGTH = MAX_STRING_LENGTH + 1 + MAX_EXPONENT;
+
+                /** Fixed scale bytes on their way to a char[] or StringBuilder */
+                private static final ThreadLocal<byte[]> SCRATCH_FIXED_BYTES = ThreadLocal.withInitial(() -> new byte[MAX_FIXED_STRING_LENGTH]);
+
+                /**
+                 * The number of bytes {@link #formatFixed(long, int, RoundingMode, int, byte[], int)} writes for the decimal, without formatting it.
+                 * Throws the same exceptions, apart from the IndexOutOfBoundsException.
+                 */
+                public static int formattedFixedLength(@Decimal long decimal, int scale, @NotNull RoundingMode roundingMode, int width) {
+                    if (scale < 0 || scale > MAX_EXPONENT) {
+                        throw new IllegalArgumentException("Scale must be in [0, " + MAX_EXPONENT + "], got " + scale);
+                    }
+                    if (width < 0) {
+                        throw new IllegalArgumentException("Width must be >= 0, got " + width);
+                    }
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return Math.max(formattedLength(decimal), width);
+                    }
+
+                    // same steps as formatFixed(..)
+                    @Decimal long rounded = Maths.Round.round(decimal, scale, roundingMode);
+                    int exponent = getMantissa(rounded) == 0 ? 0 : getExponent(rounded);
+                    int n_point = exponent <= 0 && scale > 0 ? 1 : 0;
+                    int len = formattedLength(rounded) + n_point + scale - Math.max(exponent, 0);
+                    return Math.max(len, width);
+                }
+
+                /**
+                 * Writes the decimal with exactly scale digits after the point into dst at the offset, e.g. "101.2500" for scale 4,
+                 * rounding with the given rounding mode if it has more, and left padding with spaces to at least width bytes.
+                 * Returns the offset after the last byte. NaN and infinities are written as by {@link #formatTo(long, byte[], int)}, padded.
+                 * Throws an IllegalArgumentException if the scale isn't in [0, {@value Internal#MAX_EXPONENT}] or the width is negative,
+                 * and an IndexOutOfBoundsException if dst is too small.
+                 */
+                public static int formatFixed(@Decimal long decimal, int scale, @NotNull RoundingMode roundingMode, int width, byte @NotNull [] dst, int offset) {
+                    if (scale < 0 || scale > MAX_EXPONENT) {
+                        throw new IllegalArgumentException("Scale must be in [0, " + MAX_EXPONENT + "], got " + scale);
+                    }
+                    if (width < 0) {
+                        throw new IllegalArgumentException("Width must be >= 0, got " + width);
+                    }
+
+                    int end;
+                    if (!Internal.Data.isFinite(decimal)) {
+                        end = formatTo(decimal, dst, offset);
+                    } else {
+                        // safety: the rounded exponent is <= scale, the digits after the point are then padded with zeros
+                        @Decimal long rounded = Maths.Round.round(decimal, scale, roundingMode);
+                        int exponent = getMantissa(rounded) == 0 ? 0 : getExponent(rounded);
+                        end = formatTo(rounded, dst, offset);
+                        if (exponent <= 0 && scale > 0) {
+                            dst[end++] = '.';
+                        }
+                        int n_zeros = scale - Math.max(exponent, 0);
+                        Arrays.fill(dst, end, end + n_zeros, (byte) '0');
+                        end += n_zeros;
+                    }
+
+                    // right align
+                    int n_pad = width - (end - offset);
+                    if (n_pad > 0) {
+                        System.arraycopy(dst, offset, dst, offset + n_pad, end - offset);
+                        Arrays.fill(dst, offset, offset + n_pad, (byte) ' ');
+                        end += n_pad;
+                    }
+                    return end;
+                }
+
+                /**
+                 * Same as {@link #formatFixed(long, int, RoundingMode, int, byte[], int)}, for chars.
+                 */
+                public static int formatFixed(@Decimal long decimal, int scale, @NotNull RoundingMode roundingMode, int width, char @NotNull [] dst, int offset) {
+                    byte[] bytes = SCRATCH_FIXED_BYTES.get();
+                    int len = formatFixed(decimal, scale, roundingMode, 0, bytes, 0);
+                    int n_pad = Math.max(width - len, 0);
+                    Objects.checkFromIndexSize(offset, n_pad + len, dst.length);
+                    Arrays.fill(dst, offset, offset + n_pad, ' ');
+                    for (int i = 0; i < len; i++) {
+                        dst[offset + n_pad + i] = (char) bytes[i];
+                    }
+                    return offset + n_pad + len;
+                }
+
+                /**
+                 * Same as {@link #formatFixed(long, int, RoundingMode, int, byte[], int)}, appending to the StringBuilder, and returns it.
+                 */
+                public static @NotNull StringBuilder appendFixed(@Decimal long decimal, int scale, @NotNull RoundingMode roundingMode, int width, @NotNull StringBuilder out) {
+                    byte[] bytes = SCRATCH_FIXED_BYTES.get();
+                    int len = formatFixed(decimal, scale, roundingMode, 0, bytes, 0);
+                    out.ensureCapacity(out.length() + Math.max(width, len));
+                    for (int i = len; i < width; i++) {
+                        out.append(' ');
+                    }
+                    for (int i = 0; i < len; i++) {
+                        out.append((char) bytes[i]);
+                    }
+                    return out;
+                }
+            }
+        }
+
+        public static class Compare {
+
+            public static class DecimalVsDecimal {
+
+                @SuppressWarnings("fenum:return")
+                public static boolean equal(@Decimal long decimalA, @Decimal long decimalB) {
+                    return decimalA == decimalB;
+                }
+
+                public static @Decimal long min(@Decimal long decimalA, @Decimal long decimalB) {
+                    return Internal.Compare.DecimalVsDecimal.compare(decimalA, decimalB) <= 0 ? decimalA : decimalB;
+                }
+
+                public static @Decimal long max(@Decimal long decimalA, @Decimal long decimalB) {
+                    return Internal.Compare.DecimalVsDecimal.compare(decimalA, decimalB) >= 0 ? decimalA : decimalB;
+                }
+
+                public static int compare(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return compareNonFinite(decimalA, decimalB);
+                    }
+                    return compareFinite(decimalA, decimalB);
+                }
+
+                @SuppressWarnings("fenum:argument")
+                public static int compareNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (decimalA == decimalB) {
+                        return 0;
+                    }
+
+                    // NaN is always greater
+                    if (decimalA == NAN) {
+                        return 1;
+                    }
+                    if (decimalB == NAN) {
+                        return -1;
+                    }
+
+                    // at least one of the decimals is infinity
+                    // safety: the mantissa for -/+ infinity are signed, so raw values can be compared
+                    return Long.compare(decimalA, decimalB);
+                }
+
+                public static int compareFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (decimalA == decimalB) {
+                        return 0;
+                    }
+
+                    long a_mantissa = getMantissa(decimalA);
+                    int a_exponent  = getExponent(decimalA);
+                    long b_mantissa = getMantissa(decimalB);
+                    int b_exponent  = getExponent(decimalB);
+
+                    return compareFinite(a_mantissa, a_exponent, b_mantissa, b_exponent);
+                }
+
+                public static int compareFinite(long a_mantissa, int a_exponent, long b_mantissa, int b_exponent) {
+                    // if zeros, positive vs. negative, or same exponent, we can just compare mantissas
+                    if (a_mantissa == 0 || b_mantissa == 0 || (a_mantissa < 0) != (b_mantissa < 0) || a_exponent == b_exponent) {
+                        return Long.compare(a_mantissa, b_mantissa);
+                    }
+
+                    // safety: a_exponent != b_exponent, a and b are same sign, neither are zero,
+                    // mantissas are <= 16 digits, and exponents are in range [-255, 255]
+                    return compareFiniteSignedUnsafe(a_mantissa, a_exponent, b_mantissa, b_exponent);
+                }
+
+                public static int compareFiniteSignedUnsafe(long a_mantissa, int a_exponent, long b_mantissa, int b_exponent) {
+                    assert a_exponent != b_exponent: "a_exponent and b_exponent must be different";
+                    assert FastMath.sameSign(a_mantissa, b_mantissa): "a_mantissa and b_mantissa must have same sign";
+                    assert a_mantissa != 0 && b_mantissa != 0: "a_mantissa and b_mantissa must not be zero";
+                    assert FastMath.nDigits(a_mantissa) <= 16: "n_digits(a_mantissa) must be <= 16";
+                    assert FastMath.nDigits(b_mantissa) <= 16: "n_digits(b_mantissa) must be <= 16";
+                    assert a_exponent >= -255 && a_exponent <= 255: "a_exponent must be in range [-255, 255]";
+                    assert b_exponent >= -255 && b_exponent <= 255: "b_exponent must be in range [-255, 255]";
+
+                    if (a_mantissa >= 0) {
+                        return compareFiniteUnsignedUnsafe(a_mantissa, a_exponent, b_mantissa, b_exponent);
+                    } else {
+                        return compareFiniteUnsignedUnsafe(-a_mantissa, a_exponent, -b_mantissa, b_exponent) * -1;
+                    }
+                }
+
+                public static int compareFiniteUnsignedUnsafe(long a_mantissa, int a_exponent, long b_mantissa, int b_exponent) {
+                    assert a_exponent != b_exponent: "a_exponent and b_exponent must be different";
+                    assert FastMath.sameSign(a_mantissa, b_mantissa): "a_mantissa and b_mantissa must have same sign";
+                    assert a_mantissa != 0 && b_mantissa != 0: "a_mantissa and b_mantissa must not be zero";
+                    assert FastMath.nDigits(a_mantissa) <= 16: "n_digits(a_mantissa) must be <= 16";
+                    assert FastMath.nDigits(b_mantissa) <= 16: "n_digits(b_mantissa) must be <= 16";
+                    assert a_exponent >= -255 && a_exponent <= 255: "a_exponent must be in range [-255, 255]";
+                    assert b_exponent >= -255 && b_exponent <= 255: "b_exponent must be in range [-255, 255]";
+                    assert a_mantissa >= 0 && b_mantissa >= 0: "a_mantissa and b_mantissa must be >= 0";
+
+                    int a_n_digits = FastMath.nDigits(a_mantissa);
+                    int b_n_digits = FastMath.nDigits(b_mantissa);
+
+                    return compareFiniteUnsignedUnsafe(a_mantissa, a_exponent, b_mantissa, b_exponent, a_n_digits, b_n_digits);
+                }
+
+                public static int compareFiniteUnsignedUnsafe(long a_mantissa, int a_exponent, long b_mantissa, int b_exponent, int a_n_digits, int b_n_digits) {
+                    assert a_exponent != b_exponent: "a_exponent and b_exponent must be different";
+                    assert FastMath.sameSign(a_mantissa, b_mantissa): "a_mantissa and b_mantissa must have same sign";
+                    assert a_mantissa != 0 && b_mantissa != 0: "a_mantissa and b_mantissa must not be zero";
+                    assert FastMath.nDigits(a_mantissa) <= 16: "n_digits(a_mantissa) must be <= 16";
+                    assert FastMath.nDigits(b_mantissa) <= 16: "n_digits(b_mantissa) must be <= 16";
+                    assert a_exponent >= -255 && a_exponent <= 255: "a_exponent must be in range [-255, 255]";
+                    assert b_exponent >= -255 && b_exponent <= 255: "b_exponent must be in range [-255, 255]";
+                    assert a_mantissa >= 0 && b_mantissa >= 0: "a_mantissa and b_mantissa must be >= 0";
+
+                    // if same number of digits, just compare exponents
+                    if (a_n_digits == b_n_digits) {
+                        return Integer.compare(b_exponent, a_exponent);
                     }
 
                     // get position (where the number starts on the number line)
                     int a_pos = a_n_digits - 1 - a_exponent;
                     int b_pos = b_n_digits - 1 - b_exponent;
 
-                    if (a_pos != b_pos) {
-                        return Integer.compare(a_pos, b_pos);
+                    if (a_pos != b_pos) {
+                        return Integer.compare(a_pos, b_pos);
+                    }
+                    // else same starting position on number line
+
+                    // upscale one of the mantissas to compare.
+                    // diff between a_exponent and y_exponent is in range [1, 15]
+                    // and `a` and `b` start at the same place on the number line,
+                    // so up-scaling here is safe, won't overflow
+                    if (a_exponent > b_exponent) {
+                        b_mantissa *= FastMath.i64TenToThe(a_exponent - b_exponent);
+                    } else {
+                        a_mantissa *= FastMath.i64TenToThe(b_exponent - a_exponent);
+                    }
+
+                    // same exponent now, safe to compare
+                    return Long.compare(a_mantissa, b_mantissa);
+                }
+            }
+
+            public static class DecimalVsZero {
+
+                @SuppressWarnings({"fenum:return"})
+                public static boolean isZero(@Decimal long decimal) {
+                    return decimal == ZERO;
+                }
+
+                @SuppressWarnings({"fenum:binary", "fenum:return"})
+                public static boolean ltZero(@Decimal long decimal) {
+                    // safety: sign of data value is same as sign of mantissa, NaN value is 256, +/- Inf are signed
+                    return decimal < 0;
+                }
+
+                @SuppressWarnings({"fenum:binary", "fenum:return"})
+                public static boolean leZero(@Decimal long decimal) {
+                    // safety: sign of data value is same as sign of mantissa, NaN value is 256, +/- Inf are signed
+                    return decimal <= 0;
+                }
+
+                @SuppressWarnings({"fenum:binary", "fenum:return"})
+                public static boolean gtZero(@Decimal long decimal) {
+                    // safety: sign of data value is same as sign of mantissa, NaN mantissa is 256, +/- Inf are signed
+                    return decimal > 0;
+                }
+
+                @SuppressWarnings({"fenum:binary", "fenum:return"})
+                public static boolean geZero(@Decimal long decimal) {
+                    // safety: sign of data value is same as sign of mantissa, NaN mantissa is 256, +/- Inf are signed
+                    return decimal >= 0;
+                }
+            }
+        }
+
+        public static class Maths {
+
+            public static @Decimal long abs(@Decimal long decimal) {
+                if (Compare.DecimalVsZero.ltZero(decimal)) {
+                    return negate(decimal);
+                }
+                return decimal;
+            }
+
+            public static @Decimal long negate(@Decimal long decimal) {
+                // safety: mantissa is <= 16 digits so won't overflow,
+                //         -/+ Inf are symmetric so negating works,
+                //         and NaN mantissa is 0 so fine to negate that too.
+                return Internal.Data.setMantissa(decimal, -getMantissa(decimal));
+            }
+
+            public static class Add {
+
+                public static @Decimal long add(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return addNonFinite(decimalA, decimalB);
+                    }
+                    return addFinite(decimalA, decimalB);
+                }
+
+                public static @Decimal long add(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return addNonFinite(decimalA, decimalB);
+                    }
+                    return addFinite(decimalA, decimalB, roundingMode);
+                }
+
+                public static @Decimal long addNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (decimalA == NAN || decimalB == NAN) {
+                        // NaN + x
+                        return NAN;
+                    }
+
+                    if (getExponent(decimalA) == getExponent(decimalB)) {
+                        // both a and b are infinite
+                        // inf + inf = inf
+                        // -inf + inf = NaN
+                        return decimalA == decimalB ? decimalA : NAN;
+                    }
+
+                    // only one of a or b is infinite
+                    return Internal.Data.isFinite(decimalA) ? decimalB : decimalA;
+                }
+
+                public static @Decimal long addFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    return addFinite(decimalA, decimalB, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long addFinite(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+                    if (decimalA == ZERO) {
+                        return decimalB;
+                    }
+                    if (decimalB == ZERO) {
+                        return decimalA;
+                    }
+
+                    long a_mantissa = getMantissa(decimalA);
+                    long b_mantissa = getMantissa(decimalB);
+                    int a_exponent = getExponent(decimalA);
+                    int b_exponent = getExponent(decimalB);
+
+                    int exponent_diff = a_exponent - b_exponent;
+
+                    if (exponent_diff == 0) {
+                        // same exponents, just sum the mantissas
+                        // safety: summing two 16 digit numbers won't overflow an i64
+                        return Internal.Convert.Parts.fromParts(a_mantissa + b_mantissa, a_exponent, roundingMode);
+                    }
+
+                    int a_n_digits = FastMath.nDigits(a_mantissa);
+                    int b_n_digits = FastMath.nDigits(b_mantissa);
+
+                    int cmp = Internal.Compare.DecimalVsDecimal.compareFiniteUnsignedUnsafe(
+                            Math.abs(a_mantissa), a_exponent, Math.abs(b_mantissa), b_exponent,
+                            a_n_digits, b_n_digits
+                    );
+
+                    if (cmp > 0) {
+                        return addFiniteUnsafe(a_mantissa, a_exponent, b_mantissa, b_exponent, a_n_digits, b_n_digits, roundingMode);
+                    } else {
+                        return addFiniteUnsafe(b_mantissa, b_exponent, a_mantissa, a_exponent, b_n_digits, a_n_digits, roundingMode);
+                    }
+                }
+
+                public static @Decimal long addFiniteUnsafe(long l_mantissa, int l_exponent, long s_mantissa, int s_exponent, int l_n_digits, int s_n_digits) {
+                    return addFiniteUnsafe(l_mantissa, l_exponent, s_mantissa, s_exponent, l_n_digits, s_n_digits, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long addFiniteUnsafe(long l_mantissa, int l_exponent, long s_mantissa, int s_exponent, int l_n_digits, int s_n_digits, @NotNull RoundingMode roundingMode) {
+                    // assumes l > s
+
+                    // find where l and h start on the number line
+                    int l_start = l_exponent - (l_n_digits - 1); // e.g. 12300:-4, 1230:-3, 123:-2, 12.3:-1, 1.23:0, .123:1, .0123:2
+                    int s_start = s_exponent - (s_n_digits - 1);
+
+                    int dist = Math.abs(l_start - s_start);
+
+                    if (dist >= PRECISION + 2) {
+                        // too far apart, s is less than half of l's last digit
+                        switch (roundingMode) {
+                            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                                // l will be unchanged
+                                return Internal.Data.makeUnsafe(l_mantissa, l_exponent);
+                            }
+                        }
+
+                        // s can still nudge l, so expand l to 18 digits and let s become the sticky digit
+                        int expand = (PRECISION + 2) - l_n_digits;
+                        l_mantissa *= FastMath.i64TenToThe(expand);
+                        l_exponent += expand;
+                        if (!FastMath.sameSign(l_mantissa, s_mantissa)) {
+                            // l - s is truncated to l - 1
+                            l_mantissa -= FastMath.sign(l_mantissa);
+                        }
+                        return Internal.Convert.Parts.fromParts(Internal.Convert.Parts.foldSticky(l_mantissa, true), l_exponent, roundingMode);
+                    }
+
+                    // we only need first K digits of s
+                    int s_keep_first_n_digits = (PRECISION - dist) + 2;
+                    int s_drop_last_n_digits = s_n_digits - s_keep_first_n_digits;
+                    boolean sticky = false;
+                    long divisor;
+                    if (s_drop_last_n_digits > 0) {
+                        divisor = FastMath.i64TenToThe(s_drop_last_n_digits);
+                        sticky = (s_mantissa % divisor) != 0;
+                        s_mantissa /= divisor;
+                        s_exponent -= s_drop_last_n_digits;
+                        if (!FastMath.sameSign(l_mantissa, s_mantissa) && sticky) {
+                            // keep l + s truncated towards zero, the dropped digits are then only a sticky digit
+                            s_mantissa += FastMath.sign(s_mantissa);
+                        }
+                    }
+
+                    int exp_diff = l_exponent - s_exponent;
+                    if (exp_diff > 0) {
+                        // expand s by diff
+                        s_mantissa *= FastMath.i64TenToThe(exp_diff);
+                        // exponent unchanged
+                    } else {
+                        // expand l by -diff
+                        l_mantissa *= FastMath.i64TenToThe(-exp_diff);
+                        l_exponent -= exp_diff;
+                    }
+
+                    l_mantissa += s_mantissa;
+
+                    // safety: if sticky, l is >= 17 digits, so fromParts(..) rounds away the sticky digit
+                    return Internal.Convert.Parts.fromParts(Internal.Convert.Parts.foldSticky(l_mantissa, sticky), l_exponent, roundingMode);
+                }
+            }
+
+            public static class Sub {
+
+                public static @Decimal long sub(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return subNonFinite(decimalA, decimalB);
+                    }
+                    return subFinite(decimalA, decimalB);
+                }
+
+                public static @Decimal long sub(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return subNonFinite(decimalA, decimalB);
+                    }
+                    return subFinite(decimalA, decimalB, roundingMode);
+                }
+
+                public static @Decimal long subNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    // logic is the same as add
+                    return Add.addNonFinite(decimalA, decimalB);
+                }
+
+                public static @Decimal long subFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    // a - b = a + (-b)
+                    return Add.addFinite(decimalA, negate(decimalB));
+                }
+
+                public static @Decimal long subFinite(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+                    // a - b = a + (-b)
+                    return Add.addFinite(decimalA, negate(decimalB), roundingMode);
+                }
+            }
+
+            public static class Mul {
+
+                public static @Decimal long mul(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return mulNonFinite(decimalA, decimalB);
+                    }
+                    return mulFinite(decimalA, decimalB);
+                }
+
+                public static @Decimal long mul(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return mulNonFinite(decimalA, decimalB);
+                    }
+                    return mulFinite(decimalA, decimalB, roundingMode);
+                }
+
+                @SuppressWarnings({"fenum:argument"})
+                public static @Decimal long mulNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (getMantissa(decimalA) == 0 || getMantissa(decimalB) == 0) {
+                        // NaN * x, inf * 0
+                        return NAN;
+                    }
+
+                    if (getExponent(decimalA) == getExponent(decimalB)) {
+                        // both a and b are infinite
+                        // -inf * -inf = inf
+                        // inf * inf = inf
+                        return decimalA == decimalB ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+                    }
+
+                    // only one of a or b is infinite
+                    return FastMath.sameSign(decimalA, decimalB) ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+                }
+
+                public static @Decimal long mulFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    return mulFinite(decimalA, decimalB, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long mulFinite(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+                    // fast path check for zero
+                    if (decimalA == ZERO || decimalB == ZERO) {
+                        return ZERO;
+                    }
+
+                    @SuppressWarnings("fenum:argument")
+                    int sign = FastMath.sameSign(decimalA, decimalB) ? 1 : -1;
+                    long a_mantissa = Math.abs(getMantissa(decimalA));
+                    long b_mantissa = Math.abs(getMantissa(decimalB));
+                    int a_exponent = getExponent(decimalA);
+                    int b_exponent = getExponent(decimalB);
+
+                    // multiply into an unsigned 128-bit product
+                    // safety: mantissas are <= 16 digits, so the product is <= 32 digits
+                    long productHi      = Math.multiplyHigh(a_mantissa, b_mantissa);
+                    long productLo      = a_mantissa * b_mantissa;
+                    int productExponent = a_exponent + b_exponent;
+
+                    if (productHi == 0 && productLo >= 0) {
+                        // product fits in an i64
+                        return Internal.Convert.Parts.fromParts(productLo * sign, productExponent, roundingMode);
+                    }
+
+                    return Internal.Convert.Parts.fromPartsU128(sign, productHi, productLo, productExponent, roundingMode);
+                }
+            }
+
+            public static class Div {
+
+                public static @Decimal long div(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return divNonFinite(decimalA, decimalB);
+                    }
+                    return divFinite(decimalA, decimalB);
+                }
+
+                public static @Decimal long div(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        return divNonFinite(decimalA, decimalB);
+                    }
+                    return divFinite(decimalA, decimalB, roundingMode);
+                }
+
+                public static @Decimal long divNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    if (decimalA == NAN || decimalB == NAN || decimalB == ZERO) {
+                        // nan / x, x / nan, x / 0
+                        return NAN;
                     }
-                    // else same starting position on number line
 
-                    // upscale one of the mantissas to compare.
-                    // diff between a_exponent and y_exponent is in range [1, 15]
-                    // and `a` and `b` start at the same place on the number line,
-                    // so up-scaling here is safe, won't overflow
-                    if (a_exponent > b_exponent) {
-                        b_mantissa *= FastMath.i64TenToThe(a_exponent - b_exponent);
+                    if (decimalA == ZERO) {
+                        // x / 0
+                        return ZERO;
+                    }
+
+                    if (!Internal.Data.isFinite(decimalB)) {
+                        if (!Internal.Data.isFinite(decimalA)) {
+                            // inf / inf
+                            return NAN;
+                        }
+                        // x / inf
+                        return ZERO;
+                    }
+
+                    // catches inf / x
+                    return decimalA;
+                }
+
+                public static @Decimal long divFinite(@Decimal long decimalA, @Decimal long decimalB) {
+                    return divFinite(decimalA, decimalB, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long divFinite(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+                    if (decimalB == ZERO) {
+                        // x / 0
+                        return NAN;
+                    }
+
+                    if (decimalA == ZERO) {
+                        // 0 / x
+                        return ZERO;
+                    }
+
+                    if (decimalB == ONE) {
+                        return decimalA;
+                    }
+
+                    @SuppressWarnings("fenum:argument")
+                    int sign = FastMath.sameSign(decimalA, decimalB) ? 1 : -1;
+                    long a_mantissa = Math.abs(getMantissa(decimalA));
+                    long b_mantissa = Math.abs(getMantissa(decimalB));
+                    int a_exponent = getExponent(decimalA);
+                    int b_exponent = getExponent(decimalB);
+
+                    // scale a up so the quotient has 17 or 18 digits, i.e. at least 1 digit past the precision to round on
+                    int scale = (PRECISION + 1) - FastMath.nDigits(a_mantissa) + FastMath.nDigits(b_mantissa); // [2, 32]
+
+                    long numeratorHi;
+                    long numeratorLo;
+                    if (scale <= 18) {
+                        long pow = FastMath.i64TenToThe(scale);
+                        numeratorHi = Math.multiplyHigh(a_mantissa, pow);
+                        numeratorLo = a_mantissa * pow;
                     } else {
-                        a_mantissa *= FastMath.i64TenToThe(b_exponent - a_exponent);
+                        // safety: a_mantissa * 10^(scale - 18) is <= 15 digits
+                        long a_scaled = a_mantissa * FastMath.i64TenToThe(scale - 18);
+                        long pow = FastMath.i64TenToThe(18);
+                        numeratorHi = Math.multiplyHigh(a_scaled, pow);
+                        numeratorLo = a_scaled * pow;
                     }
 
-                    // same exponent now, safe to compare
-                    return Long.compare(a_mantissa, b_mantissa);
+                    // safety: the quotient is < 10^18, so fits in an i64
+                    long quotient = FastMath.divideU128ByU64(numeratorHi, numeratorLo, b_mantissa);
+                    boolean sticky = (numeratorLo - quotient * b_mantissa) != 0;
+
+                    // safety: quotient is > 16 digits, so fromParts(..) rounds away the sticky digit
+                    return Convert.Parts.fromParts(Convert.Parts.foldSticky(quotient, sticky) * sign, a_exponent - b_exponent + scale, roundingMode);
                 }
             }
 
-            public static class DecimalVsZero {
+            public static class Fma {
 
-                @SuppressWarnings({"fenum:return"})
-                public static boolean isZero(@Decimal long decimal) {
-                    return decimal == ZERO;
+                public static @Decimal long fma(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC) {
+                    return fma(decimalA, decimalB, decimalC, RoundingMode.HALF_EVEN);
                 }
 
-                @SuppressWarnings({"fenum:binary", "fenum:return"})
-                public static boolean ltZero(@Decimal long decimal) {
-                    // safety: sign of data value is same as sign of mantissa, NaN value is 256, +/- Inf are signed
-                    return decimal < 0;
+                public static @Decimal long fma(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB) || !Internal.Data.isFinite(decimalC)) {
+                        return fmaNonFinite(decimalA, decimalB, decimalC);
+                    }
+                    return fmaFinite(decimalA, decimalB, decimalC, roundingMode);
+                }
+
+                public static @Decimal long fmaNonFinite(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        // nan * x + c, inf * 0 + c, inf * x + c
+                        return Add.add(Mul.mulNonFinite(decimalA, decimalB), decimalC);
+                    }
+
+                    // the exact product is finite (even if it would overflow a Decimal), so c wins
+                    return decimalC;
+                }
+
+                public static @Decimal long fmaFinite(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC) {
+                    return fmaFinite(decimalA, decimalB, decimalC, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long fmaFinite(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC, @NotNull RoundingMode roundingMode) {
+                    if (decimalA == ZERO || decimalB == ZERO) {
+                        // 0 * x + c
+                        return decimalC;
+                    }
+
+                    if (decimalC == ZERO) {
+                        // a * b + 0, still rounded once
+                        return Mul.mulFinite(decimalA, decimalB, roundingMode);
+                    }
+
+                    // exact unsigned 128-bit product
+                    // safety: mantissas are <= 16 digits, so the product is <= 32 digits
+                    @SuppressWarnings("fenum:argument")
+                    int sign = FastMath.sameSign(decimalA, decimalB) ? 1 : -1;
+                    long a_mantissa = Math.abs(getMantissa(decimalA));
+                    long b_mantissa = Math.abs(getMantissa(decimalB));
+                    long productHi = Math.multiplyHigh(a_mantissa, b_mantissa);
+                    long productLo = a_mantissa * b_mantissa;
+                    int productExponent = getExponent(decimalA) + getExponent(decimalB);
+
+                    return addU128Unsafe(sign, productHi, productLo, productExponent, decimalC, roundingMode);
+                }
+
+                /**
+                 * Returns <code>p_sign * (p_hi, p_lo) * 10^-p_exponent + c</code>, rounded once to {@value PRECISION} digits.
+                 * <h1>Unsafe: Does not validate inputs</h1>
+                 * The unsigned 128-bit (p_hi, p_lo) must be non-zero and less than 10^32, and c must be finite and non-zero.
+                 */
+                public static @Decimal long addU128Unsafe(int p_sign, long p_hi, long p_lo, int p_exponent, @Decimal long decimalC, @NotNull RoundingMode roundingMode) {
+                    int p_start = p_exponent - FastMath.nDigitsU128(p_hi, p_lo) + 1; // exponent of the leading digit
+
+                    long c_mantissa = getMantissa(decimalC);
+                    int c_exponent = getExponent(decimalC);
+                    int c_start = c_exponent - FastMath.nDigits(c_mantissa) + 1;
+
+                    // l has the leading digit furthest left, s is the other one
+                    int l_sign, s_sign, l_exponent, s_exponent, l_start, s_start;
+                    long l_hi, l_lo, s_hi, s_lo;
+                    if (p_start <= c_start) {
+                        l_sign = p_sign;
+                        s_sign = FastMath.sign(c_mantissa);
+                        l_hi = p_hi;
+                        s_hi = 0;
+                        l_lo = p_lo;
+                        s_lo = Math.abs(c_mantissa);
+                        l_exponent = p_exponent;
+                        s_exponent = c_exponent;
+                        l_start = p_start;
+                        s_start = c_start;
+                    } else {
+                        l_sign = FastMath.sign(c_mantissa);
+                        s_sign = p_sign;
+                        l_hi = 0;
+                        s_hi = p_hi;
+                        l_lo = Math.abs(c_mantissa);
+                        s_lo = p_lo;
+                        l_exponent = c_exponent;
+                        s_exponent = p_exponent;
+                        l_start = c_start;
+                        s_start = p_start;
+                    }
+
+                    // align both to a common exponent, keeping at most 35 digits so the sum stays < 10^36
+                    // safety: l is <= 32 digits, so is never truncated. s is only truncated when it starts >= 3 digits
+                    //         after l, so there is no cancellation past the kept digits
+                    int exponent = Math.min(Math.max(l_exponent, s_exponent), l_start + 34);
+
+                    for (int shift = exponent - l_exponent; shift > 0; shift -= 18) {
+                        long pow = FastMath.i64TenToThe(Math.min(shift, 18));
+                        l_hi = l_hi * pow + Math.unsignedMultiplyHigh(l_lo, pow);
+                        l_lo = l_lo * pow;
+                    }
+
+                    boolean sticky = false;
+                    if (s_start > exponent) {
+                        // every digit of s is past the kept digits
+                        s_hi = 0;
+                        s_lo = 0;
+                        sticky = true;
+                    } else if (s_exponent > exponent) {
+                        // truncate s towards zero
+                        for (int drop = s_exponent - exponent; drop > 0; drop -= 18) {
+                            long pow = FastMath.i64TenToThe(Math.min(drop, 18));
+                            long q_hi = Long.divideUnsigned(s_hi, pow);
+                            long q_lo = FastMath.divideU128ByU64(Long.remainderUnsigned(s_hi, pow), s_lo, pow);
+                            sticky |= (s_lo - q_lo * pow) != 0;
+                            s_hi = q_hi;
+                            s_lo = q_lo;
+                        }
+                    } else {
+                        for (int shift = exponent - s_exponent; shift > 0; shift -= 18) {
+                            long pow = FastMath.i64TenToThe(Math.min(shift, 18));
+                            s_hi = s_hi * pow + Math.unsignedMultiplyHigh(s_lo, pow);
+                            s_lo = s_lo * pow;
+                        }
+                    }
+
+                    if (l_sign == s_sign) {
+                        long lo = l_lo + s_lo;
+                        l_hi += s_hi + (Long.compareUnsigned(lo, l_lo) < 0 ? 1 : 0);
+                        l_lo = lo;
+                    } else {
+                        if (sticky) {
+                            // s was truncated towards zero, so l - (s + 1) is the difference truncated towards zero
+                            s_lo += 1;
+                            s_hi += s_lo == 0 ? 1 : 0;
+                        }
+                        if (FastMath.compareU128(l_hi, l_lo, s_hi, s_lo) < 0) {
+                            // |s| > |l|, only possible when nothing was truncated
+                            long hi = l_hi, lo = l_lo;
+                            l_hi = s_hi;
+                            l_lo = s_lo;
+                            s_hi = hi;
+                            s_lo = lo;
+                            l_sign = s_sign;
+                        }
+                        l_hi -= s_hi + (Long.compareUnsigned(l_lo, s_lo) < 0 ? 1 : 0);
+                        l_lo -= s_lo;
+                    }
+
+                    if (sticky) {
+                        // jam the sticky bit into the lowest bit, fromPartsU128(..) only needs a non-zero remainder
+                        // safety: the sum is >= 33 digits, so it never changes the 18 digits fromPartsU128(..) keeps
+                        l_lo |= 1;
+                    }
+
+                    return Internal.Convert.Parts.fromPartsU128(l_sign, l_hi, l_lo, exponent, roundingMode);
+                }
+            }
+
+            public static class MulDiv {
+
+                public static @Decimal long mulDiv(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC) {
+                    return mulDiv(decimalA, decimalB, decimalC, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long mulDiv(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB) || !Internal.Data.isFinite(decimalC)) {
+                        return mulDivNonFinite(decimalA, decimalB, decimalC);
+                    }
+                    return mulDivFinite(decimalA, decimalB, decimalC, roundingMode);
+                }
+
+                public static @Decimal long mulDivNonFinite(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC) {
+                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
+                        // nan * x / c, inf * 0 / c, inf * x / c
+                        return Div.div(Mul.mulNonFinite(decimalA, decimalB), decimalC);
+                    }
+
+                    // the exact product is finite (even if it would overflow a Decimal), so logic is the same as div
+                    return Div.divNonFinite(decimalA, decimalC);
+                }
+
+                public static @Decimal long mulDivFinite(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC) {
+                    return mulDivFinite(decimalA, decimalB, decimalC, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long mulDivFinite(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC, @NotNull RoundingMode roundingMode) {
+                    if (decimalC == ZERO) {
+                        // x / 0
+                        return NAN;
+                    }
+
+                    if (decimalA == ZERO || decimalB == ZERO) {
+                        // 0 / x
+                        return ZERO;
+                    }
+
+                    // the sign bit of a ^ b ^ c is set when an odd number of them are negative
+                    @SuppressWarnings({"fenum:argument", "fenum:binary"})
+                    int sign = FastMath.sign(decimalA ^ decimalB ^ decimalC);
+                    long a_mantissa = Math.abs(getMantissa(decimalA));
+                    long b_mantissa = Math.abs(getMantissa(decimalB));
+                    long c_mantissa = Math.abs(getMantissa(decimalC));
+
+                    // exact unsigned 128-bit product
+                    // safety: mantissas are <= 16 digits, so the product is <= 32 digits
+                    long productHi = Math.multiplyHigh(a_mantissa, b_mantissa);
+                    long productLo = a_mantissa * b_mantissa;
+
+                    // scale the product so the quotient has 17 or 18 digits, i.e. at least 1 digit past the precision to round on
+                    int scale = (PRECISION + 1) - FastMath.nDigitsU128(productHi, productLo) + FastMath.nDigits(c_mantissa); // [-14, 32]
+
+                    long divisor = c_mantissa;
+                    if (scale < 0) {
+                        // divide by c * 10^-scale instead of truncating the product, so the remainder is exact
+                        // safety: c * 10^-scale is <= 15 digits
+                        divisor *= FastMath.i64TenToThe(-scale);
+                    } else {
+                        // safety: the scaled product is <= 33 digits
+                        for (int shift = scale; shift > 0; shift -= 18) {
+                            long pow = FastMath.i64TenToThe(Math.min(shift, 18));
+                            productHi = productHi * pow + Math.unsignedMultiplyHigh(productLo, pow);
+                            productLo = productLo * pow;
+                        }
+                    }
+
+                    // safety: the quotient is < 10^18, so fits in an i64
+                    long quotient = FastMath.divideU128ByU64(productHi, productLo, divisor);
+                    boolean sticky = (productLo - quotient * divisor) != 0;
+
+                    int exponent = getExponent(decimalA) + getExponent(decimalB) - getExponent(decimalC) + scale;
+
+                    // safety: quotient is > 16 digits, so fromParts(..) rounds away the sticky digit
+                    return Convert.Parts.fromParts(Convert.Parts.foldSticky(quotient, sticky) * sign, exponent, roundingMode);
+                }
+            }
+
+            public static class MovePoint {
+
+                /**
+                 * Returns <code>decimal * 10^n</code>, only touching the exponent when it stays in range.
+                 */
+                public static @Decimal long scaleByPowerOfTen(@Decimal long decimal, int n) {
+                    return moveExponent(decimal, -(long) n);
+                }
+
+                /**
+                 * Returns <code>decimal * 10^-n</code>
+                 */
+                public static @Decimal long movePointLeft(@Decimal long decimal, int n) {
+                    return moveExponent(decimal, n);
+                }
+
+                /**
+                 * Returns <code>decimal * 10^n</code>
+                 */
+                public static @Decimal long movePointRight(@Decimal long decimal, int n) {
+                    return moveExponent(decimal, -(long) n);
+                }
+
+                /**
+                 * Returns <code>decimal * 10^-delta</code>, i.e. the decimal with delta added to its exponent.
+                 */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long moveExponent(@Decimal long decimal, long delta) {
+                    if (!Internal.Data.isFinite(decimal) || decimal == ZERO) {
+                        // NaN, -/+ inf and 0 are unchanged
+                        return decimal;
+                    }
+
+                    long exponent = getExponent(decimal) + delta;
+
+                    if (exponent >= MIN_EXPONENT && exponent <= MAX_EXPONENT) {
+                        // safety: the mantissa is unchanged, so is still normalized
+                        return Internal.Data.setExponent(decimal, (int) exponent);
+                    }
+
+                    if (exponent < MIN_EXPONENT) {
+                        // overflow
+                        return getMantissa(decimal) > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+                    }
+
+                    // underflow, round off the digits past 10^-255
+                    // safety: past 255 + 17 every digit is dropped, so clamping keeps the exponent an int
+                    return Convert.Parts.fromParts(getMantissa(decimal), (int) Math.min(exponent, MAX_EXPONENT + PRECISION + 1));
+                }
+            }
+
+            public static class WithI64 {
+
+                public static @Decimal long mulByI64(@Decimal long decimal, long integer) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return mulByI64NonFinite(decimal, integer);
+                    }
+                    return mulByI64Finite(decimal, integer);
+                }
+
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long mulByI64NonFinite(@Decimal long decimal, long integer) {
+                    if (decimal == NAN || integer == 0) {
+                        // NaN * x, inf * 0
+                        return NAN;
+                    }
+                    return integer > 0 ? decimal : negate(decimal);
+                }
+
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long mulByI64Finite(@Decimal long decimal, long integer) {
+                    if (decimal == ZERO || integer == 0) {
+                        return ZERO;
+                    }
+
+                    long mantissa = getMantissa(decimal);
+                    int exponent = getExponent(decimal);
+
+                    long productHi = Math.multiplyHigh(mantissa, integer);
+                    long productLo = mantissa * integer;
+                    if (productHi == (productLo >> 63) && productLo != Long.MIN_VALUE) {
+                        // product fits in an i64
+                        return Convert.Parts.fromParts(productLo, exponent);
+                    }
+
+                    // unsigned 128-bit product
+                    // safety: Math.abs(Long.MIN_VALUE) is 2^63 when read as unsigned, and 10^16 * 2^63 < 10^36
+                    int sign = FastMath.sameSign(mantissa, integer) ? 1 : -1;
+                    long m = Math.abs(mantissa);
+                    long i = Math.abs(integer);
+                    return Convert.Parts.fromPartsU128(sign, Math.unsignedMultiplyHigh(m, i), m * i, exponent);
+                }
+
+                public static @Decimal long divByI64(@Decimal long decimal, long integer) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return divByI64NonFinite(decimal, integer);
+                    }
+                    return divByI64Finite(decimal, integer);
+                }
+
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long divByI64NonFinite(@Decimal long decimal, long integer) {
+                    if (decimal == NAN || integer == 0) {
+                        // NaN / x, inf / 0
+                        return NAN;
+                    }
+                    // inf / x takes the sign of x, same as mulByI64NonFinite(..)
+                    return integer > 0 ? decimal : negate(decimal);
+                }
+
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long divByI64Finite(@Decimal long decimal, long integer) {
+                    if (integer == 0) {
+                        // x / 0
+                        return NAN;
+                    }
+
+                    if (decimal == ZERO || integer == 1) {
+                        return decimal;
+                    }
+
+                    long mantissa = getMantissa(decimal);
+                    int sign = FastMath.sameSign(mantissa, integer) ? 1 : -1;
+                    long m = Math.abs(mantissa);
+                    long i = Math.abs(integer); // unsigned, Math.abs(Long.MIN_VALUE) is 2^63
+
+                    // scale m up so the quotient has 17 or 18 digits, i.e. at least 1 digit past the precision to round on
+                    int scale = (PRECISION + 1) - FastMath.nDigits(m) + FastMath.nDigits(integer); // [2, 35]
+
+                    // safety: m * 10^scale is <= 36 digits
+                    long numeratorHi = 0;
+                    long numeratorLo = m;
+                    for (int shift = scale; shift > 0; shift -= 18) {
+                        long pow = FastMath.i64TenToThe(Math.min(shift, 18));
+                        numeratorHi = numeratorHi * pow + Math.unsignedMultiplyHigh(numeratorLo, pow);
+                        numeratorLo = numeratorLo * pow;
+                    }
+
+                    // safety: the quotient is < 10^18, so fits in an i64
+                    long quotient = FastMath.divideU128ByU64(numeratorHi, numeratorLo, i);
+                    boolean sticky = (numeratorLo - quotient * i) != 0;
+
+                    // safety: quotient is > 16 digits, so fromParts(..) rounds away the sticky digit
+                    return Convert.Parts.fromParts(Convert.Parts.foldSticky(quotient, sticky) * sign, getExponent(decimal) + scale);
+                }
+
+                public static @Decimal long addI64(@Decimal long decimal, long integer) {
+                    if (!Internal.Data.isFinite(decimal) || integer == 0) {
+                        // NaN + x, inf + x, x + 0
+                        return decimal;
+                    }
+                    return addI64Finite(decimal, integer);
+                }
+
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long addI64Finite(@Decimal long decimal, long integer) {
+                    long mantissa = getMantissa(decimal);
+                    int exponent = getExponent(decimal);
+
+                    if (exponent >= 0 && exponent <= 18) {
+                        // scale the integer up to the decimal's exponent, e.g. 1.25 + 3 = (125 + 300) * 10^-2
+                        long pow = FastMath.i64TenToThe(exponent);
+                        long scaled = integer * pow;
+                        long sum = mantissa + scaled;
+                        if (Math.multiplyHigh(integer, pow) == (scaled >> 63) && ((mantissa ^ sum) & (scaled ^ sum)) >= 0 && sum != Long.MIN_VALUE) {
+                            // safety: neither the scaling nor the sum overflowed, so the sum is exact
+                            return Convert.Parts.fromParts(sum, exponent);
+                        }
+                    } else if (exponent < 0 && exponent >= -18) {
+                        // the decimal is an integer, scale it up to exponent 0, e.g. 12e3 + 4 = 12000 + 4
+                        long pow = FastMath.i64TenToThe(-exponent);
+                        long scaled = mantissa * pow;
+                        long sum = scaled + integer;
+                        if (Math.multiplyHigh(mantissa, pow) == (scaled >> 63) && ((integer ^ sum) & (scaled ^ sum)) >= 0 && sum != Long.MIN_VALUE) {
+                            // safety: neither the scaling nor the sum overflowed, so the sum is exact
+                            return Convert.Parts.fromParts(sum, 0);
+                        }
+                    }
+
+                    if (decimal == ZERO || (integer >= MIN_MANTISSA && integer <= MAX_MANTISSA)) {
+                        // far apart (or 0 + i), the integer is exact as a Decimal so add(..) still rounds once
+                        return Add.addFinite(decimal, Convert.I64.fromI64(integer));
+                    }
+
+                    // the integer has more than 16 digits, sum exactly in 128 bits
+                    // safety: Math.abs(Long.MIN_VALUE) is 2^63 when read as unsigned, and 2^63 < 10^32
+                    return Fma.addU128Unsafe(FastMath.sign(integer), 0, Math.abs(integer), 0, decimal, RoundingMode.HALF_EVEN);
+                }
+            }
+
+            public static class Sqrt {
+
+                public static @Decimal long sqrt(@Decimal long decimal) {
+                    return sqrt(decimal, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long sqrt(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return sqrtNonFinite(decimal);
+                    }
+                    return sqrtFinite(decimal, roundingMode);
+                }
+
+                public static @Decimal long sqrtNonFinite(@Decimal long decimal) {
+                    if (decimal == POSITIVE_INFINITY) {
+                        // sqrt(+inf)
+                        return POSITIVE_INFINITY;
+                    }
+
+                    // sqrt(nan), sqrt(-inf)
+                    return NAN;
+                }
+
+                public static @Decimal long sqrtFinite(@Decimal long decimal) {
+                    return sqrtFinite(decimal, RoundingMode.HALF_EVEN);
+                }
+
+                public static @Decimal long sqrtFinite(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+                    if (decimal == ZERO) {
+                        // sqrt(0)
+                        return ZERO;
+                    }
+
+                    long mantissa = getMantissa(decimal);
+                    if (mantissa < 0) {
+                        // sqrt(-x)
+                        return NAN;
+                    }
+
+                    int exponent = getExponent(decimal);
+
+                    // scale the mantissa to 33 or 34 digits so the root has 17 digits, i.e. 1 digit past the precision to round on,
+                    // and so the scaled exponent is even and can be halved exactly
+                    int scale = (2 * PRECISION + 1) - FastMath.nDigits(mantissa); // [17, 32]
+                    if (((exponent + scale) & 1) != 0) {
+                        scale++;
+                    }
+
+                    // safety: the scaled mantissa is < 10^34 < 2^126
+                    long hi = 0;
+                    long lo = mantissa;
+                    for (int shift = scale; shift > 0; shift -= 18) {
+                        long pow = FastMath.i64TenToThe(Math.min(shift, 18));
+                        hi = hi * pow + Math.unsignedMultiplyHigh(lo, pow);
+                        lo = lo * pow;
+                    }
+
+                    long root = FastMath.sqrtU128(hi, lo);
+                    boolean sticky = root * root != lo || Math.unsignedMultiplyHigh(root, root) != hi;
+
+                    // safety: root is 17 digits, so fromParts(..) rounds away the sticky digit
+                    return Convert.Parts.fromParts(Convert.Parts.foldSticky(root, sticky), (exponent + scale) / 2, roundingMode);
+                }
+            }
+
+            public static class Round {
+
+                public static @Decimal long round(@Decimal long decimal, int exponent) {
+                    return round(decimal, exponent, RoundingMode.HALF_EVEN);
                 }
 
-                @SuppressWarnings({"fenum:binary", "fenum:return"})
-                public static boolean leZero(@Decimal long decimal) {
-                    // safety: sign of data value is same as sign of mantissa, NaN value is 256, +/- Inf are signed
-                    return decimal <= 0;
-                }
+                public static @Decimal long round(@Decimal long decimal, int exponent, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        throw new IllegalArgumentException("Can't round non-finite decimal: " + Convert.Str.toString(decimal));
+                    }
 
-                @SuppressWarnings({"fenum:binary", "fenum:return"})
-                public static boolean gtZero(@Decimal long decimal) {
-                    // safety: sign of data value is same as sign of mantissa, NaN mantissa is 256, +/- Inf are signed
-                    return decimal > 0;
+                    long mantissa = getMantissa(decimal);
+                    long drop = (long) getExponent(decimal) - exponent; // number of digits to drop
+
+                    if (drop <= 0) {
+                        // already has <= exponent fractional digits
+                        return decimal;
+                    }
+
+                    long quotient;
+                    long remainder;
+                    int cmpHalf;
+                    if (drop <= 18) {
+                        long pow = FastMath.i64TenToThe((int) drop);
+                        quotient = mantissa / pow;
+                        remainder = Math.abs(mantissa - (quotient * pow));
+                        cmpHalf = Long.compare(remainder, pow >> 1);
+                    } else {
+                        // every digit is dropped, and mantissa is <= 16 digits so less than half
+                        quotient = 0;
+                        remainder = Math.abs(mantissa);
+                        cmpHalf = -1;
+                    }
+
+                    if (roundAwayFromZero(roundingMode, FastMath.sign(mantissa), quotient, cmpHalf, remainder != 0)) {
+                        quotient += FastMath.sign(mantissa);
+                    }
+
+                    return Convert.Parts.fromParts(quotient, exponent);
                 }
 
-                @SuppressWarnings({"fenum:binary", "fenum:return"})
-                public static boolean geZero(@Decimal long decimal) {
-                    // safety: sign of data value is same as sign of mantissa, NaN mantissa is 256, +/- Inf are signed
-                    return decimal >= 0;
+                /**
+                 * Decides if a truncated (towards zero) mantissa should have its magnitude incremented by 1,
+                 * i.e. be rounded away from zero, for the given rounding mode.
+                 *
+                 * @param roundingMode The rounding mode to apply
+                 * @param sign         The sign of the exact value, -1 or 1
+                 * @param truncated    The truncated mantissa, only used for its parity by HALF_EVEN
+                 * @param cmpHalf      The dropped digits compared to one half of the last kept digit: < 0, 0, or > 0
+                 * @param inexact      Whether any dropped digit was non-zero
+                 * @throws ArithmeticException if the rounding mode is UNNECESSARY and the value is inexact
+                 */
+                public static boolean roundAwayFromZero(@NotNull RoundingMode roundingMode, int sign, long truncated, int cmpHalf, boolean inexact) {
+                    return switch (roundingMode) {
+                        case UP -> inexact;
+                        case DOWN -> false;
+                        case CEILING -> inexact && sign > 0;
+                        case FLOOR -> inexact && sign < 0;
+                        case HALF_UP -> cmpHalf >= 0;
+                        case HALF_DOWN -> cmpHalf > 0;
+                        case HALF_EVEN -> cmpHalf > 0 || (cmpHalf == 0 && (truncated & 1) != 0);
+                        case UNNECESSARY -> {
+                            if (inexact) {
+                                throw new ArithmeticException("Rounding necessary");
+                            }
+                            yield false;
+                        }
+                    };
                 }
             }
         }
 
-        public static class Maths {
+        /**
+         * Container class for exp, ln, log10 and pow.
+         * Values are carried in 128-bit binary fixed point and only rounded to a Decimal once, at the end.
+         * The fixed point error is ~2^-120, so results round like the exact value unless it lies within ~10^-35 (relative)
+         * of a rounding boundary, which transcendental results essentially never do.
+         */
+        public static class Transcendental {
+
+            /** The offset of 10^0 in TEN_TO_THE_HI/LO/EXP */
+            private static final int TEN_TO_THE_OFFSET = 60;
+
+            /** The upper 64 bits of 10^k normalized to [2^127, 2^128), for k in [-60, 60] */
+            private static final long[] TEN_TO_THE_HI = new long[]{
+                    0xcdb02555653131b6L,  // 10^-60
+                    0x808e17555f3ebf11L,
+                    0xa0b19d2ab70e6ed6L,
+                    0xc8de047564d20a8bL,
+                    0xfb158592be068d2eL,
+                    0x9ced737bb6c4183dL,  // 10^-55
+                    0xc428d05aa4751e4cL,
+                    0xf53304714d9265dfL,
+                    0x993fe2c6d07b7fabL,
+                    0xbf8fdb78849a5f96L,
+                    0xef73d256a5c0f77cL,  // 10^-50
+                    0x95a8637627989aadL,
+                    0xbb127c53b17ec159L,
+                    0xe9d71b689dde71afL,
+                    0x9226712162ab070dL,
+                    0xb6b00d69bb55c8d1L,  // 10^-45
+                    0xe45c10c42a2b3b05L,
+                    0x8eb98a7a9a5b04e3L,
+                    0xb267ed1940f1c61cL,
+                    0xdf01e85f912e37a3L,
+                    0x8b61313bbabce2c6L,  // 10^-40
+                    0xae397d8aa96c1b77L,
+                    0xd9c7dced53c72255L,
+                    0x881cea14545c7575L,
+                    0xaa242499697392d2L,
+                    0xd4ad2dbfc3d07787L,  // 10^-35
+                    0x84ec3c97da624ab4L,
+                    0xa6274bbdd0fadd61L,
+                    0xcfb11ead453994baL,
+                    0x81ceb32c4b43fcf4L,
+                    0xa2425ff75e14fc31L,  // 10^-30
+                    0xcad2f7f5359a3b3eL,
+                    0xfd87b5f28300ca0dL,
+                    0x9e74d1b791e07e48L,
+                    0xc612062576589ddaL,
+                    0xf79687aed3eec551L,  // 10^-25
+                    0x9abe14cd44753b52L,
+                    0xc16d9a0095928a27L,
+                    0xf1c90080baf72cb1L,
+                    0x971da05074da7beeL,
+                    0xbce5086492111aeaL,  // 10^-20
+                    0xec1e4a7db69561a5L,
+                    0x9392ee8e921d5d07L,
+                    0xb877aa3236a4b449L,
+                    0xe69594bec44de15bL,
+                    0x901d7cf73ab0acd9L,  // 10^-15
+                    0xb424dc35095cd80fL,
+                    0xe12e13424bb40e13L,
+                    0x8cbccc096f5088cbL,
+                    0xafebff0bcb24aafeL,
+                    0xdbe6fecebdedd5beL,  // 10^-10
+                    0x89705f4136b4a597L,
+                    0xabcc77118461cefcL,
+                    0xd6bf94d5e57a42bcL,
+                    0x8637bd05af6c69b5L,
+                    0xa7c5ac471b478423L,  // 10^-5
+                    0xd1b71758e219652bL,
+                    0x83126e978d4fdf3bL,
+                    0xa3d70a3d70a3d70aL,
+                    0xccccccccccccccccL,
+                    0x8000000000000000L,  // 10^0
+                    0xa000000000000000L,
+                    0xc800000000000000L,
+                    0xfa00000000000000L,
+                    0x9c40000000000000L,
+                    0xc350000000000000L,  // 10^5
+                    0xf424000000000000L,
+                    0x9896800000000000L,
+                    0xbebc200000000000L,
+                    0xee6b280000000000L,
+                    0x9502f90000000000L,  // 10^10
+                    0xba43b74000000000L,
+                    0xe8d4a51000000000L,
+                    0x9184e72a00000000L,
+                    0xb5e620f480000000L,
+                    0xe35fa931a0000000L,  // 10^15
+                    0x8e1bc9bf04000000L,
+                    0xb1a2bc2ec5000000L,
+                    0xde0b6b3a76400000L,
+                    0x8ac7230489e80000L,
+                    0xad78ebc5ac620000L,  // 10^20
+                    0xd8d726b7177a8000L,
+                    0x878678326eac9000L,
+                    0xa968163f0a57b400L,
+                    0xd3c21bcecceda100L,
+                    0x84595161401484a0L,  // 10^25
+                    0xa56fa5b99019a5c8L,
+                    0xcecb8f27f4200f3aL,
+                    0x813f3978f8940984L,
+                    0xa18f07d736b90be5L,
+                    0xc9f2c9cd04674edeL,  // 10^30
+                    0xfc6f7c4045812296L,
+                    0x9dc5ada82b70b59dL,
+                    0xc5371912364ce305L,
+                    0xf684df56c3e01bc6L,
+                    0x9a130b963a6c115cL,  // 10^35
+                    0xc097ce7bc90715b3L,
+                    0xf0bdc21abb48db20L,
+                    0x96769950b50d88f4L,
+                    0xbc143fa4e250eb31L,
+                    0xeb194f8e1ae525fdL,  // 10^40
+                    0x92efd1b8d0cf37beL,
+                    0xb7abc627050305adL,
+                    0xe596b7b0c643c719L,
+                    0x8f7e32ce7bea5c6fL,
+                    0xb35dbf821ae4f38bL,  // 10^45
+                    0xe0352f62a19e306eL,
+                    0x8c213d9da502de45L,
+                    0xaf298d050e4395d6L,
+                    0xdaf3f04651d47b4cL,
+                    0x88d8762bf324cd0fL,  // 10^50
+                    0xab0e93b6efee0053L,
+                    0xd5d238a4abe98068L,
+                    0x85a36366eb71f041L,
+                    0xa70c3c40a64e6c51L,
+                    0xd0cf4b50cfe20765L,  // 10^55
+                    0x82818f1281ed449fL,
+                    0xa321f2d7226895c7L,
+                    0xcbea6f8ceb02bb39L,
+                    0xfee50b7025c36a08L,
+                    0x9f4f2726179a2245L  // 10^60
+            };
+
+            /** The lower 64 bits of 10^k normalized to [2^127, 2^128), for k in [-60, 60] */
+            private static final long[] TEN_TO_THE_LO = new long[]{
+                    0x3792f412cb06794dL,  // 10^-60
+                    0xe2bbd88bbee40bd0L,
+                    0x5b6aceaeae9d0ec4L,
+                    0xf245825a5a445275L,
+                    0xeed6e2f0f0d56712L,
+                    0x55464dd69685606bL,  // 10^-55
+                    0xaa97e14c3c26b886L,
+                    0xd53dd99f4b3066a8L,
+                    0xe546a8038efe4029L,
+                    0xde98520472bdd033L,
+                    0x963e66858f6d4440L,  // 10^-50
+                    0xdde7001379a44aa8L,
+                    0x5560c018580d5d52L,
+                    0xaab8f01e6e10b4a6L,
+                    0xcab3961304ca70e8L,
+                    0x3d607b97c5fd0d22L,  // 10^-45
+                    0x8cb89a7db77c506aL,
+                    0x77f3608e92adb242L,
+                    0x55f038b237591ed3L,
+                    0x6b6c46dec52f6688L,
+                    0x2323ac4b3b3da015L,  // 10^-40
+                    0xabec975e0a0d081aL,
+                    0x96e7bd358c904a21L,
+                    0x7e50d64177da2e54L,
+                    0xdde50bd1d5d0b9e9L,
+                    0x955e4ec64b44e864L,  // 10^-35
+                    0xbd5af13bef0b113eL,
+                    0xecb1ad8aeacdd58eL,
+                    0x67de18eda5814af2L,
+                    0x80eacf948770ced7L,
+                    0xa1258379a94d028dL,  // 10^-30
+                    0x096ee45813a04330L,
+                    0x8bca9d6e188853fcL,
+                    0x775ea264cf55347dL,
+                    0x95364afe032a819dL,
+                    0x3a83ddbd83f52204L,  // 10^-25
+                    0xc4926a9672793542L,
+                    0x75b7053c0f178293L,
+                    0x5324c68b12dd6338L,
+                    0xd3f6fc16ebca5e03L,
+                    0x88f4bb1ca6bcf584L,  // 10^-20
+                    0x2b31e9e3d06c32e5L,
+                    0x3aff322e62439fcfL,
+                    0x09befeb9fad487c2L,
+                    0x4c2ebe687989a9b3L,
+                    0x0f9d37014bf60a10L,  // 10^-15
+                    0x538484c19ef38c94L,
+                    0x2865a5f206b06fb9L,
+                    0xf93f87b7442e45d3L,
+                    0xf78f69a51539d748L,
+                    0xb573440e5a884d1bL,  // 10^-10
+                    0x31680a88f8953030L,
+                    0xfdc20d2b36ba7c3dL,
+                    0x3d32907604691b4cL,
+                    0xa63f9a49c2c1b10fL,
+                    0x0fcf80dc33721d53L,  // 10^-5
+                    0xd3c36113404ea4a8L,
+                    0x645a1cac083126e9L,
+                    0x3d70a3d70a3d70a3L,
+                    0xccccccccccccccccL,
+                    0x0000000000000000L,  // 10^0
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,  // 10^5
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,  // 10^10
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,  // 10^15
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,  // 10^20
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x0000000000000000L,  // 10^25
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0x4000000000000000L,
+                    0x5000000000000000L,
+                    0xa400000000000000L,  // 10^30
+                    0x4d00000000000000L,
+                    0xf020000000000000L,
+                    0x6c28000000000000L,
+                    0xc732000000000000L,
+                    0x3c7f400000000000L,  // 10^35
+                    0x4b9f100000000000L,
+                    0x1e86d40000000000L,
+                    0x1314448000000000L,
+                    0x17d955a000000000L,
+                    0x5dcfab0800000000L,  // 10^40
+                    0x5aa1cae500000000L,
+                    0xf14a3d9e40000000L,
+                    0x6d9ccd05d0000000L,
+                    0xe4820023a2000000L,
+                    0xdda2802c8a800000L,  // 10^45
+                    0xd50b2037ad200000L,
+                    0x4526f422cc340000L,
+                    0x9670b12b7f410000L,
+                    0x3c0cdd765f114000L,
+                    0xa5880a69fb6ac800L,  // 10^50
+                    0x8eea0d047a457a00L,
+                    0x72a4904598d6d880L,
+                    0x47a6da2b7f864750L,
+                    0x999090b65f67d924L,
+                    0xfff4b4e3f741cf6dL,  // 10^55
+                    0xbff8f10e7a8921a4L,
+                    0xaff72d52192b6a0dL,
+                    0x9bf4f8a69f764490L,
+                    0x02f236d04753d5b4L,
+                    0x01d762422c946590L  // 10^60
+            };
+
+            /** The binary exponent of 10^k, i.e. 10^k = TEN_TO_THE[k] * 2^TEN_TO_THE_EXP[k], for k in [-60, 60] */
+            private static final int[] TEN_TO_THE_EXP = new int[]{
+                    -327, -323, -320, -317, -314, -310, -307, -304, -300, -297,
+                    -294, -290, -287, -284, -280, -277, -274, -270, -267, -264,
+                    -260, -257, -254, -250, -247, -244, -240, -237, -234, -230,
+                    -227, -224, -221, -217, -214, -211, -207, -204, -201, -197,
+                    -194, -191, -187, -184, -181, -177, -174, -171, -167, -164,
+                    -161, -157, -154, -151, -147, -144, -141, -137, -134, -131,
+                    -127, -124, -121, -118, -114, -111, -108, -104, -101, -98,
+                    -94, -91, -88, -84, -81, -78, -74, -71, -68, -64,
+                    -61, -58, -54, -51, -48, -44, -41, -38, -34, -31,
+                    -28, -25, -21, -18, -15, -11, -8, -5, -1, 2,
+                    5, 9, 12, 15, 19, 22, 25, 29, 32, 35,
+                    39, 42, 45, 49, 52, 55, 59, 62, 65, 68,
+                    72
+            };
+
+            /** The upper 64 bits of e^(j/16) in Q124, for j in [0, 36] */
+            private static final long[] EXP_OF_J_16_HI = new long[]{
+                    0x1000000000000000L,  // j = 0
+                    0x11082b577d34ed7dL,
+                    0x12216045b6f5ccf9L,
+                    0x134cb8170b58352dL,
+                    0x148b5e3c3e818667L,
+                    0x15de9176045ff53bL,  // j = 5
+                    0x1747a513dbef6a62L,
+                    0x18c802477b000fdcL,
+                    0x1a61298e1e069bc9L,
+                    0x1c14b43125644644L,
+                    0x1de455df80e3c05cL,  // j = 10
+                    0x1fd1de6182f8c89dL,
+                    0x21df3b68cfb9ef7aL,
+                    0x240e7a7e37aa2fffL,
+                    0x2661cb0f6c564f38L,
+                    0x28db809e9ca6704aL,  // j = 15
+                    0x2b7e151628aed2a6L,
+                    0x2e4c2b42c0e5311fL,
+                    0x314891766b0ed0e3L,
+                    0x34764457102470c3L,
+                    0x37d871db61f5dfcaL,  // j = 20
+                    0x3b727c7915b29ec0L,
+                    0x3f47fe87a1d5f19aL,
+                    0x435ccddae27c89e4L,
+                    0x47b4ff993f15055fL,
+                    0x4c54ec5127e2cc7eL,  // j = 25
+                    0x514134520127f660L,
+                    0x567ec44cd53e1d81L,
+                    0x5c12da416eb2fab7L,
+                    0x62030abcc7ebfe38L,
+                    0x6855466e0f306c77L,  // j = 30
+                    0x6f0fe017d49522bbL,
+                    0x763992e35376b730L,
+                    0x7dd9891c2b5263e4L,
+                    0x85f7635b44463f17L,
+                    0x8e9b40280ab62e9eL,  // j = 35
+                    0x97cdc417a3f405a6L
+            };
+
+            /** The lower 64 bits of e^(j/16) in Q124, for j in [0, 36] */
+            private static final long[] EXP_OF_J_16_LO = new long[]{
+                    0x0000000000000000L,  // j = 0
+                    0x5b1a019e225c9a95L,
+                    0xced688384e06b8d4L,
+                    0x4e0c48cb7c664934L,
+                    0x67bc3b69baabe535L,
+                    0x513246531754403cL,  // j = 5
+                    0x3478b659b092405cL,
+                    0x24db40ed853110bfL,
+                    0x72dfefab6df33f9bL,
+                    0x32aa513ba422005fL,
+                    0xa897b072f6daa5bcL,  // j = 10
+                    0x2c3b6d08c6597224L,
+                    0x986addc7dcee21f2L,
+                    0x223a7861b5865c56L,
+                    0x443feaf672143a7fL,
+                    0x25bfd953414f0f57L,  // j = 15
+                    0xabf7158809cf4f3cL,
+                    0x75a0a1ae923d4c05L,
+                    0xe661d5353de3b744L,
+                    0x78267b1384ad9bc9L,
+                    0xea9e08a299ccb1e3L,  // j = 20
+                    0x86e39b73b1905d66L,
+                    0x0d2dac7ad2963d6eL,
+                    0x7dca21d8366eea57L,
+                    0x6e4658d43e9de43dL,
+                    0x5ce59dd8c6835410L,  // j = 25
+                    0xee92dc97a9788158L,
+                    0x03fdd848ed5efcdaL,
+                    0xe8026f762a8662e9L,
+                    0xd76963c6f0d9c0d7L,
+                    0x840907e7a69b2501L,  // j = 30
+                    0x3eb958eb5fea9c38L,
+                    0xce8ee881ada2aeeaL,
+                    0xc74f8d3c24507f17L,
+                    0xefa0e17757f51a72L,
+                    0xf755b858e49ca337L,  // j = 35
+                    0x5732b338b50f59f2L
+            };
+
+            /** The upper 64 bits of 1/n! in Q124, for n in [0, 17] */
+            private static final long[] EXP_COEFFICIENTS_HI = new long[]{
+                    0x1000000000000000L,  // 1/0!
+                    0x1000000000000000L,
+                    0x0800000000000000L,
+                    0x02aaaaaaaaaaaaaaL,
+                    0x00aaaaaaaaaaaaaaL,
+                    0x0022222222222222L,  // 1/5!
+                    0x0005b05b05b05b05L,
+                    0x0000d00d00d00d00L,
+                    0x00001a01a01a01a0L,
+                    0x000002e3bc74aad8L,
+                    0x00000049f93edde2L,  // 1/10!
+                    0x00000006b99159fdL,
+                    0x000000008f76c77fL,
+                    0x000000000b092309L,
+                    0x0000000000c9cba5L,
+                    0x00000000000d73f9L,  // 1/15!
+                    0x000000000000d73fL,
+                    0x0000000000000ca9L
+            };
+
+            /** The lower 64 bits of 1/n! in Q124, for n in [0, 17] */
+            private static final long[] EXP_COEFFICIENTS_LO = new long[]{
+                    0x0000000000000000L,  // 1/0!
+                    0x0000000000000000L,
+                    0x0000000000000000L,
+                    0xaaaaaaaaaaaaaaabL,
+                    0xaaaaaaaaaaaaaaabL,
+                    0x2222222222222222L,  // 1/5!
+                    0xb05b05b05b05b05bL,
+                    0xd00d00d00d00d00dL,
+                    0x1a01a01a01a01a02L,
+                    0xe671f5583911ca00L,
+                    0x7d71cbbc05b4fa9aL,  // 1/10!
+                    0x5138e3f9d1f92e0eL,
+                    0xc6c4bdaa26d4c3d6L,
+                    0xd43684be51c198e9L,
+                    0x4603e4e905d6f8a3L,
+                    0xf399dc0f88ec32b6L,  // 1/15!
+                    0x9f399dc0f88ec32bL,
+                    0x63b81856a5359303L
+            };
+
+            /** The upper 64 bits of ln(1 + j/64) in Q124, for j in [0, 63] */
+            private static final long[] LN_OF_F_HI = new long[]{
+                    0x0000000000000000L,  // j = 0
+                    0x003f815161f807c7L,
+                    0x007e0a6c39e0cc01L,
+                    0x00bba2c7b196e7e2L,
+                    0x00f85186008b1533L,
+                    0x01341d7961bd1d09L,
+                    0x016f0d28ae56b4b9L,
+                    0x01a926d3a4ad5636L,
+                    0x01e27076e2af2e5eL,  // j = 8
+                    0x021aefcf9a11cb2cL,
+                    0x0252aa5f03fea469L,
+                    0x0289a56d996fa3ccL,
+                    0x02bfe60e14f27a79L,
+                    0x02f57120421b2123L,
+                    0x032a4b539e8ad68eL,
+                    0x035e7929d017fe5bL,
+                    0x0391fef8f3534435L,  // j = 16
+                    0x03c4e0edc55e5cbdL,
+                    0x03f7230dabc7c551L,
+                    0x0428c9389ce438d7L,
+                    0x0459d72aeae98380L,
+                    0x048a507ef3de5968L,
+                    0x04ba38aeb8474c27L,
+                    0x04e993155a517a71L,
+                    0x051862f08717b09fL,  // j = 24
+                    0x0546ab61cb7e0b42L,
+                    0x05746f6fd6027294L,
+                    0x05a1b207a6c52bb1L,
+                    0x05ce75fdaef401a7L,
+                    0x05fabe0ee0abf0d9L,
+                    0x06268ce1b05096adL,
+                    0x0651e5070845beaeL,
+                    0x067cc8fb2fe612fcL,  // j = 32
+                    0x06a73b26a6821263L,
+                    0x06d13ddef323d8a3L,
+                    0x06fad36769c6defdL,
+                    0x0723fdf1e6a6886bL,
+                    0x074cbf9f803af558L,
+                    0x07751a813071282fL,
+                    0x079d109875a1e1f8L,
+                    0x07c4a3d7ebc1bb2cL,  // j = 40
+                    0x07ebd623de3cc7b6L,
+                    0x0812a952d2e87f63L,
+                    0x08391f2e0e6fa027L,
+                    0x085f39721295415bL,
+                    0x0884f9cf16a64b7eL,
+                    0x08aa61e97a6af4d4L,
+                    0x08cf735a33e4b766L,
+                    0x08f42faf3820681eL,  // j = 48
+                    0x0918986bdf5fa141L,
+                    0x093caf0944d88d75L,
+                    0x096074f6a24745dcL,
+                    0x0983eb99a7885f0fL,
+                    0x09a7144ece70e98bL,
+                    0x09c9f069ab150cd4L,
+                    0x09ec813538ab7d52L,
+                    0x0a0ec7f423395732L,  // j = 56
+                    0x0a30c5e10e2f613eL,
+                    0x0a527c2ed81f5d81L,
+                    0x0a73ec08dbadd84eL,
+                    0x0a9516932de2d577L,
+                    0x0ab5fcead9f9cca0L,
+                    0x0ad6a0261acf967dL,
+                    0x0af70154920b3ab8L
+            };
+
+            /** The lower 64 bits of ln(1 + j/64) in Q124, for j in [0, 63] */
+            private static final long[] LN_OF_F_LO = new long[]{
+                    0x0000000000000000L,  // j = 0
+                    0x9f3db4e9a6f57aaeL,
+                    0x33e3f04f1ef229fbL,
+                    0x31a7950f7252c164L,
+                    0x0be64b8b7759978aL,
+                    0x2998376104d13750L,
+                    0xbe499b9ed19b640dL,
+                    0x50bd22a9c3aa4c7aL,
+                    0x9ea87ffe1fe9e156L,  // j = 8
+                    0xd2ee2f481855d1c5L,
+                    0x80bb8e203edf4d11L,
+                    0xfa7b2a1f0fc3c188L,
+                    0x0e7c4140e4247760L,
+                    0x7c6d65ad40c100c9L,
+                    0xc8260ea71712cec5L,
+                    0x19cc0326f99eb976L,
+                    0x84bb03de5ff73449L,  // j = 16
+                    0x3d50fffc3fd3c2acL,
+                    0xaaa8cd86f29a5941L,
+                    0xdcfde8061c030e29L,
+                    0xe731f55c41b8b824L,
+                    0x90a14f69d750cbd3L,
+                    0x0b3246a14206cf38L,
+                    0xcbcd735d034237d7L,
+                    0x42decdeccf1cd105L,  // j = 24
+                    0x724f5833eabc623bL,
+                    0x236383dc7fe1159fL,
+                    0x10af840538e1a593L,
+                    0x389314feb4fbde5bL,
+                    0x2ce979ed29504371L,
+                    0x69c620440f055b40L,
+                    0x9337451f441baba9L,
+                    0xada35d9bd0148860L,  // j = 32
+                    0x5213fd4bc950d7beL,
+                    0x2fbb6aba63878ef2L,
+                    0xe1874deaef06b25bL,
+                    0x097607bcbfee6893L,
+                    0x77b232fafa36fd19L,
+                    0xb989a927476e1feaL,
+                    0xdf68dbcf2ed1bb40L,
+                    0xd720ec44c73d75cfL,  // j = 40
+                    0x6becf93aa1afec6dL,
+                    0x4e34aebf73ffe347L,
+                    0x2bcb1c488b755b2bL,
+                    0x4c4bdd99effe69b6L,
+                    0xf1f64d85bc8c5f24L,
+                    0xc799d1cb2f14054fL,
+                    0x2e5eebbc0ef3d571L,
+                    0xf62cd2f9f1e35f2eL,  // j = 48
+                    0x6f1b439165240a47L,
+                    0xbc1f9edcb438ffc0L,
+                    0xbd4e18dd14f312a4L,
+                    0xdac850fab36cdee2L,
+                    0x75c96c42e7275725L,
+                    0xe221301b6f8c38f6L,
+                    0x02131e85693cf6b8L,
+                    0x325e617a300bbcaaL,  // j = 56
+                    0x85bd9bd99e39a20bL,
+                    0x13dfa3d3761b6317L,
+                    0x584c2b22c2aee1a2L,
+                    0x3be4578ad97aea7cL,
+                    0x8e310b9b1fe59cdcL,
+                    0x94d552f811cd4084L,
+                    0x6b04afe92103ef4cL
+            };
+
+            /** The upper 64 bits of 1/(1 + j/64) in Q127, for j in [0, 63] */
+            private static final long[] INV_OF_F_HI = new long[]{
+                    0x8000000000000000L,  // j = 0
+                    0x7e07e07e07e07e07L,
+                    0x7c1f07c1f07c1f07L,
+                    0x7a44c6afc2dd9ca8L,
+                    0x7878787878787878L,
+                    0x76b981dae6076b98L,
+                    0x7507507507507507L,
+                    0x73615a240e6c2b44L,
+                    0x71c71c71c71c71c7L,  // j = 8
+                    0x70381c0e070381c0L,
+                    0x6eb3e45306eb3e45L,
+                    0x6d3a06d3a06d3a06L,
+                    0x6bca1af286bca1afL,
+                    0x6a63bd81a98ef606L,
+                    0x6906906906906906L,
+                    0x67b23a5440cf6474L,
+                    0x6666666666666666L,  // j = 16
+                    0x6522c3f35ba78194L,
+                    0x63e7063e7063e706L,
+                    0x62b2e43dafcea68dL,
+                    0x6186186186186186L,
+                    0x6060606060606060L,
+                    0x5f417d05f417d05fL,
+                    0x5e293205e293205eL,
+                    0x5d1745d1745d1745L,  // j = 24
+                    0x5c0b81702e05c0b8L,
+                    0x5b05b05b05b05b05L,
+                    0x5a05a05a05a05a05L,
+                    0x590b21642c8590b2L,
+                    0x5816058160581605L,
+                    0x572620ae4c415c98L,
+                    0x563b48c20563b48cL,
+                    0x5555555555555555L,  // j = 32
+                    0x54741fab8be05474L,
+                    0x5397829cbc14e5e0L,
+                    0x52bf5a814afd6a05L,
+                    0x51eb851eb851eb85L,
+                    0x511be1958b67ebb9L,
+                    0x5050505050505050L,
+                    0x4f88b2f392a409f1L,
+                    0x4ec4ec4ec4ec4ec4L,  // j = 40
+                    0x4e04e04e04e04e04L,
+                    0x4d4873ecade304d4L,
+                    0x4c8f8d28ac42fd9bL,
+                    0x4bda12f684bda12fL,
+                    0x4b27ed3604b27ed3L,
+                    0x4a7904a7904a7904L,
+                    0x49cd42e2049cd42eL,
+                    0x4924924924924924L,  // j = 48
+                    0x487ede0487ede048L,
+                    0x47dc11f7047dc11fL,
+                    0x473c1ab68a0473c1L,
+                    0x469ee58469ee5846L,
+                    0x4604604604604604L,
+                    0x456c797dd49c3411L,
+                    0x44d72044d72044d7L,
+                    0x4444444444444444L,  // j = 56
+                    0x43b3d5af9a723f78L,
+                    0x4325c53ef368eb04L,
+                    0x429a0429a0429a04L,
+                    0x4210842108421084L,
+                    0x4189374bc6a7ef9dL,
+                    0x4104104104104104L,
+                    0x4081020408102040L
+            };
+
+            /** The lower 64 bits of 1/(1 + j/64) in Q127, for j in [0, 63] */
+            private static final long[] INV_OF_F_LO = new long[]{
+                    0x0000000000000000L,  // j = 0
+                    0xe07e07e07e07e07eL,
+                    0xc1f07c1f07c1f07cL,
+                    0x1e9131abf0b7672aL,
+                    0x7878787878787878L,
+                    0x1dae6076b981dae6L,
+                    0x5075075075075075L,
+                    0x81cd85689039b0adL,
+                    0x1c71c71c71c71c72L,  // j = 8
+                    0xe070381c0e070382L,
+                    0x306eb3e45306eb3eL,
+                    0xd3a06d3a06d3a06dL,
+                    0x286bca1af286bca2L,
+                    0xa63bd81a98ef606aL,
+                    0x9069069069069069L,
+                    0xa8819ec8e951033eL,
+                    0x6666666666666666L,  // j = 16
+                    0x8b0fcd6e9e06522cL,
+                    0x3e7063e7063e7064L,
+                    0xe12818acb90f6bf4L,
+                    0x1861861861861862L,
+                    0x6060606060606060L,
+                    0x417d05f417d05f41L,
+                    0x293205e293205e29L,
+                    0xd1745d1745d1745dL,  // j = 24
+                    0x1702e05c0b81702eL,
+                    0xb05b05b05b05b05bL,
+                    0xa05a05a05a05a05aL,
+                    0x1642c8590b21642dL,
+                    0x8160581605816058L,
+                    0x82b9310572620ae5L,
+                    0x20563b48c20563b5L,
+                    0x5555555555555555L,  // j = 32
+                    0x1fab8be054741facL,
+                    0xa72f05397829cbc1L,
+                    0x2bf5a814afd6a053L,
+                    0x1eb851eb851eb852L,
+                    0x079a9d260511be19L,
+                    0x5050505050505050L,
+                    0x165e7254813e22ccL,
+                    0xec4ec4ec4ec4ec4fL,  // j = 40
+                    0xe04e04e04e04e04eL,
+                    0x873ecade304d4874L,
+                    0x8396ba9de81323e3L,
+                    0x684bda12f684bda1L,
+                    0x604b27ed3604b27fL,
+                    0xa7904a7904a7904aL,
+                    0x2049cd42e2049cd4L,
+                    0x9249249249249249L,  // j = 48
+                    0x7ede0487ede0487fL,
+                    0x7047dc11f7047dc1L,
+                    0xab68a0473c1ab68aL,
+                    0x9ee58469ee58469fL,
+                    0x6046046046046046L,
+                    0x5b1e5f75270d0457L,
+                    0x2044d72044d72045L,
+                    0x4444444444444444L,  // j = 56
+                    0x9854a0cb1b810ecfL,
+                    0x325c53ef368eb043L,
+                    0x29a0429a0429a043L,
+                    0x2108421084210842L,
+                    0xb22d0e5604189375L,
+                    0x1041041041041041L,
+                    0x8102040810204081L
+            };
+
+            /** The upper 64 bits of 1/(n+1) in Q124, for n in [0, 19] */
+            private static final long[] LN1P_COEFFICIENTS_HI = new long[]{
+                    0x1000000000000000L,  // 1/1
+                    0x0800000000000000L,
+                    0x0555555555555555L,
+                    0x0400000000000000L,
+                    0x0333333333333333L,
+                    0x02aaaaaaaaaaaaaaL,  // 1/6
+                    0x0249249249249249L,
+                    0x0200000000000000L,
+                    0x01c71c71c71c71c7L,
+                    0x0199999999999999L,
+                    0x01745d1745d1745dL,  // 1/11
+                    0x0155555555555555L,
+                    0x013b13b13b13b13bL,
+                    0x0124924924924924L,
+                    0x0111111111111111L,
+                    0x0100000000000000L,  // 1/16
+                    0x00f0f0f0f0f0f0f0L,
+                    0x00e38e38e38e38e3L,
+                    0x00d79435e50d7943L,
+                    0x00ccccccccccccccL
+            };
+
+            /** The lower 64 bits of 1/(n+1) in Q124, for n in [0, 19] */
+            private static final long[] LN1P_COEFFICIENTS_LO = new long[]{
+                    0x0000000000000000L,  // 1/1
+                    0x0000000000000000L,
+                    0x5555555555555555L,
+                    0x0000000000000000L,
+                    0x3333333333333333L,
+                    0xaaaaaaaaaaaaaaabL,  // 1/6
+                    0x2492492492492492L,
+                    0x0000000000000000L,
+                    0x1c71c71c71c71c72L,
+                    0x999999999999999aL,
+                    0x1745d1745d1745d1L,  // 1/11
+                    0x5555555555555555L,
+                    0x13b13b13b13b13b1L,
+                    0x9249249249249249L,
+                    0x1111111111111111L,
+                    0x0000000000000000L,  // 1/16
+                    0xf0f0f0f0f0f0f0f1L,
+                    0x8e38e38e38e38e39L,
+                    0x5e50d79435e50d79L,
+                    0xcccccccccccccccdL
+            };
+
+            /** The upper 64 bits of ln(10) in Q124 */
+            private static final long LN10_HI = 0x24d763776aaa2b05L;
+
+            /** The lower 64 bits of ln(10) in Q124 */
+            private static final long LN10_LO = 0xba95b58ae0b4c28aL;
+
+            /** The upper 64 bits of ln(10) in Q112, the fixed point format exp(..) reduces its argument in */
+            private static final long LN10_Q112_HI = LN10_HI >>> 12;
+
+            /** The lower 64 bits of ln(10) in Q112 */
+            private static final long LN10_Q112_LO = (LN10_LO >>> 12) | (LN10_HI << 52);
+
+            /** ln(10) as a double, for estimating quotients */
+            private static final double LN10_F64 = Math.log(10);
+
+            /** The upper 64 bits of ln(2) in Q124 */
+            private static final long LN2_HI = 0x0b17217f7d1cf79aL;
+
+            /** The lower 64 bits of ln(2) in Q124 */
+            private static final long LN2_LO = 0xbc9e3b39803f2f6bL;
+
+            /** The upper 64 bits of log10(e) in Q128 */
+            private static final long LOG10_E_HI = 0x6f2dec549b9438caL;
+
+            /** The lower 64 bits of log10(e) in Q128 */
+            private static final long LOG10_E_LO = 0x9aadd557d699ee19L;
+
+            /** 10^17, i.e. 1 with a digit past the precision */
+            private static final long ONE_E17 = 100_000_000_000_000_000L;
+
+            /** The logarithm flavours Log.logUnsafe(..) can finish with */
+            private static final int LN = 0;
+            private static final int LOG10 = 1;
+            private static final int POW = 2;
 
-            public static @Decimal long abs(@Decimal long decimal) {
-                if (Compare.DecimalVsZero.ltZero(decimal)) {
-                    return negate(decimal);
-                }
-                return decimal;
+            /**
+             * Returns a stand-in for <code>sign * (1 +/- tiny)</code>, where tiny is positive and < 10^-17.
+             * 1 plus a sticky digit rounds the same as the exact value in every rounding mode.
+             */
+            private static @Decimal long nearOne(int sign, boolean below, @NotNull RoundingMode roundingMode) {
+                long mantissa = below ? ONE_E17 - 1 : ONE_E17 + 1;
+                return Convert.Parts.fromParts(mantissa * sign, PRECISION + 1, roundingMode);
             }
 
-            public static @Decimal long negate(@Decimal long decimal) {
-                // safety: mantissa is <= 16 digits so won't overflow,
-                //         -/+ Inf are symmetric so negating works,
-                //         and NaN mantissa is 0 so fine to negate that too.
-                return Internal.Data.setMantissa(decimal, -getMantissa(decimal));
+            /**
+             * Rounds <code>sign * (hi, lo) * 2^-scale * 10^-tenExponent</code> to a Decimal.
+             * <h1>Unsafe: Does not validate inputs </h1>
+             * <ul>
+             *     <li>(hi, lo) should be > 0 and < 2^127</li>
+             *     <li>scale should be >= 76</li>
+             *     <li>The value should not be exactly representable, it is always rounded as if inexact</li>
+             * </ul>
+             */
+            private static @Decimal long toDecimal(int sign, long hi, long lo, int scale, int tenExponent, @NotNull RoundingMode roundingMode) {
+                double approx = Math.scalb((double) hi, 64 - scale) + Math.scalb((double) (lo >>> 1), 1 - scale);
+
+                // scale by 10^s so there are 17 or 18 digits, i.e. at least 1 digit past the precision to round on
+                int s = (PRECISION + 1) - (int) Math.floor(Math.log10(approx));
+                int k = TEN_TO_THE_OFFSET + s;
+                long digits = FastMath.multiplyU128Bits(hi, lo, TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], scale - TEN_TO_THE_EXP[k]);
+
+                // safety: digits is > 16 digits, so fromParts(..) rounds away the sticky digit
+                return Convert.Parts.fromParts(Convert.Parts.foldSticky(digits, true) * sign, s + tenExponent, roundingMode);
             }
 
-            public static class Add {
+            public static class Exp {
 
-                public static @Decimal long add(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
-                        return addNonFinite(decimalA, decimalB);
-                    }
-                    return addFinite(decimalA, decimalB);
+                public static @Decimal long exp(@Decimal long decimal) {
+                    return exp(decimal, RoundingMode.HALF_EVEN);
                 }
 
-                public static @Decimal long addNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (decimalA == NAN || decimalB == NAN) {
-                        // NaN + x
-                        return NAN;
-                    }
-
-                    if (getExponent(decimalA) == getExponent(decimalB)) {
-                        // both a and b are infinite
-                        // inf + inf = inf
-                        // -inf + inf = NaN
-                        return decimalA == decimalB ? decimalA : NAN;
+                public static @Decimal long exp(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return expNonFinite(decimal);
                     }
-
-                    // only one of a or b is infinite
-                    return Internal.Data.isFinite(decimalA) ? decimalB : decimalA;
+                    return expFinite(decimal, roundingMode);
                 }
 
-                public static @Decimal long addFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (decimalA == ZERO) {
-                        return decimalB;
-                    }
-                    if (decimalB == ZERO) {
-                        return decimalA;
+                public static @Decimal long expNonFinite(@Decimal long decimal) {
+                    if (decimal == NEGATIVE_INFINITY) {
+                        // e^-inf
+                        return ZERO;
                     }
 
-                    long a_mantissa = getMantissa(decimalA);
-                    long b_mantissa = getMantissa(decimalB);
-                    int a_exponent = getExponent(decimalA);
-                    int b_exponent = getExponent(decimalB);
+                    // e^nan, e^+inf
+                    return decimal;
+                }
 
-                    int exponent_diff = a_exponent - b_exponent;
+                public static @Decimal long expFinite(@Decimal long decimal) {
+                    return expFinite(decimal, RoundingMode.HALF_EVEN);
+                }
 
-                    if (exponent_diff == 0) {
-                        // same exponents, just sum the mantissas
-                        // safety: summing two 16 digit numbers won't overflow an i64
-                        return fromParts(a_mantissa + b_mantissa, a_exponent);
+                public static @Decimal long expFinite(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+                    if (decimal == ZERO) {
+                        // e^0
+                        return ONE;
                     }
 
-                    int a_n_digits = FastMath.nDigits(a_mantissa);
-                    int b_n_digits = FastMath.nDigits(b_mantissa);
-
-                    int cmp = Internal.Compare.DecimalVsDecimal.compareFiniteUnsignedUnsafe(
-                            Math.abs(a_mantissa), a_exponent, Math.abs(b_mantissa), b_exponent,
-                            a_n_digits, b_n_digits
-                    );
-
-                    if (cmp > 0) {
-                        return addFiniteUnsafe(a_mantissa, a_exponent, b_mantissa, b_exponent, a_n_digits, b_n_digits);
-                    } else {
-                        return addFiniteUnsafe(b_mantissa, b_exponent, a_mantissa, a_exponent, b_n_digits, a_n_digits);
+                    long mantissa = getMantissa(decimal);
+                    int exponent = getExponent(decimal);
+                    boolean negative = mantissa < 0;
+                    long abs = Math.abs(mantissa);
+
+                    // |x| is in [10^(magnitude - 1), 10^magnitude)
+                    int magnitude = FastMath.nDigits(abs) - exponent;
+                    if (magnitude <= -(PRECISION + 1)) {
+                        // e^x = 1 + x + .., too close to 1 to reach a rounding boundary
+                        return nearOne(1, negative, roundingMode);
+                    }
+                    if (magnitude > 3) {
+                        // |x| >= 1000, e^x is far past the largest Decimal, e^-x far below the smallest
+                        return negative ? ZERO : POSITIVE_INFINITY;
                     }
-                }
-
-                public static @Decimal long addFiniteUnsafe(long l_mantissa, int l_exponent, long s_mantissa, int s_exponent, int l_n_digits, int s_n_digits) {
-                    // assumes l > s
 
-                    // find where l and h start on the number line
-                    int l_start = l_exponent - (l_n_digits - 1); // e.g. 12300:-4, 1230:-3, 123:-2, 12.3:-1, 1.23:0, .123:1, .0123:2
-                    int s_start = s_exponent - (s_n_digits - 1);
+                    // |x| in Q112, exact when x is an integer
+                    // safety: exponent is in [-3, 32] so the shift is in [6, 122]
+                    int k = TEN_TO_THE_OFFSET - exponent;
+                    int shift = -TEN_TO_THE_EXP[k] - 112;
+                    long zHi = FastMath.multiplyU128Bits(0, abs, TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], shift + 64);
+                    long zLo = FastMath.multiplyU128Bits(0, abs, TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], shift);
 
-                    int dist = Math.abs(l_start - s_start);
+                    return expUnsafe(1, negative, zHi, zLo, roundingMode);
+                }
 
-                    if (dist >= PRECISION + 2) {
-                        // too far apart, l will be unchanged
-                        return Internal.Data.makeUnsafe(l_mantissa, l_exponent);
+                /**
+                 * Returns <code>sign * e^z</code>, or <code>sign * e^-z</code> if negative, where z = (zHi, zLo) * 2^-112.
+                 * <h1>Unsafe: Does not validate inputs </h1>
+                 * <ul>
+                 *     <li>z should be >= 0 and < 2^15</li>
+                 * </ul>
+                 */
+                static @Decimal long expUnsafe(int sign, boolean negative, long zHi, long zLo, @NotNull RoundingMode roundingMode) {
+                    // z = q * ln(10) + t with t in [0, ln(10)), then e^z = 10^q * e^t
+                    double approx = Math.scalb((double) zHi, -48) + Math.scalb((double) (zLo >>> 1), -111);
+                    long q = (long) (approx / LN10_F64);
+
+                    long qlnHi = FastMath.multiplyU128Bits(LN10_HI, LN10_LO, 0, q, 76);
+                    long qlnLo = FastMath.multiplyU128Bits(LN10_HI, LN10_LO, 0, q, 12);
+                    long tLo = zLo - qlnLo;
+                    long tHi = zHi - qlnHi - (Long.compareUnsigned(zLo, qlnLo) < 0 ? 1 : 0);
+
+                    // the estimated q can be off by 1 either way
+                    while (tHi < 0) {
+                        long lo = tLo + LN10_Q112_LO;
+                        tHi += LN10_Q112_HI + (Long.compareUnsigned(lo, tLo) < 0 ? 1 : 0);
+                        tLo = lo;
+                        q--;
+                    }
+                    while (FastMath.compareU128(tHi, tLo, LN10_Q112_HI, LN10_Q112_LO) >= 0) {
+                        long lo = tLo - LN10_Q112_LO;
+                        tHi -= LN10_Q112_HI + (Long.compareUnsigned(tLo, LN10_Q112_LO) < 0 ? 1 : 0);
+                        tLo = lo;
+                        q++;
                     }
 
-                    // we only need first K digits of s
-                    int s_keep_first_n_digits = (PRECISION - dist) + 2;
-                    int s_drop_last_n_digits = s_n_digits - s_keep_first_n_digits;
-                    long s_mantissa_remainder = 0;
-                    long divisor;
-                    if (s_drop_last_n_digits > 0) {
-                        divisor = FastMath.i64TenToThe(s_drop_last_n_digits);
-                        s_mantissa_remainder = Math.abs(s_mantissa % divisor);
-                        s_mantissa /= divisor;
-                        s_exponent -= s_drop_last_n_digits;
-                        if (!FastMath.sameSign(l_mantissa, s_mantissa) && s_mantissa_remainder > 0) {
-                            s_mantissa += FastMath.sign(s_mantissa);
-                        }
+                    if (negative && (tHi | tLo) != 0) {
+                        // e^-z = 10^-q * e^-t = 10^-(q + 1) * e^(ln(10) - t)
+                        long lo = LN10_Q112_LO - tLo;
+                        tHi = LN10_Q112_HI - tHi - (Long.compareUnsigned(LN10_Q112_LO, tLo) < 0 ? 1 : 0);
+                        tLo = lo;
+                        q++;
                     }
 
-                    int exp_diff = l_exponent - s_exponent;
-                    if (exp_diff > 0) {
-                        // expand s by diff
-                        s_mantissa *= FastMath.i64TenToThe(exp_diff);
-                        // exponent unchanged
-                    } else {
-                        // expand l by -diff
-                        l_mantissa *= FastMath.i64TenToThe(-exp_diff);
-                        l_exponent -= exp_diff;
+                    // t = j/16 + s with s in [0, 1/16), then e^t = e^(j/16) * e^s
+                    // safety: t < ln(10) < 37/16
+                    int j = (int) (tHi >>> 44);
+                    long sHi = ((tHi & ((1L << 44) - 1)) << 16) | (tLo >>> 48);
+                    long sLo = tLo << 16;
+
+                    // e^s by its Taylor series in Q124, the first omitted term is < 2^-124
+                    int n = EXP_COEFFICIENTS_HI.length - 1;
+                    long pHi = EXP_COEFFICIENTS_HI[n];
+                    long pLo = EXP_COEFFICIENTS_LO[n];
+                    while (--n >= 0) {
+                        long hi = FastMath.multiplyU128Bits(pHi, pLo, sHi, sLo, 192);
+                        long lo = FastMath.multiplyU128Bits(pHi, pLo, sHi, sLo, 128);
+                        pLo = EXP_COEFFICIENTS_LO[n] + lo;
+                        pHi = EXP_COEFFICIENTS_HI[n] + hi + (Long.compareUnsigned(pLo, lo) < 0 ? 1 : 0);
                     }
 
-                    l_mantissa += s_mantissa;
+                    // e^t in Q120
+                    long rHi = FastMath.multiplyU128Bits(EXP_OF_J_16_HI[j], EXP_OF_J_16_LO[j], pHi, pLo, 192);
+                    long rLo = FastMath.multiplyU128Bits(EXP_OF_J_16_HI[j], EXP_OF_J_16_LO[j], pHi, pLo, 128);
+
+                    // safety: |q| < 2^15 / ln(10), the exponent can't overflow an int and fromParts(..) clamps to inf or 0
+                    return toDecimal(sign, rHi, rLo, 120, (int) (negative ? q : -q), roundingMode);
+                }
+            }
 
-                    if (l_mantissa > MAX_MANTISSA || l_mantissa < -MAX_MANTISSA) {
-                        int l_mantissa_n_digits = FastMath.nDigits(l_mantissa);
-                        if ((l_mantissa_n_digits == PRECISION + 1 && Math.abs(l_mantissa % 10) == 5)
-                                || (l_mantissa_n_digits == PRECISION + 2 && Math.abs(l_mantissa % 100) == 50)) {
-                            int round = 0;
+            public static class Log {
 
-                            if (s_mantissa_remainder > 0) {
-                                round = FastMath.sign(l_mantissa);
-                            } else if (s_mantissa_remainder == 0 && Math.abs(l_mantissa % 10) == 5 && Math.abs(l_mantissa / 10) % 2 != 0) {
-                                round = FastMath.sign(l_mantissa);
-                            }
+                public static @Decimal long ln(@Decimal long decimal) {
+                    return ln(decimal, RoundingMode.HALF_EVEN);
+                }
 
-                            l_mantissa /= 10;
-                            l_mantissa += round;
-                            l_exponent -= 1;
-                        }
+                public static @Decimal long ln(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return logNonFinite(decimal);
                     }
+                    return logFinite(decimal, LN, roundingMode);
+                }
 
-                    return Internal.Convert.Parts.fromParts(l_mantissa, l_exponent);
+                public static @Decimal long log10(@Decimal long decimal) {
+                    return log10(decimal, RoundingMode.HALF_EVEN);
                 }
-            }
 
-            public static class Sub {
+                public static @Decimal long log10(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimal)) {
+                        return logNonFinite(decimal);
+                    }
+                    return logFinite(decimal, LOG10, roundingMode);
+                }
 
-                public static @Decimal long sub(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
-                        return subNonFinite(decimalA, decimalB);
+                public static @Decimal long logNonFinite(@Decimal long decimal) {
+                    if (decimal == POSITIVE_INFINITY) {
+                        // ln(+inf)
+                        return POSITIVE_INFINITY;
                     }
-                    return subFinite(decimalA, decimalB);
+
+                    // ln(nan), ln(-inf)
+                    return NAN;
                 }
 
-                public static @Decimal long subNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    // logic is the same as add
-                    return Add.addNonFinite(decimalA, decimalB);
+                public static @Decimal long lnFinite(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+                    return logFinite(decimal, LN, roundingMode);
                 }
 
-                public static @Decimal long subFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    // a - b = a + (-b)
-                    return Add.addFinite(decimalA, negate(decimalB));
+                public static @Decimal long log10Finite(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+                    return logFinite(decimal, LOG10, roundingMode);
                 }
-            }
 
-            public static class Mul {
+                private static @Decimal long logFinite(@Decimal long decimal, int kind, @NotNull RoundingMode roundingMode) {
+                    long mantissa = getMantissa(decimal);
+                    if (mantissa <= 0) {
+                        // ln(0), ln(-x)
+                        return mantissa == 0 ? NEGATIVE_INFINITY : NAN;
+                    }
+                    if (decimal == ONE) {
+                        // ln(1)
+                        return ZERO;
+                    }
 
-                public static @Decimal long mul(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
-                        return mulNonFinite(decimalA, decimalB);
+                    int exponent = getExponent(decimal);
+                    if (kind == LOG10 && mantissa == 1) {
+                        // log10(10^n) = n, exactly
+                        return Convert.Parts.fromParts(-exponent, 0);
                     }
-                    return mulFinite(decimalA, decimalB);
+
+                    return logUnsafe(mantissa, exponent, kind, 1, ZERO, roundingMode);
                 }
 
-                @SuppressWarnings({"fenum:argument"})
-                public static @Decimal long mulNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (getMantissa(decimalA) == 0 || getMantissa(decimalB) == 0) {
-                        // NaN * x, inf * 0
-                        return NAN;
+                /**
+                 * Computes ln(x) for x = mantissa * 10^-exponent, then finishes with either
+                 * ln(x), log10(x), or <code>sign * e^(power * ln(x))</code>.
+                 * <h1>Unsafe: Does not validate inputs </h1>
+                 * <ul>
+                 *     <li>mantissa should be > 0 and <= {@value MAX_MANTISSA}, and x should not be 1</li>
+                 *     <li>power should be finite and non-zero if kind is POW</li>
+                 * </ul>
+                 */
+                static @Decimal long logUnsafe(long mantissa, int exponent, int kind, int sign, @Decimal long power, @NotNull RoundingMode roundingMode) {
+                    // x = m * 10^p with m = m16 * 10^-15 in [1, 10)
+                    int nDigits = FastMath.nDigits(mantissa);
+                    long m16 = mantissa * FastMath.i64TenToThe(PRECISION - nDigits);
+                    int p = nDigits - 1 - exponent;
+
+                    // near 1 the log is tiny, so use x - 1 directly (it's exact) rather than cancelling p * ln(10) + ln(m)
+                    long e = 0;
+                    int f = 0;
+                    if (p == 0 && m16 - ONE_E17 / 100 < ONE_E17 / 6400) {
+                        // x in (1, 1 + 1/64)
+                        e = m16 - ONE_E17 / 100;
+                        f = PRECISION - 1;
+                    } else if (p == -1 && ONE_E17 / 10 - m16 < ONE_E17 / 640) {
+                        // x in (1 - 1/64, 1)
+                        e = m16 - ONE_E17 / 10;
+                        f = PRECISION;
                     }
+                    boolean nearOne = e != 0;
+
+                    // the series input u in Q128, and whether it's negative
+                    long uHi;
+                    long uLo;
+                    boolean uNegative = e < 0;
+                    int b = 0;
+                    int j = 0;
+                    if (nearOne) {
+                        // u = x - 1 = e * 10^-f
+                        int k = TEN_TO_THE_OFFSET - f;
+                        int shift = -TEN_TO_THE_EXP[k] - 128;
+                        uHi = FastMath.multiplyU128Bits(0, Math.abs(e), TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], shift + 64);
+                        uLo = FastMath.multiplyU128Bits(0, Math.abs(e), TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], shift);
+                    } else {
+                        // m in Q124
+                        int k = TEN_TO_THE_OFFSET - (PRECISION - 1);
+                        int shift = -TEN_TO_THE_EXP[k] - 124;
+                        long mHi = FastMath.multiplyU128Bits(0, m16, TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], shift + 64);
+                        long mLo = FastMath.multiplyU128Bits(0, m16, TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], shift);
+                        if (m16 == ONE_E17 / 100) {
+                            // the truncated 10^-15 would put m = 1 just below 1
+                            mHi = 1L << 60;
+                            mLo = 0;
+                        }
 
-                    if (getExponent(decimalA) == getExponent(decimalB)) {
-                        // both a and b are infinite
-                        // -inf * -inf = inf
-                        // inf * inf = inf
-                        return decimalA == decimalB ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+                        // m = 2^b * (1 + j/64) * (1 + u) with b in [0, 3] and u in [0, 1/64)
+                        b = 63 - Long.numberOfLeadingZeros(mHi >>> 60);
+                        j = (int) (mHi >>> (54 + b)) & 63;
+
+                        // d = m / 2^b - (1 + j/64) in Q128
+                        int up = 4 - b;
+                        long dHi = ((mHi & ((1L << (54 + b)) - 1)) << up) | (mLo >>> (64 - up));
+                        long dLo = mLo << up;
+
+                        // u = d / (1 + j/64)
+                        uHi = FastMath.multiplyU128Bits(dHi, dLo, INV_OF_F_HI[j], INV_OF_F_LO[j], 127 + 64);
+                        uLo = FastMath.multiplyU128Bits(dHi, dLo, INV_OF_F_HI[j], INV_OF_F_LO[j], 127);
                     }
 
-                    // only one of a or b is infinite
-                    return FastMath.sameSign(decimalA, decimalB) ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
-                }
+                    // ln(1 + u) = u * (1 - u/2 + u^2/3 - ..), the series in Q124, the first omitted term is < 2^-124
+                    int n = LN1P_COEFFICIENTS_HI.length - 1;
+                    long lHi = LN1P_COEFFICIENTS_HI[n];
+                    long lLo = LN1P_COEFFICIENTS_LO[n];
+                    while (--n >= 0) {
+                        long hi = FastMath.multiplyU128Bits(lHi, lLo, uHi, uLo, 192);
+                        long lo = FastMath.multiplyU128Bits(lHi, lLo, uHi, uLo, 128);
+                        if (uNegative) {
+                            lLo = LN1P_COEFFICIENTS_LO[n] + lo;
+                            lHi = LN1P_COEFFICIENTS_HI[n] + hi + (Long.compareUnsigned(lLo, lo) < 0 ? 1 : 0);
+                        } else {
+                            lLo = LN1P_COEFFICIENTS_LO[n] - lo;
+                            lHi = LN1P_COEFFICIENTS_HI[n] - hi - (Long.compareUnsigned(LN1P_COEFFICIENTS_LO[n], lo) < 0 ? 1 : 0);
+                        }
+                    }
 
-                public static @Decimal long mulFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    // fast path check for zero
-                    if (decimalA == ZERO || decimalB == ZERO) {
-                        return ZERO;
+                    // |ln(x)| = (lnHi, lnLo) * 2^-lnScale * 10^-lnTen
+                    long lnHi;
+                    long lnLo;
+                    int lnScale;
+                    int lnTen;
+                    boolean lnNegative;
+                    if (nearOne) {
+                        // |ln(x)| = |e| * series * 10^-f, multiplied by the exact integer |e| to keep every digit of a tiny result
+                        long absE = Math.abs(e);
+                        int sh = 64 - Long.numberOfLeadingZeros(absE);
+                        lnHi = FastMath.multiplyU128Bits(0, absE, lHi, lLo, sh + 64);
+                        lnLo = FastMath.multiplyU128Bits(0, absE, lHi, lLo, sh);
+                        lnScale = 124 - sh;
+                        lnTen = f;
+                        lnNegative = e < 0;
+                    } else {
+                        // ln(m) = b * ln(2) + ln(1 + j/64) + ln(1 + u) in Q124
+                        long hi = FastMath.multiplyU128Bits(lHi, lLo, uHi, uLo, 192);
+                        long lo = FastMath.multiplyU128Bits(lHi, lLo, uHi, uLo, 128);
+                        long mlnLo = LN_OF_F_LO[j] + lo;
+                        long mlnHi = LN_OF_F_HI[j] + hi + (Long.compareUnsigned(mlnLo, lo) < 0 ? 1 : 0);
+                        long b2Lo = LN2_LO * b;
+                        long b2Hi = LN2_HI * b + Math.unsignedMultiplyHigh(LN2_LO, b);
+                        mlnLo += b2Lo;
+                        mlnHi += b2Hi + (Long.compareUnsigned(mlnLo, b2Lo) < 0 ? 1 : 0);
+
+                        // ln(x) = p * ln(10) + ln(m) in Q116, so |p| * ln(10) < 2^10 fits
+                        long absP = Math.abs(p);
+                        long pHi = FastMath.multiplyU128Bits(LN10_HI, LN10_LO, 0, absP, 72);
+                        long pLo = FastMath.multiplyU128Bits(LN10_HI, LN10_LO, 0, absP, 8);
+                        long mHi = mlnHi >>> 8;
+                        long mLo = (mlnLo >>> 8) | (mlnHi << 56);
+                        if (p >= 0) {
+                            lnLo = pLo + mLo;
+                            lnHi = pHi + mHi + (Long.compareUnsigned(lnLo, mLo) < 0 ? 1 : 0);
+                        } else {
+                            // safety: p <= -1 and m < 10, so p * ln(10) + ln(m) < 0
+                            lnLo = pLo - mLo;
+                            lnHi = pHi - mHi - (Long.compareUnsigned(pLo, mLo) < 0 ? 1 : 0);
+                        }
+                        lnScale = 116;
+                        lnTen = 0;
+                        lnNegative = p < 0;
                     }
 
-                    @SuppressWarnings("fenum:argument")
-                    int sign = FastMath.sameSign(decimalA, decimalB) ? 1 : -1;
-                    long a_mantissa = Math.abs(getMantissa(decimalA));
-                    long b_mantissa = Math.abs(getMantissa(decimalB));
-                    int a_exponent = getExponent(decimalA);
-                    int b_exponent = getExponent(decimalB);
+                    if (kind == LOG10) {
+                        // log10(x) = ln(x) * log10(e)
+                        long hi = FastMath.multiplyU128Bits(lnHi, lnLo, LOG10_E_HI, LOG10_E_LO, 192);
+                        long lo = FastMath.multiplyU128Bits(lnHi, lnLo, LOG10_E_HI, LOG10_E_LO, 128);
+                        lnHi = hi;
+                        lnLo = lo;
+                    }
+                    if (kind != POW) {
+                        return toDecimal(lnNegative ? -1 : 1, lnHi, lnLo, lnScale, lnTen, roundingMode);
+                    }
 
-                    // try to multiply in an i64
-                    if (b_mantissa <= Long.MAX_VALUE / a_mantissa) {
-                        long productMantissa = a_mantissa * b_mantissa * sign;
-                        int productExponent  = a_exponent + b_exponent;
-                        return Internal.Convert.Parts.fromParts(productMantissa, productExponent);
+                    // x^y = e^z with z = y * ln(x)
+                    long yMantissa = getMantissa(power);
+                    int yExponent = getExponent(power);
+                    boolean zNegative = lnNegative != (yMantissa < 0);
+                    long absY = Math.abs(yMantissa);
+
+                    double zApprox = Math.scalb((double) lnHi, 64 - lnScale) * absY * Math.pow(10, -(yExponent + lnTen));
+                    if (zApprox > 0x1p14) {
+                        // e^z is far past the largest Decimal, e^-z far below the smallest
+                        return zNegative ? ZERO : (sign > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY);
+                    }
+                    if (zApprox < 0x1p-62) {
+                        // e^z = 1 + z + .., too close to 1 to reach a rounding boundary
+                        return nearOne(sign, zNegative, roundingMode);
                     }
 
-                    var bigDecimalA       = BigDecimal.valueOf(a_mantissa * sign, a_exponent);
-                    var bigDecimalB       = BigDecimal.valueOf(b_mantissa, b_exponent);
-                    var bigDecimalProduct = bigDecimalA.multiply(bigDecimalB, MathContext.DECIMAL64);
-                    return Internal.Convert.BigDec.fromBigDecimal(bigDecimalProduct);
+                    // |ln(x)| * |y mantissa| rescaled back into 128 bits, then |z| in Q112
+                    // safety: |z| in [2^-62, 2^14] keeps the power of ten in [-50, 4] and the shift in [126, 208]
+                    int sh = 64 - Long.numberOfLeadingZeros(absY);
+                    long aHi = FastMath.multiplyU128Bits(lnHi, lnLo, 0, absY, sh + 64);
+                    long aLo = FastMath.multiplyU128Bits(lnHi, lnLo, 0, absY, sh);
+                    int k = TEN_TO_THE_OFFSET - (lnTen + yExponent);
+                    int shift = lnScale - sh - TEN_TO_THE_EXP[k] - 112;
+                    long zHi = FastMath.multiplyU128Bits(aHi, aLo, TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], shift + 64);
+                    long zLo = FastMath.multiplyU128Bits(aHi, aLo, TEN_TO_THE_HI[k], TEN_TO_THE_LO[k], shift);
+
+                    return Exp.expUnsafe(sign, zNegative, zHi, zLo, roundingMode);
                 }
             }
 
-            public static class Div {
+            public static class Pow {
 
-                public static @Decimal long div(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (!Internal.Data.isFinite(decimalA) || !Internal.Data.isFinite(decimalB)) {
-                        return divNonFinite(decimalA, decimalB);
-                    }
-                    return divFinite(decimalA, decimalB);
+                public static @Decimal long pow(@Decimal long decimal, @Decimal long power) {
+                    return pow(decimal, power, RoundingMode.HALF_EVEN);
                 }
 
-                public static @Decimal long divNonFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (decimalA == NAN || decimalB == NAN || decimalB == ZERO) {
-                        // nan / x, x / nan, x / 0
-                        return NAN;
+                public static @Decimal long pow(@Decimal long decimal, @Decimal long power, @NotNull RoundingMode roundingMode) {
+                    if (!Internal.Data.isFinite(decimal) || !Internal.Data.isFinite(power)) {
+                        return powNonFinite(decimal, power);
                     }
+                    return powFinite(decimal, power, roundingMode);
+                }
 
-                    if (decimalA == ZERO) {
-                        // x / 0
-                        return ZERO;
+                /** Same special cases as {@link Math#pow(double, double)} */
+                @SuppressWarnings("fenum:binary")
+                public static @Decimal long powNonFinite(@Decimal long decimal, @Decimal long power) {
+                    if (power == ZERO) {
+                        // x^0, even for nan
+                        return ONE;
+                    }
+                    if (decimal == NAN || power == NAN) {
+                        // nan^y, x^nan
+                        return NAN;
                     }
 
-                    if (!Internal.Data.isFinite(decimalB)) {
-                        if (!Internal.Data.isFinite(decimalA)) {
-                            // inf / inf
+                    if (!Internal.Data.isFinite(power)) {
+                        int cmp = Compare.DecimalVsDecimal.compare(Maths.abs(decimal), ONE);
+                        if (cmp == 0) {
+                            // (+/-1)^(+/-inf)
                             return NAN;
                         }
-                        // x / inf
+
+                        // |x| > 1 grows to inf, |x| < 1 shrinks to 0, and the other way round for -inf
+                        return (cmp > 0) == (power == POSITIVE_INFINITY) ? POSITIVE_INFINITY : ZERO;
+                    }
+
+                    // (+/-inf)^y, y finite and non-zero
+                    if (getMantissa(power) < 0) {
                         return ZERO;
                     }
+                    if (decimal == NEGATIVE_INFINITY && isOddInteger(power)) {
+                        return NEGATIVE_INFINITY;
+                    }
+                    return POSITIVE_INFINITY;
+                }
 
-                    // catches inf / x
-                    return decimalA;
+                public static @Decimal long powFinite(@Decimal long decimal, @Decimal long power) {
+                    return powFinite(decimal, power, RoundingMode.HALF_EVEN);
                 }
 
-                public static @Decimal long divFinite(@Decimal long decimalA, @Decimal long decimalB) {
-                    if (decimalB == ZERO) {
-                        // x / 0
-                        return NAN;
+                public static @Decimal long powFinite(@Decimal long decimal, @Decimal long power, @NotNull RoundingMode roundingMode) {
+                    if (power == ZERO || decimal == ONE) {
+                        // x^0, 1^y
+                        return ONE;
                     }
 
-                    if (decimalA == ZERO) {
-                        // 0 / x
-                        return ZERO;
+                    long mantissa = getMantissa(decimal);
+                    long yMantissa = getMantissa(power);
+                    if (mantissa == 0) {
+                        // 0^y
+                        return yMantissa > 0 ? ZERO : POSITIVE_INFINITY;
+                    }
+
+                    int exponent = getExponent(decimal);
+                    int yExponent = getExponent(power);
+                    boolean integral = yExponent <= 0;
+
+                    int sign = 1;
+                    if (mantissa < 0) {
+                        if (!integral) {
+                            // (-x)^0.5
+                            return NAN;
+                        }
+                        if (isOddInteger(power)) {
+                            sign = -1;
+                        }
+                        mantissa = -mantissa;
+                    }
+
+                    if (yMantissa == 5 && yExponent == 1) {
+                        // x^0.5
+                        return Maths.Sqrt.sqrtFinite(decimal, roundingMode);
+                    }
+
+                    if (integral) {
+                        // safety: |y| < 10^16 * 10^2 fits in a long, and a larger |y| is saturated, it's past every use of n below
+                        // (n < 64, and the scale clamped at n = 1000), so x^y falls through to e^(y * ln(x)) and over/underflows there
+                        long n = yExponent >= -2 ? Math.abs(yMantissa) * FastMath.i64TenToThe(-yExponent) : Long.MAX_VALUE;
+                        boolean negativePower = yMantissa < 0;
+                        long base = mantissa;
+                        int baseExponent = exponent;
+
+                        long reciprocal = negativePower ? reciprocalI64(mantissa) : -1;
+                        if (reciprocal > 0) {
+                            // 1/x = reciprocal * 10^-(d - exponent) is exact, so x^-n = (1/x)^n
+                            base = reciprocal;
+                            baseExponent = FastMath.nDigits(reciprocal * mantissa) - 1 - exponent;
+                            negativePower = false;
+                        }
+
+                        // x^n = base^n * 10^-(baseExponent * n), clamped to where fromParts(..) overflows or underflows
+                        long scale = Math.max(-1_000, Math.min(1_000, baseExponent * Math.min(n, 1_000)));
+                        long pow = base == 1 ? 1 : (n < 64 ? powI64(base, (int) n) : -1);
+                        if (pow > 0 && !negativePower) {
+                            // base^n fits in a long, rounded once
+                            return Convert.Parts.fromParts(sign * pow, (int) scale, roundingMode);
+                        }
+                        if (pow > 0 && pow <= MAX_MANTISSA && scale >= MIN_EXPONENT && scale <= MAX_EXPONENT) {
+                            // 1 / x^n, x^n is exact so div(..) rounds once
+                            return Maths.Div.divFinite(Convert.Parts.fromParts(sign, 0), Convert.Parts.fromParts(pow, (int) scale), roundingMode);
+                        }
                     }
 
-                    if (decimalB == ONE) {
-                        return decimalA;
+                    // integer powers that get here have no exact result with <= 16 digits, e.g. m^n with no trailing zeros overflowed a long
+                    return Log.logUnsafe(mantissa, exponent, POW, sign, power, roundingMode);
+                }
+
+                /** Whether the given finite Decimal is an odd integer */
+                private static boolean isOddInteger(@Decimal long decimal) {
+                    // safety: mantissas are normalized, so an integer with exponent < 0 is even
+                    return getExponent(decimal) == 0 && (getMantissa(decimal) & 1) != 0;
+                }
+
+                /** Returns c such that <code>m * c = 10^d</code> for some d <= 18, i.e. 1/m is exact, or -1 if there is no such c */
+                private static long reciprocalI64(long m) {
+                    int twos = Long.numberOfTrailingZeros(m);
+                    long rest = m >>> twos;
+                    int fives = 0;
+                    while (rest % 5 == 0) {
+                        rest /= 5;
+                        fives++;
                     }
 
-                    var bigDecimalA        = Convert.BigDec.toBigDecimal(decimalA);
-                    var bigDecimalB        = Convert.BigDec.toBigDecimal(decimalB);
-                    var bigDecimalQuotient = bigDecimalA.divide(bigDecimalB, MathContext.DECIMAL64);
-                    return Convert.BigDec.fromBigDecimal(bigDecimalQuotient);
+                    int d = Math.max(twos, fives);
+                    if (rest != 1 || d > 18) {
+                        return -1;
+                    }
+                    return FastMath.i64TenToThe(d) / m;
                 }
-            }
 
-            public static class Round {
-                public static @Decimal long round(@Decimal long decimal, int exponent) {
-                    var bigDecimal = Convert.BigDec.toBigDecimal(decimal);
-                    bigDecimal = bigDecimal.setScale(exponent, MathContext.DECIMAL64.getRoundingMode());
-                    return Convert.BigDec.fromBigDecimal(bigDecimal);
+                /** Returns m^n, or -1 if it overflows a long */
+                private static long powI64(long m, int n) {
+                    long result = 1;
+                    while (n > 0) {
+                        if ((n & 1) != 0) {
+                            if (Math.multiplyHigh(result, m) != 0 || result * m < 0) {
+                                return -1;
+                            }
+                            result *= m;
+                        }
+                        n >>= 1;
+                        if (n > 0) {
+                            if (Math.multiplyHigh(m, m) != 0 || m * m < 0) {
+                                return -1;
+                            }
+                            m *= m;
+                        }
+                    }
+                    return result;
                 }
             }
         }
@@ -1378,7 +4589,7 @@ public class Decimal64 {
      * Creates a new Decimal from the given string, assuming the whole string must be used.
      * */
     public static @Decimal long fromString(@NotNull String str) {
-        return Internal.Convert.Str.fromString(str);
+        return Internal.Convert.Str.fromString(str, 0, str.length());
     }
 
     /**
@@ -1388,12 +4599,165 @@ public class Decimal64 {
         return Internal.Convert.Str.toString(decimal);
     }
 
+    /**
+     * The length of {@link #toString(long)} for the given Decimal, i.e. the number of bytes {@link #formatTo(long, byte[], int)} writes,
+     * computed from its digit count and exponent without formatting it.
+     * */
+    public static int formattedLength(@Decimal long decimal) {
+        return Internal.Convert.Str.formattedLength(decimal);
+    }
+
+    /**
+     * The number of bytes {@link #formatFixed(long, int, RoundingMode, int, byte[], int)} writes for the given Decimal, without formatting it.
+     * */
+    public static int formattedFixedLength(@Decimal long decimal, int scale, @NotNull RoundingMode roundingMode, int width) {
+        return Internal.Convert.Str.formattedFixedLength(decimal, scale, roundingMode, width);
+    }
+
+    /**
+     * The length of {@link #toScientificString(long)} for the given Decimal, without formatting it.
+     * */
+    public static int formattedScientificLength(@Decimal long decimal) {
+        return Internal.Convert.Str.formattedScientificLength(decimal);
+    }
+
+    /**
+     * The length of {@link #toEngineeringString(long)} for the given Decimal, without formatting it.
+     * */
+    public static int formattedEngineeringLength(@Decimal long decimal) {
+        return Internal.Convert.Str.formattedEngineeringLength(decimal);
+    }
+
+    /**
+     * The number of bytes {@link #formatShortest(long, int, byte[], int)} writes for the given Decimal, without formatting it.
+     * */
+    public static int formattedShortestLength(@Decimal long decimal, int maxPlainZeros) {
+        return Internal.Convert.Str.formattedShortestLength(decimal, maxPlainZeros);
+    }
+
+    /**
+     * Writes the given Decimal as ASCII into dst at the offset, same as {@link #toString(long)}, and returns the offset after it.
+     * At most {@value Internal.Convert.Str#MAX_STRING_LENGTH} bytes are written. Doesn't allocate.
+     * */
+    public static int formatTo(@Decimal long decimal, byte @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatTo(decimal, dst, offset);
+    }
+
+    /**
+     * Writes the given Decimal into dst at the offset, same as {@link #toString(long)}, and returns the offset after it.
+     * At most {@value Internal.Convert.Str#MAX_STRING_LENGTH} chars are written. Doesn't allocate.
+     * */
+    public static int formatTo(@Decimal long decimal, char @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatTo(decimal, dst, offset);
+    }
+
+    /**
+     * Appends the given Decimal to the StringBuilder, same as {@link #toString(long)}, and returns the StringBuilder.
+     * Doesn't allocate, unless the StringBuilder grows.
+     * */
+    public static @NotNull StringBuilder appendTo(@Decimal long decimal, @NotNull StringBuilder out) {
+        return Internal.Convert.Str.appendTo(decimal, out);
+    }
+
+    /**
+     * Appends the given Decimal to the Appendable, same as {@link #toString(long)}, and returns the Appendable.
+     * */
+    public static <A extends Appendable> @NotNull A appendTo(@Decimal long decimal, @NotNull A out) throws IOException {
+        return Internal.Convert.Str.appendTo(decimal, out);
+    }
+
+    /**
+     * Converts the given Decimal to a `String` in scientific notation, e.g. "1.25E+7" or "-3E-250".
+     * */
+    public static @NotNull String toScientificString(@Decimal long decimal) {
+        return Internal.Convert.Str.toScientificString(decimal);
+    }
+
+    /**
+     * Converts the given Decimal to a `String` in engineering notation, i.e. with the power of ten a multiple of 3, e.g. "12.5E+6".
+     * */
+    public static @NotNull String toEngineeringString(@Decimal long decimal) {
+        return Internal.Convert.Str.toEngineeringString(decimal);
+    }
+
+    /**
+     * Converts the given Decimal to a `String`, same as {@link #toString(long)} unless that needs more than
+     * {@value Internal.Convert.Str#DEFAULT_MAX_PLAIN_ZEROS} zeros between the digits and the point, then same as {@link #toScientificString(long)}.
+     * At most {@value Internal.Convert.Str#MAX_SHORTEST_STRING_LENGTH} chars long.
+     * */
+    public static @NotNull String toShortestString(@Decimal long decimal) {
+        return Internal.Convert.Str.toShortestString(decimal);
+    }
+
+    /**
+     * Writes the given Decimal in scientific notation into dst at the offset, same as {@link #toScientificString(long)},
+     * and returns the offset after it. At most {@value Internal.Convert.Str#MAX_SCIENTIFIC_STRING_LENGTH} bytes are written.
+     * */
+    public static int formatScientific(@Decimal long decimal, byte @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatScientific(decimal, dst, offset);
+    }
+
+    /**
+     * Writes the given Decimal in engineering notation into dst at the offset, same as {@link #toEngineeringString(long)},
+     * and returns the offset after it. At most {@value Internal.Convert.Str#MAX_SCIENTIFIC_STRING_LENGTH} bytes are written.
+     * */
+    public static int formatEngineering(@Decimal long decimal, byte @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatEngineering(decimal, dst, offset);
+    }
+
+    /**
+     * Writes the given Decimal into dst at the offset, same as {@link #toShortestString(long)}, and returns the offset after it.
+     * */
+    public static int formatShortest(@Decimal long decimal, byte @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatShortest(decimal, dst, offset);
+    }
+
+    /**
+     * Writes the given Decimal into dst at the offset, plain as by {@link #formatTo(long, byte[], int)} if that needs at most
+     * maxPlainZeros zeros between the digits and the point, otherwise in scientific notation. Returns the offset after it.
+     * */
+    public static int formatShortest(@Decimal long decimal, int maxPlainZeros, byte @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatShortest(decimal, maxPlainZeros, dst, offset);
+    }
+
+    /**
+     * Writes the given Decimal with exactly scale digits after the point into dst at the offset, e.g. "101.2500" for scale 4,
+     * rounding half even if it has more. Returns the offset after it. Doesn't allocate.
+     * */
+    public static int formatFixed(@Decimal long decimal, int scale, byte @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatFixed(decimal, scale, RoundingMode.HALF_EVEN, 0, dst, offset);
+    }
+
+    /**
+     * Writes the given Decimal with exactly scale digits after the point into dst at the offset, rounding with the given
+     * rounding mode if it has more, and left padding with spaces to at least width bytes, e.g. "  101.25" for scale 2 and width 8.
+     * Returns the offset after it. Doesn't allocate.
+     * Throws an ArithmeticException if the rounding mode is UNNECESSARY and rounding is necessary.
+     * */
+    public static int formatFixed(@Decimal long decimal, int scale, @NotNull RoundingMode roundingMode, int width, byte @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatFixed(decimal, scale, roundingMode, width, dst, offset);
+    }
+
+    /**
+     * Same as {@link #formatFixed(long, int, RoundingMode, int, byte[], int)}, for chars.
+     * */
+    public static int formatFixed(@Decimal long decimal, int scale, @NotNull RoundingMode roundingMode, int width, char @NotNull [] dst, int offset) {
+        return Internal.Convert.Str.formatFixed(decimal, scale, roundingMode, width, dst, offset);
+    }
+
+    /**
+     * Same as {@link #formatFixed(long, int, RoundingMode, int, byte[], int)}, appending to the StringBuilder, and returns it.
+     * */
+    public static @NotNull StringBuilder appendFixed(@Decimal long decimal, int scale, @NotNull RoundingMode roundingMode, int width, @NotNull StringBuilder out) {
+        return Internal.Convert.Str.appendFixed(decimal, scale, roundingMode, width, out);
+    }
+
     /**
      * Creates a Decimal from the given string, starting at the offset,
      * and assuming the remainder of the string must be used entirely.
      * */
     public static @Decimal long fromString(@NotNull String str, int offset) {
-        return Internal.Convert.Str.fromString(str, offset);
+        return Internal.Convert.Str.fromString(str, offset, str.length() - offset);
     }
 
     /**
@@ -1404,6 +4768,14 @@ public class Decimal64 {
         return Internal.Convert.Str.fromString(str, offset, len);
     }
 
+    /**
+     * Creates a Decimal from the given chars, starting at the offset and ending at (offset + len),
+     * assuming the entire range between them must be used.
+     * */
+    public static @Decimal long fromString(char @NotNull [] chars, int offset, int len) {
+        return Internal.Convert.Str.fromString(chars, offset, len);
+    }
+
     /**
      * Creates a Decimal from the given byte buffer, starting as pos() and ending at limit(),
      * assuming the entire range between them must be used.
@@ -1412,6 +4784,113 @@ public class Decimal64 {
         return Internal.Convert.Str.fromString(in);
     }
 
+    /**
+     * Creates a Decimal from the ASCII bytes, starting at the offset and ending at (offset + len),
+     * assuming the entire range between them must be used.
+     * Same result as {@link #fromString(String, int, int)}, but reads 8 digits at a time and doesn't allocate.
+     * */
+    public static @Decimal long fromAscii(byte @NotNull [] buf, int offset, int len) {
+        return Internal.Convert.Str.fromAscii(buf, offset, len);
+    }
+
+    /**
+     * Creates a Decimal from the ASCII bytes in the byte buffer, starting at the absolute offset and ending at (offset + len),
+     * assuming the entire range between them must be used. The buffer's position is unchanged.
+     * Same result as {@link #fromString(String, int, int)}, but reads 8 digits at a time and doesn't allocate.
+     * */
+    public static @Decimal long fromAscii(@NotNull ByteBuffer buf, int offset, int len) {
+        return Internal.Convert.Str.fromAscii(buf, offset, len);
+    }
+
+    /**
+     * Creates a Decimal from the start of the given string, between the offset and (offset + len), stopping at the first
+     * char that can't continue it, e.g. a delimiter. Sets consumed[0] to the number of chars used.
+     * */
+    public static @Decimal long fromStringPrefix(@NotNull CharSequence str, int offset, int len, int @NotNull [] consumed) {
+        return Internal.Convert.Str.fromStringPrefix(str, offset, len, consumed);
+    }
+
+    /**
+     * Creates a Decimal from the start of the ASCII bytes, between the offset and (offset + len), stopping at the first
+     * byte that can't continue it, e.g. a delimiter. Sets consumed[0] to the number of bytes used.
+     * */
+    public static @Decimal long fromAsciiPrefix(byte @NotNull [] buf, int offset, int len, int @NotNull [] consumed) {
+        return Internal.Convert.Str.fromAsciiPrefix(buf, offset, len, consumed);
+    }
+
+    /**
+     * Creates a Decimal from the start of the ASCII bytes in the byte buffer, between the absolute offset and (offset + len),
+     * stopping at the first byte that can't continue it, e.g. a delimiter. Sets consumed[0] to the number of bytes used.
+     * The buffer's position is unchanged.
+     * */
+    public static @Decimal long fromAsciiPrefix(@NotNull ByteBuffer buf, int offset, int len, int @NotNull [] consumed) {
+        return Internal.Convert.Str.fromAsciiPrefix(buf, offset, len, consumed);
+    }
+
+    /**
+     * Creates a Decimal from the given string, same as {@link #fromString(String)},
+     * but returns the given fallback instead of throwing if the string is invalid.
+     * */
+    public static @Decimal long tryFromString(@NotNull String str, @Decimal long invalid) {
+        return Internal.Convert.Str.tryFromString(str, 0, str.length(), invalid);
+    }
+
+    /**
+     * Creates a Decimal from the given string, same as {@link #fromString(String, int, int)},
+     * but returns the given fallback instead of throwing if the range is invalid.
+     * */
+    public static @Decimal long tryFromString(@NotNull String str, int offset, int len, @Decimal long invalid) {
+        return Internal.Convert.Str.tryFromString(str, offset, len, invalid);
+    }
+
+    /**
+     * Creates a Decimal from the given chars, same as {@link #fromString(char[], int, int)},
+     * but returns the given fallback instead of throwing if the range is invalid.
+     * */
+    public static @Decimal long tryFromString(char @NotNull [] chars, int offset, int len, @Decimal long invalid) {
+        return Internal.Convert.Str.tryFromString(chars, offset, len, invalid);
+    }
+
+    /**
+     * Creates a Decimal from the ASCII bytes, same as {@link #fromAscii(byte[], int, int)},
+     * but returns the given fallback instead of throwing if the range is invalid.
+     * */
+    public static @Decimal long tryFromAscii(byte @NotNull [] buf, int offset, int len, @Decimal long invalid) {
+        return Internal.Convert.Str.tryFromAscii(buf, offset, len, invalid);
+    }
+
+    /**
+     * Creates a Decimal from the ASCII bytes in the byte buffer, same as {@link #fromAscii(ByteBuffer, int, int)},
+     * but returns the given fallback instead of throwing if the range is invalid.
+     * */
+    public static @Decimal long tryFromAscii(@NotNull ByteBuffer buf, int offset, int len, @Decimal long invalid) {
+        return Internal.Convert.Str.tryFromAscii(buf, offset, len, invalid);
+    }
+
+    /**
+     * Same as {@link #fromStringPrefix(CharSequence, int, int, int[])}, but returns the given fallback instead of throwing
+     * if the range doesn't start with a decimal.
+     * */
+    public static @Decimal long tryFromStringPrefix(@NotNull CharSequence str, int offset, int len, int @NotNull [] consumed, @Decimal long invalid) {
+        return Internal.Convert.Str.tryFromStringPrefix(str, offset, len, consumed, invalid);
+    }
+
+    /**
+     * Same as {@link #fromAsciiPrefix(byte[], int, int, int[])}, but returns the given fallback instead of throwing
+     * if the range doesn't start with a decimal.
+     * */
+    public static @Decimal long tryFromAsciiPrefix(byte @NotNull [] buf, int offset, int len, int @NotNull [] consumed, @Decimal long invalid) {
+        return Internal.Convert.Str.tryFromAsciiPrefix(buf, offset, len, consumed, invalid);
+    }
+
+    /**
+     * Same as {@link #fromAsciiPrefix(ByteBuffer, int, int, int[])}, but returns the given fallback instead of throwing
+     * if the range doesn't start with a decimal.
+     * */
+    public static @Decimal long tryFromAsciiPrefix(@NotNull ByteBuffer buf, int offset, int len, int @NotNull [] consumed, @Decimal long invalid) {
+        return Internal.Convert.Str.tryFromAsciiPrefix(buf, offset, len, consumed, invalid);
+    }
+
     /**
      * Returns `true` if the Decimal values are equal, else `false`.
      * */
@@ -1504,6 +4983,13 @@ public class Decimal64 {
         return Internal.Maths.Add.add(decimalA, decimalB);
     }
 
+    /**
+     * Returns <code>a + b</code>, rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * */
+    public static @Decimal long add(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+        return Internal.Maths.Add.add(decimalA, decimalB, roundingMode);
+    }
+
     /**
      * Returns <code>a - b</code>
      * */
@@ -1511,6 +4997,13 @@ public class Decimal64 {
         return Internal.Maths.Sub.sub(decimalA, decimalB);
     }
 
+    /**
+     * Returns <code>a - b</code>, rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * */
+    public static @Decimal long sub(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+        return Internal.Maths.Sub.sub(decimalA, decimalB, roundingMode);
+    }
+
     /**
      * Returns <code>a * b</code>
      * */
@@ -1518,6 +5011,13 @@ public class Decimal64 {
         return Internal.Maths.Mul.mul(decimalA, decimalB);
     }
 
+    /**
+     * Returns <code>a * b</code>, rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * */
+    public static @Decimal long mul(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+        return Internal.Maths.Mul.mul(decimalA, decimalB, roundingMode);
+    }
+
     /**
      * Returns <code>a / b</code>
      * */
@@ -1525,10 +5025,177 @@ public class Decimal64 {
         return Internal.Maths.Div.div(decimalA, decimalB);
     }
 
+    /**
+     * Returns <code>a / b</code>, rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * */
+    public static @Decimal long div(@Decimal long decimalA, @Decimal long decimalB, @NotNull RoundingMode roundingMode) {
+        return Internal.Maths.Div.div(decimalA, decimalB, roundingMode);
+    }
+
+    /**
+     * Returns <code>a * b + c</code>, computed exactly and rounded once to {@value Internal#PRECISION} digits.
+     * */
+    public static @Decimal long fma(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC) {
+        return Internal.Maths.Fma.fma(decimalA, decimalB, decimalC);
+    }
+
+    /**
+     * Returns <code>a * b + c</code>, computed exactly and rounded once to {@value Internal#PRECISION} digits with the given rounding mode.
+     * */
+    public static @Decimal long fma(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC, @NotNull RoundingMode roundingMode) {
+        return Internal.Maths.Fma.fma(decimalA, decimalB, decimalC, roundingMode);
+    }
+
+    /**
+     * Returns <code>a * b / c</code>, computed exactly and rounded once to {@value Internal#PRECISION} digits.
+     * */
+    public static @Decimal long mulDiv(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC) {
+        return Internal.Maths.MulDiv.mulDiv(decimalA, decimalB, decimalC);
+    }
+
+    /**
+     * Returns <code>a * b / c</code>, computed exactly and rounded once to {@value Internal#PRECISION} digits with the given rounding mode.
+     * */
+    public static @Decimal long mulDiv(@Decimal long decimalA, @Decimal long decimalB, @Decimal long decimalC, @NotNull RoundingMode roundingMode) {
+        return Internal.Maths.MulDiv.mulDiv(decimalA, decimalB, decimalC, roundingMode);
+    }
+
+    /**
+     * Returns <code>decimal * 10^n</code>
+     * */
+    public static @Decimal long scaleByPowerOfTen(@Decimal long decimal, int n) {
+        return Internal.Maths.MovePoint.scaleByPowerOfTen(decimal, n);
+    }
+
+    /**
+     * Returns <code>decimal * 10^-n</code>, e.g. movePointLeft(1.23, 2) --> 0.0123
+     * */
+    public static @Decimal long movePointLeft(@Decimal long decimal, int n) {
+        return Internal.Maths.MovePoint.movePointLeft(decimal, n);
+    }
+
+    /**
+     * Returns <code>decimal * 10^n</code>, e.g. movePointRight(1.23, 2) --> 123
+     * */
+    public static @Decimal long movePointRight(@Decimal long decimal, int n) {
+        return Internal.Maths.MovePoint.movePointRight(decimal, n);
+    }
+
+    /**
+     * Returns <code>decimal * integer</code>, without converting the integer to a Decimal first.
+     * */
+    public static @Decimal long mulByI64(@Decimal long decimal, long integer) {
+        return Internal.Maths.WithI64.mulByI64(decimal, integer);
+    }
+
+    /**
+     * Returns <code>decimal / integer</code>, without converting the integer to a Decimal first.
+     * */
+    public static @Decimal long divByI64(@Decimal long decimal, long integer) {
+        return Internal.Maths.WithI64.divByI64(decimal, integer);
+    }
+
+    /**
+     * Returns <code>decimal + integer</code>, without converting the integer to a Decimal first.
+     * */
+    public static @Decimal long addI64(@Decimal long decimal, long integer) {
+        return Internal.Maths.WithI64.addI64(decimal, integer);
+    }
+
+    /**
+     * Returns the square root of the given Decimal, correctly rounded to {@value Internal#PRECISION} digits.
+     * The square root of a negative number is NaN.
+     * */
+    public static @Decimal long sqrt(@Decimal long decimal) {
+        return Internal.Maths.Sqrt.sqrt(decimal);
+    }
+
+    /**
+     * Returns the square root of the given Decimal, correctly rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * The square root of a negative number is NaN.
+     * */
+    public static @Decimal long sqrt(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+        return Internal.Maths.Sqrt.sqrt(decimal, roundingMode);
+    }
+
+    /**
+     * Returns <code>e^decimal</code>, rounded to {@value Internal#PRECISION} digits.
+     * */
+    public static @Decimal long exp(@Decimal long decimal) {
+        return Internal.Transcendental.Exp.exp(decimal);
+    }
+
+    /**
+     * Returns <code>e^decimal</code>, rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * */
+    public static @Decimal long exp(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+        return Internal.Transcendental.Exp.exp(decimal, roundingMode);
+    }
+
+    /**
+     * Returns the natural logarithm of the given Decimal, rounded to {@value Internal#PRECISION} digits.
+     * The log of 0 is -Inf, and the log of a negative number is NaN.
+     * */
+    public static @Decimal long ln(@Decimal long decimal) {
+        return Internal.Transcendental.Log.ln(decimal);
+    }
+
+    /**
+     * Returns the natural logarithm of the given Decimal, rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * The log of 0 is -Inf, and the log of a negative number is NaN.
+     * */
+    public static @Decimal long ln(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+        return Internal.Transcendental.Log.ln(decimal, roundingMode);
+    }
+
+    /**
+     * Returns the base 10 logarithm of the given Decimal, rounded to {@value Internal#PRECISION} digits.
+     * Exact for powers of 10. The log of 0 is -Inf, and the log of a negative number is NaN.
+     * */
+    public static @Decimal long log10(@Decimal long decimal) {
+        return Internal.Transcendental.Log.log10(decimal);
+    }
+
+    /**
+     * Returns the base 10 logarithm of the given Decimal, rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * Exact for powers of 10. The log of 0 is -Inf, and the log of a negative number is NaN.
+     * */
+    public static @Decimal long log10(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+        return Internal.Transcendental.Log.log10(decimal, roundingMode);
+    }
+
+    /**
+     * Returns <code>decimal^power</code>, rounded to {@value Internal#PRECISION} digits.
+     * Integer powers whose result fits in 64 bits are exact before rounding, other powers go through e^(power * ln(decimal)).
+     * Special values follow {@link Math#pow(double, double)}, e.g. a negative Decimal to a non-integer power is NaN.
+     * */
+    public static @Decimal long pow(@Decimal long decimal, @Decimal long power) {
+        return Internal.Transcendental.Pow.pow(decimal, power);
+    }
+
+    /**
+     * Returns <code>decimal^power</code>, rounded to {@value Internal#PRECISION} digits with the given rounding mode.
+     * Integer powers whose result fits in 64 bits are exact before rounding, other powers go through e^(power * ln(decimal)).
+     * A non-integer power whose result happens to be exactly representable (e.g. 4^1.5) may be off by one unit in the last place
+     * in the directed rounding modes, and will throw for UNNECESSARY.
+     * Special values follow {@link Math#pow(double, double)}, e.g. a negative Decimal to a non-integer power is NaN.
+     * */
+    public static @Decimal long pow(@Decimal long decimal, @Decimal long power, @NotNull RoundingMode roundingMode) {
+        return Internal.Transcendental.Pow.pow(decimal, power, roundingMode);
+    }
+
     /**
      * Rounds the given Decimal to the given exponent, i.e. number of fractional digits.
      * */
     public static @Decimal long round(@Decimal long decimal, int exponent) {
         return Internal.Maths.Round.round(decimal, exponent);
     }
+
+    /**
+     * Rounds the given Decimal to the given exponent, i.e. number of fractional digits, using the given rounding mode.
+     * Throws an ArithmeticException if the rounding mode is UNNECESSARY and rounding is necessary.
+     * */
+    public static @Decimal long round(@Decimal long decimal, int exponent, @NotNull RoundingMode roundingMode) {
+        return Internal.Maths.Round.round(decimal, exponent, roundingMode);
+    }
 }
@@ -0,0 +1,87 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.Decimal64.Internal.Convert.Str;
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Parses dense delimited numeric text, e.g. "1.25,-3,0.5\n2,4,6\n", into many Decimals per call.
+ * <p>
+ * Fields are separated by the delimiter or '\n', and the text can end with either. Each field is parsed the same as
+ * {@link Decimal64#fromAscii(byte[], int, int)}, so surrounding whitespace and a '\r' before the '\n' are ignored.
+ * <p>
+ * When the jdk.incubator.vector module is present, e.g. with <code>--add-modules jdk.incubator.vector</code>,
+ * the text is classified a whole vector at a time into separator and plain number bitmasks, see {@link VectorBulkParser}.
+ * Otherwise it's scanned a byte at a time, with the same results.
+ */
+public final class DecimalBulkParser {
+
+    /** Whether the vectorized parser is used, i.e. whether jdk.incubator.vector is in the boot layer */
+    public static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private DecimalBulkParser() {
+    }
+
+    /**
+     * Parses every field in the bytes from offset to (offset + len) into out, starting at outOffset.
+     * Returns the number of Decimals written.
+     * Throws a NumberFormatException on the first field that isn't a decimal, including an empty field,
+     * and an IndexOutOfBoundsException if out is too small.
+     */
+    public static int parse(byte @NotNull [] buf, int offset, int len, char delimiter, @Decimal long @NotNull [] out, int outOffset) {
+        Objects.checkFromIndexSize(offset, len, buf.length);
+        Objects.checkIndex(outOffset, out.length + 1);
+        if (delimiter >= 128 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Delimiter must be ASCII and not a line break, got '" + delimiter + "'");
+        }
+
+        if (VECTORIZED) {
+            return VectorBulkParser.parse(buf, offset, len, (byte) delimiter, out, outOffset);
+        }
+        return parseScalar(buf, offset, len, (byte) delimiter, out, outOffset);
+    }
+
+    /** The fallback for {@link #parse(byte[], int, int, char, long[], int)} */
+    static int parseScalar(byte @NotNull [] buf, int offset, int len, byte delimiter, @Decimal long @NotNull [] out, int outOffset) {
+        int n = offset + len;
+        int count = outOffset;
+        int fieldStart = offset;
+        for (int i = offset; i < n; i++) {
+            if (buf[i] == delimiter || buf[i] == '\n') {
+                out[count++] = parseField(buf, fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        if (fieldStart < n) {
+            out[count++] = parseField(buf, fieldStart, n);
+        }
+        return count - outOffset;
+    }
+
+    /** Parses the field from start to end, throwing if it isn't a decimal */
+    @SuppressWarnings("fenum:binary")
+    static @Decimal long parseField(byte @NotNull [] buf, int start, int end) {
+        @Decimal long decimal = Decimal64.tryFromAscii(buf, start, end - start, Str.INVALID);
+        if (decimal == Str.INVALID) {
+            // throws
+            return Decimal64.fromAscii(buf, start, end - start);
+        }
+        return decimal;
+    }
+
+    /**
+     * Parses a field of only digits, '.' and '-' from start to end, throwing if it isn't a decimal.
+     * Skips the whitespace, NaN and Infinity checks, none of which can match.
+     */
+    @SuppressWarnings("fenum:binary")
+    static @Decimal long parsePlainField(byte @NotNull [] buf, int start, int end) {
+        @Decimal long decimal = Str.parseAsciiFinite(buf, start, end - start, null, (byte) '.', Str.NO_GROUPING);
+        if (decimal == Str.INVALID) {
+            // throws
+            return Decimal64.fromAscii(buf, start, end - start);
+        }
+        return decimal;
+    }
+}
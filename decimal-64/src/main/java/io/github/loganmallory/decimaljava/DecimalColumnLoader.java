@@ -0,0 +1,233 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.Decimal64.Internal.Convert.Str;
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Loads one decimal column of a delimited text file, e.g. a CSV, into a Decimal array.
+ * <p>
+ * The file is memory mapped and split into chunks at line boundaries, and the chunks are parsed in parallel on a ForkJoinPool,
+ * straight from the mapped bytes into the result array, without a String per row.
+ * Each chunk is read twice, once to count its lines so every chunk knows where its rows go, then to parse them.
+ * <p>
+ * Lines end with '\n' or "\r\n", and the last line doesn't need either. Fields aren't quoted or trimmed,
+ * the selected field must be a decimal as accepted by {@link Decimal64#fromAscii(ByteBuffer, int, int)}, without whitespace.
+ */
+public final class DecimalColumnLoader {
+
+    /** The nominal size of each chunk, a chunk runs on to the end of the line it would split */
+    static final int DEFAULT_CHUNK_SIZE = 16 << 20;
+
+    private DecimalColumnLoader() {
+    }
+
+    /**
+     * Returns the given column of every line in the file, parsed on the common ForkJoinPool.
+     * Column 0 is the first field. Throws a NumberFormatException naming the line if a field isn't a decimal,
+     * or if a line has too few fields.
+     */
+    public static @Decimal long @NotNull [] load(@NotNull Path file, int column, char delimiter, boolean skipHeader) throws IOException {
+        return load(file, column, delimiter, skipHeader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same as {@link #load(Path, int, char, boolean)}, parsing on the given pool.
+     */
+    public static @Decimal long @NotNull [] load(@NotNull Path file, int column, char delimiter, boolean skipHeader, @NotNull ForkJoinPool pool) throws IOException {
+        return load(file, column, delimiter, skipHeader, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    static @Decimal long @NotNull [] load(@NotNull Path file, int column, char delimiter, boolean skipHeader, @NotNull ForkJoinPool pool, int chunkSize) throws IOException {
+        if (column < 0) {
+            throw new IllegalArgumentException("Column must be >= 0, got " + column);
+        }
+        if (delimiter >= 128 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Delimiter must be ASCII and not a line break, got '" + delimiter + "'");
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = skipHeader ? nextLineStart(channel, 0, size) : 0;
+            long headerLines = skipHeader ? 1 : 0;
+
+            // chunks start right after a '\n'
+            var chunks = new ArrayList<Chunk>();
+            while (start < size) {
+                long end = nextLineStart(channel, Math.min(start + chunkSize, size) - 1, size);
+                if (end - start > Integer.MAX_VALUE) {
+                    throw new IOException("Line too long to map near byte " + start + " of " + file);
+                }
+                chunks.add(new Chunk(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), end == size));
+                start = end;
+            }
+
+            // count the lines in every chunk, then parse each into its own range of the result
+            invokeAll(pool, chunks, Chunk::countLines);
+            int nRows = 0;
+            for (var chunk : chunks) {
+                chunk.firstRow = nRows;
+                nRows = Math.addExact(nRows, chunk.nLines);
+            }
+
+            @Decimal long[] decimals = new long[nRows];
+            invokeAll(pool, chunks, chunk -> chunk.parse(decimals, column, (byte) delimiter, headerLines));
+            return decimals;
+        }
+    }
+
+    /** A line aligned region of the file */
+    private static final class Chunk {
+
+        private final @NotNull MappedByteBuffer buf;
+
+        /** Whether this is the last chunk, so its last line might not end with '\n' */
+        private final boolean last;
+
+        private int nLines;
+
+        private int firstRow;
+
+        /** Set if a task failed on this chunk */
+        private @Nullable RuntimeException failure;
+
+        private Chunk(@NotNull MappedByteBuffer buf, boolean last) {
+            this.buf = buf;
+            this.last = last;
+        }
+
+        private void countLines() {
+            int n = buf.limit();
+            int count = 0;
+            int i = 0;
+            for (; i + 8 <= n; i += 8) {
+                count += countNewlines((long) FastEncoding.I64_LE_BYTE_BUFFER.get(buf, i));
+            }
+            for (; i < n; i++) {
+                count += buf.get(i) == '\n' ? 1 : 0;
+            }
+            if (last && n > 0 && buf.get(n - 1) != '\n') {
+                count++;
+            }
+            nLines = count;
+        }
+
+        private boolean isFieldEnd(int i, int n, byte delimiter) {
+            if (i == n) {
+                return true;
+            }
+            byte b = buf.get(i);
+            return b == delimiter || b == '\n' || (b == '\r' && (i + 1 == n || buf.get(i + 1) == '\n'));
+        }
+
+        @SuppressWarnings("fenum:binary")
+        private void parse(@Decimal long @NotNull [] decimals, int column, byte delimiter, long headerLines) {
+            int n = buf.limit();
+            int[] consumed = new int[1];
+            int i = 0;
+            for (int row = firstRow; row < firstRow + nLines; row++) {
+                // skip to the column
+                for (int field = 0; field < column; i++) {
+                    if (i == n || buf.get(i) == '\n') {
+                        throw invalidLine(row, headerLines, "has fewer than " + (column + 1) + " fields");
+                    }
+                    if (buf.get(i) == delimiter) {
+                        field++;
+                    }
+                }
+
+                // the field must end at the decimal
+                int fieldStart = i;
+                @Decimal long decimal = Decimal64.tryFromAsciiPrefix(buf, i, n - i, consumed, Str.INVALID);
+                i += consumed[0];
+                if (decimal == Str.INVALID || !isFieldEnd(i, n, delimiter)) {
+                    int fieldEnd = fieldStart;
+                    while (fieldEnd < n && buf.get(fieldEnd) != delimiter && buf.get(fieldEnd) != '\n' && buf.get(fieldEnd) != '\r') {
+                        fieldEnd++;
+                    }
+                    byte[] field = new byte[fieldEnd - fieldStart];
+                    buf.get(fieldStart, field);
+                    throw invalidLine(row, headerLines, "has an invalid decimal '" + new String(field, US_ASCII) + "' in column " + column);
+                }
+                decimals[row] = decimal;
+
+                // skip the rest of the line
+                while (i < n && buf.get(i++) != '\n') {
+                }
+            }
+        }
+    }
+
+    /** Returns the number of '\n' bytes in the word */
+    private static int countNewlines(long word) {
+        // exact zero byte test, see "Bit Twiddling Hacks", on the word xor'd with 8 '\n's
+        long x = word ^ 0x0A0A0A0A0A0A0A0AL;
+        long zeros = ~(((x & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL) | x | 0x7F7F7F7F7F7F7F7FL);
+        return Long.bitCount(zeros);
+    }
+
+    /** Returns the position just after the first '\n' at or after the given position, or the size if there's none */
+    private static long nextLineStart(@NotNull FileChannel channel, long position, long size) throws IOException {
+        var scratch = ByteBuffer.allocate(4096);
+        while (position < size) {
+            scratch.clear();
+            int read = channel.read(scratch, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scratch.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static @NotNull NumberFormatException invalidLine(int row, long headerLines, @NotNull String problem) {
+        return new NumberFormatException("Line " + (row + headerLines + 1) + " " + problem);
+    }
+
+    private interface ChunkTask {
+        void run(@NotNull Chunk chunk);
+    }
+
+    /**
+     * Runs the task on every chunk in the pool, then rethrows the failure from the earliest chunk, if any.
+     * Failures are rethrown as is, a ForkJoinTask would copy them without their message, and the earliest
+     * chunk has the first invalid line.
+     */
+    private static void invokeAll(@NotNull ForkJoinPool pool, @NotNull List<Chunk> chunks, @NotNull ChunkTask task) {
+        var tasks = new ArrayList<ForkJoinTask<?>>(chunks.size());
+        for (var chunk : chunks) {
+            tasks.add(ForkJoinTask.adapt(() -> {
+                try {
+                    task.run(chunk);
+                } catch (RuntimeException e) {
+                    chunk.failure = e;
+                }
+            }));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        for (var chunk : chunks) {
+            if (chunk.failure != null) {
+                throw chunk.failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.RoundingMode;
+
+import static io.github.loganmallory.decimaljava.Decimal64.*;
+import static io.github.loganmallory.decimaljava.Decimal64.Internal.Data.getExponent;
+import static io.github.loganmallory.decimaljava.Decimal64.Internal.Data.getMantissa;
+import static io.github.loganmallory.decimaljava.Decimal64.Internal.PRECISION;
+
+/**
+ * A Decimal divisor with a precomputed reciprocal, for dividing many Decimals by the same value.
+ * Each division is then a multiply-high plus a correction step instead of a full 128-bit long division,
+ * and the results are bit-identical to {@link Decimal64#div(long, long)}.
+ */
+public final class DecimalDivisor {
+
+    /** The divisor as given */
+    private final @Decimal long divisor;
+
+    /** Whether the divisor is finite and not 0 or 1, i.e. not handled by a shortcut in Div */
+    private final boolean usesReciprocal;
+
+    /** The number of digits in the divisor's mantissa */
+    private final int nDigits;
+
+    /** The divisor's exponent */
+    private final int exponent;
+
+    /** The divisor's mantissa magnitude, shifted left so its top bit is set */
+    private final long normalized;
+
+    /** How far the mantissa was shifted left to normalize it */
+    private final int shift;
+
+    /** The reciprocal of the normalized mantissa, see {@link FastMath#reciprocalU64(long)} */
+    private final long reciprocal;
+
+    @SuppressWarnings({"fenum:binary", "fenum:assignment"})
+    public DecimalDivisor(@Decimal long divisor) {
+        this.divisor = divisor;
+        this.usesReciprocal = Internal.Data.isFinite(divisor) && divisor != ZERO && divisor != ONE;
+
+        long mantissa = Math.abs(getMantissa(divisor));
+        this.nDigits = FastMath.nDigits(mantissa);
+        this.exponent = getExponent(divisor);
+        this.shift = Long.numberOfLeadingZeros(mantissa);
+        this.normalized = mantissa << shift;
+        this.reciprocal = usesReciprocal ? FastMath.reciprocalU64(normalized) : 0;
+    }
+
+    /**
+     * Returns the divisor this was built from.
+     */
+    public @Decimal long getDivisor() {
+        return divisor;
+    }
+
+    /**
+     * Returns <code>decimal / divisor</code>, same as {@link Decimal64#div(long, long)}.
+     */
+    public @Decimal long divide(@Decimal long decimal) {
+        return divide(decimal, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Returns <code>decimal / divisor</code>, rounded to {@value Internal#PRECISION} digits with the given rounding mode,
+     * same as {@link Decimal64#div(long, long, RoundingMode)}.
+     */
+    @SuppressWarnings("fenum:binary")
+    public @Decimal long divide(@Decimal long decimal, @NotNull RoundingMode roundingMode) {
+        if (!usesReciprocal || !Internal.Data.isFinite(decimal) || decimal == ZERO) {
+            // non-finite, 0 / x, x / 0, x / 1
+            return Internal.Maths.Div.div(decimal, divisor, roundingMode);
+        }
+
+        @SuppressWarnings("fenum:argument")
+        int sign = FastMath.sameSign(decimal, divisor) ? 1 : -1;
+        long a_mantissa = Math.abs(getMantissa(decimal));
+
+        // same scaling as Div.divFinite(..), so the quotient has 17 or 18 digits
+        int scale = (PRECISION + 1) - FastMath.nDigits(a_mantissa) + nDigits; // [2, 32]
+
+        long numeratorHi;
+        long numeratorLo;
+        if (scale <= 18) {
+            long pow = FastMath.i64TenToThe(scale);
+            numeratorHi = Math.multiplyHigh(a_mantissa, pow);
+            numeratorLo = a_mantissa * pow;
+        } else {
+            // safety: a_mantissa * 10^(scale - 18) is <= 15 digits
+            long a_scaled = a_mantissa * FastMath.i64TenToThe(scale - 18);
+            long pow = FastMath.i64TenToThe(18);
+            numeratorHi = Math.multiplyHigh(a_scaled, pow);
+            numeratorLo = a_scaled * pow;
+        }
+
+        // shift the numerator by the same amount as the divisor, the quotient is unchanged
+        // safety: the quotient is < 10^18, so the numerator has at least shift bits free at the top
+        if (shift != 0) {
+            numeratorHi = (numeratorHi << shift) | (numeratorLo >>> (64 - shift));
+            numeratorLo <<= shift;
+        }
+
+        long quotient = FastMath.divideU128ByU64Preinv(numeratorHi, numeratorLo, normalized, reciprocal);
+        boolean sticky = (numeratorLo - quotient * normalized) != 0;
+
+        // safety: quotient is > 16 digits, so fromParts(..) rounds away the sticky digit
+        return Internal.Convert.Parts.fromParts(Internal.Convert.Parts.foldSticky(quotient, sticky) * sign, getExponent(decimal) - exponent + scale, roundingMode);
+    }
+}
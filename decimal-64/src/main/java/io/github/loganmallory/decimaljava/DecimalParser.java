@@ -0,0 +1,231 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.Decimal64.Internal.Convert.Str;
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A reusable parser for locale formatted decimals, e.g. "1,234,567.89", "1.234.567,89" or "-$1,234.56".
+ * The separators and currency affixes are handled inline by the same single pass parser as {@link Decimal64#fromString(String)},
+ * so no cleaned up copy of the input is made, and nothing is allocated unless the input is invalid.
+ * <p>
+ * A grouping separator is allowed anywhere between two integer digits, the group sizes aren't checked.
+ * The currency prefix and suffix are optional in the input, and the sign can come before or after the prefix.
+ * Only finite values are accepted, not "NaN" or "Infinity".
+ */
+public final class DecimalParser {
+
+    /** Pass as the grouping separator when the input has none */
+    public static final char NO_GROUPING_SEPARATOR = '\0';
+
+    /** e.g. "1,234,567.89" */
+    public static final DecimalParser COMMA_GROUPED = new DecimalParser('.', ',');
+
+    /** e.g. "1.234.567,89" */
+    public static final DecimalParser POINT_GROUPED = new DecimalParser(',', '.');
+
+    private final char decimalSeparator;
+
+    /** The grouping separator, or {@link Str#NO_GROUPING} */
+    private final int groupingSeparator;
+
+    private final @NotNull String prefix;
+
+    private final @NotNull String suffix;
+
+    /** The prefix and suffix as UTF-8, for parsing bytes */
+    private final byte @NotNull [] prefixBytes;
+
+    private final byte @NotNull [] suffixBytes;
+
+    public DecimalParser(char decimalSeparator, char groupingSeparator) {
+        this(decimalSeparator, groupingSeparator, "", "");
+    }
+
+    /**
+     * Throws an IllegalArgumentException if a separator isn't ASCII, is a digit, sign or exponent char, or if they're the same.
+     */
+    public DecimalParser(char decimalSeparator, char groupingSeparator, @NotNull String prefix, @NotNull String suffix) {
+        checkSeparator(decimalSeparator);
+        if (groupingSeparator != NO_GROUPING_SEPARATOR) {
+            checkSeparator(groupingSeparator);
+            if (groupingSeparator == decimalSeparator) {
+                throw new IllegalArgumentException("Decimal and grouping separators must differ, both are '" + decimalSeparator + "'");
+            }
+        }
+        this.decimalSeparator = decimalSeparator;
+        this.groupingSeparator = groupingSeparator == NO_GROUPING_SEPARATOR ? Str.NO_GROUPING : groupingSeparator;
+        this.prefix = prefix.strip();
+        this.suffix = suffix.strip();
+        this.prefixBytes = this.prefix.getBytes(UTF_8);
+        this.suffixBytes = this.suffix.getBytes(UTF_8);
+    }
+
+    private static void checkSeparator(char separator) {
+        if (separator >= 128 || (separator >= '0' && separator <= '9') || separator == '-' || separator == '+' || separator == 'E' || separator == 'e') {
+            throw new IllegalArgumentException("Invalid separator '" + separator + "'");
+        }
+    }
+
+    /**
+     * Parses the whole string, ignoring surrounding whitespace.
+     * Throws a NumberFormatException if it isn't a decimal in this format.
+     */
+    public @Decimal long parse(@NotNull CharSequence str) {
+        return parse(str, 0, str.length());
+    }
+
+    /**
+     * Parses the range from offset to (offset + len), ignoring surrounding whitespace.
+     * Throws a NumberFormatException if it isn't a decimal in this format.
+     */
+    @SuppressWarnings("fenum:binary")
+    public @Decimal long parse(@NotNull CharSequence str, int offset, int len) {
+        @Decimal long decimal = tryParse(str, offset, len, Str.INVALID);
+        if (decimal == Str.INVALID) {
+            throw Str.invalid(str, offset, len);
+        }
+        return decimal;
+    }
+
+    /**
+     * Same as {@link #parse(CharSequence, int, int)}, but returns the given fallback instead of throwing.
+     */
+    @SuppressWarnings("fenum:binary")
+    public @Decimal long tryParse(@NotNull CharSequence str, int offset, int len, @Decimal long invalid) {
+        // throw on invalid indexes
+        Objects.checkFromIndexSize(offset, len, str.length());
+
+        int i = offset;
+        int n = offset + len;
+
+        // ignore leading and trailing whitespace
+        while (i < n && Character.isWhitespace(str.charAt(i))) {
+            i++;
+        }
+        while (n > i && Character.isWhitespace(str.charAt(n - 1))) {
+            n--;
+        }
+
+        // sign and prefix in either order, e.g. "-$1" or "$-1"
+        boolean negative = i < n && str.charAt(i) == '-';
+        boolean signed = negative || (i < n && str.charAt(i) == '+');
+        if (signed) {
+            i++;
+        }
+        if (!prefix.isEmpty() && n - i >= prefix.length() && regionMatches(str, i, prefix)) {
+            i += prefix.length();
+            while (i < n && Character.isWhitespace(str.charAt(i))) {
+                i++;
+            }
+            if (!signed && i < n && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+                negative = str.charAt(i) == '-';
+                i++;
+            }
+        }
+        if (!suffix.isEmpty() && n - i >= suffix.length() && regionMatches(str, n - suffix.length(), suffix)) {
+            n -= suffix.length();
+            while (n > i && Character.isWhitespace(str.charAt(n - 1))) {
+                n--;
+            }
+        }
+
+        // a second sign, the digits parser would accept it
+        if (i < n && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+            return invalid;
+        }
+
+        @Decimal long decimal = Str.parseFinite(str, i, n - i, null, decimalSeparator, groupingSeparator);
+        if (decimal == Str.INVALID) {
+            return invalid;
+        }
+        return negative ? Decimal64.negate(decimal) : decimal;
+    }
+
+    /**
+     * Parses the bytes from offset to (offset + len), ignoring surrounding whitespace.
+     * The digits and separators must be ASCII, the currency prefix and suffix are matched as UTF-8.
+     * Throws a NumberFormatException if it isn't a decimal in this format.
+     */
+    @SuppressWarnings("fenum:binary")
+    public @Decimal long parse(byte @NotNull [] buf, int offset, int len) {
+        @Decimal long decimal = tryParse(buf, offset, len, Str.INVALID);
+        if (decimal == Str.INVALID) {
+            var str = new String(buf, offset, len, UTF_8);
+            throw Str.invalid(str, 0, str.length());
+        }
+        return decimal;
+    }
+
+    /**
+     * Same as {@link #parse(byte[], int, int)}, but returns the given fallback instead of throwing.
+     */
+    @SuppressWarnings("fenum:binary")
+    public @Decimal long tryParse(byte @NotNull [] buf, int offset, int len, @Decimal long invalid) {
+        // throw on invalid indexes
+        Objects.checkFromIndexSize(offset, len, buf.length);
+
+        int i = offset;
+        int n = offset + len;
+
+        // ignore leading and trailing whitespace
+        while (i < n && Character.isWhitespace(buf[i])) {
+            i++;
+        }
+        while (n > i && Character.isWhitespace(buf[n - 1])) {
+            n--;
+        }
+
+        // sign and prefix in either order, e.g. "-$1" or "$-1"
+        boolean negative = i < n && buf[i] == '-';
+        boolean signed = negative || (i < n && buf[i] == '+');
+        if (signed) {
+            i++;
+        }
+        if (prefixBytes.length != 0 && n - i >= prefixBytes.length && regionMatches(buf, i, prefixBytes)) {
+            i += prefixBytes.length;
+            while (i < n && Character.isWhitespace(buf[i])) {
+                i++;
+            }
+            if (!signed && i < n && (buf[i] == '-' || buf[i] == '+')) {
+                negative = buf[i] == '-';
+                i++;
+            }
+        }
+        if (suffixBytes.length != 0 && n - i >= suffixBytes.length && regionMatches(buf, n - suffixBytes.length, suffixBytes)) {
+            n -= suffixBytes.length;
+            while (n > i && Character.isWhitespace(buf[n - 1])) {
+                n--;
+            }
+        }
+
+        // a second sign, the digits parser would accept it
+        if (i < n && (buf[i] == '-' || buf[i] == '+')) {
+            return invalid;
+        }
+
+        @Decimal long decimal = Str.parseAsciiFinite(buf, i, n - i, null, (byte) decimalSeparator, groupingSeparator);
+        if (decimal == Str.INVALID) {
+            return invalid;
+        }
+        return negative ? Decimal64.negate(decimal) : decimal;
+    }
+
+    private static boolean regionMatches(@NotNull CharSequence str, int offset, @NotNull String affix) {
+        for (int i = 0; i < affix.length(); i++) {
+            if (str.charAt(offset + i) != affix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatches(byte @NotNull [] buf, int offset, byte @NotNull [] affix) {
+        return Arrays.equals(buf, offset, offset + affix.length, affix, 0, affix.length);
+    }
+}
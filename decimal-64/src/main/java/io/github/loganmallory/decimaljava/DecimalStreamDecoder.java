@@ -0,0 +1,332 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.Decimal64.Internal.Convert.Str;
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.LongConsumer;
+
+import static io.github.loganmallory.decimaljava.Decimal64.*;
+
+/**
+ * Decodes a stream of delimited ASCII decimals, e.g. "1.25,-3\n0.5\n", fed in buffers of any size,
+ * and passes each Decimal to a LongConsumer.
+ * <p>
+ * Fields are separated by the delimiter or '\n', and the stream can end with either. Each field is parsed the same as
+ * {@link Decimal64#fromAscii(ByteBuffer, int, int)}, so surrounding whitespace and a '\r' before the '\n' are ignored.
+ * Fields inside a buffer are parsed in place, and a field split across buffers is carried over as its sign, mantissa,
+ * exponent and position in the grammar, not as bytes, so memory use is fixed however long the stream or its fields are.
+ * Nothing is allocated per value.
+ * <p>
+ * Not thread safe. After a NumberFormatException the decoder must be {@link #reset()} before it's fed again.
+ */
+public final class DecimalStreamDecoder {
+
+    /** States of the field carried across buffers */
+    private static final int
+            LEADING = 0,       // only whitespace so far
+            SIGN = 1,          // a sign
+            DIGITS = 2,        // digits and maybe a point
+            POWER = 3,         // the 'E'
+            POWER_SIGN = 4,    // the sign after 'E'
+            POWER_DIGITS = 5,  // digits after 'E'
+            NAN_WORD = 6,      // a prefix of "NaN"
+            INFINITY_WORD = 7, // a prefix of "Infinity", after an optional sign
+            TRAILING = 8,      // whitespace after a complete field
+            INVALID_FIELD = 9; // can't become a decimal, the separator will throw
+
+    private static final byte[] NAN_BYTES = {'N', 'a', 'N'};
+
+    private static final byte[] INFINITY_BYTES = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+
+    private final byte delimiter;
+
+    private final @NotNull LongConsumer consumer;
+
+    /** Whether the last buffer ended inside a field */
+    private boolean partial;
+
+    private long nFields;
+
+    // the partial field, same as the locals in Str.parseAsciiFinite(..)
+    private int state;
+    private int sign;
+    private long mantissa;
+    private long exponent;
+    private boolean sticky;
+    private boolean point;
+    private boolean anyDigit;
+    private boolean negativePower;
+    private long power;
+
+    /** The state before TRAILING */
+    private int trailedState;
+
+    /** The number of bytes of "NaN" or "Infinity" matched */
+    private int wordLength;
+
+    /**
+     * Throws an IllegalArgumentException if the delimiter isn't ASCII or is a line break.
+     */
+    public DecimalStreamDecoder(char delimiter, @NotNull LongConsumer consumer) {
+        if (delimiter >= 128 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Delimiter must be ASCII and not a line break, got '" + delimiter + "'");
+        }
+        this.delimiter = (byte) delimiter;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Decodes the buffer's remaining bytes, passing every field they complete to the consumer.
+     * A field at the end of the buffer is kept until the next feed, or {@link #finish()}.
+     * The buffer's position is moved to its limit.
+     * Throws a NumberFormatException naming the field if a field isn't a decimal.
+     */
+    public void feed(@NotNull ByteBuffer buf) {
+        int i = buf.position();
+        int n = buf.limit();
+
+        // finish the field carried over from the last buffer
+        if (partial) {
+            for (; i < n; i++) {
+                byte b = buf.get(i);
+                if (b == delimiter || b == '\n') {
+                    partial = false;
+                    emit(finishPartial());
+                    i++;
+                    break;
+                }
+                step(b);
+            }
+            if (partial) {
+                buf.position(n);
+                return;
+            }
+        }
+
+        // fields inside the buffer
+        int fieldStart = i;
+        for (; i < n; i++) {
+            byte b = buf.get(i);
+            if (b == delimiter || b == '\n') {
+                emit(parseField(buf, fieldStart, i));
+                fieldStart = i + 1;
+            }
+        }
+
+        // the start of a field that ends in a later buffer
+        if (fieldStart < n) {
+            startPartial();
+            for (int j = fieldStart; j < n; j++) {
+                step(buf.get(j));
+            }
+        }
+        buf.position(n);
+    }
+
+    /**
+     * Passes the last field to the consumer, if the stream didn't end with a separator, and resets the decoder for a new stream.
+     * Throws a NumberFormatException naming the field if it isn't a decimal.
+     */
+    public void finish() {
+        if (partial) {
+            partial = false;
+            emit(finishPartial());
+        }
+        reset();
+    }
+
+    /**
+     * Reads the channel to its end through the buffer, decoding everything read, then finishes the stream as {@link #finish()} does.
+     * The buffer is the only memory used, e.g. a 64 KB direct buffer reused for every channel.
+     * Returns the number of Decimals passed to the consumer.
+     */
+    public long decode(@NotNull ReadableByteChannel channel, @NotNull ByteBuffer buf) throws IOException {
+        long start = nFields;
+        buf.clear();
+        while (channel.read(buf) >= 0) {
+            buf.flip();
+            feed(buf);
+            buf.clear();
+        }
+        if (partial) {
+            partial = false;
+            emit(finishPartial());
+        }
+        long count = nFields - start;
+        reset();
+        return count;
+    }
+
+    /**
+     * Drops any partial field and the field count, to start a new stream.
+     */
+    public void reset() {
+        partial = false;
+        nFields = 0;
+    }
+
+    @SuppressWarnings("fenum:argument")
+    private void emit(@Decimal long decimal) {
+        nFields++;
+        consumer.accept(decimal);
+    }
+
+    /** Parses a field that's entirely inside the buffer */
+    @SuppressWarnings("fenum:binary")
+    private @Decimal long parseField(@NotNull ByteBuffer buf, int start, int end) {
+        @Decimal long decimal = buf.hasArray()
+                ? tryFromAscii(buf.array(), buf.arrayOffset() + start, end - start, Str.INVALID)
+                : tryFromAscii(buf, start, end - start, Str.INVALID);
+        if (decimal == Str.INVALID) {
+            throw invalidField();
+        }
+        return decimal;
+    }
+
+    private void startPartial() {
+        partial = true;
+        state = LEADING;
+        sign = 1;
+        mantissa = 0;
+        exponent = 0;
+        sticky = false;
+        point = false;
+        anyDigit = false;
+        negativePower = false;
+        power = 0;
+    }
+
+    /** Advances the partial field by one byte, never a separator */
+    private void step(byte b) {
+        int digit = b - '0';
+        boolean isDigit = digit >= 0 && digit <= 9;
+        switch (state) {
+            case LEADING -> {
+                if (Character.isWhitespace(b)) {
+                    return;
+                }
+                if (b == '-' || b == '+') {
+                    sign = b == '-' ? -1 : 1;
+                    state = SIGN;
+                } else if (b == 'N') {
+                    state = NAN_WORD;
+                    wordLength = 1;
+                } else {
+                    state = SIGN;
+                    step(b);
+                }
+            }
+            case SIGN -> {
+                if (b == 'I') {
+                    state = INFINITY_WORD;
+                    wordLength = 1;
+                } else {
+                    state = DIGITS;
+                    step(b);
+                }
+            }
+            case DIGITS -> {
+                if (isDigit) {
+                    anyDigit = true;
+                    if (mantissa < Str.PARSED_MANTISSA_LIMIT) {
+                        mantissa = mantissa * 10 + digit;
+                        exponent += point ? 1 : 0;
+                    } else {
+                        sticky |= digit != 0;
+                        exponent -= point ? 0 : 1;
+                    }
+                } else if (b == '.' && !point) {
+                    point = true;
+                } else if ((b == 'E' || b == 'e') && anyDigit) {
+                    state = POWER;
+                } else {
+                    trail(b);
+                }
+            }
+            case POWER -> {
+                if (b == '-' || b == '+') {
+                    negativePower = b == '-';
+                    state = POWER_SIGN;
+                } else if (isDigit) {
+                    state = POWER_DIGITS;
+                    step(b);
+                } else {
+                    state = INVALID_FIELD;
+                }
+            }
+            case POWER_SIGN, POWER_DIGITS -> {
+                if (isDigit) {
+                    // saturate, any power this large over/underflows whatever the digits are
+                    power = power < Str.PARSED_POWER_LIMIT ? power * 10 + digit : power;
+                    state = POWER_DIGITS;
+                } else if (state == POWER_DIGITS) {
+                    trail(b);
+                } else {
+                    state = INVALID_FIELD;
+                }
+            }
+            case NAN_WORD, INFINITY_WORD -> {
+                byte[] word = state == NAN_WORD ? NAN_BYTES : INFINITY_BYTES;
+                if (wordLength < word.length && b == word[wordLength]) {
+                    wordLength++;
+                } else if (wordLength == word.length) {
+                    trail(b);
+                } else {
+                    state = INVALID_FIELD;
+                }
+            }
+            case TRAILING -> {
+                if (!Character.isWhitespace(b)) {
+                    state = INVALID_FIELD;
+                }
+            }
+            default -> {
+                // INVALID_FIELD stays invalid
+            }
+        }
+    }
+
+    /** Ends the field at whitespace, anything else can't follow */
+    private void trail(byte b) {
+        if (Character.isWhitespace(b)) {
+            trailedState = state;
+            state = TRAILING;
+        } else {
+            state = INVALID_FIELD;
+        }
+    }
+
+    @SuppressWarnings("fenum:return")
+    private @Decimal long finishPartial() {
+        int end = state == TRAILING ? trailedState : state;
+        switch (end) {
+            case DIGITS, POWER_DIGITS -> {
+                if (anyDigit) {
+                    int scaled = Str.applyPower(exponent, negativePower ? -power : power);
+                    return Str.fromParsedDigits(sign, mantissa, scaled, sticky);
+                }
+            }
+            case NAN_WORD -> {
+                if (wordLength == NAN_BYTES.length) {
+                    return NAN;
+                }
+            }
+            case INFINITY_WORD -> {
+                if (wordLength == INFINITY_BYTES.length) {
+                    return sign < 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+                }
+            }
+            default -> {
+            }
+        }
+        throw invalidField();
+    }
+
+    private @NotNull NumberFormatException invalidField() {
+        return new NumberFormatException("Invalid decimal in field " + (nFields + 1));
+    }
+}
@@ -1,81 +1,202 @@
 package io.github.loganmallory.decimaljava;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 
 public class FastEncoding {
 
-    private static final byte[] DigitOnes_i32 = {
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-    };
-
-    static final byte[] DigitTens_i32 = {
-            '0', '0', '0', '0', '0', '0', '0', '0', '0', '0',
-            '1', '1', '1', '1', '1', '1', '1', '1', '1', '1',
-            '2', '2', '2', '2', '2', '2', '2', '2', '2', '2',
-            '3', '3', '3', '3', '3', '3', '3', '3', '3', '3',
-            '4', '4', '4', '4', '4', '4', '4', '4', '4', '4',
-            '5', '5', '5', '5', '5', '5', '5', '5', '5', '5',
-            '6', '6', '6', '6', '6', '6', '6', '6', '6', '6',
-            '7', '7', '7', '7', '7', '7', '7', '7', '7', '7',
-            '8', '8', '8', '8', '8', '8', '8', '8', '8', '8',
-            '9', '9', '9', '9', '9', '9', '9', '9', '9', '9',
-    } ;
+    /** Reads 8 bytes of a byte[] as a long, with the first byte in the lowest 8 bits */
+    static final VarHandle I64_LE_BYTE_ARRAY = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
 
-    public static void write_i64(long val, ByteBuffer buf) {
-        // ported from Long.getChars(..)
+    /** Reads 8 bytes of a heap or direct ByteBuffer as a long, with the first byte in the lowest 8 bits */
+    static final VarHandle I64_LE_BYTE_BUFFER = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** 8 ASCII '0' bytes packed into a long */
+    public static final long ASCII_ZEROS_i64 = 0x3030303030303030L;
+
+    /** Writes 4 bytes of a byte[] as an int, with the lowest 8 bits in the first byte */
+    private static final VarHandle I32_LE_BYTE_ARRAY = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** Writes 2 bytes of a byte[] as a short, with the lowest 8 bits in the first byte */
+    private static final VarHandle I16_LE_BYTE_ARRAY = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
 
-        int idx = buf.position() + FastMath.nDigits(val);
+    private static final VarHandle I32_LE_BYTE_BUFFER = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
 
-        long q;
-        int r;
+    private static final VarHandle I16_LE_BYTE_BUFFER = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
 
-        boolean negative = val < 0;
-        if (!negative) {
+    private static final long TEN_TO_THE_8 = 100_000_000L;
+
+    private static final long TEN_TO_THE_16 = 10_000_000_000_000_000L;
+
+    private static final byte[] MIN_I64_ASCII = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Writes the digits of val, and a '-' if negative, at the buffer's position, and advances it.
+     * Throws an IllegalArgumentException, without writing anything, if the buffer has too little room.
+     */
+    public static void write_i64(long val, ByteBuffer buf) {
+        int idx = buf.position();
+        if (val < 0) {
+            if (val == Long.MIN_VALUE) {
+                buf.position(idx + MIN_I64_ASCII.length);
+                buf.put(idx, MIN_I64_ASCII);
+                return;
+            }
             val = -val;
+            // reserve space in buffer, will throw if no room
+            buf.position(idx + 1 + FastMath.nDigits(val));
+            buf.put(idx++, (byte) '-');
         } else {
-            idx++; // for '-'
+            buf.position(idx + FastMath.nDigits(val));
         }
 
-        // reserve space in buffer, will throw if no room
-        buf.position(idx);
+        if (val < TEN_TO_THE_8) {
+            writeDigits(eightDigits((int) val), FastMath.nDigits(val), buf, idx);
+            return;
+        }
+        long hi = val / TEN_TO_THE_8;
+        int lo = (int) (val - hi * TEN_TO_THE_8);
+        if (hi < TEN_TO_THE_8) {
+            int n_hi_digits = FastMath.nDigits(hi);
+            writeDigits(eightDigits((int) hi), n_hi_digits, buf, idx);
+            I64_LE_BYTE_BUFFER.set(buf, idx + n_hi_digits, eightDigits(lo));
+            return;
+        }
+        // 17 to 19 digits
+        long top = hi / TEN_TO_THE_8;
+        int mid = (int) (hi - top * TEN_TO_THE_8);
+        int n_top_digits = FastMath.nDigits(top);
+        writeDigits(eightDigits((int) top), n_top_digits, buf, idx);
+        I64_LE_BYTE_BUFFER.set(buf, idx + n_top_digits, eightDigits(mid));
+        I64_LE_BYTE_BUFFER.set(buf, idx + n_top_digits + 8, eightDigits(lo));
+    }
 
-        // get 2 digits per iteration using longs until quotient fits into an int
-        while (val <= Integer.MIN_VALUE) {
-            q = val / 100;
-            r = (int) ((q * 100) - val);
-            val = q;
-            buf.put(--idx, DigitOnes_i32[r]);
-            buf.put(--idx, DigitTens_i32[r]);
+    /**
+     * Writes the digits of val, and a '-' if negative, into buf at the offset, same as {@link #write_i64(long, ByteBuffer)}.
+     * Returns the offset after the last digit.
+     * Throws an IndexOutOfBoundsException if buf is too small, with buf partly written.
+     */
+    public static int write_i64(long val, byte[] buf, int offset) {
+        if (val < 0) {
+            if (val == Long.MIN_VALUE) {
+                System.arraycopy(MIN_I64_ASCII, 0, buf, offset, MIN_I64_ASCII.length);
+                return offset + MIN_I64_ASCII.length;
+            }
+            buf[offset++] = '-';
+            val = -val;
         }
 
-        // get 2 digits per iteration using ints
-        int q2;
-        int val2 = (int) val;
-        while (val2 <= -100) {
-            q2 = val2 / 100;
-            r  = (q2 * 100) - val2;
-            val2 = q2;
-            buf.put(--idx, DigitOnes_i32[r]);
-            buf.put(--idx, DigitTens_i32[r]);
+        if (val < TEN_TO_THE_8) {
+            int n_digits = FastMath.nDigits(val);
+            writeDigits(eightDigits((int) val), n_digits, buf, offset);
+            return offset + n_digits;
         }
+        long hi = val / TEN_TO_THE_8;
+        int lo = (int) (val - hi * TEN_TO_THE_8);
+        if (hi < TEN_TO_THE_8) {
+            // 9 to 16 digits, every Decimal64 mantissa
+            int i = offset + FastMath.nDigits(hi);
+            writeDigits(eightDigits((int) hi), i - offset, buf, offset);
+            I64_LE_BYTE_ARRAY.set(buf, i, eightDigits(lo));
+            return i + 8;
+        }
+        // 17 to 19 digits
+        long top = hi / TEN_TO_THE_8;
+        int mid = (int) (hi - top * TEN_TO_THE_8);
+        int i = offset + FastMath.nDigits(top);
+        writeDigits(eightDigits((int) top), i - offset, buf, offset);
+        I64_LE_BYTE_ARRAY.set(buf, i, eightDigits(mid));
+        I64_LE_BYTE_ARRAY.set(buf, i + 8, eightDigits(lo));
+        return i + 16;
+    }
+
+    /**
+     * Converts val in [0, 99999999] to 8 ASCII digits, with leading zeros, packed little endian (the first digit in the lowest byte).
+     * The reverse of {@link #parseEightDigits(long)}: val is split into two 4 digit lanes, then each lane into 2 digit lanes,
+     * then 1 digit lanes, dividing every lane at once with a multiply and shift instead of a division.
+     * <h1>Unsafe: Does not validate inputs</h1>
+     */
+    public static long eightDigits(int val) {
+        // the first 4 digits in the low 32 bits, the last 4 in the high 32 bits
+        int hi = val / 10000;
+        long word = hi | ((long) (val - hi * 10000) << 32);
 
-        // we know there are at most two digits left
-        buf.put(--idx, DigitOnes_i32[-val2]);
-        if (val2 < -9) {
-            buf.put(--idx, DigitTens_i32[-val2]);
+        // 2 digit lanes, x * 10486 >>> 20 == x / 100 for x < 10000
+        long hundreds = ((word * 10486) >>> 20) & 0x0000007F0000007FL;
+        word = hundreds | ((word - hundreds * 100) << 16);
+
+        // 1 digit lanes, x * 103 >>> 10 == x / 10 for x < 100
+        long tens = ((word * 103) >>> 10) & 0x000F000F000F000FL;
+        word = tens | ((word - tens * 10) << 8);
+
+        return word | ASCII_ZEROS_i64;
+    }
+
+    /** Writes the last n_digits of the packed digits into buf at the offset, with as few stores as possible */
+    private static void writeDigits(long digits, int n_digits, byte[] buf, int offset) {
+        if (n_digits == 8) {
+            I64_LE_BYTE_ARRAY.set(buf, offset, digits);
+            return;
         }
+        // drop the leading zeros, then store 4, 2 and 1 bytes for the bits of n_digits
+        digits >>>= (8 - n_digits) << 3;
+        if ((n_digits & 4) != 0) {
+            I32_LE_BYTE_ARRAY.set(buf, offset, (int) digits);
+            digits >>>= 32;
+            offset += 4;
+        }
+        if ((n_digits & 2) != 0) {
+            I16_LE_BYTE_ARRAY.set(buf, offset, (short) digits);
+            digits >>>= 16;
+            offset += 2;
+        }
+        if ((n_digits & 1) != 0) {
+            buf[offset] = (byte) digits;
+        }
+    }
 
-        if (negative) {
-            buf.put(--idx, (byte) '-');
+    /** Same as {@link #writeDigits(long, int, byte[], int)}, for heap and direct ByteBuffers */
+    private static void writeDigits(long digits, int n_digits, ByteBuffer buf, int index) {
+        if (n_digits == 8) {
+            I64_LE_BYTE_BUFFER.set(buf, index, digits);
+            return;
         }
+        digits >>>= (8 - n_digits) << 3;
+        if ((n_digits & 4) != 0) {
+            I32_LE_BYTE_BUFFER.set(buf, index, (int) digits);
+            digits >>>= 32;
+            index += 4;
+        }
+        if ((n_digits & 2) != 0) {
+            I16_LE_BYTE_BUFFER.set(buf, index, (short) digits);
+            digits >>>= 16;
+            index += 2;
+        }
+        if ((n_digits & 1) != 0) {
+            buf.put(index, (byte) digits);
+        }
+    }
+
+    /**
+     * Returns true if all 8 bytes packed into the long are ASCII digits '0'..'9'.
+     * Each byte's high nibble must be 3, and adding 6 to the byte must not carry into its high nibble.
+     */
+    public static boolean isEightDigits(long word) {
+        return ((word & 0xF0F0F0F0F0F0F0F0L) | (((word + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) == 0x3333333333333333L;
+    }
+
+    /**
+     * Converts 8 ASCII digits packed little endian into a long (the first digit in the lowest byte) to their value in [0, 99999999].
+     * Neighbouring lanes are combined into 2, then 4, then 8 digit values, with one multiply each.
+     * <h1>Unsafe: Does not validate inputs</h1>
+     * Every byte should be an ASCII digit, see {@link #isEightDigits(long)}.
+     */
+    public static int parseEightDigits(long word) {
+        word = (word & 0x0F0F0F0F0F0F0F0FL) * (1 + (10 << 8)) >>> 8;
+        word = (word & 0x00FF00FF00FF00FFL) * (1 + (100 << 16)) >>> 16;
+        return (int) ((word & 0x0000FFFF0000FFFFL) * (1 + (10000L << 32)) >>> 32);
     }
 }
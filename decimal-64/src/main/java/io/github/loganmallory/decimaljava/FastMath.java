@@ -83,6 +83,298 @@ public class FastMath {
         return F64_TEN_TO_THE[exp];
     }
 
+    /** The upper 64 bits of 10^i as an unsigned 128-bit integer, for i in [0, 38] */
+    public static final long[] U128_TEN_TO_THE_HI = new long[]{
+            0x0000000000000000L,  // 10^0
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,  // 10^5
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,  // 10^10
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,  // 10^15
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000000L,
+            0x0000000000000005L,  // 10^20
+            0x0000000000000036L,
+            0x000000000000021eL,
+            0x000000000000152dL,
+            0x000000000000d3c2L,
+            0x0000000000084595L,  // 10^25
+            0x000000000052b7d2L,
+            0x00000000033b2e3cL,
+            0x00000000204fce5eL,
+            0x00000001431e0faeL,
+            0x0000000c9f2c9cd0L,  // 10^30
+            0x0000007e37be2022L,
+            0x000004ee2d6d415bL,
+            0x0000314dc6448d93L,
+            0x0001ed09bead87c0L,
+            0x0013426172c74d82L,  // 10^35
+            0x00c097ce7bc90715L,
+            0x0785ee10d5da46d9L,
+            0x4b3b4ca85a86c47aL
+    };
+
+    /** The lower 64 bits of 10^i as an unsigned 128-bit integer, for i in [0, 38] */
+    public static final long[] U128_TEN_TO_THE_LO = new long[]{
+            0x0000000000000001L,  // 10^0
+            0x000000000000000aL,
+            0x0000000000000064L,
+            0x00000000000003e8L,
+            0x0000000000002710L,
+            0x00000000000186a0L,  // 10^5
+            0x00000000000f4240L,
+            0x0000000000989680L,
+            0x0000000005f5e100L,
+            0x000000003b9aca00L,
+            0x00000002540be400L,  // 10^10
+            0x000000174876e800L,
+            0x000000e8d4a51000L,
+            0x000009184e72a000L,
+            0x00005af3107a4000L,
+            0x00038d7ea4c68000L,  // 10^15
+            0x002386f26fc10000L,
+            0x016345785d8a0000L,
+            0x0de0b6b3a7640000L,
+            0x8ac7230489e80000L,
+            0x6bc75e2d63100000L,  // 10^20
+            0x35c9adc5dea00000L,
+            0x19e0c9bab2400000L,
+            0x02c7e14af6800000L,
+            0x1bcecceda1000000L,
+            0x161401484a000000L,  // 10^25
+            0xdcc80cd2e4000000L,
+            0x9fd0803ce8000000L,
+            0x3e25026110000000L,
+            0x6d7217caa0000000L,
+            0x4674edea40000000L,  // 10^30
+            0xc0914b2680000000L,
+            0x85acef8100000000L,
+            0x38c15b0a00000000L,
+            0x378d8e6400000000L,
+            0x2b878fe800000000L,  // 10^35
+            0xb34b9f1000000000L,
+            0x00f436a000000000L,
+            0x098a224000000000L
+    };
+
+    /**
+     * Returns the number of base 10 digits in the unsigned 128-bit integer (hi, lo).
+     * Zero is considered to have 1 digit, like {@link FastMath#nDigits(long)}.
+     */
+    public static int nDigitsU128(long hi, long lo) {
+        if (hi == 0) {
+            if (lo >= 0) {
+                return nDigits(lo);
+            }
+            // lo is in [2^63, 2^64), so 19 or 20 digits
+            return Long.compareUnsigned(lo, U128_TEN_TO_THE_LO[19]) >= 0 ? 20 : 19;
+        }
+
+        int log2 = 127 - Long.numberOfLeadingZeros(hi);
+        int guess = (log2 * 1233) >>> 12; // floor(log2 * log10(2)) for log2 < 128
+        int n = guess + 1;
+        if (n > 38) {
+            // val >= 2^127 > 10^38
+            return 39;
+        }
+        return compareU128(hi, lo, U128_TEN_TO_THE_HI[n], U128_TEN_TO_THE_LO[n]) >= 0 ? n + 1 : n;
+    }
+
+    /**
+     * Compares two unsigned 128-bit integers (aHi, aLo) and (bHi, bLo).
+     */
+    public static int compareU128(long aHi, long aLo, long bHi, long bLo) {
+        if (aHi != bHi) {
+            return Long.compareUnsigned(aHi, bHi);
+        }
+        return Long.compareUnsigned(aLo, bLo);
+    }
+
+    /**
+     * Divides the unsigned 128-bit integer (hi, lo) by the unsigned 64-bit divisor and returns the unsigned quotient.
+     * The remainder can be recovered by the caller as <code>lo - quotient * divisor</code>.
+     * <h1>Unsafe: Does not validate inputs </h1>
+     * The quotient must fit in 64 bits, i.e. hi < divisor (unsigned).
+     */
+    public static long divideU128ByU64(long hi, long lo, long divisor) {
+        assert Long.compareUnsigned(hi, divisor) < 0 : "quotient must fit in 64 bits";
+
+        if (hi == 0 && lo >= 0 && divisor > 0) {
+            // fits in an i64
+            return lo / divisor;
+        }
+
+        // ported from Hacker's Delight, divlu(..)
+        final long b = 1L << 32;
+
+        // normalize the divisor so its top bit is set, and shift the dividend by the same amount
+        int s = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << s;
+        long vn1 = v >>> 32;
+        long vn0 = v & 0xFFFFFFFFL;
+
+        long un32 = s == 0 ? hi : (hi << s) | (lo >>> (64 - s));
+        long un10 = lo << s;
+        long un1 = un10 >>> 32;
+        long un0 = un10 & 0xFFFFFFFFL;
+
+        // first 32 bits of the quotient
+        long q1 = Long.divideUnsigned(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while (Long.compareUnsigned(q1, b) >= 0 || Long.compareUnsigned(q1 * vn0, (rhat << 32) | un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if (Long.compareUnsigned(rhat, b) >= 0) {
+                break;
+            }
+        }
+
+        // last 32 bits of the quotient
+        long un21 = (un32 << 32) + un1 - q1 * v;
+        long q0 = Long.divideUnsigned(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while (Long.compareUnsigned(q0, b) >= 0 || Long.compareUnsigned(q0 * vn0, (rhat << 32) | un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if (Long.compareUnsigned(rhat, b) >= 0) {
+                break;
+            }
+        }
+
+        return (q1 << 32) | q0;
+    }
+
+    /**
+     * Returns the reciprocal of a normalized (top bit set) unsigned 64-bit divisor, i.e. <code>floor((2^128 - 1) / divisor) - 2^64</code>,
+     * for use with {@link FastMath#divideU128ByU64Preinv(long, long, long, long)}.
+     * See Möller and Granlund, "Improved division by invariant integers".
+     */
+    public static long reciprocalU64(long divisor) {
+        assert divisor < 0 : "divisor must be normalized";
+        // safety: ~divisor < divisor when the top bit is set, so the quotient fits in 64 bits
+        return divideU128ByU64(~divisor, -1L, divisor);
+    }
+
+    /**
+     * Divides the unsigned 128-bit integer (hi, lo) by the normalized (top bit set) unsigned 64-bit divisor,
+     * given its precomputed {@link FastMath#reciprocalU64(long)}, and returns the unsigned quotient.
+     * The remainder can be recovered by the caller as <code>lo - quotient * divisor</code>.
+     * <h1>Unsafe: Does not validate inputs </h1>
+     * The quotient must fit in 64 bits, i.e. hi < divisor (unsigned).
+     */
+    public static long divideU128ByU64Preinv(long hi, long lo, long divisor, long reciprocal) {
+        assert divisor < 0 : "divisor must be normalized";
+        assert Long.compareUnsigned(hi, divisor) < 0 : "quotient must fit in 64 bits";
+
+        // (q1, q0) = reciprocal * hi + (hi + 1, lo)
+        long q0 = reciprocal * hi;
+        long q1 = Math.unsignedMultiplyHigh(reciprocal, hi);
+        long sum = q0 + lo;
+        q1 += hi + 1 + (Long.compareUnsigned(sum, q0) < 0 ? 1 : 0);
+        q0 = sum;
+
+        // q1 is the quotient, or one too large, or (rarely) one too small
+        long remainder = lo - q1 * divisor;
+        if (Long.compareUnsigned(remainder, q0) > 0) {
+            q1--;
+            remainder += divisor;
+        }
+        if (Long.compareUnsigned(remainder, divisor) >= 0) {
+            q1++;
+        }
+        return q1;
+    }
+
+    /**
+     * Returns the integer square root of the unsigned 128-bit integer (hi, lo), i.e. <code>floor(sqrt(value))</code>.
+     * <h1>Unsafe: Does not validate inputs </h1>
+     * The value must be < 2^126, so the root and its successor squared fit in 128 bits.
+     */
+    public static long sqrtU128(long hi, long lo) {
+        assert hi >>> 62 == 0 : "value must be < 2^126";
+
+        if (hi == 0 && lo == 0) {
+            return 0;
+        }
+
+        // seed from the double sqrt, correct to within ~2^11 of the root
+        double approx = hi * 0x1p64 + (double) (lo >>> 1) * 2.0;
+        long root = Math.max(1, (long) Math.sqrt(approx));
+
+        // one Newton step squares the error, so the root is then off by at most 1
+        // safety: root is close to sqrt(value) >= sqrt(hi * 2^64) > hi, so the quotient fits in 64 bits
+        long quotient = divideU128ByU64(hi, lo, root);
+        // unsigned average, root + quotient can overflow when the value is close to 2^126
+        root = (root >>> 1) + (quotient >>> 1) + (root & quotient & 1);
+
+        while (compareU128(Math.unsignedMultiplyHigh(root, root), root * root, hi, lo) > 0) {
+            root--;
+        }
+        while (compareU128(Math.unsignedMultiplyHigh(root + 1, root + 1), (root + 1) * (root + 1), hi, lo) <= 0) {
+            root++;
+        }
+        return root;
+    }
+
+    /**
+     * Returns the 64 bits starting at bit <code>shift</code> of the 256-bit product of the unsigned 128-bit integers
+     * (aHi, aLo) and (bHi, bLo), i.e. <code>(a * b) >>> shift</code> truncated to 64 bits.
+     * Call it with <code>shift</code> and <code>shift + 64</code> for the 128 bits starting at <code>shift</code>.
+     * Bits past the top of the product are zero, so any shift >= 0 is allowed.
+     */
+    public static long multiplyU128Bits(long aHi, long aLo, long bHi, long bLo, int shift) {
+        assert shift >= 0 : "shift must be >= 0";
+
+        // 4 partial products, summed into the words (w3, w2, w1, w0) with carries
+        long lo = aLo * bLo;
+        long mid1 = Math.unsignedMultiplyHigh(aLo, bLo);
+        long mid2 = aLo * bHi;
+        long mid3 = aHi * bLo;
+
+        long w1 = mid1 + mid2;
+        long carry1 = Long.compareUnsigned(w1, mid1) < 0 ? 1 : 0;
+        w1 += mid3;
+        carry1 += Long.compareUnsigned(w1, mid3) < 0 ? 1 : 0;
+
+        long hi1 = Math.unsignedMultiplyHigh(aLo, bHi);
+        long hi2 = Math.unsignedMultiplyHigh(aHi, bLo);
+        long hi3 = aHi * bHi;
+
+        long w2 = hi1 + hi2;
+        long carry2 = Long.compareUnsigned(w2, hi1) < 0 ? 1 : 0;
+        w2 += hi3;
+        carry2 += Long.compareUnsigned(w2, hi3) < 0 ? 1 : 0;
+        w2 += carry1;
+        carry2 += Long.compareUnsigned(w2, carry1) < 0 ? 1 : 0;
+
+        long w3 = Math.unsignedMultiplyHigh(aHi, bHi) + carry2;
+
+        long low;
+        long high;
+        switch (shift >>> 6) {
+            case 0 -> { low = lo; high = w1; }
+            case 1 -> { low = w1; high = w2; }
+            case 2 -> { low = w2; high = w3; }
+            case 3 -> { low = w3; high = 0; }
+            default -> { return 0; }
+        }
+
+        int bit = shift & 63;
+        return bit == 0 ? low : (low >>> bit) | (high << (64 - bit));
+    }
+
     public static boolean sameSign(long a, long b) {
         return (a ^ b) >= 0;
     }
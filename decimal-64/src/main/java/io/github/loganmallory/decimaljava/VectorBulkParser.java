@@ -0,0 +1,69 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The vectorized {@link DecimalBulkParser}, only loaded when jdk.incubator.vector is present.
+ * <p>
+ * Each vector of 32 or 64 bytes is classified at once into a separator bitmask, the delimiter or '\n',
+ * and whether every byte is a digit, '.', '-' or separator. The fields ending in the vector are then found from the
+ * separator bits without looking at the bytes again, and a field that's entirely inside a plain vector skips straight to
+ * the digit loop, where runs of 8 digits are converted together, see {@link FastEncoding#parseEightDigits(long)}.
+ */
+final class VectorBulkParser {
+
+    /** The widest species, so toLong() holds every lane's bit */
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() <= 64 ? ByteVector.SPECIES_PREFERRED : ByteVector.SPECIES_512;
+
+    private VectorBulkParser() {
+    }
+
+    static int parse(byte @NotNull [] buf, int offset, int len, byte delimiter, @Decimal long @NotNull [] out, int outOffset) {
+        int n = offset + len;
+        int count = outOffset;
+        int fieldStart = offset;
+
+        int i = offset;
+        for (int bound = offset + SPECIES.loopBound(len); i < bound; i += SPECIES.length()) {
+            var bytes = ByteVector.fromArray(SPECIES, buf, i);
+            VectorMask<Byte> separators = bytes.eq(delimiter).or(bytes.eq((byte) '\n'));
+            long separatorBits = separators.toLong();
+            if (separatorBits == 0) {
+                continue;
+            }
+
+            VectorMask<Byte> plain = bytes.compare(VectorOperators.GE, (byte) '0').and(bytes.compare(VectorOperators.LE, (byte) '9'))
+                    .or(bytes.eq((byte) '.'))
+                    .or(bytes.eq((byte) '-'))
+                    .or(separators);
+            boolean allPlain = plain.allTrue();
+
+            // one field ends at each separator
+            while (separatorBits != 0) {
+                int end = i + Long.numberOfTrailingZeros(separatorBits);
+                out[count++] = allPlain && fieldStart >= i
+                        ? DecimalBulkParser.parsePlainField(buf, fieldStart, end)
+                        : DecimalBulkParser.parseField(buf, fieldStart, end);
+                fieldStart = end + 1;
+                separatorBits &= separatorBits - 1;
+            }
+        }
+
+        // the tail, shorter than a vector
+        for (; i < n; i++) {
+            if (buf[i] == delimiter || buf[i] == '\n') {
+                out[count++] = DecimalBulkParser.parseField(buf, fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        if (fieldStart < n) {
+            out[count++] = DecimalBulkParser.parseField(buf, fieldStart, n);
+        }
+        return count - outOffset;
+    }
+}
@@ -3,11 +3,17 @@ package io.github.loganmallory.decimaljava;
 import io.github.loganmallory.decimaljava.annotations.Decimal;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Random;
 import java.util.function.BiConsumer;
@@ -20,6 +26,7 @@ import static io.github.loganmallory.decimaljava.Decimal64.Internal.Data.getExpo
 import static io.github.loganmallory.decimaljava.Decimal64.Internal.Data.getMantissa;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 
 @SuppressWarnings({"fenum:argument"})
 public class Decimal64Test {
@@ -80,6 +87,36 @@ public class Decimal64Test {
         });
     }
 
+    private static final List<RoundingMode> ROUNDING_MODES = List.of(
+            RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+            RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+    );
+
+    /** Applies the Decimal overflow and underflow rules to a BigDecimal that is already rounded to 16 digits */
+    private static @Decimal long expectedDecimal(BigDecimal rounded, RoundingMode roundingMode) {
+        rounded = rounded.stripTrailingZeros();
+
+        if (rounded.signum() == 0) {
+            return ZERO;
+        }
+
+        if (rounded.scale() < MIN_EXPONENT) {
+            // overflow to +/- inf
+            return rounded.signum() > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+        }
+
+        if (rounded.scale() - rounded.precision() >= MAX_EXPONENT) {
+            // underflow to zero
+            return ZERO;
+        }
+
+        if (rounded.scale() > MAX_EXPONENT) {
+            // e.g. 102e-256 -> 1e-254
+            rounded = rounded.setScale(MAX_EXPONENT, roundingMode);
+        }
+        return fromBigDecimal(rounded);
+    }
+
     @Nested
     class Data {
 
@@ -1251,6 +1288,123 @@ public class Decimal64Test {
                     assertEquals("Invalid decimal string: '- '", ex.getMessage());
                 }
 
+                @Test
+                public void case_0010() {
+                    // more than 16 digits round half-even, ties go to the even digit
+                    assertDecEquals(ONE, fromString("1.00000000000000050"));
+                    assertDecEquals(fromParts(1000000000000001L, 15), fromString("1.000000000000000500001"));
+                    assertDecEquals(fromParts(1000000000000002L, 15), fromString("1.00000000000000150"));
+                    assertDecEquals(fromParts(1, -17), fromString("99999999999999995"));
+                    assertDecEquals(fromParts(1234567890123457L, -7), fromString("12345678901234567890123"));
+                }
+
+                @Test
+                public void case_0011() {
+                    // zeros on either side don't count as digits
+                    assertDecEquals(ZERO, fromString("-0.000"));
+                    assertDecEquals(fromParts(5, 1), fromString(".5"));
+                    assertDecEquals(fromParts(-5, 1), fromString("-000.50000000000000000000000000"));
+                    assertDecEquals(fromParts(1, -30), fromString("1000000000000000000000000000000"));
+                }
+
+                @Test
+                public void case_0012() {
+                    // out of range overflows to inf, underflows to zero
+                    assertDecEquals(POSITIVE_INFINITY, fromString("1" + "0".repeat(271)));
+                    assertDecEquals(ZERO, fromString("0." + "0".repeat(255) + "1"));
+                    assertDecEquals(fromParts(1, 255), fromString("0." + "0".repeat(254) + "1"));
+                }
+
+                @Test
+                public void case_0013() {
+                    for (var str : List.of(".", "-.", "1..0", "1.0.", "1-", "--1", "1 0", "0x10")) {
+                        var ex = assertThrows(NumberFormatException.class, () -> fromString(str), () -> "'" + str + "'");
+                        assertEquals("Invalid decimal string: '" + str + "'", ex.getMessage());
+                    }
+                }
+
+                @Test
+                public void case_0014() {
+                    // scientific notation over the full exponent range
+                    assertDecEquals(fromParts(123, 7), fromString("1.23E-5"));
+                    assertDecEquals(fromParts(4, -10), fromString("4e+10"));
+                    assertDecEquals(fromParts(-15, -2), fromString("-1.5E3"));
+                    assertDecEquals(fromParts(1, -255), fromString("1E255"));
+                    assertDecEquals(fromParts(1, 255), fromString("1E-255"));
+                    assertDecEquals(fromParts(1, 255), fromString("0.0001E-251"));
+                    assertDecEquals(fromParts(1, -255), fromString("0.0001E259"));
+                    assertDecEquals(fromParts(12, 0), fromString("1.2E1"));
+                    assertDecEquals(fromParts(1, 0), fromString("1.E0"));
+                }
+
+                @Test
+                public void case_0015() {
+                    // out of range powers overflow to inf and underflow to zero, however many digits
+                    assertDecEquals(POSITIVE_INFINITY, fromString("1E256"));
+                    assertDecEquals(NEGATIVE_INFINITY, fromString("-1E271"));
+                    assertDecEquals(fromParts(-9999999999999999L, -255), fromString("-9.999999999999999E270"));
+                    assertDecEquals(POSITIVE_INFINITY, fromString("1E" + "9".repeat(40)));
+                    assertDecEquals(ZERO, fromString("1E-256"));
+                    assertDecEquals(ZERO, fromString("-1E-" + "9".repeat(40)));
+                    assertDecEquals(ZERO, fromString("0E" + "9".repeat(40)));
+                    assertDecEquals(ONE, fromString("0." + "0".repeat(300) + "1E301"));
+                }
+
+                @Test
+                public void case_0016() {
+                    for (var str : List.of("1E", "1e+", "1E-", "E3", ".E3", "1E3.5", "1E3E3", "1E 3", "1E+-3")) {
+                        var ex = assertThrows(NumberFormatException.class, () -> fromString(str), () -> "'" + str + "'");
+                        assertEquals("Invalid decimal string: '" + str + "'", ex.getMessage());
+                    }
+                }
+
+                @Test
+                public void random_long_scientific_string() {
+                    // up to 40 digits and any power, same as BigDecimal rounding with DECIMAL64
+                    var rng = new Random(RNG_SEED);
+                    for (int i = 0; i < FUZZ_N / 10; i++) {
+                        var sb = new StringBuilder(rng.nextBoolean() ? "-" : "");
+                        int nDigits = 1 + rng.nextInt(40);
+                        int point = rng.nextInt(nDigits + 1);
+                        for (int j = 0; j < nDigits; j++) {
+                            if (j == point) {
+                                sb.append('.');
+                            }
+                            int r = rng.nextInt(4);
+                            sb.append(r == 0 ? '0' : r == 1 ? '9' : r == 2 ? '5' : (char) ('0' + rng.nextInt(10)));
+                        }
+                        int power = rng.nextInt(-320, 320);
+                        sb.append(rng.nextBoolean() ? 'E' : 'e').append(power >= 0 && rng.nextBoolean() ? "+" : "").append(power);
+                        var str = sb.toString();
+                        var expected = fromBigDecimal(new BigDecimal(str, MathContext.DECIMAL64));
+
+                        assertDecEquals(expected, fromString(str), () -> "'" + str + "'");
+                    }
+                }
+
+                @Test
+                public void random_long_string() {
+                    // up to 40 digits with the point anywhere, same as BigDecimal rounding with DECIMAL64
+                    var rng = new Random(RNG_SEED);
+                    for (int i = 0; i < FUZZ_N / 10; i++) {
+                        var sb = new StringBuilder(rng.nextBoolean() ? "-" : "");
+                        int nDigits = 1 + rng.nextInt(40);
+                        int point = rng.nextInt(nDigits + 1);
+                        for (int j = 0; j < nDigits; j++) {
+                            if (j == point) {
+                                sb.append('.');
+                            }
+                            // mostly 0s, 5s and 9s, to hit the rounding ties and carries
+                            int r = rng.nextInt(4);
+                            sb.append(r == 0 ? '0' : r == 1 ? '9' : r == 2 ? '5' : (char) ('0' + rng.nextInt(10)));
+                        }
+                        var str = sb.toString();
+                        var expected = fromBigDecimal(new BigDecimal(str, MathContext.DECIMAL64));
+
+                        assertDecEquals(expected, fromString(str), () -> "'" + str + "'");
+                    }
+                }
+
                 @Test
                 public void random_plain_string() {
                     var rng = new Random(RNG_SEED);
@@ -1526,6 +1680,358 @@ public class Decimal64Test {
                 }
             }
 
+            @Nested
+            class FromAscii {
+
+                /** Asserts fromAscii(..) gives the same Decimal or exception as fromString(..), from a byte[], heap and direct ByteBuffer */
+                private static void assert_same_as_from_string(String str) {
+                    var bytes = ("xyz" + str + "zyx").getBytes(US_ASCII);
+                    int len = str.length();
+                    var heap = ByteBuffer.wrap(bytes);
+                    var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+                    long expected;
+                    try {
+                        expected = fromString(str);
+                    } catch (NumberFormatException expectedEx) {
+                        for (Executable parse : List.<Executable>of(
+                                () -> fromAscii(bytes, 3, len), () -> fromAscii(heap, 3, len), () -> fromAscii(direct, 3, len))) {
+                            var ex = assertThrows(NumberFormatException.class, parse, () -> "'" + str + "'");
+                            assertEquals(expectedEx.getMessage(), ex.getMessage());
+                        }
+                        return;
+                    }
+                    assertDecEquals(expected, fromAscii(bytes, 3, len), () -> "byte[] '" + str + "'");
+                    assertDecEquals(expected, fromAscii(heap, 3, len), () -> "heap '" + str + "'");
+                    assertDecEquals(expected, fromAscii(direct, 3, len), () -> "direct '" + str + "'");
+                    assertEquals(0, direct.position());
+                }
+
+                @Test
+                public void special() {
+                    for (var str : List.of("NaN", "Infinity", "-Infinity", "+Infinity", " NaN ", "\t-Infinity\n", "0", "-0", "1", "2")) {
+                        assert_same_as_from_string(str);
+                    }
+                }
+
+                @Test
+                public void invalid() {
+                    for (var str : List.of("", " ", "-", "+", ".", "-.", "1..0", "1.0.", "1-", "--1", "1 0", "0x10",
+                            "NaN0", "Nan", "-NaN", "Inf", "Infinity0", "12345678.1234567x", "1234567812345678x", "12345678901234567890123456789x")) {
+                        assert_same_as_from_string(str);
+                    }
+                }
+
+                @Test
+                public void case_0001() {
+                    // 8-digit runs on both sides of the point
+                    assertDecEquals(fromParts(1234567812345678L, 8), fromAscii("12345678.12345678".getBytes(US_ASCII), 0, 17));
+                    assertDecEquals(fromParts(-1234567812345678L, 0), fromAscii("-1234567812345678".getBytes(US_ASCII), 0, 17));
+                    assertDecEquals(fromParts(1, 16), fromAscii("0.0000000000000001".getBytes(US_ASCII), 0, 18));
+                }
+
+                @Test
+                public void case_0002() {
+                    // digits past the precision are read 8 at a time as sticky digits
+                    assertDecEquals(fromParts(1, -31), fromAscii(("1" + "0".repeat(31)).getBytes(US_ASCII), 0, 32));
+                    assertDecEquals(fromParts(1000000000000000L, 15), fromAscii(("1." + "0".repeat(15) + "49999999999999999").getBytes(US_ASCII), 0, 34));
+                    assertDecEquals(fromParts(1000000000000001L, 15), fromAscii(("1." + "0".repeat(15) + "5" + "0".repeat(23) + "1").getBytes(US_ASCII), 0, 42));
+                }
+
+                @Test
+                public void eight_digits() {
+                    var rng = new Random(RNG_SEED);
+                    for (int i = 0; i < FUZZ_N / 10; i++) {
+                        var str = String.format("%08d", rng.nextInt(100_000_000));
+                        long word = ByteBuffer.wrap(str.getBytes(US_ASCII)).order(ByteOrder.LITTLE_ENDIAN).getLong();
+                        assertTrue(FastEncoding.isEightDigits(word), str);
+                        assertEquals(Integer.parseInt(str), FastEncoding.parseEightDigits(word), str);
+
+                        // any single non-digit byte
+                        var bytes = str.getBytes(US_ASCII);
+                        bytes[rng.nextInt(8)] = (byte) (rng.nextBoolean() ? rng.nextInt('0') : rng.nextInt('9' + 1, 256));
+                        long badWord = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getLong();
+                        assertFalse(FastEncoding.isEightDigits(badWord), () -> new String(bytes, US_ASCII));
+                    }
+                }
+
+                @Test
+                public void random_plain_string() {
+                    var rng = new Random(RNG_SEED);
+                    enumerate_bounds(FUZZ_N / 10, 20, 300, (mantissaBound, exponentBound) -> {
+                        var mantissa = rng.nextLong(-mantissaBound, mantissaBound);
+                        var exponent = rng.nextInt(-exponentBound, exponentBound);
+                        assert_same_as_from_string(BigDecimal.valueOf(mantissa, exponent).toPlainString());
+                    });
+                }
+
+                @Test
+                public void random_scientific_notation() {
+                    var rng = new Random(RNG_SEED);
+                    enumerate_bounds(FUZZ_N / 10, 20, 300, (mantissaBound, exponentBound) -> {
+                        var mantissa = rng.nextLong(-mantissaBound, mantissaBound);
+                        var exponent = rng.nextInt(-exponentBound, exponentBound);
+                        assert_same_as_from_string(BigDecimal.valueOf(mantissa, exponent).toString());
+                    });
+                }
+
+                @Test
+                public void random_long_string() {
+                    var rng = new Random(RNG_SEED);
+                    for (int i = 0; i < FUZZ_N / 10; i++) {
+                        var sb = new StringBuilder(rng.nextBoolean() ? "-" : "");
+                        int nDigits = 1 + rng.nextInt(40);
+                        int point = rng.nextInt(nDigits + 1);
+                        for (int j = 0; j < nDigits; j++) {
+                            if (j == point) {
+                                sb.append('.');
+                            }
+                            int r = rng.nextInt(4);
+                            sb.append(r == 0 ? '0' : r == 1 ? '9' : r == 2 ? '5' : (char) ('0' + rng.nextInt(10)));
+                        }
+                        assert_same_as_from_string(sb.toString());
+                    }
+                }
+            }
+
+            @Nested
+            class FromPrefix {
+
+                /** Asserts the prefix parsers read exactly field from (field + rest), from a CharSequence, byte[], heap and direct ByteBuffer */
+                private static void assert_prefix(String field, String rest) {
+                    long expected = fromString(field);
+                    var str = "xyz" + field + rest;
+                    var bytes = str.getBytes(US_ASCII);
+                    var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+                    int len = field.length() + rest.length();
+                    var consumed = new int[1];
+
+                    assertDecEquals(expected, fromStringPrefix(str, 3, len, consumed), () -> "CharSequence '" + str + "'");
+                    assertEquals(field.length(), consumed[0], () -> "CharSequence '" + str + "'");
+
+                    consumed[0] = -1;
+                    assertDecEquals(expected, fromAsciiPrefix(bytes, 3, len, consumed), () -> "byte[] '" + str + "'");
+                    assertEquals(field.length(), consumed[0], () -> "byte[] '" + str + "'");
+
+                    consumed[0] = -1;
+                    assertDecEquals(expected, fromAsciiPrefix(ByteBuffer.wrap(bytes), 3, len, consumed), () -> "heap '" + str + "'");
+                    assertEquals(field.length(), consumed[0], () -> "heap '" + str + "'");
+
+                    consumed[0] = -1;
+                    assertDecEquals(expected, fromAsciiPrefix(direct, 3, len, consumed), () -> "direct '" + str + "'");
+                    assertEquals(field.length(), consumed[0], () -> "direct '" + str + "'");
+                }
+
+                @Test
+                public void special() {
+                    assert_prefix("NaN", ",");
+                    assert_prefix("Infinity", "");
+                    assert_prefix("-Infinity", "|1");
+                    assert_prefix("+Infinity", "\u0001");
+                }
+
+                @Test
+                public void case_0001() {
+                    // FIX tag/value and CSV fields
+                    assert_prefix("101.25", "\u000110=123\u0001");
+                    assert_prefix("-0.5", ",1,2");
+                    assert_prefix("1234567812345678", ";");
+                    assert_prefix("12345678.12345678", "12345678".replace('1', ' '));
+                    assert_prefix("7", "");
+                }
+
+                @Test
+                public void case_0002() {
+                    // a trailing point is part of the number, a second one isn't
+                    assert_prefix("1.", ",");
+                    assert_prefix("1.5", ".5");
+                    assert_prefix("000.000", "-");
+                }
+
+                @Test
+                public void case_0003() {
+                    // an exponent needs at least one digit, else it isn't part of the number
+                    assert_prefix("1.5E3", ",");
+                    assert_prefix("1.5e-3", "x");
+                    assert_prefix("1.5E+3", "E3");
+                    assert_prefix("1.5", "EUR");
+                    assert_prefix("1.5", "E+");
+                    assert_prefix("1", "e");
+                }
+
+                @Test
+                public void case_0004() {
+                    // no number at the start
+                    for (var str : List.of("", ",", "-,", "+", ".x", "abc", " 1", "-NaN", "Inf,", "E3")) {
+                        var consumed = new int[1];
+                        var bytes = str.getBytes(US_ASCII);
+                        assertThrows(NumberFormatException.class, () -> fromStringPrefix(str, 0, str.length(), consumed), () -> "'" + str + "'");
+                        assertThrows(NumberFormatException.class, () -> fromAsciiPrefix(bytes, 0, bytes.length, consumed), () -> "'" + str + "'");
+                        assertThrows(NumberFormatException.class, () -> fromAsciiPrefix(ByteBuffer.wrap(bytes), 0, bytes.length, consumed), () -> "'" + str + "'");
+                    }
+                }
+
+                @Test
+                public void random_plain_string() {
+                    var rng = new Random(RNG_SEED);
+                    var delimiters = List.of(",", ";", "|", "\u0001", " ", "\n", "x", "-1");
+                    enumerate_bounds(FUZZ_N / 10, 20, 300, (mantissaBound, exponentBound) -> {
+                        var mantissa = rng.nextLong(-mantissaBound, mantissaBound);
+                        var exponent = rng.nextInt(-exponentBound, exponentBound);
+                        var field = BigDecimal.valueOf(mantissa, exponent).toPlainString();
+                        assert_prefix(field, delimiters.get(rng.nextInt(delimiters.size())));
+                    });
+                }
+            }
+
+            @Nested
+            class FromChars {
+
+                /** Asserts a char[], a StringBuilder and a String all parse the same, or throw the same message */
+                private static void assert_same_as_char_sequence(String str) {
+                    var chars = ("xyz" + str + "zyx").toCharArray();
+                    var builder = new StringBuilder(str);
+                    int len = str.length();
+
+                    long expected;
+                    try {
+                        expected = Internal.Convert.Str.fromString(builder, 0, len);
+                    } catch (NumberFormatException expectedEx) {
+                        for (Executable parse : List.<Executable>of(() -> fromString(chars, 3, len), () -> fromString(str))) {
+                            var ex = assertThrows(NumberFormatException.class, parse, () -> "'" + str + "'");
+                            assertEquals(expectedEx.getMessage(), ex.getMessage());
+                        }
+                        assertDecEquals(NAN, tryFromString(chars, 3, len, NAN), () -> "'" + str + "'");
+                        return;
+                    }
+                    assertDecEquals(expected, fromString(chars, 3, len), () -> "char[] '" + str + "'");
+                    assertDecEquals(expected, tryFromString(chars, 3, len, NAN), () -> "char[] '" + str + "'");
+                    assertDecEquals(expected, fromString(str), () -> "String '" + str + "'");
+                }
+
+                @Test
+                public void special() {
+                    for (var str : List.of("NaN", "Infinity", "-Infinity", "+Infinity", " NaN ", "0", "-0", "1.5", "1.5E3", "000.000")) {
+                        assert_same_as_char_sequence(str);
+                    }
+                }
+
+                @Test
+                public void invalid() {
+                    for (var str : List.of("", " ", "-", "+ ", ".", "1..0", "1-", "NaN0", "-NaN", "Inf", "Infinity0", "1E", "1E3.5", "1\u0131", "\u0661")) {
+                        assert_same_as_char_sequence(str);
+                    }
+                }
+
+                @Test
+                public void long_string() {
+                    // longer than the scratch buffer, parsed as a CharSequence
+                    assert_same_as_char_sequence("1" + "0".repeat(100));
+                    assert_same_as_char_sequence("0." + "0".repeat(100) + "123");
+                    assert_same_as_char_sequence(" ".repeat(100) + "1.5" + " ".repeat(100));
+                }
+
+                @Test
+                public void random_string() {
+                    var rng = new Random(RNG_SEED);
+                    enumerate_bounds(FUZZ_N / 10, 20, 300, (mantissaBound, exponentBound) -> {
+                        var mantissa = rng.nextLong(-mantissaBound, mantissaBound);
+                        var exponent = rng.nextInt(-exponentBound, exponentBound);
+                        var bigDecimal = BigDecimal.valueOf(mantissa, exponent);
+                        assert_same_as_char_sequence(rng.nextBoolean() ? bigDecimal.toPlainString() : bigDecimal.toString());
+                    });
+                }
+            }
+
+            @Nested
+            class TryFromString {
+
+                // a fallback no valid string parses to
+                private static final @Decimal long INVALID = fromParts(-1, -255);
+
+                /** Asserts each try variant gives the same Decimal as its throwing variant, or the fallback where that throws */
+                private static void assert_same_as_from_string(String str) {
+                    var bytes = ("xyz" + str).getBytes(US_ASCII);
+                    var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+                    int len = str.length();
+
+                    long expected;
+                    try {
+                        expected = fromString(str);
+                    } catch (NumberFormatException e) {
+                        expected = INVALID;
+                    }
+                    assertDecEquals(expected, tryFromString(str, INVALID), () -> "'" + str + "'");
+                    assertDecEquals(expected, tryFromString("xyz" + str, 3, len, INVALID), () -> "'" + str + "'");
+                    assertDecEquals(expected, tryFromAscii(bytes, 3, len, INVALID), () -> "byte[] '" + str + "'");
+                    assertDecEquals(expected, tryFromAscii(ByteBuffer.wrap(bytes), 3, len, INVALID), () -> "heap '" + str + "'");
+                    assertDecEquals(expected, tryFromAscii(direct, 3, len, INVALID), () -> "direct '" + str + "'");
+
+                    var consumed = new int[1];
+                    int expectedConsumed;
+                    try {
+                        expected = fromStringPrefix(str, 0, len, consumed);
+                        expectedConsumed = consumed[0];
+                    } catch (NumberFormatException e) {
+                        expected = INVALID;
+                        expectedConsumed = -1;
+                    }
+                    for (int source = 0; source < 4; source++) {
+                        consumed[0] = -1;
+                        long actual = switch (source) {
+                            case 0 -> tryFromStringPrefix("xyz" + str, 3, len, consumed, INVALID);
+                            case 1 -> tryFromAsciiPrefix(bytes, 3, len, consumed, INVALID);
+                            case 2 -> tryFromAsciiPrefix(ByteBuffer.wrap(bytes), 3, len, consumed, INVALID);
+                            default -> tryFromAsciiPrefix(direct, 3, len, consumed, INVALID);
+                        };
+                        int s = source;
+                        assertDecEquals(expected, actual, () -> "prefix " + s + " '" + str + "'");
+                        if (expected != INVALID) {
+                            assertEquals(expectedConsumed, consumed[0], () -> "prefix " + s + " '" + str + "'");
+                        }
+                    }
+                }
+
+                @Test
+                public void special() {
+                    for (var str : List.of("NaN", "Infinity", "-Infinity", "+Infinity", " NaN ", "0", "-0", "1.5", "1.5E3")) {
+                        assert_same_as_from_string(str);
+                    }
+                }
+
+                @Test
+                public void invalid() {
+                    for (var str : List.of("", " ", "-", "+ ", ".", "-.", "1..0", "1-", "--1", "1 0", "0x10", "NaN0", "-NaN",
+                            "Inf", "Infinity0", "1E", "1E+", "1E3.5", "1.5EUR", "12345678x", "1234567812345678901234567890x")) {
+                        assert_same_as_from_string(str);
+                    }
+                }
+
+                @Test
+                public void fallback_is_returned() {
+                    assertDecEquals(NAN, tryFromString("abc", NAN));
+                    assertDecEquals(ZERO, tryFromAscii("1,5".getBytes(US_ASCII), 0, 3, ZERO));
+
+                    var consumed = new int[1];
+                    assertDecEquals(ONE, tryFromAsciiPrefix(",1".getBytes(US_ASCII), 0, 2, consumed, ONE));
+                    assertEquals(0, consumed[0]);
+                }
+
+                @Test
+                public void random_garbage() {
+                    // valid strings with a random char replaced, mostly invalid
+                    var rng = new Random(RNG_SEED);
+                    var chars = "0123456789.-+eE xN";
+                    enumerate_bounds(FUZZ_N / 10, 20, 300, (mantissaBound, exponentBound) -> {
+                        var mantissa = rng.nextLong(-mantissaBound, mantissaBound);
+                        var exponent = rng.nextInt(-exponentBound, exponentBound);
+                        var sb = new StringBuilder(BigDecimal.valueOf(mantissa, exponent).toPlainString());
+                        sb.setCharAt(rng.nextInt(sb.length()), chars.charAt(rng.nextInt(chars.length())));
+                        assert_same_as_from_string(sb.toString());
+                    });
+                }
+            }
+
             @Nested
             class ToString {
 
@@ -1573,65 +2079,325 @@ public class Decimal64Test {
                     });
                 }
             }
-        }
-    }
 
-    @Nested
-    class Compare {
+            @Nested
+            class FormatTo {
+
+                /** Asserts every output form writes the same as toString(..) */
+                private static void assert_same_as_to_string(@Decimal long decimal) {
+                    String expected = Decimal64.toString(decimal);
+                    Supplier<String> msg = () -> triplet(decimal);
+                    assertEquals(expected.length(), formattedLength(decimal), msg);
+
+                    byte[] bytes = new byte[expected.length() + 5];
+                    assertEquals(expected.length() + 3, formatTo(decimal, bytes, 3), msg);
+                    assertEquals(expected, new String(bytes, 3, expected.length(), US_ASCII), msg);
+
+                    char[] chars = new char[expected.length() + 5];
+                    assertEquals(expected.length() + 2, formatTo(decimal, chars, 2), msg);
+                    assertEquals(expected, new String(chars, 2, expected.length()), msg);
+
+                    assertEquals("x=" + expected, appendTo(decimal, new StringBuilder("x=")).toString(), msg);
+                    try {
+                        assertEquals("x=" + expected, appendTo(decimal, (Appendable) new StringWriter().append("x=")).toString(), msg);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
 
-        @Nested
-        class DecimalVsZero {
+                    for (var buf : List.of(ByteBuffer.allocate(Internal.Convert.Str.MAX_STRING_LENGTH + 1), ByteBuffer.allocate(expected.length() + 1), ByteBuffer.allocateDirect(expected.length() + 1))) {
+                        buf.put((byte) 'x');
+                        Internal.Convert.Str.toString(decimal, buf);
+                        assertEquals(expected.length() + 1, buf.position(), msg);
+                        assertEquals("x" + expected, US_ASCII.decode(buf.flip()).toString(), msg);
+                    }
+                }
 
-            @Test
-            public void nan() {
-                assertFalse(isZero(NAN));
-                assertFalse(ltZero(NAN));
-                assertFalse(leZero(NAN));
-                assertTrue(geZero(NAN));
-                assertTrue(gtZero(NAN));
-            }
+                @Test
+                public void specials() {
+                    for (@Decimal long decimal : new long[]{NAN, NEGATIVE_INFINITY, POSITIVE_INFINITY, ZERO, ONE, TWO}) {
+                        assert_same_as_to_string(decimal);
+                    }
+                }
 
-            @Test
-            public void negative_infinity() {
-                assertFalse(isZero(NEGATIVE_INFINITY));
-                assertTrue(ltZero(NEGATIVE_INFINITY));
-                assertTrue(leZero(NEGATIVE_INFINITY));
-                assertFalse(geZero(NEGATIVE_INFINITY));
-                assertFalse(gtZero(NEGATIVE_INFINITY));
-            }
+                @Test
+                public void longest() {
+                    @Decimal long longest = fromParts(-MAX_MANTISSA, MIN_EXPONENT);
+                    assertEquals(Internal.Convert.Str.MAX_STRING_LENGTH, Decimal64.toString(longest).length());
+                    assert_same_as_to_string(longest);
+                    assert_same_as_to_string(fromParts(-1, MAX_EXPONENT));
+                    assert_same_as_to_string(fromParts(MAX_MANTISSA, MAX_EXPONENT));
+                    assert_same_as_to_string(fromParts(-1234567890123456L, 15));
+                    assert_same_as_to_string(fromParts(1000000000000001L, 15));
+                }
 
-            @Test
-            public void positive_infinity() {
-                assertFalse(isZero(POSITIVE_INFINITY));
-                assertFalse(ltZero(POSITIVE_INFINITY));
-                assertFalse(leZero(POSITIVE_INFINITY));
-                assertTrue(geZero(POSITIVE_INFINITY));
-                assertTrue(gtZero(POSITIVE_INFINITY));
-            }
+                @Test
+                public void too_small() {
+                    @Decimal long decimal = fromParts(-12345, 2);
+                    assertThrows(IndexOutOfBoundsException.class, () -> formatTo(decimal, new byte[6], 0));
+                    assertThrows(IndexOutOfBoundsException.class, () -> formatTo(decimal, new char[7], 1));
+                    var buf = ByteBuffer.allocate(6);
+                    assertThrows(BufferOverflowException.class, () -> Internal.Convert.Str.toString(decimal, buf));
+                    assertEquals(0, buf.position());
+                }
 
-            @Test
-            public void zero() {
-                assertTrue(isZero(ZERO));
-                assertFalse(ltZero(ZERO));
-                assertTrue(leZero(ZERO));
-                assertTrue(geZero(ZERO));
-                assertFalse(gtZero(ZERO));
+                @Test
+                public void random() {
+                    fuzz(FUZZ_N, FormatTo::assert_same_as_to_string);
+                }
             }
 
-            @Test
-            public void one() {
-                assertFalse(isZero(ONE));
-                assertFalse(ltZero(ONE));
-                assertFalse(leZero(ONE));
-                assertTrue(geZero(ONE));
-                assertTrue(gtZero(ONE));
-            }
+            @Nested
+            class FormatFixed {
 
-            @Test
-            public void random() {
-                fuzz(FUZZ_N, decimal -> {
-                    var expected = toBigDecimal(decimal).compareTo(BigDecimal.ZERO);
-                    switch (expected) {
+                /** Asserts every output form writes the expected string */
+                private static void assert_fixed(String expected, @Decimal long decimal, int scale, RoundingMode roundingMode, int width) {
+                    Supplier<String> msg = () -> triplet(decimal) + " scale " + scale + " " + roundingMode + " width " + width;
+                    assertEquals(expected.length(), formattedFixedLength(decimal, scale, roundingMode, width), msg);
+
+                    byte[] bytes = new byte[expected.length() + 5];
+                    assertEquals(expected.length() + 3, formatFixed(decimal, scale, roundingMode, width, bytes, 3), msg);
+                    assertEquals(expected, new String(bytes, 3, expected.length(), US_ASCII), msg);
+
+                    char[] chars = new char[expected.length() + 5];
+                    assertEquals(expected.length() + 2, formatFixed(decimal, scale, roundingMode, width, chars, 2), msg);
+                    assertEquals(expected, new String(chars, 2, expected.length()), msg);
+
+                    assertEquals("x=" + expected, appendFixed(decimal, scale, roundingMode, width, new StringBuilder("x=")).toString(), msg);
+                }
+
+                @Test
+                public void examples() {
+                    assert_fixed("101.2500", fromParts(10125, 2), 4, RoundingMode.HALF_EVEN, 0);
+                    assert_fixed("  101.25", fromParts(10125, 2), 2, RoundingMode.HALF_EVEN, 8);
+                    assert_fixed("101.0250", fromParts(101025, 3), 4, RoundingMode.HALF_EVEN, 0);
+                    assert_fixed("101.02", fromParts(101025, 3), 2, RoundingMode.HALF_EVEN, 3);
+                    assert_fixed("101.03", fromParts(101025, 3), 2, RoundingMode.HALF_UP, 0);
+                    assert_fixed("-101.03", fromParts(-101025, 3), 2, RoundingMode.FLOOR, 0);
+                    assert_fixed("101", fromParts(101025, 3), 0, RoundingMode.DOWN, 0);
+                    assert_fixed("31400.0", fromParts(314, -2), 1, RoundingMode.HALF_EVEN, 0);
+                    assert_fixed("0.000", ZERO, 3, RoundingMode.HALF_EVEN, 0);
+                    assert_fixed("0.00", fromParts(-4, 3), 2, RoundingMode.HALF_EVEN, 0);
+                    assert_fixed("-0.01", fromParts(-5, 3), 2, RoundingMode.HALF_UP, 0);
+                    assert_fixed("0.00012300", fromParts(123, 6), 8, RoundingMode.HALF_EVEN, 0);
+                    assert_fixed("10.0", fromParts(99999, 4), 1, RoundingMode.HALF_EVEN, 0);
+                    assert_fixed("      NaN", NAN, 2, RoundingMode.HALF_EVEN, 9);
+                    assert_fixed("-Infinity", NEGATIVE_INFINITY, 2, RoundingMode.HALF_EVEN, 0);
+
+                    @Decimal long longest = fromParts(-MAX_MANTISSA, MIN_EXPONENT);
+                    var fixed = "-" + MAX_MANTISSA + "0".repeat(-MIN_EXPONENT) + "." + "0".repeat(MAX_EXPONENT);
+                    assertEquals(Internal.Convert.Str.MAX_FIXED_STRING_LENGTH, fixed.length());
+                    assert_fixed(fixed, longest, MAX_EXPONENT, RoundingMode.HALF_EVEN, 0);
+                }
+
+                @Test
+                public void invalid() {
+                    byte[] bytes = new byte[1000];
+                    assertThrows(IllegalArgumentException.class, () -> formatFixed(ONE, -1, RoundingMode.HALF_EVEN, 0, bytes, 0));
+                    assertThrows(IllegalArgumentException.class, () -> formatFixed(ONE, MAX_EXPONENT + 1, RoundingMode.HALF_EVEN, 0, bytes, 0));
+                    assertThrows(IllegalArgumentException.class, () -> formatFixed(ONE, 2, RoundingMode.HALF_EVEN, -1, bytes, 0));
+                    assertThrows(IllegalArgumentException.class, () -> formattedFixedLength(ONE, -1, RoundingMode.HALF_EVEN, 0));
+                    assertThrows(IllegalArgumentException.class, () -> formattedFixedLength(ONE, 2, RoundingMode.HALF_EVEN, -1));
+                    assertThrows(ArithmeticException.class, () -> formatFixed(fromParts(125, 2), 1, RoundingMode.UNNECESSARY, 0, bytes, 0));
+                    assertThrows(IndexOutOfBoundsException.class, () -> formatFixed(fromParts(125, 2), 2, RoundingMode.HALF_EVEN, 6, new byte[5], 0));
+                    assertThrows(IndexOutOfBoundsException.class, () -> formatFixed(fromParts(125, 2), 2, RoundingMode.HALF_EVEN, 6, new char[5], 0));
+                }
+
+                @Test
+                public void random() {
+                    // same as BigDecimal.setScale(..)
+                    var rng = new Random(RNG_SEED);
+                    var roundingModes = List.of(RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN);
+                    fuzz(FUZZ_N, decimal -> {
+                        int scale = rng.nextBoolean() ? rng.nextInt(0, 20) : rng.nextInt(0, MAX_EXPONENT + 1);
+                        var roundingMode = roundingModes.get(rng.nextInt(roundingModes.size()));
+                        var plain = toBigDecimal(decimal).setScale(scale, roundingMode).toPlainString();
+                        int width = rng.nextInt(0, plain.length() + 5);
+                        var expected = " ".repeat(Math.max(width - plain.length(), 0)) + plain;
+                        assert_fixed(expected, decimal, scale, roundingMode, width);
+                    });
+                }
+            }
+
+            @Nested
+            class FormatScientific {
+
+                /** The expected scientific or engineering string, built from BigDecimal's digits */
+                private static String scientific(@Decimal long decimal, boolean engineering) {
+                    if (!isFinite(decimal)) {
+                        return Decimal64.toString(decimal);
+                    }
+                    var bd = toBigDecimal(decimal).stripTrailingZeros();
+                    if (bd.signum() == 0) {
+                        return "0E+0";
+                    }
+                    var digits = bd.unscaledValue().abs().toString();
+                    int power = bd.precision() - bd.scale() - 1;
+                    int nIntDigits = 1;
+                    if (engineering) {
+                        int engineeringPower = Math.floorDiv(power, 3) * 3;
+                        nIntDigits += power - engineeringPower;
+                        power = engineeringPower;
+                    }
+                    var intDigits = digits.length() > nIntDigits ? digits.substring(0, nIntDigits) + "." + digits.substring(nIntDigits) : digits + "0".repeat(nIntDigits - digits.length());
+                    return (bd.signum() < 0 ? "-" : "") + intDigits + "E" + (power < 0 ? "-" : "+") + Math.abs(power);
+                }
+
+                private static void assert_format(String expected, @Decimal long decimal, String method, FormatFn fn, LengthFn lengthFn) {
+                    assertEquals(expected.length(), lengthFn.length(decimal), () -> method + " length " + triplet(decimal));
+                    byte[] bytes = new byte[expected.length() + 5];
+                    assertEquals(expected.length() + 3, fn.format(decimal, bytes, 3), () -> method + " " + triplet(decimal));
+                    assertEquals(expected, new String(bytes, 3, expected.length(), US_ASCII), () -> method + " " + triplet(decimal));
+                }
+
+                interface FormatFn {
+                    int format(@Decimal long decimal, byte[] dst, int offset);
+                }
+
+                interface LengthFn {
+                    int length(@Decimal long decimal);
+                }
+
+                @Test
+                public void specials() {
+                    for (@Decimal long decimal : new long[]{NAN, NEGATIVE_INFINITY, POSITIVE_INFINITY, ZERO, ONE, TWO}) {
+                        assert_format(scientific(decimal, false), decimal, "scientific", Decimal64::formatScientific, Decimal64::formattedScientificLength);
+                        assert_format(scientific(decimal, true), decimal, "engineering", Decimal64::formatEngineering, Decimal64::formattedEngineeringLength);
+                        assert_format(Decimal64.toString(decimal), decimal, "shortest", Decimal64::formatShortest, d -> formattedShortestLength(d, Internal.Convert.Str.DEFAULT_MAX_PLAIN_ZEROS));
+                    }
+                }
+
+                @Test
+                public void examples() {
+                    assertEquals("1.25E+7", toScientificString(fromParts(125, -5)));
+                    assertEquals("-3E-250", toScientificString(fromParts(-3, 250)));
+                    assertEquals("1.2345E+0", toScientificString(fromParts(12345, 4)));
+                    assertEquals("1.25E+1", toScientificString(fromParts(12500, 3)));
+                    assertEquals("0E+0", toScientificString(ZERO));
+                    assertEquals("NaN", toScientificString(NAN));
+                    assertEquals("-Infinity", toScientificString(NEGATIVE_INFINITY));
+
+                    assertEquals("12.5E+6", toEngineeringString(fromParts(125, -5)));
+                    assertEquals("-3E-249", toEngineeringString(fromParts(-3, 249)));
+                    assertEquals("-300E-252", toEngineeringString(fromParts(-3, 250)));
+                    assertEquals("123.45E+0", toEngineeringString(fromParts(12345, 2)));
+                    assertEquals("1.2345E+3", toEngineeringString(fromParts(12345, 1)));
+                    assertEquals("100E+3", toEngineeringString(fromParts(1, -5)));
+                    assertEquals("0E+0", toEngineeringString(ZERO));
+                    assertEquals("+Infinity", toEngineeringString(POSITIVE_INFINITY));
+
+                    @Decimal long longest = fromParts(-MAX_MANTISSA, MIN_EXPONENT);
+                    assertEquals("-9.999999999999999E+270", toScientificString(longest));
+                    assertEquals(Internal.Convert.Str.MAX_SCIENTIFIC_STRING_LENGTH, toScientificString(longest).length());
+                    assertEquals("-1.234567890123456E-240", toScientificString(fromParts(-1_234_567_890_123_456L, MAX_EXPONENT)));
+                    assertEquals("-1.234567890123456E-240", toEngineeringString(fromParts(-1_234_567_890_123_456L, MAX_EXPONENT)));
+                    assertEquals("-123.4567890123456E-240", toEngineeringString(fromParts(-1_234_567_890_123_456L, MAX_EXPONENT - 2)));
+                }
+
+                @Test
+                public void shortest() {
+                    assertEquals("0.000000125", toShortestString(fromParts(125, 9)));
+                    assertEquals("1.25E-8", toShortestString(fromParts(125, 10)));
+                    assertEquals("125000000", toShortestString(fromParts(125, -6)));
+                    assertEquals("1.25E+9", toShortestString(fromParts(125, -7)));
+                    assertEquals("-1234567890.123456", toShortestString(fromParts(-1_234_567_890_123_456L, 6)));
+                    assertEquals("0", toShortestString(ZERO));
+                    assertEquals("NaN", toShortestString(NAN));
+
+                    byte[] bytes = new byte[Internal.Convert.Str.MAX_SCIENTIFIC_STRING_LENGTH];
+                    int len = formatShortest(fromParts(125, 4), 0, bytes, 0);
+                    assertEquals("1.25E-2", new String(bytes, 0, len, US_ASCII));
+                    len = formatShortest(fromParts(125, 3), 0, bytes, 0);
+                    assertEquals("0.125", new String(bytes, 0, len, US_ASCII));
+                    assertThrows(IllegalArgumentException.class, () -> formatShortest(ONE, -1, bytes, 0));
+                    assertThrows(IllegalArgumentException.class, () -> formattedShortestLength(ONE, -1));
+                    assertEquals(7, formattedShortestLength(fromParts(125, 4), 0));
+                    assertEquals(5, formattedShortestLength(fromParts(125, 3), 0));
+
+                    var longest = "-0.000000" + MAX_MANTISSA;
+                    assertEquals(Internal.Convert.Str.MAX_SHORTEST_STRING_LENGTH, longest.length());
+                    assertEquals(longest, toShortestString(fromParts(-MAX_MANTISSA, 22)));
+                }
+
+                @Test
+                public void random() {
+                    // same digits as BigDecimal, and parses back to the same Decimal
+                    fuzz(FUZZ_N, decimal -> {
+                        var sci = scientific(decimal, false);
+                        assert_format(sci, decimal, "scientific", Decimal64::formatScientific, Decimal64::formattedScientificLength);
+                        assertEquals(sci, toScientificString(decimal));
+                        assertTrue(equal(decimal, fromString(sci)), () -> sci);
+
+                        var eng = scientific(decimal, true);
+                        assert_format(eng, decimal, "engineering", Decimal64::formatEngineering, Decimal64::formattedEngineeringLength);
+                        assertEquals(eng, toEngineeringString(decimal));
+                        assertTrue(equal(decimal, fromString(eng)), () -> eng);
+
+                        var shortest = toShortestString(decimal);
+                        assertTrue(shortest.equals(Decimal64.toString(decimal)) || shortest.equals(sci), () -> shortest);
+                        assertTrue(shortest.length() <= Internal.Convert.Str.MAX_SHORTEST_STRING_LENGTH, () -> shortest);
+                        assert_format(shortest, decimal, "shortest", Decimal64::formatShortest, d -> formattedShortestLength(d, Internal.Convert.Str.DEFAULT_MAX_PLAIN_ZEROS));
+                    });
+                }
+            }
+        }
+    }
+
+    @Nested
+    class Compare {
+
+        @Nested
+        class DecimalVsZero {
+
+            @Test
+            public void nan() {
+                assertFalse(isZero(NAN));
+                assertFalse(ltZero(NAN));
+                assertFalse(leZero(NAN));
+                assertTrue(geZero(NAN));
+                assertTrue(gtZero(NAN));
+            }
+
+            @Test
+            public void negative_infinity() {
+                assertFalse(isZero(NEGATIVE_INFINITY));
+                assertTrue(ltZero(NEGATIVE_INFINITY));
+                assertTrue(leZero(NEGATIVE_INFINITY));
+                assertFalse(geZero(NEGATIVE_INFINITY));
+                assertFalse(gtZero(NEGATIVE_INFINITY));
+            }
+
+            @Test
+            public void positive_infinity() {
+                assertFalse(isZero(POSITIVE_INFINITY));
+                assertFalse(ltZero(POSITIVE_INFINITY));
+                assertFalse(leZero(POSITIVE_INFINITY));
+                assertTrue(geZero(POSITIVE_INFINITY));
+                assertTrue(gtZero(POSITIVE_INFINITY));
+            }
+
+            @Test
+            public void zero() {
+                assertTrue(isZero(ZERO));
+                assertFalse(ltZero(ZERO));
+                assertTrue(leZero(ZERO));
+                assertTrue(geZero(ZERO));
+                assertFalse(gtZero(ZERO));
+            }
+
+            @Test
+            public void one() {
+                assertFalse(isZero(ONE));
+                assertFalse(ltZero(ONE));
+                assertFalse(leZero(ONE));
+                assertTrue(geZero(ONE));
+                assertTrue(gtZero(ONE));
+            }
+
+            @Test
+            public void random() {
+                fuzz(FUZZ_N, decimal -> {
+                    var expected = toBigDecimal(decimal).compareTo(BigDecimal.ZERO);
+                    switch (expected) {
                         case -1 -> {
                             assertFalse(isZero(decimal), triplet(decimal));
                             assertTrue(ltZero(decimal), triplet(decimal));
@@ -2741,6 +3507,46 @@ public class Decimal64Test {
                     assertEquals(expected, toBigDecimal(add(b, a)), () -> Decimal64.tuple(b) + " + " + Decimal64.tuple(a));
                 });
             }
+
+            @Test
+            public void rounding_mode_far_apart() {
+                // 1 + 1e-30, the small value can only nudge the result with directed rounding
+                var a = ONE;
+                var b = fromParts(1, 30);
+                assertDecEquals(ONE, add(a, b, RoundingMode.HALF_EVEN));
+                assertDecEquals(ONE, add(a, b, RoundingMode.DOWN));
+                assertDecEquals(fromParts(1000000000000001L, 15), add(a, b, RoundingMode.UP));
+                assertDecEquals(fromParts(1000000000000001L, 15), add(a, b, RoundingMode.CEILING));
+                assertDecEquals(ONE, add(a, b, RoundingMode.FLOOR));
+
+                // 1 - 1e-30
+                var c = fromParts(-1, 30);
+                assertDecEquals(ONE, add(a, c, RoundingMode.HALF_EVEN));
+                assertDecEquals(fromParts(9999999999999999L, 16), add(a, c, RoundingMode.DOWN));
+                assertDecEquals(ONE, add(a, c, RoundingMode.UP));
+                assertDecEquals(fromParts(9999999999999999L, 16), add(a, c, RoundingMode.FLOOR));
+                assertThrows(ArithmeticException.class, () -> add(a, c, RoundingMode.UNNECESSARY));
+            }
+
+            @Test
+            public void rounding_mode_exact() {
+                var a = fromParts(12345, 2);
+                var b = fromParts(-5, 3);
+                assertDecEquals(fromParts(123445, 3), add(a, b, RoundingMode.UNNECESSARY));
+            }
+
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, (a, b) -> {
+                    var roundingMode = ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size()));
+                    var mathContext = new MathContext(PRECISION, roundingMode);
+
+                    var expected = expectedDecimal(toBigDecimal(a).add(toBigDecimal(b), mathContext), roundingMode);
+
+                    assertDecEquals(expected, add(a, b, roundingMode), () -> Decimal64.toString(a) + " + " + Decimal64.toString(b) + " " + roundingMode);
+                });
+            }
         }
 
         @Nested
@@ -3099,6 +3905,19 @@ public class Decimal64Test {
                     assertEquals(expected, toBigDecimal(sub(a, b)), () -> Decimal64.toString(a) + " - " + Decimal64.toString(b));
                 });
             }
+
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, (a, b) -> {
+                    var roundingMode = ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size()));
+                    var mathContext = new MathContext(PRECISION, roundingMode);
+
+                    var expected = expectedDecimal(toBigDecimal(a).subtract(toBigDecimal(b), mathContext), roundingMode);
+
+                    assertDecEquals(expected, sub(a, b, roundingMode), () -> Decimal64.toString(a) + " - " + Decimal64.toString(b) + " " + roundingMode);
+                });
+            }
         }
 
         @Nested
@@ -3526,6 +4345,40 @@ public class Decimal64Test {
                 assertDecEquals(expected, mul(b, a));
             }
 
+            @Test
+            public void case_0035() {
+                // 9999999999999999 * 9999999999999999 = 99999999999999980000000000000001 -> 9999999999999998e16
+                var a = fromParts(9999999999999999L, 0);
+                var b = fromParts(9999999999999999L, 0);
+                var expected = fromParts(9999999999999998L, -16);
+
+                assertDecEquals(expected, mul(a, b));
+                assertDecEquals(expected, mul(b, a));
+            }
+
+            @Test
+            public void case_0036() {
+                // 1427737735257653 * -2814406799372326 = -4018234789829584500000287910878 -> -4018234789829585e15
+                // looks like a tie at 18 digits, but the trailing digits break it
+                var a = fromParts(1427737735257653L, 0);
+                var b = fromParts(-2814406799372326L, 0);
+                var expected = fromParts(-4018234789829585L, -15);
+
+                assertDecEquals(expected, mul(a, b));
+                assertDecEquals(expected, mul(b, a));
+            }
+
+            @Test
+            public void case_0037() {
+                // 7404220693153175e-20 * 9426418818473198e-3 = 69795285278067755000005846103650e-23 -> 6979528527806776e-7
+                var a = fromParts(7404220693153175L, 20);
+                var b = fromParts(9426418818473198L, 3);
+                var expected = fromParts(6979528527806776L, 7);
+
+                assertDecEquals(expected, mul(a, b));
+                assertDecEquals(expected, mul(b, a));
+            }
+
             @Test
             public void random() {
                 fuzz(FUZZ_N, (a, b) -> {
@@ -3552,6 +4405,19 @@ public class Decimal64Test {
                     assertEquals(expected, toBigDecimal(mul(b, a)), () -> Decimal64.toString(b) + " * " + Decimal64.toString(a));
                 });
             }
+
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, (a, b) -> {
+                    var roundingMode = ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size()));
+                    var mathContext = new MathContext(PRECISION, roundingMode);
+
+                    var expected = expectedDecimal(toBigDecimal(a).multiply(toBigDecimal(b), mathContext), roundingMode);
+
+                    assertDecEquals(expected, mul(a, b, roundingMode), () -> Decimal64.toString(a) + " * " + Decimal64.toString(b) + " " + roundingMode);
+                });
+            }
         }
 
         @Nested
@@ -3950,6 +4816,47 @@ public class Decimal64Test {
                 assertDecEquals(expected, div(a, b));
             }
 
+            @Test
+            public void case_0035() {
+                // 9999999999999999 / 2 = 4999999999999999.5 -> 5000000000000000 (tie, round to even)
+                var a = fromParts(9999999999999999L, 0);
+                var b = fromParts(2, 0);
+                var expected = fromParts(5, -15);
+
+                assertDecEquals(expected, div(a, b));
+            }
+
+            @Test
+            public void case_0036() {
+                // -9999999999999997 / 2 = -4999999999999998.5 -> -4999999999999998 (tie, round to even)
+                var a = fromParts(-9999999999999997L, 0);
+                var b = fromParts(2, 0);
+                var expected = fromParts(-4999999999999998L, 0);
+
+                assertDecEquals(expected, div(a, b));
+            }
+
+            @Test
+            public void case_0037() {
+                // 1224483291044168 / 7986548647107872 = 0.15331820353809325000007588... -> 0.1533182035380933
+                // looks like a tie at 18 digits, but the remainder breaks it
+                var a = fromParts(1224483291044168L, 0);
+                var b = fromParts(7986548647107872L, 0);
+                var expected = fromParts(1533182035380933L, 16);
+
+                assertDecEquals(expected, div(a, b));
+            }
+
+            @Test
+            public void case_0038() {
+                // 774382961218794e-5 / -441348486011345e-5 = -1.7545839303023875000008936... -> -1.754583930302388
+                var a = fromParts(774382961218794L, 5);
+                var b = fromParts(-441348486011345L, 5);
+                var expected = fromParts(-1754583930302388L, 15);
+
+                assertDecEquals(expected, div(a, b));
+            }
+
             @Test
             public void random() {
                 fuzz(FUZZ_N, (a, b) -> {
@@ -3980,25 +4887,42 @@ public class Decimal64Test {
                 });
             }
 
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, (a, b) -> {
+                    var roundingMode = ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size()));
+                    var mathContext = new MathContext(PRECISION, roundingMode);
+
+                    if (b == ZERO) {
+                        assertDecEquals(NAN, div(a, b, roundingMode));
+                        return;
+                    }
+                    var expected = expectedDecimal(toBigDecimal(a).divide(toBigDecimal(b), mathContext), roundingMode);
+
+                    assertDecEquals(expected, div(a, b, roundingMode), () -> Decimal64.toString(a) + " / " + Decimal64.toString(b) + " " + roundingMode);
+                });
+            }
+
             @Nested
             class Round {
 
                 @Test
                 public void nan() {
                     var ex = assertThrows(IllegalArgumentException.class, () -> round(NAN, 0));
-                    assertEquals("Can't convert non-finite decimal NaN to BigDecimal", ex.getMessage());
+                    assertEquals("Can't round non-finite decimal: NaN", ex.getMessage());
                 }
 
                 @Test
                 public void negative_infinity() {
                     var ex = assertThrows(IllegalArgumentException.class, () -> round(NEGATIVE_INFINITY, 0));
-                    assertEquals("Can't convert non-finite decimal -Infinity to BigDecimal", ex.getMessage());
+                    assertEquals("Can't round non-finite decimal: -Infinity", ex.getMessage());
                 }
 
                 @Test
                 public void positive_infinity() {
                     var ex = assertThrows(IllegalArgumentException.class, () -> round(POSITIVE_INFINITY, 0));
-                    assertEquals("Can't convert non-finite decimal +Infinity to BigDecimal", ex.getMessage());
+                    assertEquals("Can't round non-finite decimal: +Infinity", ex.getMessage());
                 }
 
                 @Test
@@ -4023,6 +4947,47 @@ public class Decimal64Test {
                     assertEquals(expected, round(x, 2));
                 }
 
+                @Test
+                public void case_0003() {
+                    // -2.5 rounded to 0 fractional digits with each rounding mode
+                    var x = fromParts(-25, 1);
+                    assertDecEquals(fromParts(-3, 0), round(x, 0, RoundingMode.UP));
+                    assertDecEquals(fromParts(-2, 0), round(x, 0, RoundingMode.DOWN));
+                    assertDecEquals(fromParts(-2, 0), round(x, 0, RoundingMode.CEILING));
+                    assertDecEquals(fromParts(-3, 0), round(x, 0, RoundingMode.FLOOR));
+                    assertDecEquals(fromParts(-3, 0), round(x, 0, RoundingMode.HALF_UP));
+                    assertDecEquals(fromParts(-2, 0), round(x, 0, RoundingMode.HALF_DOWN));
+                    assertDecEquals(fromParts(-2, 0), round(x, 0, RoundingMode.HALF_EVEN));
+                    assertThrows(ArithmeticException.class, () -> round(x, 0, RoundingMode.UNNECESSARY));
+                }
+
+                @Test
+                public void case_0004() {
+                    // 0.0000001 rounded to 2 fractional digits, all digits are dropped
+                    var x = fromParts(1, 7);
+                    assertDecEquals(fromParts(1, 2), round(x, 2, RoundingMode.UP));
+                    assertDecEquals(fromParts(1, 2), round(x, 2, RoundingMode.CEILING));
+                    assertDecEquals(ZERO, round(x, 2, RoundingMode.FLOOR));
+                    assertDecEquals(ZERO, round(x, 2, RoundingMode.HALF_UP));
+                }
+
+                @Test
+                public void case_0005() {
+                    // 9999999999999999e255 rounded up to 10^-271 overflows
+                    var x = fromParts(9999999999999999L, -255);
+                    assertDecEquals(POSITIVE_INFINITY, round(x, -271, RoundingMode.UP));
+                    assertDecEquals(ZERO, round(x, -271, RoundingMode.DOWN));
+                }
+
+                @Test
+                public void unnecessary() {
+                    var x = fromParts(314159, 5);
+                    assertDecEquals(x, round(x, 5, RoundingMode.UNNECESSARY));
+                    assertDecEquals(x, round(x, 10, RoundingMode.UNNECESSARY));
+                    var ex = assertThrows(ArithmeticException.class, () -> round(x, 4, RoundingMode.UNNECESSARY));
+                    assertEquals("Rounding necessary", ex.getMessage());
+                }
+
                 @Test
                 @SuppressWarnings("fenum:binary")
                 public void random() {
@@ -4034,6 +4999,931 @@ public class Decimal64Test {
                         assertEquals(expected, round(decimal, exponent));
                     });
                 }
+
+                @Test
+                @SuppressWarnings({"fenum:binary", "fenum:return"})
+                public void random_rounding_modes() {
+                    var roundingModes = List.of(
+                            RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                            RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+                    );
+                    fuzz(FUZZ_N, decimal -> {
+                        int exponent = (int) (decimal % 300);
+                        var roundingMode = roundingModes.get((int) Math.abs(decimal % roundingModes.size()));
+                        var bigDecimal = toBigDecimal(decimal).setScale(exponent, roundingMode);
+                        var expected = fromBigDecimal(bigDecimal);
+
+                        assertDecEquals(expected, round(decimal, exponent, roundingMode), () -> Decimal64.toString(decimal) + " " + exponent + " " + roundingMode);
+                    });
+                }
+            }
+        }
+
+        @Nested
+        class Fma {
+
+            @Test
+            public void nan() {
+                assertDecEquals(NAN, fma(NAN, ONE, ONE));
+                assertDecEquals(NAN, fma(ONE, NAN, ONE));
+                assertDecEquals(NAN, fma(ONE, ONE, NAN));
+                assertDecEquals(NAN, fma(POSITIVE_INFINITY, ONE, NAN));
+            }
+
+            @Test
+            public void infinity_times_zero() {
+                assertDecEquals(NAN, fma(POSITIVE_INFINITY, ZERO, ONE));
+                assertDecEquals(NAN, fma(ZERO, NEGATIVE_INFINITY, ONE));
+                assertDecEquals(NAN, fma(POSITIVE_INFINITY, ZERO, POSITIVE_INFINITY));
+            }
+
+            @Test
+            public void infinity_plus_infinity() {
+                assertDecEquals(NAN, fma(POSITIVE_INFINITY, ONE, NEGATIVE_INFINITY));
+                assertDecEquals(NAN, fma(NEGATIVE_INFINITY, NEGATIVE_INFINITY, NEGATIVE_INFINITY));
+                assertDecEquals(NEGATIVE_INFINITY, fma(POSITIVE_INFINITY, fromParts(-1, 0), NEGATIVE_INFINITY));
+                assertDecEquals(POSITIVE_INFINITY, fma(NEGATIVE_INFINITY, fromParts(-1, 0), ONE));
+            }
+
+            @Test
+            public void finite_product_plus_infinity() {
+                assertDecEquals(POSITIVE_INFINITY, fma(ONE, ONE, POSITIVE_INFINITY));
+                // the product would overflow, but is exact in fma
+                var big = fromParts(1, -200);
+                assertDecEquals(NEGATIVE_INFINITY, fma(big, big, NEGATIVE_INFINITY));
+            }
+
+            @Test
+            public void zero() {
+                var c = fromParts(-12345, 3);
+                assertDecEquals(c, fma(ZERO, fromParts(7, 0), c));
+                assertDecEquals(c, fma(fromParts(7, 0), ZERO, c));
+                assertDecEquals(mul(fromParts(7, 0), c), fma(fromParts(7, 0), c, ZERO));
+            }
+
+            @Test
+            public void case_0001() {
+                // 1.00000001 * 1.00000001 - 1.00000002 = 1e-16, but mul(..) rounds the product to 1.00000002
+                var a = fromParts(100000001, 8);
+                var c = fromParts(-100000002, 8);
+                var expected = fromParts(1, 16);
+
+                assertDecEquals(ZERO, add(mul(a, a), c));
+                assertDecEquals(expected, fma(a, a, c));
+            }
+
+            @Test
+            public void case_0002() {
+                // 3 * 7 - 21 = 0
+                assertDecEquals(ZERO, fma(fromParts(3, 0), fromParts(7, 0), fromParts(-21, 0)));
+                assertDecEquals(ZERO, fma(fromParts(-3, 0), fromParts(7, 0), fromParts(21, 0)));
+            }
+
+            @Test
+            public void case_0003() {
+                // 9999999999999999 * 9999999999999999 - 9999999999999998e16 = 1
+                var a = fromParts(9999999999999999L, 0);
+                var c = fromParts(-9999999999999998L, -16);
+
+                assertDecEquals(ONE, fma(a, a, c));
+            }
+
+            @Test
+            public void case_0004() {
+                // 1e-200 * 1e-100 + 1 = 1 + 1e-300, only visible when rounding up
+                var a = fromParts(1, 200);
+                var b = fromParts(1, 100);
+
+                assertDecEquals(ONE, fma(a, b, ONE));
+                assertDecEquals(fromParts(1000000000000001L, 15), fma(a, b, ONE, RoundingMode.CEILING));
+                assertDecEquals(fromParts(9999999999999999L, 16), fma(a, fromParts(-1, 100), ONE, RoundingMode.DOWN));
+            }
+
+            @Test
+            public void case_0005() {
+                // 5 * 1e-16 + 1 = 1.0000000000000005 -> 1.000000000000000 (half even), with a far sticky digit -> 1.000000000000001
+                var b = fromParts(1, 16);
+                var c = ONE;
+
+                assertDecEquals(ONE, fma(fromParts(5, 0), b, c));
+                assertDecEquals(fromParts(1000000000000001L, 15), fma(fromParts(5000000000000001L, 15), b, c));
+            }
+
+            @Test
+            public void case_0006() {
+                // 1e16 * 1 - 5e-17: the far negative addend borrows from the product -> 9999999999999999.99..95 -> 1e16
+                var a = fromParts(1, -16);
+                var c = fromParts(-5, 17);
+
+                assertDecEquals(fromParts(1, -16), fma(a, ONE, c));
+                assertDecEquals(fromParts(9999999999999999L, 0), fma(a, ONE, c, RoundingMode.DOWN));
+            }
+
+            @SuppressWarnings({"fenum:return"})
+            private static void assertFma(@Decimal long a, @Decimal long b, @Decimal long c, RoundingMode roundingMode) {
+                if (!Internal.Data.isFinite(c)) {
+                    // e.g. 9156643874772260e255 overflows when normalized
+                    assertDecEquals(c, fma(a, b, c, roundingMode));
+                    return;
+                }
+
+                var mathContext = new MathContext(PRECISION, roundingMode);
+                var expected = expectedDecimal(toBigDecimal(a).multiply(toBigDecimal(b)).add(toBigDecimal(c), mathContext), roundingMode);
+
+                assertDecEquals(expected, fma(a, b, c, roundingMode), () -> Decimal64.toString(a) + " * " + Decimal64.toString(b) + " + " + Decimal64.toString(c) + " " + roundingMode);
+            }
+
+            private static @Decimal long randomAddend(Random rng, @Decimal long a, @Decimal long b) {
+                switch (rng.nextInt(3)) {
+                    case 0: {
+                        // cancels most or all of the product
+                        var product = mul(a, b);
+                        if (Internal.Data.isFinite(product)) {
+                            return negate(product);
+                        }
+                        break;
+                    }
+                    case 1: {
+                        // overlaps the product
+                        int exponent = getExponent(a) + getExponent(b) + rng.nextInt(-20, 21);
+                        return fromParts(rng.nextLong(-MAX_MANTISSA, MAX_MANTISSA), Math.max(MIN_EXPONENT, Math.min(MAX_EXPONENT, exponent)));
+                    }
+                }
+                return fromParts(rng.nextLong(-MAX_MANTISSA, MAX_MANTISSA), rng.nextInt(MIN_EXPONENT, MAX_EXPONENT + 1));
+            }
+
+            @Test
+            public void random() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, (a, b) -> assertFma(a, b, randomAddend(rng, a, b), RoundingMode.HALF_EVEN));
+            }
+
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, (a, b) -> assertFma(a, b, randomAddend(rng, a, b), ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size()))));
+            }
+        }
+
+        @Nested
+        class MulDiv {
+
+            @Test
+            public void nan() {
+                assertDecEquals(NAN, mulDiv(NAN, ONE, ONE));
+                assertDecEquals(NAN, mulDiv(ONE, NAN, ONE));
+                assertDecEquals(NAN, mulDiv(ONE, ONE, NAN));
+                assertDecEquals(NAN, mulDiv(POSITIVE_INFINITY, ZERO, ONE));
+            }
+
+            @Test
+            public void div_by_zero() {
+                assertDecEquals(NAN, mulDiv(ONE, ONE, ZERO));
+                assertDecEquals(NAN, mulDiv(ZERO, ONE, ZERO));
+                assertDecEquals(NAN, mulDiv(POSITIVE_INFINITY, ONE, ZERO));
+            }
+
+            @Test
+            public void infinity() {
+                assertDecEquals(POSITIVE_INFINITY, mulDiv(POSITIVE_INFINITY, ONE, fromParts(2, 0)));
+                assertDecEquals(NAN, mulDiv(POSITIVE_INFINITY, ONE, NEGATIVE_INFINITY));
+                assertDecEquals(ZERO, mulDiv(ONE, ONE, POSITIVE_INFINITY));
+                // the product would overflow, but is exact in mulDiv
+                var big = fromParts(1, -200);
+                assertDecEquals(ZERO, mulDiv(big, big, NEGATIVE_INFINITY));
+            }
+
+            @Test
+            public void zero() {
+                assertDecEquals(ZERO, mulDiv(ZERO, ONE, fromParts(3, 0)));
+                assertDecEquals(ZERO, mulDiv(ONE, ZERO, fromParts(3, 0)));
+            }
+
+            @Test
+            public void case_0001() {
+                // 9185907075021349 * 5226470459498409 / 5961027643213380 = 8053958955542787.48.. but mul(..) rounds the product up first
+                var a = fromParts(9185907075021349L, 0);
+                var b = fromParts(5226470459498409L, 0);
+                var c = fromParts(5961027643213380L, 0);
+                var expected = fromParts(8053958955542787L, 0);
+
+                assertDecEquals(fromParts(8053958955542788L, 0), div(mul(a, b), c));
+                assertDecEquals(expected, mulDiv(a, b, c));
+                assertDecEquals(expected, mulDiv(b, a, c));
+            }
+
+            @Test
+            public void case_0002() {
+                // 1e200 * 1e100 / 1e100 = 1e200, the product overflows on its own
+                var a = fromParts(1, -200);
+                var b = fromParts(1, -100);
+
+                assertDecEquals(a, mulDiv(a, b, b));
+                assertDecEquals(negate(a), mulDiv(a, b, negate(b)));
+            }
+
+            @Test
+            public void case_0003() {
+                // 1e-200 * 1e-100 / 1e-100 = 1e-200, the product underflows on its own
+                var a = fromParts(1, 200);
+                var b = fromParts(1, 100);
+
+                assertDecEquals(a, mulDiv(a, b, b));
+                assertDecEquals(negate(a), mulDiv(negate(a), negate(b), negate(b)));
+            }
+
+            @Test
+            public void case_0004() {
+                // 2 * 1 / 3 = 0.6666666666666666|67
+                var a = fromParts(2, 0);
+                var c = fromParts(3, 0);
+
+                assertDecEquals(fromParts(6666666666666667L, 16), mulDiv(a, ONE, c));
+                assertDecEquals(fromParts(6666666666666666L, 16), mulDiv(a, ONE, c, RoundingMode.DOWN));
+                assertDecEquals(fromParts(-6666666666666667L, 16), mulDiv(a, ONE, negate(c), RoundingMode.FLOOR));
+            }
+
+            @SuppressWarnings({"fenum:binary", "fenum:return"})
+            private static void assertMulDiv(@Decimal long a, @Decimal long b, @Decimal long c, RoundingMode roundingMode) {
+                if (!Internal.Data.isFinite(c) || c == ZERO) {
+                    assertDecEquals(div(ONE, c), mulDiv(a, b, c, roundingMode));
+                    return;
+                }
+
+                var mathContext = new MathContext(PRECISION, roundingMode);
+                var expected = expectedDecimal(toBigDecimal(a).multiply(toBigDecimal(b)).divide(toBigDecimal(c), mathContext), roundingMode);
+
+                assertDecEquals(expected, mulDiv(a, b, c, roundingMode), () -> Decimal64.toString(a) + " * " + Decimal64.toString(b) + " / " + Decimal64.toString(c) + " " + roundingMode);
+            }
+
+            private static @Decimal long randomDivisor(Random rng, @Decimal long a, @Decimal long b) {
+                // near a or b most of the time, like a ratio
+                var c = rng.nextBoolean() ? a : b;
+                if (rng.nextBoolean()) {
+                    return fromParts(rng.nextLong(-MAX_MANTISSA, MAX_MANTISSA), getExponent(c) + rng.nextInt(-2, 3));
+                }
+                return fromParts(rng.nextLong(-MAX_MANTISSA, MAX_MANTISSA), rng.nextInt(MIN_EXPONENT, MAX_EXPONENT + 1));
+            }
+
+            @Test
+            public void random() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, (a, b) -> assertMulDiv(a, b, randomDivisor(rng, a, b), RoundingMode.HALF_EVEN));
+            }
+
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, (a, b) -> assertMulDiv(a, b, randomDivisor(rng, a, b), ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size()))));
+            }
+        }
+
+        @Nested
+        class MovePoint {
+
+            @Test
+            public void non_finite() {
+                for (var decimal : List.of(NAN, NEGATIVE_INFINITY, POSITIVE_INFINITY, ZERO)) {
+                    assertDecEquals(decimal, movePointLeft(decimal, 3));
+                    assertDecEquals(decimal, movePointRight(decimal, 3));
+                    assertDecEquals(decimal, scaleByPowerOfTen(decimal, Integer.MIN_VALUE));
+                }
+            }
+
+            @Test
+            public void case_0001() {
+                // 1.23
+                var decimal = fromParts(123, 2);
+
+                assertDecEquals(fromParts(123, 4), movePointLeft(decimal, 2));
+                assertDecEquals(fromParts(123, 0), movePointRight(decimal, 2));
+                assertDecEquals(fromParts(123, 4), scaleByPowerOfTen(decimal, -2));
+                assertDecEquals(fromParts(123, -3), movePointLeft(decimal, -5));
+            }
+
+            @Test
+            public void overflow() {
+                assertDecEquals(POSITIVE_INFINITY, movePointRight(fromParts(1, -250), 6));
+                assertDecEquals(NEGATIVE_INFINITY, movePointRight(fromParts(-1, -250), 6));
+                assertDecEquals(POSITIVE_INFINITY, movePointRight(ONE, Integer.MAX_VALUE));
+                assertDecEquals(NEGATIVE_INFINITY, movePointLeft(fromParts(-1, 0), Integer.MIN_VALUE));
+            }
+
+            @Test
+            public void underflow() {
+                // 1.23e-254 -> 1.2e-254
+                assertDecEquals(fromParts(12, 255), movePointLeft(fromParts(123, 250), 6));
+                assertDecEquals(ZERO, movePointLeft(fromParts(123, 250), 100));
+                assertDecEquals(ZERO, movePointLeft(ONE, Integer.MAX_VALUE));
+                assertDecEquals(ZERO, movePointRight(ONE, Integer.MIN_VALUE));
+            }
+
+            @Test
+            @SuppressWarnings({"fenum:binary", "fenum:return"})
+            public void random() {
+                fuzz(FUZZ_N, decimal -> {
+                    int n = (int) (decimal % 600);
+                    var expected = expectedDecimal(toBigDecimal(decimal).scaleByPowerOfTen(n), RoundingMode.HALF_EVEN);
+
+                    assertDecEquals(expected, scaleByPowerOfTen(decimal, n), () -> Decimal64.toString(decimal) + " " + n);
+                    assertDecEquals(expected, movePointRight(decimal, n), () -> Decimal64.toString(decimal) + " " + n);
+                    assertDecEquals(expected, movePointLeft(decimal, -n), () -> Decimal64.toString(decimal) + " " + n);
+                });
+            }
+        }
+
+        @Nested
+        class WithI64 {
+
+            private static long randomI64(Random rng) {
+                return switch (rng.nextInt(20)) {
+                    case 0 -> Long.MIN_VALUE;
+                    case 1 -> Long.MAX_VALUE;
+                    default -> rng.nextLong() / FastMath.i64TenToThe(rng.nextInt(19));
+                };
+            }
+
+            @Test
+            public void mul_by_i64_non_finite() {
+                assertDecEquals(NAN, mulByI64(NAN, 3));
+                assertDecEquals(NAN, mulByI64(POSITIVE_INFINITY, 0));
+                assertDecEquals(POSITIVE_INFINITY, mulByI64(POSITIVE_INFINITY, 3));
+                assertDecEquals(NEGATIVE_INFINITY, mulByI64(POSITIVE_INFINITY, -3));
+                assertDecEquals(POSITIVE_INFINITY, mulByI64(NEGATIVE_INFINITY, Long.MIN_VALUE));
+            }
+
+            @Test
+            public void mul_by_i64() {
+                // 1.5 * 4 = 6
+                assertDecEquals(fromParts(6, 0), mulByI64(fromParts(15, 1), 4));
+                assertDecEquals(ZERO, mulByI64(fromParts(15, 1), 0));
+                assertDecEquals(ZERO, mulByI64(ZERO, 7));
+                // 2^53 * -2^10 = -2^63 = -9223372036854775808
+                assertDecEquals(fromParts(-9223372036854776L, -3), mulByI64(fromParts(1L << 53, 0), -(1L << 10)));
+                // 9999999999999999 * -2^63 = -92233720368547748856627963145224192 -> -9223372036854775e19
+                assertDecEquals(fromParts(-9223372036854775L, -19), mulByI64(fromParts(9999999999999999L, 0), Long.MIN_VALUE));
+            }
+
+            @Test
+            public void mul_by_i64_random() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, decimal -> {
+                    long integer = randomI64(rng);
+                    var expected = expectedDecimal(toBigDecimal(decimal).multiply(BigDecimal.valueOf(integer), MathContext.DECIMAL64), RoundingMode.HALF_EVEN);
+
+                    assertDecEquals(expected, mulByI64(decimal, integer), () -> Decimal64.toString(decimal) + " * " + integer);
+                });
+            }
+
+            @Test
+            public void div_by_i64_non_finite() {
+                assertDecEquals(NAN, divByI64(NAN, 3));
+                assertDecEquals(NAN, divByI64(POSITIVE_INFINITY, 0));
+                assertDecEquals(NAN, divByI64(ONE, 0));
+                assertDecEquals(NAN, divByI64(ZERO, 0));
+                assertDecEquals(POSITIVE_INFINITY, divByI64(POSITIVE_INFINITY, 3));
+                assertDecEquals(NEGATIVE_INFINITY, divByI64(POSITIVE_INFINITY, -3));
+                assertDecEquals(POSITIVE_INFINITY, divByI64(NEGATIVE_INFINITY, -3));
+                assertDecEquals(NEGATIVE_INFINITY, divByI64(NEGATIVE_INFINITY, 3));
+                assertDecEquals(POSITIVE_INFINITY, divByI64(NEGATIVE_INFINITY, Long.MIN_VALUE));
+            }
+
+            @Test
+            public void div_by_i64() {
+                // 1.5 / 100 = 0.015
+                assertDecEquals(fromParts(15, 3), divByI64(fromParts(15, 1), 100));
+                // 2 / 3 = 0.6666666666666667
+                assertDecEquals(fromParts(6666666666666667L, 16), divByI64(fromParts(2, 0), 3));
+                assertDecEquals(ZERO, divByI64(ZERO, 7));
+                // -9223372036854776000 / -2^63 = 1.0000000000000000208.. -> 1
+                assertDecEquals(ONE, divByI64(fromParts(-9223372036854776L, -3), Long.MIN_VALUE));
+            }
+
+            @Test
+            public void div_by_i64_random() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, decimal -> {
+                    long integer = randomI64(rng);
+                    if (integer == 0) {
+                        assertDecEquals(NAN, divByI64(decimal, integer));
+                        return;
+                    }
+                    var expected = expectedDecimal(toBigDecimal(decimal).divide(BigDecimal.valueOf(integer), MathContext.DECIMAL64), RoundingMode.HALF_EVEN);
+
+                    assertDecEquals(expected, divByI64(decimal, integer), () -> Decimal64.toString(decimal) + " / " + integer);
+                });
+            }
+
+            @Test
+            public void add_i64_non_finite() {
+                assertDecEquals(NAN, addI64(NAN, 3));
+                assertDecEquals(POSITIVE_INFINITY, addI64(POSITIVE_INFINITY, Long.MIN_VALUE));
+                assertDecEquals(NEGATIVE_INFINITY, addI64(NEGATIVE_INFINITY, Long.MAX_VALUE));
+            }
+
+            @Test
+            public void add_i64() {
+                // 1.25 + 3 = 4.25
+                assertDecEquals(fromParts(425, 2), addI64(fromParts(125, 2), 3));
+                // 12e3 + 4 = 12004
+                assertDecEquals(fromParts(12004, 0), addI64(fromParts(12, -3), 4));
+                // 0.5 - 1 = -0.5
+                assertDecEquals(fromParts(-5, 1), addI64(fromParts(5, 1), -1));
+                assertDecEquals(ZERO, addI64(fromParts(-7, 0), 7));
+                assertDecEquals(fromParts(7, 0), addI64(ZERO, 7));
+                // 0.5 + 9223372036854775807 = 9223372036854775807.5 -> 9223372036854776e3
+                assertDecEquals(fromParts(9223372036854776L, -3), addI64(fromParts(5, 1), Long.MAX_VALUE));
+                // 1e-200 + 9999999999999999 = 9999999999999999
+                assertDecEquals(fromParts(9999999999999999L, 0), addI64(fromParts(1, 200), 9999999999999999L));
+            }
+
+            @Test
+            public void add_i64_random() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, decimal -> {
+                    long integer = randomI64(rng);
+                    var expected = expectedDecimal(toBigDecimal(decimal).add(BigDecimal.valueOf(integer), MathContext.DECIMAL64), RoundingMode.HALF_EVEN);
+
+                    assertDecEquals(expected, addI64(decimal, integer), () -> Decimal64.toString(decimal) + " + " + integer);
+                });
+            }
+        }
+
+        @Nested
+        class Sqrt {
+
+            @Test
+            public void non_finite() {
+                assertDecEquals(NAN, sqrt(NAN));
+                assertDecEquals(NAN, sqrt(NEGATIVE_INFINITY));
+                assertDecEquals(POSITIVE_INFINITY, sqrt(POSITIVE_INFINITY));
+            }
+
+            @Test
+            public void zero() {
+                assertDecEquals(ZERO, sqrt(ZERO));
+            }
+
+            @Test
+            public void negative() {
+                assertDecEquals(NAN, sqrt(fromParts(-1, 0)));
+                assertDecEquals(NAN, sqrt(fromParts(-1, 255)));
+            }
+
+            @Test
+            public void case_0001() {
+                // perfect squares are exact
+                assertDecEquals(ONE, sqrt(ONE));
+                assertDecEquals(fromParts(2, 0), sqrt(fromParts(4, 0)));
+                assertDecEquals(fromParts(1, 1), sqrt(fromParts(1, 2)));
+                assertDecEquals(fromParts(1, -100), sqrt(fromParts(1, -200)));
+                assertDecEquals(fromParts(99999999, 0), sqrt(fromParts(9999999800000001L, 0)));
+            }
+
+            @Test
+            public void case_0002() {
+                // sqrt(2) = 1.414213562373095|0488..
+                var two = fromParts(2, 0);
+
+                assertDecEquals(fromParts(1414213562373095L, 15), sqrt(two));
+                assertDecEquals(fromParts(1414213562373096L, 15), sqrt(two, RoundingMode.UP));
+                assertDecEquals(fromParts(1414213562373095L, 15), sqrt(two, RoundingMode.FLOOR));
+            }
+
+            @Test
+            public void case_0003() {
+                // odd exponents, sqrt(1e-255) = 3.162277660168379|33..e-128 and sqrt(9.999999999999999e255) = 9.999999999999999|4999..e127
+                assertDecEquals(fromParts(3162277660168379L, 143), sqrt(fromParts(1, 255)));
+                assertDecEquals(fromParts(9999999999999999L, -112), sqrt(fromParts(9999999999999999L, -240)));
+                assertDecEquals(fromParts(1, -128), sqrt(fromParts(9999999999999999L, -240), RoundingMode.UP));
+            }
+
+            @SuppressWarnings({"fenum:binary", "fenum:return"})
+            private static void assertSqrt(@Decimal long decimal, RoundingMode roundingMode) {
+                if (getMantissa(decimal) < 0) {
+                    assertDecEquals(NAN, sqrt(decimal, roundingMode));
+                    return;
+                }
+
+                var expected = expectedDecimal(toBigDecimal(decimal).sqrt(new MathContext(PRECISION, roundingMode)), roundingMode);
+
+                assertDecEquals(expected, sqrt(decimal, roundingMode), () -> "sqrt(" + Decimal64.toString(decimal) + ") " + roundingMode);
+            }
+
+            @Test
+            public void random() {
+                fuzz(FUZZ_N, decimal -> assertSqrt(decimal, RoundingMode.HALF_EVEN));
+            }
+
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N, decimal -> assertSqrt(decimal, ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size()))));
+            }
+        }
+    }
+
+    @Nested
+    class Transcendental {
+
+        /** Working precision for the reference values, far past the 16 digits being checked */
+        private static final MathContext REFERENCE = new MathContext(80, RoundingMode.HALF_EVEN);
+
+        private static final BigDecimal LN_10 = lnNearOneReference(BigDecimal.TEN);
+
+        /** e^x to ~75 digits: e^x = (e^(x / 2^n))^(2^n) with a Taylor series for the small e^(x / 2^n) */
+        private static BigDecimal expReference(BigDecimal x) {
+            var small = new BigDecimal("0.004");
+            var two = BigDecimal.valueOf(2);
+            var epsilon = BigDecimal.ONE.movePointLeft(90);
+
+            int n = 0;
+            while (x.abs().compareTo(small) > 0) {
+                x = x.divide(two, REFERENCE);
+                n++;
+            }
+
+            var sum = BigDecimal.ONE;
+            var term = BigDecimal.ONE;
+            for (int i = 1; term.abs().compareTo(epsilon) > 0; i++) {
+                term = term.multiply(x, REFERENCE).divide(BigDecimal.valueOf(i), REFERENCE);
+                sum = sum.add(term, REFERENCE);
+            }
+
+            for (int i = 0; i < n; i++) {
+                sum = sum.multiply(sum, REFERENCE);
+            }
+            return sum;
+        }
+
+        /** ln(x) to ~75 digits, for x = m * 10^p with m in [1, 10) */
+        private static BigDecimal lnReference(BigDecimal x) {
+            int p = x.precision() - x.scale() - 1;
+            var lnM = lnNearOneReference(x.movePointLeft(p));
+            return p == 0 ? lnM : lnM.add(LN_10.multiply(BigDecimal.valueOf(p), REFERENCE), REFERENCE);
+        }
+
+        /** ln(m) to ~75 digits for m >= 1: ln(m) = 2^k * ln(m^(1 / 2^k)) with an atanh series for the small log */
+        private static BigDecimal lnNearOneReference(BigDecimal m) {
+            var small = new BigDecimal("1.004");
+            var epsilon = BigDecimal.ONE.movePointLeft(90);
+
+            int k = 0;
+            while (m.compareTo(small) > 0) {
+                m = m.sqrt(REFERENCE);
+                k++;
+            }
+
+            // ln(m) = 2 * atanh((m - 1) / (m + 1))
+            var u = m.subtract(BigDecimal.ONE).divide(m.add(BigDecimal.ONE), REFERENCE);
+            var u2 = u.multiply(u, REFERENCE);
+            var sum = BigDecimal.ZERO;
+            var power = u;
+            for (int i = 1; power.abs().compareTo(epsilon) > 0; i += 2) {
+                sum = sum.add(power.divide(BigDecimal.valueOf(i), REFERENCE), REFERENCE);
+                power = power.multiply(u2, REFERENCE);
+            }
+            return sum.multiply(BigDecimal.valueOf(2L << k), REFERENCE);
+        }
+
+        /** A finite Decimal with a random mantissa, whose magnitude is in [10^(minMagnitude - 1), 10^maxMagnitude) */
+        private static @Decimal long randomDecimal(Random rng, int minMagnitude, int maxMagnitude) {
+            int nDigits = 1 + rng.nextInt(PRECISION);
+            long mantissa = rng.nextLong(FastMath.i64TenToThe(nDigits - 1), FastMath.i64TenToThe(nDigits));
+            int magnitude = rng.nextInt(minMagnitude, maxMagnitude + 1);
+            return fromParts(rng.nextBoolean() ? mantissa : -mantissa, nDigits - magnitude);
+        }
+
+        @SuppressWarnings("fenum:return")
+        private static @Decimal long expected(BigDecimal reference, RoundingMode roundingMode) {
+            return expectedDecimal(reference.round(new MathContext(PRECISION, roundingMode)), roundingMode);
+        }
+
+        @Nested
+        class Exp {
+
+            @Test
+            public void non_finite() {
+                assertDecEquals(NAN, exp(NAN));
+                assertDecEquals(ZERO, exp(NEGATIVE_INFINITY));
+                assertDecEquals(POSITIVE_INFINITY, exp(POSITIVE_INFINITY));
+            }
+
+            @Test
+            public void case_0001() {
+                // e = 2.718281828459045|2353.., e^-1 = 0.3678794411714423|2159..
+                assertDecEquals(ONE, exp(ZERO));
+                assertDecEquals(fromParts(2718281828459045L, 15), exp(ONE));
+                assertDecEquals(fromParts(2718281828459046L, 15), exp(ONE, RoundingMode.CEILING));
+                assertDecEquals(fromParts(3678794411714423L, 16), exp(fromParts(-1, 0)));
+            }
+
+            @Test
+            public void case_0002() {
+                // e^ln(10) lands next to 10, and tiny arguments round like 1 +/- tiny
+                assertDecEquals(fromParts(1, -1), exp(fromParts(2302585092994046L, 15)));
+                assertDecEquals(ONE, exp(fromParts(1, 20)));
+                assertDecEquals(fromParts(1000000000000001L, 15), exp(fromParts(1, 20), RoundingMode.UP));
+                assertDecEquals(fromParts(9999999999999999L, 16), exp(fromParts(-1, 20), RoundingMode.DOWN));
+            }
+
+            @Test
+            public void case_0003() {
+                // overflow and underflow, e^623 = 1.5e270 is still in range
+                assertDecEquals(POSITIVE_INFINITY, exp(fromParts(1, -3)));
+                assertDecEquals(ZERO, exp(fromParts(-1, -3)));
+                assertDecEquals(POSITIVE_INFINITY, exp(fromParts(625, 0)));
+                assertDecEquals(ZERO, exp(fromParts(-590, 0)));
+                assertTrue(Decimal64.isFinite(exp(fromParts(623, 0))));
+            }
+
+            private static void assertExp(@Decimal long decimal, RoundingMode roundingMode) {
+                var expected = expected(expReference(toBigDecimal(decimal)), roundingMode);
+                assertDecEquals(expected, exp(decimal, roundingMode), () -> "exp(" + Decimal64.toString(decimal) + ") " + roundingMode);
+            }
+
+            @Test
+            public void random() {
+                var rng = new Random(RNG_SEED);
+                for (int i = 0; i < FUZZ_N / 100; i++) {
+                    assertExp(randomDecimal(rng, -18, 3), RoundingMode.HALF_EVEN);
+                }
+            }
+
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                for (int i = 0; i < FUZZ_N / 100; i++) {
+                    assertExp(randomDecimal(rng, -18, 3), ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size())));
+                }
+            }
+        }
+
+        @Nested
+        class Ln {
+
+            @Test
+            public void non_finite() {
+                assertDecEquals(NAN, ln(NAN));
+                assertDecEquals(NAN, ln(NEGATIVE_INFINITY));
+                assertDecEquals(POSITIVE_INFINITY, ln(POSITIVE_INFINITY));
+            }
+
+            @Test
+            public void zero_and_negative() {
+                assertDecEquals(NEGATIVE_INFINITY, ln(ZERO));
+                assertDecEquals(NAN, ln(fromParts(-1, 0)));
+                assertDecEquals(ZERO, ln(ONE));
+            }
+
+            @Test
+            public void case_0001() {
+                // ln(2) = 0.6931471805599453|0941.., ln(10) = 2.302585092994045|6840..
+                assertDecEquals(fromParts(6931471805599453L, 16), ln(TWO));
+                assertDecEquals(fromParts(6931471805599454L, 16), ln(TWO, RoundingMode.UP));
+                assertDecEquals(fromParts(2302585092994046L, 15), ln(fromParts(10, 0)));
+                assertDecEquals(fromParts(-2302585092994046L, 15), ln(fromParts(1, 1)));
+            }
+
+            @Test
+            public void case_0002() {
+                // close to 1 every digit of x - 1 matters, ln(1 + 1e-15) = 9.999999999999995|000..e-16
+                assertDecEquals(fromParts(9999999999999995L, 31), ln(fromParts(1000000000000001L, 15)));
+                assertDecEquals(fromParts(-1000000000000000L, 31), ln(fromParts(9999999999999999L, 16), RoundingMode.DOWN));
+            }
+
+            @Test
+            public void case_0003() {
+                // extremes, ln(1e-255) = -587.1591987134816|49.. and ln(9.999999999999999e270) = 624.0005602013863|80..
+                assertDecEquals(fromParts(-5871591987134816L, 13), ln(fromParts(1, 255)));
+                assertDecEquals(fromParts(6240005602013864L, 13), ln(fromParts(9999999999999999L, -255)));
+            }
+
+            private static void assertLn(@Decimal long decimal, RoundingMode roundingMode) {
+                var expected = expected(lnReference(toBigDecimal(decimal)), roundingMode);
+                assertDecEquals(expected, ln(decimal, roundingMode), () -> "ln(" + Decimal64.toString(decimal) + ") " + roundingMode);
+            }
+
+            @Test
+            @SuppressWarnings("fenum:binary")
+            public void random() {
+                fuzz(FUZZ_N / 100, decimal -> {
+                    if (getMantissa(decimal) > 0 && decimal != ONE) {
+                        assertLn(decimal, RoundingMode.HALF_EVEN);
+                    }
+                });
+            }
+
+            @Test
+            @SuppressWarnings("fenum:binary")
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N / 100, decimal -> {
+                    if (getMantissa(decimal) > 0 && decimal != ONE) {
+                        assertLn(decimal, ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size())));
+                    }
+                });
+            }
+
+            @Test
+            @SuppressWarnings("fenum:argument")
+            public void random_near_one() {
+                var rng = new Random(RNG_SEED);
+                for (int i = 0; i < FUZZ_N / 100; i++) {
+                    long offset = rng.nextLong(1, FastMath.i64TenToThe(1 + rng.nextInt(14)));
+                    var decimal = rng.nextBoolean() ? fromParts(1_000_000_000_000_000L + offset, 15) : fromParts(10_000_000_000_000_000L - offset, 16);
+                    assertLn(decimal, ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size())));
+                }
+            }
+        }
+
+        @Nested
+        class Log10 {
+
+            @Test
+            public void non_finite() {
+                assertDecEquals(NAN, log10(NAN));
+                assertDecEquals(NAN, log10(NEGATIVE_INFINITY));
+                assertDecEquals(POSITIVE_INFINITY, log10(POSITIVE_INFINITY));
+                assertDecEquals(NEGATIVE_INFINITY, log10(ZERO));
+                assertDecEquals(NAN, log10(fromParts(-5, 0)));
+            }
+
+            @Test
+            public void case_0001() {
+                // powers of 10 are exact
+                assertDecEquals(ZERO, log10(ONE));
+                assertDecEquals(fromParts(255, 0), log10(fromParts(1, -255)));
+                assertDecEquals(fromParts(-255, 0), log10(fromParts(1, 255)));
+                assertDecEquals(fromParts(3, 0), log10(fromParts(1000, 0), RoundingMode.UNNECESSARY));
+            }
+
+            @Test
+            public void case_0002() {
+                // log10(2) = 0.3010299956639811|9521..
+                assertDecEquals(fromParts(3010299956639812L, 16), log10(TWO));
+                assertDecEquals(fromParts(3010299956639811L, 16), log10(TWO, RoundingMode.DOWN));
+            }
+
+            private static void assertLog10(@Decimal long decimal, RoundingMode roundingMode) {
+                var expected = expected(lnReference(toBigDecimal(decimal)).divide(LN_10, REFERENCE), roundingMode);
+                assertDecEquals(expected, log10(decimal, roundingMode), () -> "log10(" + Decimal64.toString(decimal) + ") " + roundingMode);
+            }
+
+            @Test
+            public void random_rounding_modes() {
+                var rng = new Random(RNG_SEED);
+                fuzz(FUZZ_N / 100, decimal -> {
+                    if (getMantissa(decimal) > 1) {
+                        assertLog10(decimal, ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size())));
+                    }
+                });
+            }
+        }
+
+        @Nested
+        class Pow {
+
+            @Test
+            public void non_finite() {
+                var half = fromParts(5, 1);
+                var minusOne = fromParts(-1, 0);
+                var three = fromParts(3, 0);
+
+                // x^0 is 1, even for nan, and any other nan gives nan
+                assertDecEquals(ONE, pow(NAN, ZERO));
+                assertDecEquals(NAN, pow(NAN, ONE));
+                assertDecEquals(NAN, pow(ONE, NAN));
+
+                // infinite powers
+                assertDecEquals(POSITIVE_INFINITY, pow(TWO, POSITIVE_INFINITY));
+                assertDecEquals(ZERO, pow(TWO, NEGATIVE_INFINITY));
+                assertDecEquals(ZERO, pow(half, POSITIVE_INFINITY));
+                assertDecEquals(POSITIVE_INFINITY, pow(half, NEGATIVE_INFINITY));
+                assertDecEquals(NAN, pow(minusOne, POSITIVE_INFINITY));
+
+                // infinite bases
+                assertDecEquals(POSITIVE_INFINITY, pow(POSITIVE_INFINITY, half));
+                assertDecEquals(ZERO, pow(POSITIVE_INFINITY, fromParts(-5, 1)));
+                assertDecEquals(NEGATIVE_INFINITY, pow(NEGATIVE_INFINITY, three));
+                assertDecEquals(POSITIVE_INFINITY, pow(NEGATIVE_INFINITY, TWO));
+                assertDecEquals(ZERO, pow(NEGATIVE_INFINITY, minusOne));
+            }
+
+            @Test
+            public void case_0001() {
+                // special finite cases
+                assertDecEquals(ONE, pow(ZERO, ZERO));
+                assertDecEquals(ZERO, pow(ZERO, TWO));
+                assertDecEquals(POSITIVE_INFINITY, pow(ZERO, fromParts(-1, 0)));
+                assertDecEquals(ONE, pow(ONE, fromParts(12345, 2)));
+                assertDecEquals(NAN, pow(fromParts(-2, 0), fromParts(5, 1)));
+                assertDecEquals(fromParts(-1, 0), pow(fromParts(-1, 0), fromParts(-3, 0)));
+            }
+
+            @Test
+            public void case_0002() {
+                // integer powers are exact before rounding
+                assertDecEquals(fromParts(1024, 0), pow(TWO, fromParts(10, 0)));
+                assertDecEquals(fromParts(-8, 0), pow(fromParts(-2, 0), fromParts(3, 0)));
+                assertDecEquals(fromParts(125, 3), pow(TWO, fromParts(-3, 0), RoundingMode.UNNECESSARY));
+                assertDecEquals(fromParts(1, 200), pow(fromParts(1, 2), fromParts(1, -2)));
+                assertDecEquals(ZERO, pow(fromParts(1, 2), fromParts(1, -3)));
+                assertDecEquals(POSITIVE_INFINITY, pow(fromParts(1, -2), fromParts(1, -3)));
+                // 3^40 = 12157665459056928801
+                assertDecEquals(fromParts(1215766545905693L, -4), pow(fromParts(3, 0), fromParts(40, 0)));
+                assertDecEquals(fromParts(1215766545905692L, -4), pow(fromParts(3, 0), fromParts(40, 0), RoundingMode.DOWN));
+            }
+
+            @Test
+            public void case_0003() {
+                // non-integer powers, 2^0.5 = 1.414213562373095|0488.., 10^0.3 = 1.995262314968879|6015..
+                assertDecEquals(fromParts(1414213562373095L, 15), pow(TWO, fromParts(5, 1)));
+                assertDecEquals(fromParts(1995262314968880L, 15), pow(fromParts(10, 0), fromParts(3, 1)));
+                assertDecEquals(fromParts(1995262314968879L, 15), pow(fromParts(10, 0), fromParts(3, 1), RoundingMode.FLOOR));
+            }
+
+            @Test
+            public void case_0004() {
+                // integer powers of 10^17 and above, too large for a long
+                var half = fromParts(5, 1);
+                var minusTwo = fromParts(-2, 0);
+                var minusOne = fromParts(-1, 0);
+                for (@Decimal long power : new long[]{fromParts(1, -17), fromParts(9999999999999999L, -3), fromParts(422212465065984L, -17), fromParts(MAX_MANTISSA, MIN_EXPONENT)}) {
+                    @Decimal long negativePower = Decimal64.negate(power);
+                    Supplier<Object> msg = () -> Decimal64.toString(power);
+
+                    assertDecEquals(POSITIVE_INFINITY, pow(TWO, power), msg);
+                    assertDecEquals(ZERO, pow(TWO, negativePower), msg);
+                    assertDecEquals(ZERO, pow(half, power), msg);
+                    assertDecEquals(POSITIVE_INFINITY, pow(half, negativePower), msg);
+                    // even, since an integer with trailing zeros
+                    assertDecEquals(POSITIVE_INFINITY, pow(minusTwo, power), msg);
+                    assertDecEquals(ZERO, pow(minusTwo, negativePower), msg);
+                    assertDecEquals(ONE, pow(ONE, power), msg);
+                    assertDecEquals(ONE, pow(ONE, negativePower), msg);
+                    assertDecEquals(ONE, pow(minusOne, power), msg);
+                }
+
+                // odd integer powers keep the sign, but are under 10^17, e.g. 10^16 - 1
+                assertDecEquals(NEGATIVE_INFINITY, pow(minusTwo, fromParts(MAX_MANTISSA, 0)));
+                assertDecEquals(ZERO, pow(minusTwo, fromParts(-MAX_MANTISSA, 0)));
+                assertDecEquals(fromParts(-1, 0), pow(minusOne, fromParts(MAX_MANTISSA, 0)));
+
+                // |x| within 10^-15 of 1 stays finite for |y| = 10^17, e^(10^17 * ln(1 + 10^-15)) = e^99.99999999999995..
+                for (var roundingMode : ROUNDING_MODES) {
+                    assertPow(fromParts(1000000000000001L, 15), fromParts(1, -17), roundingMode);
+                    assertPow(fromParts(9999999999999999L, 16), fromParts(-1, -17), roundingMode);
+                }
+            }
+
+            private static void assertPow(@Decimal long decimal, @Decimal long power, RoundingMode roundingMode) {
+                var x = toBigDecimal(decimal);
+                var y = toBigDecimal(power);
+                var z = y.multiply(lnReference(x.abs()), REFERENCE);
+                int sign = (x.signum() < 0 && y.remainder(BigDecimal.TWO).abs().compareTo(BigDecimal.ONE) == 0) ? -1 : 1;
+
+                @Decimal long expected;
+                if (z.compareTo(BigDecimal.valueOf(2_000)) > 0) {
+                    expected = sign > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+                } else if (z.compareTo(BigDecimal.valueOf(-2_000)) < 0) {
+                    expected = ZERO;
+                } else {
+                    var reference = expReference(z);
+                    expected = expected(sign > 0 ? reference : reference.negate(), roundingMode);
+                }
+
+                assertDecEquals(expected, pow(decimal, power, roundingMode), () -> "pow(" + Decimal64.toString(decimal) + ", " + Decimal64.toString(power) + ") " + roundingMode);
+            }
+
+            @Test
+            @SuppressWarnings("fenum:binary")
+            public void random() {
+                var rng = new Random(RNG_SEED);
+                for (int i = 0; i < FUZZ_N / 100; i++) {
+                    // non-integer powers, whose results are never exactly representable
+                    var decimal = Decimal64.abs(randomDecimal(rng, -60, 60));
+                    var power = randomDecimal(rng, -18, 3);
+                    if (getExponent(power) > 0 && power != fromParts(5, 1)) {
+                        assertPow(decimal, power, ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size())));
+                    }
+                }
+            }
+
+            @Test
+            public void random_integer_powers() {
+                var rng = new Random(RNG_SEED);
+                for (int i = 0; i < FUZZ_N / 100; i++) {
+                    var decimal = randomDecimal(rng, -10, 10);
+                    int n = rng.nextInt(-80, 81);
+                    var roundingMode = ROUNDING_MODES.get(rng.nextInt(ROUNDING_MODES.size()));
+
+                    var exact = toBigDecimal(decimal).pow(Math.abs(n));
+                    var mc = new MathContext(PRECISION, roundingMode);
+                    var expected = expectedDecimal(n >= 0 ? exact.round(mc) : BigDecimal.ONE.divide(exact, mc), roundingMode);
+
+                    assertDecEquals(expected, pow(decimal, fromParts(n, 0), roundingMode), () -> "pow(" + Decimal64.toString(decimal) + ", " + n + ") " + roundingMode);
+                }
             }
         }
     }
@@ -0,0 +1,118 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static io.github.loganmallory.decimaljava.Decimal64.*;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings({"fenum:argument"})
+public class DecimalBulkParserTest {
+
+    public static final long RNG_SEED = 111;
+
+    /** Asserts the vectorized and scalar parsers both read the text as expected, with offsets on either side */
+    private static void assertParses(@Decimal long[] expected, String text, char delimiter) {
+        var buf = ("xyz" + text + "zyx").getBytes(US_ASCII);
+        int len = text.length();
+
+        @Decimal long[] out = new long[expected.length + 2];
+        assertEquals(expected.length, DecimalBulkParser.parse(buf, 3, len, delimiter, out, 1), () -> "'" + text + "'");
+        assertArrayEquals(expected, Arrays.copyOfRange(out, 1, expected.length + 1), () -> "'" + text + "'");
+
+        Arrays.fill(out, 0);
+        assertEquals(expected.length, DecimalBulkParser.parseScalar(buf, 3, len, (byte) delimiter, out, 1), () -> "scalar '" + text + "'");
+        assertArrayEquals(expected, Arrays.copyOfRange(out, 1, expected.length + 1), () -> "scalar '" + text + "'");
+    }
+
+    private static void assertInvalid(String field, String text) {
+        var buf = text.getBytes(US_ASCII);
+        @Decimal long[] out = new long[text.length() + 1];
+
+        var ex = assertThrows(NumberFormatException.class, () -> DecimalBulkParser.parse(buf, 0, buf.length, ',', out, 0), () -> "'" + text + "'");
+        assertEquals("Invalid decimal string: '" + field + "'", ex.getMessage());
+        ex = assertThrows(NumberFormatException.class, () -> DecimalBulkParser.parseScalar(buf, 0, buf.length, (byte) ',', out, 0), () -> "scalar '" + text + "'");
+        assertEquals("Invalid decimal string: '" + field + "'", ex.getMessage());
+    }
+
+    @Test
+    public void vectorized() {
+        // surefire adds the module, so the vectorized parser is the one tested
+        assertTrue(DecimalBulkParser.VECTORIZED);
+    }
+
+    @Test
+    public void fields() {
+        assertParses(new long[0], "", ',');
+        assertParses(new long[]{fromParts(15, 1)}, "1.5", ',');
+        assertParses(new long[]{fromParts(15, 1)}, "1.5\n", ',');
+        assertParses(new long[]{fromParts(1, 0), fromParts(-25, 1), fromParts(3, 0)}, "1,-2.5\n3\n", ',');
+        assertParses(new long[]{fromParts(1, 0), fromParts(2, 0), fromParts(3, 0)}, "1;2\r\n3\r\n", ';');
+        assertParses(new long[]{NAN, POSITIVE_INFINITY, fromParts(1, -3), fromParts(5, 0)}, "NaN\tInfinity\t1E3\t 5 ", '\t');
+    }
+
+    @Test
+    public void long_lines() {
+        // fields across vector boundaries, and vectors with no separator at all
+        var text = new StringBuilder();
+        var expected = new ArrayList<Long>();
+        for (int width = 1; width <= 200; width++) {
+            var digits = "1234567890".repeat(21).substring(0, width);
+            text.append(digits).append(width % 2 == 0 ? "," : "\n");
+            expected.add(fromString(digits));
+        }
+        assertParses(expected.stream().mapToLong(Long::longValue).toArray(), text.toString(), ',');
+    }
+
+    @Test
+    public void invalid() {
+        assertInvalid("", "1,,2");
+        assertInvalid("", ",1");
+        assertInvalid("", "1\n\n2");
+        assertInvalid("1-2", "0,1-2,3");
+        assertInvalid("--1", "0,1,--1,2");
+        assertInvalid("1..2", "1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,1..2,20,21,22,23,24,25,26,27,28,29,30");
+        assertInvalid("abc", "1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,abc,20,21,22,23,24,25,26,27,28,29,30");
+
+        var buf = "1,2,3".getBytes(US_ASCII);
+        assertThrows(IndexOutOfBoundsException.class, () -> DecimalBulkParser.parse(buf, 0, buf.length, ',', new long[2], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> DecimalBulkParser.parse(buf, 0, buf.length + 1, ',', new long[3], 0));
+        assertThrows(IllegalArgumentException.class, () -> DecimalBulkParser.parse(buf, 0, buf.length, '\n', new long[3], 0));
+    }
+
+    @Test
+    public void random() {
+        // same as fromString on every field
+        var rng = new Random(RNG_SEED);
+        for (int round = 0; round < 100; round++) {
+            int nFields = rng.nextInt(0, 2_000);
+            @Decimal long[] expected = new long[nFields];
+            var text = new StringBuilder();
+            for (int i = 0; i < nFields; i++) {
+                var value = BigDecimal.valueOf(rng.nextLong() >> rng.nextInt(64), rng.nextInt(-20, 30));
+                var str = switch (rng.nextInt(4)) {
+                    case 0 -> value.toString();
+                    case 1 -> " " + value.toPlainString();
+                    default -> value.toPlainString();
+                };
+                expected[i] = fromString(str);
+                text.append(str).append(List.of(",", "\n", "\r\n").get(rng.nextInt(3)));
+            }
+            if (rng.nextBoolean() && text.length() > 0) {
+                // no trailing separator
+                text.setLength(text.length() - (text.charAt(text.length() - 1) == '\n' && text.charAt(text.length() - 2) == '\r' ? 2 : 1));
+            }
+            assertParses(expected, text.toString(), ',');
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.loganmallory.decimaljava.Decimal64.*;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"fenum:argument"})
+public class DecimalColumnLoaderTest {
+
+    public static final long RNG_SEED = 111;
+
+    // small enough that most files are split into many chunks
+    private static final int[] CHUNK_SIZES = {1, 7, 64, DecimalColumnLoader.DEFAULT_CHUNK_SIZE};
+
+    @TempDir
+    Path dir;
+
+    private Path write(String text) throws IOException {
+        return Files.writeString(dir.resolve("column.csv"), text, US_ASCII);
+    }
+
+    /** Asserts every chunk size loads the expected column */
+    private static void assertLoads(@Decimal long[] expected, Path file, int column, char delimiter, boolean skipHeader) throws IOException {
+        for (int chunkSize : CHUNK_SIZES) {
+            var actual = DecimalColumnLoader.load(file, column, delimiter, skipHeader, ForkJoinPool.commonPool(), chunkSize);
+            assertArrayEquals(expected, actual, "chunk size " + chunkSize);
+        }
+    }
+
+    private static void assertInvalid(String message, Path file, int column, boolean skipHeader) {
+        for (int chunkSize : CHUNK_SIZES) {
+            var ex = assertThrows(NumberFormatException.class, () -> DecimalColumnLoader.load(file, column, ',', skipHeader, ForkJoinPool.commonPool(), chunkSize));
+            assertEquals(message, ex.getMessage(), "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void columns() throws IOException {
+        var file = write("""
+                id,price,qty
+                1,12.50,3
+                2,-0.001,1E3
+                3,NaN,-Infinity
+                """);
+        assertLoads(new long[]{fromParts(1, 0), fromParts(2, 0), fromParts(3, 0)}, file, 0, ',', true);
+        assertLoads(new long[]{fromParts(125, 1), fromParts(-1, 3), NAN}, file, 1, ',', true);
+        assertLoads(new long[]{fromParts(3, 0), fromParts(1000, 0), NEGATIVE_INFINITY}, file, 2, ',', true);
+    }
+
+    @Test
+    public void line_endings() throws IOException {
+        @Decimal long[] expected = {fromParts(15, 1), fromParts(-2, 0), fromParts(25, 2)};
+        assertLoads(expected, write("a|1.5\nb|-2\nc|0.25"), 1, '|', false);
+        assertLoads(expected, write("a|1.5\r\nb|-2\r\nc|0.25\r\n"), 1, '|', false);
+        assertLoads(expected, write("a|1.5\r\nb|-2\r\nc|0.25"), 1, '|', false);
+        assertLoads(new long[]{fromParts(1, 0)}, write("1"), 0, '|', false);
+    }
+
+    @Test
+    public void empty() throws IOException {
+        assertLoads(new long[0], write(""), 0, ',', false);
+        assertLoads(new long[0], write(""), 0, ',', true);
+        assertLoads(new long[0], write("price\n"), 0, ',', true);
+        assertLoads(new long[0], write("price"), 0, ',', true);
+    }
+
+    @Test
+    public void invalid() throws IOException {
+        assertInvalid("Line 3 has an invalid decimal '1.2.3' in column 1", write("a,b\n1,2\n3,1.2.3\n"), 1, true);
+        assertInvalid("Line 2 has an invalid decimal '' in column 1", write("1,2\n3,\n"), 1, false);
+        assertInvalid("Line 1 has an invalid decimal '1 ' in column 0", write("1 ,2\n"), 0, false);
+        assertInvalid("Line 1 has an invalid decimal '1x' in column 0", write("1x\n"), 0, false);
+        assertInvalid("Line 2 has fewer than 3 fields", write("1,2,3\n4,5\n6,7,8\n"), 2, false);
+        assertInvalid("Line 3 has an invalid decimal '' in column 0", write("1\n2\n\n"), 0, false);
+
+        var file = write("1\n");
+        assertThrows(IllegalArgumentException.class, () -> DecimalColumnLoader.load(file, -1, ',', false));
+        assertThrows(IllegalArgumentException.class, () -> DecimalColumnLoader.load(file, 0, '\n', false));
+        assertThrows(IllegalArgumentException.class, () -> DecimalColumnLoader.load(file, 0, '€', false));
+    }
+
+    @Test
+    public void random() throws IOException {
+        // same as fromString on every row
+        var rng = new Random(RNG_SEED);
+        int nRows = 100_000;
+        @Decimal long[] expected = new long[nRows];
+        var text = new StringBuilder("id,value,note\n");
+        for (int i = 0; i < nRows; i++) {
+            var value = BigDecimal.valueOf(rng.nextLong(), rng.nextInt(-20, 30));
+            var str = rng.nextBoolean() ? value.toPlainString() : value.toString();
+            expected[i] = fromString(str);
+            text.append(i).append(',').append(str).append(',').append("row ").append(i).append(rng.nextBoolean() ? "\n" : "\r\n");
+        }
+        var file = write(text.toString());
+        for (int chunkSize : new int[]{4096, 1 << 20}) {
+            assertArrayEquals(expected, DecimalColumnLoader.load(file, 1, ',', true, ForkJoinPool.commonPool(), chunkSize), "chunk size " + chunkSize);
+        }
+        assertArrayEquals(expected, DecimalColumnLoader.load(file, 1, ',', true));
+    }
+}
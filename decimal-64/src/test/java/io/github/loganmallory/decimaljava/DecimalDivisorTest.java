@@ -0,0 +1,93 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.junit.jupiter.api.Test;
+
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static io.github.loganmallory.decimaljava.Decimal64.*;
+import static io.github.loganmallory.decimaljava.Decimal64.Internal.MAX_EXPONENT;
+import static io.github.loganmallory.decimaljava.Decimal64.Internal.MAX_MANTISSA;
+import static io.github.loganmallory.decimaljava.Decimal64.Internal.MIN_EXPONENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SuppressWarnings({"fenum:argument"})
+public class DecimalDivisorTest {
+
+    public static final long RNG_SEED = 111;
+
+    private static final List<@Decimal Long> SPECIAL = List.of(NAN, NEGATIVE_INFINITY, POSITIVE_INFINITY, ZERO, ONE, fromParts(-1, 0));
+
+    private static @Decimal long randomDecimal(Random rng) {
+        long bound = Math.min(MAX_MANTISSA, FastMath.i64TenToThe(rng.nextInt(17)));
+        return fromParts(rng.nextLong(-bound, bound + 1), rng.nextInt(MIN_EXPONENT, MAX_EXPONENT + 1));
+    }
+
+    @Test
+    public void get_divisor() {
+        var decimal = fromParts(12345, 2);
+        assertEquals(decimal, new DecimalDivisor(decimal).getDivisor());
+    }
+
+    @Test
+    public void special() {
+        for (var a : SPECIAL) {
+            for (var b : SPECIAL) {
+                assertEquals(div(a, b), new DecimalDivisor(b).divide(a), () -> Decimal64.toString(a) + " / " + Decimal64.toString(b));
+            }
+        }
+    }
+
+    @Test
+    public void case_0001() {
+        // 2 / 3 = 0.6666666666666667
+        var divisor = new DecimalDivisor(fromParts(3, 0));
+
+        assertEquals(fromParts(6666666666666667L, 16), divisor.divide(fromParts(2, 0)));
+        assertEquals(fromParts(6666666666666666L, 16), divisor.divide(fromParts(2, 0), RoundingMode.DOWN));
+    }
+
+    @Test
+    public void case_0002() {
+        // largest mantissa, the normalized divisor is only shifted by 10 bits
+        var b = fromParts(9999999999999999L, 0);
+        var divisor = new DecimalDivisor(b);
+
+        for (var a : List.of(ONE, fromParts(9999999999999999L, 0), fromParts(-9999999999999998L, 3), fromParts(1, 255))) {
+            assertEquals(div(a, b), divisor.divide(a), () -> Decimal64.toString(a));
+        }
+    }
+
+    @Test
+    public void random() {
+        var rng = new Random(RNG_SEED);
+        for (int i = 0; i < 1_000; i++) {
+            var b = randomDecimal(rng);
+            var divisor = new DecimalDivisor(b);
+            for (int j = 0; j < 1_000; j++) {
+                var a = randomDecimal(rng);
+                assertEquals(div(a, b), divisor.divide(a), () -> Decimal64.toString(a) + " / " + Decimal64.toString(b));
+            }
+        }
+    }
+
+    @Test
+    public void random_rounding_modes() {
+        var rng = new Random(RNG_SEED);
+        var roundingModes = List.of(
+                RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+        );
+        for (int i = 0; i < 1_000; i++) {
+            var b = randomDecimal(rng);
+            var divisor = new DecimalDivisor(b);
+            for (int j = 0; j < 1_000; j++) {
+                var a = randomDecimal(rng);
+                var roundingMode = roundingModes.get(rng.nextInt(roundingModes.size()));
+                assertEquals(div(a, b, roundingMode), divisor.divide(a, roundingMode), () -> Decimal64.toString(a) + " / " + Decimal64.toString(b) + " " + roundingMode);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static io.github.loganmallory.decimaljava.Decimal64.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"fenum:argument"})
+public class DecimalParserTest {
+
+    public static final long RNG_SEED = 111;
+
+    // a fallback no valid string parses to
+    private static final @Decimal long INVALID = fromParts(-1, -255);
+
+    private static final DecimalParser EURO = new DecimalParser(',', '.', "", "€");
+
+    private static final DecimalParser DOLLAR = new DecimalParser('.', ',', "$", "");
+
+    /** Asserts the parser reads str as expected, from a CharSequence and UTF-8 bytes with an offset */
+    private static void assertParses(@Decimal long expected, DecimalParser parser, String str) {
+        assertEquals(expected, parser.parse(str), () -> "'" + str + "'");
+
+        var padded = "xyz" + str + "zyx";
+        assertEquals(expected, parser.parse(padded, 3, str.length()), () -> "'" + str + "'");
+
+        var bytes = padded.getBytes(UTF_8);
+        int len = str.getBytes(UTF_8).length;
+        assertEquals(expected, parser.parse(bytes, 3, len), () -> "byte[] '" + str + "'");
+        assertEquals(expected, parser.tryParse(bytes, 3, len, INVALID), () -> "byte[] '" + str + "'");
+    }
+
+    private static void assertInvalid(DecimalParser parser, String str) {
+        var ex = assertThrows(NumberFormatException.class, () -> parser.parse(str), () -> "'" + str + "'");
+        // same message as fromString(..), blank strings and lone signs aren't stripped
+        var quoted = str.isBlank() || str.equals("-") ? str : str.strip();
+        assertEquals("Invalid decimal string: '" + quoted + "'", ex.getMessage());
+        assertEquals(INVALID, parser.tryParse(str, 0, str.length(), INVALID), () -> "'" + str + "'");
+
+        var bytes = str.getBytes(UTF_8);
+        assertThrows(NumberFormatException.class, () -> parser.parse(bytes, 0, bytes.length), () -> "byte[] '" + str + "'");
+        assertEquals(INVALID, parser.tryParse(bytes, 0, bytes.length, INVALID), () -> "byte[] '" + str + "'");
+    }
+
+    @Test
+    public void comma_grouped() {
+        assertParses(fromParts(123456789, 2), DecimalParser.COMMA_GROUPED, "1,234,567.89");
+        assertParses(fromParts(-123456789, 2), DecimalParser.COMMA_GROUPED, " -1,234,567.89 ");
+        assertParses(fromParts(1234567, 0), DecimalParser.COMMA_GROUPED, "1234567");
+        assertParses(fromParts(12345, 2), DecimalParser.COMMA_GROUPED, "1,23.45");
+        assertParses(fromParts(1234, -3), DecimalParser.COMMA_GROUPED, "1.234E6");
+    }
+
+    @Test
+    public void point_grouped() {
+        assertParses(fromParts(123456789, 2), DecimalParser.POINT_GROUPED, "1.234.567,89");
+        assertParses(fromParts(-5, 1), DecimalParser.POINT_GROUPED, "-0,5");
+        assertParses(fromParts(1, 0), DecimalParser.POINT_GROUPED, "1,");
+        assertParses(ZERO, DecimalParser.POINT_GROUPED, "0,000");
+    }
+
+    @Test
+    public void no_grouping() {
+        var parser = new DecimalParser(',', DecimalParser.NO_GROUPING_SEPARATOR);
+        assertParses(fromParts(12345, 2), parser, "123,45");
+        assertInvalid(parser, "1.234,5");
+    }
+
+    @Test
+    public void currency() {
+        assertParses(fromParts(123456, 2), DOLLAR, "$1,234.56");
+        assertParses(fromParts(-123456, 2), DOLLAR, "-$1,234.56");
+        assertParses(fromParts(-123456, 2), DOLLAR, "$-1,234.56");
+        assertParses(fromParts(123456, 2), DOLLAR, "$ 1,234.56");
+        assertParses(fromParts(123456, 2), DOLLAR, "1,234.56");
+
+        assertParses(fromParts(123456, 2), EURO, "1.234,56 €");
+        assertParses(fromParts(-123456, 2), EURO, "-1.234,56€");
+        assertParses(fromParts(123456, 2), EURO, "1.234,56");
+    }
+
+    @Test
+    public void invalid() {
+        for (var str : List.of("", " ", "-", "$", ",1", "1,", "1,,234", "1.5,0", "1,234.5,6", "--1", "-$-1", "$$1", "1$", "NaN", "Infinity", "1,234E")) {
+            assertInvalid(DOLLAR, str);
+        }
+        for (var str : List.of("€", "1,2,3", ".1", "1.,5", "€1", "1 €€", "1.234,5.6")) {
+            assertInvalid(EURO, str);
+        }
+    }
+
+    @Test
+    public void invalid_separators() {
+        for (var separators : List.of("..", "0,", ".9", "-,", ".+", "E,", ".e", " ,")) {
+            assertThrows(IllegalArgumentException.class, () -> new DecimalParser(separators.charAt(0), separators.charAt(1)), separators);
+        }
+    }
+
+    @Test
+    public void random() {
+        // plain strings with every 3 integer digits grouped, same as fromString without the grouping
+        var rng = new Random(RNG_SEED);
+        for (int i = 0; i < 100_000; i++) {
+            var plain = BigDecimal.valueOf(rng.nextLong(), rng.nextInt(-10, 30)).toPlainString();
+            @Decimal long expected = fromString(plain);
+
+            int point = plain.indexOf('.') < 0 ? plain.length() : plain.indexOf('.');
+            int start = plain.startsWith("-") ? 1 : 0;
+            var commaGrouped = new StringBuilder(plain.substring(0, start));
+            for (int j = start; j < plain.length(); j++) {
+                if (j > start && j < point && (point - j) % 3 == 0) {
+                    commaGrouped.append(',');
+                }
+                commaGrouped.append(plain.charAt(j));
+            }
+            var pointGrouped = commaGrouped.toString().replace('.', '_').replace(',', '.').replace('_', ',');
+
+            assertParses(expected, DecimalParser.COMMA_GROUPED, commaGrouped.toString());
+            assertParses(expected, DecimalParser.POINT_GROUPED, pointGrouped);
+            assertParses(expected, EURO, pointGrouped + " €");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.loganmallory.decimaljava;
+
+import io.github.loganmallory.decimaljava.annotations.Decimal;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static io.github.loganmallory.decimaljava.Decimal64.*;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"fenum:argument"})
+public class DecimalStreamDecoderTest {
+
+    public static final long RNG_SEED = 111;
+
+    /** Feeds the text in pieces of the given size, through heap or direct buffers, and returns the Decimals */
+    private static long[] decode(String text, char delimiter, int pieceSize, boolean direct) {
+        var decimals = LongStream.builder();
+        var decoder = new DecimalStreamDecoder(delimiter, decimals);
+        var bytes = text.getBytes(US_ASCII);
+        var buf = direct ? ByteBuffer.allocateDirect(pieceSize) : ByteBuffer.allocate(pieceSize + 2).position(1);
+        for (int i = 0; i < bytes.length; i += pieceSize) {
+            buf.clear().position(direct ? 0 : 1);
+            buf.put(bytes, i, Math.min(pieceSize, bytes.length - i));
+            buf.flip().position(direct ? 0 : 1);
+            decoder.feed(buf);
+            assertEquals(buf.limit(), buf.position());
+        }
+        decoder.finish();
+        return decimals.build().toArray();
+    }
+
+    /** Asserts every way of splitting the text decodes the expected Decimals */
+    private static void assertDecodes(@Decimal long[] expected, String text, char delimiter) {
+        for (int pieceSize : new int[]{1, 2, 3, 7, 16, 64, Math.max(1, text.length())}) {
+            assertArrayEquals(expected, decode(text, delimiter, pieceSize, false), () -> "'" + text + "' in pieces of " + pieceSize);
+            assertArrayEquals(expected, decode(text, delimiter, pieceSize, true), () -> "direct '" + text + "' in pieces of " + pieceSize);
+        }
+    }
+
+    private static void assertInvalid(String message, String text) {
+        for (int pieceSize : new int[]{1, 2, 3, 5, Math.max(1, text.length())}) {
+            var ex = assertThrows(NumberFormatException.class, () -> decode(text, ',', pieceSize, false), () -> "'" + text + "' in pieces of " + pieceSize);
+            assertEquals(message, ex.getMessage());
+        }
+    }
+
+    @Test
+    public void fields() {
+        assertDecodes(new long[0], "", ',');
+        assertDecodes(new long[]{fromParts(15, 1)}, "1.5", ',');
+        assertDecodes(new long[]{fromParts(1, 0), fromParts(-25, 1), fromParts(3, 0)}, "1,-2.5\n3\n", ',');
+        assertDecodes(new long[]{fromParts(1, 0), fromParts(2, 0), fromParts(3, 0)}, "1;+2\r\n3\r\n", ';');
+        assertDecodes(new long[]{NAN, POSITIVE_INFINITY, NEGATIVE_INFINITY, fromParts(1, -3), fromParts(5, 0)}, "NaN\t+Infinity\t-Infinity \t1E3\t 5 ", '\t');
+        assertDecodes(new long[]{fromParts(-12, 5), fromParts(12, -7), ZERO, fromParts(5, 1)}, "-1.2e-4,1.2E+8, 0.000 ,.5", ',');
+    }
+
+    @Test
+    public void long_fields() {
+        // far more digits than fit, carried across many pieces
+        var digits = "12345678901234567890".repeat(50);
+        var zeros = "0".repeat(1000);
+        String[] fields = {digits, "0." + zeros + digits, digits + "." + digits, "-" + digits + "E-" + zeros + "5", zeros + "1E" + "9".repeat(30)};
+        @Decimal long[] expected = new long[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            expected[i] = fromString(fields[i]);
+        }
+        assertDecodes(expected, String.join(",", fields), ',');
+    }
+
+    @Test
+    public void invalid() {
+        assertInvalid("Invalid decimal in field 2", "1,,2");
+        assertInvalid("Invalid decimal in field 1", ",1");
+        assertInvalid("Invalid decimal in field 3", "1\n2\n\n");
+        for (var field : List.of("-", "+", ".", "-.", "1-2", "--1", "1..2", "1 2", "- 1", "1E", "1E+", "1E3.5", "1.5EUR", "E5",
+                "NaN1", "-NaN", "Na", "Inf", "Infinityy", "-Infinity1", "abc", " ")) {
+            assertInvalid("Invalid decimal in field 3", "1,2," + field + ",4");
+            assertInvalid("Invalid decimal in field 3", "1,2," + field);
+        }
+
+        // starts over after a reset
+        var decimals = LongStream.builder();
+        var decoder = new DecimalStreamDecoder(',', decimals);
+        assertThrows(NumberFormatException.class, () -> decoder.feed(ByteBuffer.wrap("1,x,".getBytes(US_ASCII))));
+        decoder.reset();
+        decoder.feed(ByteBuffer.wrap("2,3".getBytes(US_ASCII)));
+        decoder.finish();
+        assertArrayEquals(new long[]{fromParts(1, 0), fromParts(2, 0), fromParts(3, 0)}, decimals.build().toArray());
+
+        assertThrows(IllegalArgumentException.class, () -> new DecimalStreamDecoder('\n', d -> {}));
+    }
+
+    @Test
+    public void channel() throws IOException {
+        var decimals = LongStream.builder();
+        var decoder = new DecimalStreamDecoder(',', decimals);
+        var buf = ByteBuffer.allocateDirect(5);
+
+        var channel = Channels.newChannel(new ByteArrayInputStream("1.25,-3\n0.5\n1000000".getBytes(US_ASCII)));
+        assertEquals(4, decoder.decode(channel, buf));
+
+        // the decoder is ready for another stream
+        channel = Channels.newChannel(new ByteArrayInputStream("7,8,".getBytes(US_ASCII)));
+        assertEquals(2, decoder.decode(channel, buf));
+        assertArrayEquals(new long[]{fromParts(125, 2), fromParts(-3, 0), fromParts(5, 1), fromParts(1000000, 0), fromParts(7, 0), fromParts(8, 0)}, decimals.build().toArray());
+    }
+
+    @Test
+    public void random() {
+        // same as fromString on every field
+        var rng = new Random(RNG_SEED);
+        for (int round = 0; round < 200; round++) {
+            int nFields = rng.nextInt(0, 200);
+            @Decimal long[] expected = new long[nFields];
+            var text = new StringBuilder();
+            for (int i = 0; i < nFields; i++) {
+                var value = BigDecimal.valueOf(rng.nextLong() >> rng.nextInt(64), rng.nextInt(-30, 40));
+                var str = switch (rng.nextInt(5)) {
+                    case 0 -> value.toString();
+                    case 1 -> " " + value.toPlainString() + " ";
+                    case 2 -> value.toString().toLowerCase();
+                    default -> value.toPlainString();
+                };
+                expected[i] = fromString(str);
+                text.append(str).append(List.of(",", "\n", "\r\n").get(rng.nextInt(3)));
+            }
+            assertDecodes(expected, text.toString(), ',');
+        }
+    }
+}
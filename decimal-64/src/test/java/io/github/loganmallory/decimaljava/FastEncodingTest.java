@@ -0,0 +1,83 @@
+package io.github.loganmallory.decimaljava;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FastEncodingTest {
+
+    public static final long RNG_SEED = 111;
+
+    /** Asserts val is written same as Long.toString(..), without touching the bytes around it */
+    private static void assert_write_i64(long val) {
+        String expected = Long.toString(val);
+
+        byte[] bytes = new byte[expected.length() + 4];
+        bytes[1] = 'x';
+        bytes[bytes.length - 1] = 'x';
+        assertEquals(expected.length() + 2, FastEncoding.write_i64(val, bytes, 2), () -> "val=" + val);
+        assertEquals("x" + expected + "\0x", new String(bytes, 1, expected.length() + 3, US_ASCII), () -> "val=" + val);
+
+        for (var buf : new ByteBuffer[]{ByteBuffer.allocate(expected.length() + 2), ByteBuffer.allocateDirect(expected.length() + 2)}) {
+            buf.put((byte) 'x');
+            FastEncoding.write_i64(val, buf);
+            buf.put((byte) 'x');
+            assertEquals("x" + expected + "x", US_ASCII.decode(buf.flip()).toString(), () -> "val=" + val);
+        }
+    }
+
+    @Test
+    public void write_i64__bounds() {
+        assert_write_i64(0);
+        assert_write_i64(Long.MAX_VALUE);
+        assert_write_i64(Long.MIN_VALUE);
+        assert_write_i64(Long.MIN_VALUE + 1);
+        long pow = 1;
+        for (int i = 0; i < 19; i++) {
+            for (long delta = -1; delta <= 1; delta++) {
+                assert_write_i64(pow + delta);
+                assert_write_i64(-(pow + delta));
+            }
+            if (i < 18) {
+                assert_write_i64(pow * 10 - 1);
+                pow *= 10;
+            }
+        }
+    }
+
+    @Test
+    public void write_i64__random() {
+        var rng = new Random(RNG_SEED);
+
+        // 10k values of every length
+        for (int i = 0; i < 64; i++) {
+            int shift = i;
+            rng.longs(10_000).forEach(val -> assert_write_i64(val >> shift));
+        }
+    }
+
+    @Test
+    public void write_i64__too_small() {
+        assertThrows(IndexOutOfBoundsException.class, () -> FastEncoding.write_i64(-12345, new byte[5], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> FastEncoding.write_i64(123456789012L, new byte[12], 1));
+        var buf = ByteBuffer.allocate(5);
+        assertThrows(IllegalArgumentException.class, () -> FastEncoding.write_i64(123456, buf));
+        assertEquals(0, buf.position());
+    }
+
+    @Test
+    public void eight_digits__all() {
+        // every 8 digit value, against the parser
+        for (int val = 0; val < 100_000_000; val++) {
+            long digits = FastEncoding.eightDigits(val);
+            assertTrue(FastEncoding.isEightDigits(digits));
+            assertEquals(val, FastEncoding.parseEightDigits(digits));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.loganmallory.decimaljava;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -49,4 +50,152 @@ public class FastMathTest {
             assertEquals(Math.round(Math.pow(10, i)), FastMath.i64TenToThe(i));
         }
     }
+
+    private static BigInteger u128(long hi, long lo) {
+        return new BigInteger(Long.toUnsignedString(hi)).shiftLeft(64).add(new BigInteger(Long.toUnsignedString(lo)));
+    }
+
+    @Test
+    public void u128_ten_to_the_valid() {
+        for (int i = 0; i < 39; i++) {
+            assertEquals(BigInteger.TEN.pow(i), u128(FastMath.U128_TEN_TO_THE_HI[i], FastMath.U128_TEN_TO_THE_LO[i]));
+        }
+    }
+
+    @Test
+    public void n_digits_u128__powers_of_ten() {
+        assertEquals(1, FastMath.nDigitsU128(0, 0));
+        for (int i = 1; i < 39; i++) {
+            long hi = FastMath.U128_TEN_TO_THE_HI[i];
+            long lo = FastMath.U128_TEN_TO_THE_LO[i];
+            assertEquals(i + 1, FastMath.nDigitsU128(hi, lo), "10^" + i);
+            // 10^i - 1
+            assertEquals(i, FastMath.nDigitsU128(lo == 0 ? hi - 1 : hi, lo - 1), "10^" + i + " - 1");
+        }
+        assertEquals(39, FastMath.nDigitsU128(-1, -1));
+    }
+
+    @Test
+    public void n_digits_u128__random() {
+        var rng = new Random(RNG_SEED);
+        for (int i = 0; i < 100_000; i++) {
+            long hi = rng.nextLong() >>> rng.nextInt(64);
+            long lo = rng.nextLong();
+            if (i % 2 == 0) {
+                hi = 0;
+                lo >>>= rng.nextInt(64);
+            }
+            var expected = u128(hi, lo).toString().length();
+            assertEquals(expected, FastMath.nDigitsU128(hi, lo), u128(hi, lo).toString());
+        }
+    }
+
+    @Test
+    public void divide_u128_by_u64__random() {
+        var rng = new Random(RNG_SEED);
+        for (int i = 0; i < 100_000; i++) {
+            long divisor = rng.nextLong() >>> rng.nextInt(64);
+            if (divisor == 0) {
+                divisor = 1;
+            }
+            long hi = Long.remainderUnsigned(rng.nextLong(), divisor); // quotient must fit in 64 bits
+            long lo = rng.nextLong();
+            if (i % 2 == 0) {
+                hi = 0;
+            }
+
+            var dividend = u128(hi, lo);
+            var expected = dividend.divide(new BigInteger(Long.toUnsignedString(divisor)));
+
+            long quotient = FastMath.divideU128ByU64(hi, lo, divisor);
+            assertEquals(expected, new BigInteger(Long.toUnsignedString(quotient)), dividend + " / " + Long.toUnsignedString(divisor));
+        }
+    }
+
+    @Test
+    public void reciprocal_u64__random() {
+        var rng = new Random(RNG_SEED);
+        var max = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+        for (int i = 0; i < 100_000; i++) {
+            long divisor = rng.nextLong() | Long.MIN_VALUE;
+
+            var expected = max.divide(new BigInteger(Long.toUnsignedString(divisor))).subtract(BigInteger.ONE.shiftLeft(64));
+
+            long reciprocal = FastMath.reciprocalU64(divisor);
+            assertEquals(expected, new BigInteger(Long.toUnsignedString(reciprocal)), Long.toUnsignedString(divisor));
+        }
+    }
+
+    @Test
+    public void divide_u128_by_u64_preinv__random() {
+        var rng = new Random(RNG_SEED);
+        for (int i = 0; i < 100_000; i++) {
+            long divisor = rng.nextLong() | Long.MIN_VALUE;
+            if (i % 4 == 0) {
+                // smallest and largest normalized divisors
+                divisor = (i % 8 == 0) ? Long.MIN_VALUE : -1L;
+            }
+            long hi = Long.remainderUnsigned(rng.nextLong(), divisor); // quotient must fit in 64 bits
+            long lo = rng.nextLong();
+            if (i % 3 == 0) {
+                hi = divisor - 1;
+            }
+
+            var dividend = u128(hi, lo);
+            var expected = dividend.divide(new BigInteger(Long.toUnsignedString(divisor)));
+
+            long quotient = FastMath.divideU128ByU64Preinv(hi, lo, divisor, FastMath.reciprocalU64(divisor));
+            assertEquals(expected, new BigInteger(Long.toUnsignedString(quotient)), dividend + " / " + Long.toUnsignedString(divisor));
+        }
+    }
+
+    @Test
+    public void sqrt_u128__random() {
+        var rng = new Random(RNG_SEED);
+        for (int i = 0; i < 100_000; i++) {
+            long hi = rng.nextLong() >>> (2 + rng.nextInt(62));
+            long lo = rng.nextLong();
+            if (i % 5 == 0) {
+                // perfect squares and their neighbours
+                long root = rng.nextLong() >>> 1;
+                hi = Math.unsignedMultiplyHigh(root, root);
+                lo = root * root + (i % 3) - 1;
+                if (lo == -1L && (i % 3) == 0) {
+                    hi--;
+                }
+            }
+
+            var value = u128(hi, lo);
+            long root = FastMath.sqrtU128(hi, lo);
+            assertEquals(value.sqrt(), new BigInteger(Long.toUnsignedString(root)), value.toString());
+        }
+
+        assertEquals(0, FastMath.sqrtU128(0, 0));
+        assertEquals(1, FastMath.sqrtU128(0, 3));
+        assertEquals(2, FastMath.sqrtU128(0, 4));
+        assertEquals(0x7fffffffffffffffL, FastMath.sqrtU128(0x3fffffffffffffffL, -1L));
+    }
+
+    @Test
+    public void multiply_u128_bits__random() {
+        var rng = new Random(RNG_SEED);
+        var mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int i = 0; i < 100_000; i++) {
+            long aHi = rng.nextLong() >>> rng.nextInt(64);
+            long aLo = rng.nextLong();
+            long bHi = rng.nextLong() >>> rng.nextInt(64);
+            long bLo = rng.nextLong();
+            if (i % 7 == 0) {
+                // all ones, every carry is taken
+                aHi = aLo = bHi = bLo = -1L;
+            }
+            int shift = rng.nextInt(260);
+
+            var product = u128(aHi, aLo).multiply(u128(bHi, bLo));
+            var expected = product.shiftRight(shift).and(mask);
+
+            long bits = FastMath.multiplyU128Bits(aHi, aLo, bHi, bLo, shift);
+            assertEquals(expected, new BigInteger(Long.toUnsignedString(bits)), product + " >>> " + shift);
+        }
+    }
 }
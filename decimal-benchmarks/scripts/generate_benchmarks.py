@@ -1,3 +1,20 @@
+import sys
+
+BIG_DECIMAL_CALLS = {
+    'add': 'a.add(b, MathContext.DECIMAL64)',
+    'mul': 'a.multiply(b, MathContext.DECIMAL64)',
+    'div': 'a.divide(b, MathContext.DECIMAL64)',
+    'fma': 'a.multiply(b).add(c, MathContext.DECIMAL64)',
+    'mulDiv': 'a.multiply(b).divide(c, MathContext.DECIMAL64)',
+}
+
+# a, b, c methods, and the two rounding Decimal64 calls they replace
+TWO_STEP_CALLS = {
+    'fma': ('mul_add', 'Decimal64.add(Decimal64.mul(a, b), c)'),
+    'mulDiv': ('mul_div', 'Decimal64.div(Decimal64.mul(a, b), c)'),
+}
+
+
 def create_benchmark_d64(method: str, a_n_digits: int, b_n_digits: int):
     return f"""
 @Benchmark
@@ -7,7 +24,7 @@ public long decimal64_{method}_{a_n_digits}_{b_n_digits}(JmhState s) {{
     
     if (s.idx == (s.N - 2)) s.idx = 0;
     
-    return Decimal64.add(a, b);
+    return Decimal64.{method}(a, b);
 }}
 """
 
@@ -21,21 +38,260 @@ public BigDecimal bigDecimal_{method}_{a_n_digits}_{b_n_digits}(JmhState s) {{
     
     if (s.idx == (s.N - 2)) s.idx = 0;
 
-    return a.add(b, MathContext.DECIMAL64);
+    return {BIG_DECIMAL_CALLS[method]};
+}}
+"""
+
+
+def create_benchmark_d64_abc(method: str, n_digits: int):
+    two_step_name, two_step_call = TWO_STEP_CALLS[method]
+    return f"""
+@Benchmark
+public long decimal64_{method}_{n_digits}_{n_digits}_{n_digits}(JmhState s) {{
+    @Decimal long a = s.decimalSamples[{n_digits}][s.idx++];
+    @Decimal long b = s.decimalSamples[{n_digits}][s.idx++];
+    @Decimal long c = s.decimalSamples[{n_digits}][s.idx++];
+    
+    if (s.idx > (s.N - 3)) s.idx = 0;
+    
+    return Decimal64.{method}(a, b, c);
+}}
+
+@Benchmark
+public long decimal64_{two_step_name}_{n_digits}_{n_digits}_{n_digits}(JmhState s) {{
+    @Decimal long a = s.decimalSamples[{n_digits}][s.idx++];
+    @Decimal long b = s.decimalSamples[{n_digits}][s.idx++];
+    @Decimal long c = s.decimalSamples[{n_digits}][s.idx++];
+    
+    if (s.idx > (s.N - 3)) s.idx = 0;
+    
+    return {two_step_call};
+}}
+"""
+
+
+def create_benchmark_bd_abc(method: str, n_digits: int):
+    return f"""
+@Benchmark
+public BigDecimal bigDecimal_{method}_{n_digits}_{n_digits}_{n_digits}(JmhState s) {{
+    BigDecimal a = s.bigDecimalSamples[{n_digits}][s.idx++];
+    BigDecimal b = s.bigDecimalSamples[{n_digits}][s.idx++];
+    BigDecimal c = s.bigDecimalSamples[{n_digits}][s.idx++];
+    
+    if (s.idx > (s.N - 3)) s.idx = 0;
+
+    return {BIG_DECIMAL_CALLS[method]};
+}}
+"""
+
+
+# specialised integer operand methods, and the generic call they replace
+I64_CALLS = {
+    'mulByI64': 'Decimal64.mul(a, Decimal64.fromI64(b))',
+    'divByI64': 'Decimal64.div(a, Decimal64.fromI64(b))',
+    'addI64': 'Decimal64.add(a, Decimal64.fromI64(b))',
+}
+
+
+def create_benchmark_d64_i64(method: str, a_n_digits: int, b_n_digits: int):
+    return f"""
+@Benchmark
+public long decimal64_{method}_{a_n_digits}_{b_n_digits}(JmhState s) {{
+    @Decimal long a = s.decimalSamples[{a_n_digits}][s.idx++];
+    long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[{b_n_digits}][s.idx++]);
+    
+    if (s.idx == (s.N - 2)) s.idx = 0;
+    
+    return Decimal64.{method}(a, b);
+}}
+
+@Benchmark
+public long decimal64_{method}_generic_{a_n_digits}_{b_n_digits}(JmhState s) {{
+    @Decimal long a = s.decimalSamples[{a_n_digits}][s.idx++];
+    long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[{b_n_digits}][s.idx++]);
+    
+    if (s.idx == (s.N - 2)) s.idx = 0;
+    
+    return {I64_CALLS[method]};
+}}
+"""
+
+
+def create_benchmark_d64_move_point(n: int):
+    return f"""
+@Benchmark
+public long decimal64_movePointLeft_{n}(JmhState s) {{
+    @Decimal long a = s.decimalSamples[16][s.idx++];
+    
+    if (s.idx == (s.N - 1)) s.idx = 0;
+    
+    return Decimal64.movePointLeft(a, {n});
+}}
+
+@Benchmark
+public long decimal64_movePointLeft_generic_{n}(JmhState s) {{
+    @Decimal long a = s.decimalSamples[16][s.idx++];
+    
+    if (s.idx == (s.N - 1)) s.idx = 0;
+    
+    return Decimal64.mul(a, Decimal64.fromParts(1, {n}));
 }}
 """
 
 
+def create_benchmark_d64_divisor(a_n_digits: int, b_n_digits: int):
+    return f"""
+@Benchmark
+public long decimal64_divisor_{a_n_digits}_{b_n_digits}(JmhState s) {{
+    @Decimal long a = s.decimalSamples[{a_n_digits}][s.idx++];
+    
+    if (s.idx == (s.N - 1)) s.idx = 0;
+    
+    return s.divisors[{b_n_digits}].divide(a);
+}}
+
+@Benchmark
+public long decimal64_divisor_div_{a_n_digits}_{b_n_digits}(JmhState s) {{
+    @Decimal long a = s.decimalSamples[{a_n_digits}][s.idx++];
+    
+    if (s.idx == (s.N - 1)) s.idx = 0;
+    
+    return Decimal64.div(a, s.divisors[{b_n_digits}].getDivisor());
+}}
+"""
+
+
+def create_benchmark_sqrt(n_digits: int):
+    # negative samples are made positive, BigDecimal.sqrt(..) throws on them
+    return f"""
+@Benchmark
+public long decimal64_sqrt_{n_digits}(JmhState s) {{
+    @Decimal long a = Decimal64.abs(s.decimalSamples[{n_digits}][s.idx++]);
+    
+    if (s.idx == (s.N - 1)) s.idx = 0;
+    
+    return Decimal64.sqrt(a);
+}}
+
+@Benchmark
+public BigDecimal bigDecimal_sqrt_{n_digits}(JmhState s) {{
+    BigDecimal a = s.bigDecimalSamples[{n_digits}][s.idx++].abs();
+    
+    if (s.idx == (s.N - 1)) s.idx = 0;
+
+    return a.sqrt(MathContext.DECIMAL64);
+}}
+"""
+
+
+# exp(..) and pow(..) read the samples scaled into (-10, 10), on the full exponent range they'd nearly all overflow or underflow
+TRANSCENDENTAL_CALLS = {
+    'exp': ('s.unitSamples[{n}][s.idx++]', None),
+    'ln': ('Decimal64.abs(s.decimalSamples[{n}][s.idx++])', None),
+    'log10': ('Decimal64.abs(s.decimalSamples[{n}][s.idx++])', None),
+    'pow': ('Decimal64.abs(s.unitSamples[{n}][s.idx++])', 's.unitSamples[{n}][s.idx++]'),
+}
+
+
+def create_benchmark_transcendental(method: str, n_digits: int):
+    a, b = TRANSCENDENTAL_CALLS[method]
+    if b is None:
+        return f"""
+@Benchmark
+public long decimal64_{method}_{n_digits}(JmhState s) {{
+    @Decimal long a = {a.format(n=n_digits)};
+    
+    if (s.idx == (s.N - 1)) s.idx = 0;
+    
+    return Decimal64.{method}(a);
+}}
+"""
+    return f"""
+@Benchmark
+public long decimal64_{method}_{n_digits}(JmhState s) {{
+    @Decimal long a = {a.format(n=n_digits)};
+    @Decimal long b = {b.format(n=n_digits)};
+    
+    if (s.idx == (s.N - 2)) s.idx = 0;
+    
+    return Decimal64.{method}(a, b);
+}}
+"""
+
+
+# the same text samples parsed from a byte[], a direct ByteBuffer, the old ByteBuffer -> CharSequence path, and a String
+FROM_ASCII_CALLS = {
+    'bytes': 'Decimal64.fromAscii(s.asciiSamples[{n}], offset, len)',
+    'direct': 'Decimal64.fromAscii(s.asciiDirectSamples[{n}], offset, len)',
+    'charSeq': 'Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[{n}], offset, len)',
+    'string': 'Decimal64.fromString(s.stringSamples[{n}][s.textIdx])',
+}
+
+
+def create_benchmark_from_ascii(variant: str, n_digits: int):
+    return f"""
+@Benchmark
+public long decimal64_fromAscii_{variant}_{n_digits}(JmhState s) {{
+    int offset = s.asciiOffsets[{n_digits}][s.textIdx];
+    int len = s.asciiOffsets[{n_digits}][s.textIdx + 1] - offset;
+    long decimal = {FROM_ASCII_CALLS[variant].format(n=n_digits)};
+    
+    if (++s.textIdx == s.M) s.textIdx = 0;
+    
+    return decimal;
+}}
+"""
+
+
+def digit_pairs(method: str):
+    if method == 'add':
+        # every combination of digits
+        return [(i, j) for i in range(17) for j in range(i, 17)]
+    if method == 'div':
+        # same number of digits, skipping 0 digits (division by zero)
+        return [(i, i) for i in range(1, 17)]
+    # same number of digits, the larger ones overflow an i64 product
+    return [(i, i) for i in range(17)]
+
+
+# e.g. `python generate_benchmarks.py mul`, or `mulByI64`, `divByI64`, `addI64`, `movePointLeft`, `divisor`, `sqrt`, `exp`, `ln`, `log10`, `pow`, `fromAscii`
+method = sys.argv[1] if len(sys.argv) > 1 else 'add'
+
 benchmarks = []
 
-for i in range(17):
-    for j in range(i, 17):
+if method in TWO_STEP_CALLS:
+    # a, b and c have the same number of digits, skipping 0 digits for mulDiv (division by zero)
+    for i in range(0 if method == 'fma' else 1, 17):
         benchmarks += [
-            create_benchmark_d64('add', i, j),
-            create_benchmark_bd('add', i, j)
+            create_benchmark_d64_abc(method, i),
+            create_benchmark_bd_abc(method, i)
+        ]
+elif method in I64_CALLS:
+    # same number of digits, skipping 0 digits (division by zero)
+    for i in range(1, 17):
+        benchmarks += [create_benchmark_d64_i64(method, i, i)]
+elif method == 'divisor':
+    # same number of digits, dividing by one reused DecimalDivisor, skipping 0 digits (division by zero)
+    for i in range(1, 17):
+        benchmarks += [create_benchmark_d64_divisor(i, i)]
+elif method == 'sqrt':
+    for i in range(1, 17):
+        benchmarks += [create_benchmark_sqrt(i)]
+elif method in TRANSCENDENTAL_CALLS:
+    for i in range(1, 17):
+        benchmarks += [create_benchmark_transcendental(method, i)]
+elif method == 'fromAscii':
+    for i in range(1, 17):
+        benchmarks += [create_benchmark_from_ascii(variant, i) for variant in FROM_ASCII_CALLS]
+elif method == 'movePointLeft':
+    for i in range(1, 17):
+        benchmarks += [create_benchmark_d64_move_point(i)]
+else:
+    for i, j in digit_pairs(method):
+        benchmarks += [
+            create_benchmark_d64(method, i, j),
+            create_benchmark_bd(method, i, j)
         ]
 
 
 print(''.join(benchmarks))
-
-
@@ -2,19 +2,32 @@ package io.github.loganmallory;
 
 
 import io.github.loganmallory.decimaljava.Decimal64;
+import io.github.loganmallory.decimaljava.DecimalBulkParser;
+import io.github.loganmallory.decimaljava.DecimalColumnLoader;
+import io.github.loganmallory.decimaljava.DecimalDivisor;
+import io.github.loganmallory.decimaljava.DecimalStreamDecoder;
+import io.github.loganmallory.decimaljava.FastEncoding;
+import io.github.loganmallory.decimaljava.FastMath;
 import io.github.loganmallory.decimaljava.annotations.Decimal;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.profile.AsyncProfiler;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static io.github.loganmallory.decimaljava.Decimal64.Internal.PRECISION;
@@ -32,26 +45,77 @@ public class Decimal64Bench {
 
         private final BigDecimal[][] bigDecimalSamples = new BigDecimal[K][N];
 
+        private final DecimalDivisor[] divisors = new DecimalDivisor[K];
+
+        /** The same mantissas as decimalSamples, scaled into (-10, 10) */
+        private final @Decimal long[][] unitSamples = new long[K][N];
+
         private int idx = 0;
 
+        /** The number of text samples per digit count, the plain strings of the first M unitSamples */
+        private final int M = 10_000;
+
+        private final String[][] stringSamples = new String[K][M];
+
+        /** The ASCII text samples back to back, sample i is [asciiOffsets[i], asciiOffsets[i + 1]) */
+        private final byte[][] asciiSamples = new byte[K][];
+
+        private final int[][] asciiOffsets = new int[K][M + 1];
+
+        /** The same text as asciiSamples, as chars */
+        private final char[][] charSamples = new char[K][];
+
+        /** The same bytes as asciiSamples, in direct buffers */
+        private final ByteBuffer[] asciiDirectSamples = new ByteBuffer[K];
+
+        /** The direct buffers wrapped as CharSequences, how fromString(ByteBuffer) used to parse them */
+        private final Decimal64.Internal.Convert.Str.ByteBufferCharSequence[] asciiCharSeqSamples = new Decimal64.Internal.Convert.Str.ByteBufferCharSequence[K];
+
+        private int textIdx = 0;
+
         @Setup(Level.Trial)
         public void setup() {
             var rng = new Random(111);
-            int bound = 1;
+            long bound = 1;
             for (int p = 0; p < K; p++) {
 
                 long[] decimals = decimalSamples[p];
                 BigDecimal[] bigDecimals = bigDecimalSamples[p];
+                long[] units = unitSamples[p];
 
                 for (int i = 0; i < N; i++) {
                     // create random decimal
-                    long mantissa = rng.nextInt() % bound;
+                    long mantissa = rng.nextLong() % bound;
                     int exponent = rng.nextInt(-255, 256);
                     decimals[i] = Decimal64.fromParts(mantissa, exponent);
 
                     // create random big decimal
                     bigDecimals[i] = BigDecimal.valueOf(mantissa, exponent).stripTrailingZeros();
+
+                    // same mantissa, with a single integer digit
+                    units[i] = Decimal64.fromParts(mantissa, FastMath.nDigits(Math.abs(mantissa)) - 1);
+                }
+
+                // reused divisor, the first non-zero sample
+                for (long decimal : decimals) {
+                    if (decimal != Decimal64.ZERO) {
+                        divisors[p] = new DecimalDivisor(decimal);
+                        break;
+                    }
+                }
+
+                // text samples
+                var text = new StringBuilder();
+                for (int i = 0; i < M; i++) {
+                    stringSamples[p][i] = Decimal64.toString(units[i]);
+                    asciiOffsets[p][i] = text.length();
+                    text.append(stringSamples[p][i]);
                 }
+                asciiOffsets[p][M] = text.length();
+                asciiSamples[p] = text.toString().getBytes(StandardCharsets.US_ASCII);
+                charSamples[p] = text.toString().toCharArray();
+                asciiDirectSamples[p] = ByteBuffer.allocateDirect(asciiSamples[p].length).put(asciiSamples[p]).flip();
+                asciiCharSeqSamples[p] = new Decimal64.Internal.Convert.Str.ByteBufferCharSequence(asciiDirectSamples[p]);
 
                 bound *= 10;
             }
@@ -60,6 +124,7 @@ public class Decimal64Bench {
         @Setup(Level.Invocation)
         public void reset() {
             idx = 0;
+            textIdx = 0;
         }
     }
 
@@ -3132,32 +3197,5476 @@ public class Decimal64Bench {
                 return a.add(b, MathContext.DECIMAL64);
             }
         }
-    }
 
+        public static class Mul {
 
-    public static void main(String[] args) throws Exception {
-        var classes = Decimal64Bench.class.getName() + ".*";
-        boolean profile = true;
-        var mode = Mode.All;
-        var outFmt = ResultFormatType.JSON;
+            @Benchmark
+            public long decimal64_mul_0_0(JmhState s) {
+                @Decimal long a = s.decimalSamples[0][s.idx++];
+                @Decimal long b = s.decimalSamples[0][s.idx++];
 
-        var outFolder = Paths.get(String.format("decimal-benchmarks/results/%s-%s", classes.replaceAll("\\*", ""), mode));
-        Files.createDirectories(outFolder);
+                if (s.idx == (s.N - 2)) s.idx = 0;
 
-        var jmhOpts = new OptionsBuilder()
-                .include(classes)
-                .forks(1)
-                .mode(mode)
-                // warmup
-                .warmupForks(0)
-                .warmupIterations(1)
-                .warmupTime(TimeValue.milliseconds(100))
-                // measurement
-                .measurementIterations(5)
-                .measurementTime(TimeValue.milliseconds(10))
-                // output
-                .result(outFolder + "/summary." + outFmt.name().toLowerCase())
-                .resultFormat(outFmt);
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_0_0(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[0][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[0][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                @Decimal long b = s.decimalSamples[1][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_1_1(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[1][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[1][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                @Decimal long b = s.decimalSamples[2][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_2_2(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[2][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[2][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                @Decimal long b = s.decimalSamples[3][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_3_3(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[3][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[3][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                @Decimal long b = s.decimalSamples[4][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_4_4(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[4][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[4][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                @Decimal long b = s.decimalSamples[5][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_5_5(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[5][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[5][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                @Decimal long b = s.decimalSamples[6][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_6_6(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[6][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[6][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                @Decimal long b = s.decimalSamples[7][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_7_7(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[7][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[7][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                @Decimal long b = s.decimalSamples[8][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_8_8(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[8][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[8][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                @Decimal long b = s.decimalSamples[9][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_9_9(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[9][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[9][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                @Decimal long b = s.decimalSamples[10][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_10_10(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[10][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[10][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                @Decimal long b = s.decimalSamples[11][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_11_11(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[11][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[11][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                @Decimal long b = s.decimalSamples[12][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_12_12(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[12][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[12][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                @Decimal long b = s.decimalSamples[13][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_13_13(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[13][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[13][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                @Decimal long b = s.decimalSamples[14][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_14_14(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[14][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[14][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                @Decimal long b = s.decimalSamples[15][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_15_15(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[15][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[15][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mul_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                @Decimal long b = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mul_16_16(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[16][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.multiply(b, MathContext.DECIMAL64);
+            }
+        }
+
+        public static class Div {
+
+            @Benchmark
+            public long decimal64_div_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                @Decimal long b = s.decimalSamples[1][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_1_1(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[1][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[1][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                @Decimal long b = s.decimalSamples[2][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_2_2(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[2][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[2][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                @Decimal long b = s.decimalSamples[3][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_3_3(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[3][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[3][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                @Decimal long b = s.decimalSamples[4][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_4_4(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[4][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[4][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                @Decimal long b = s.decimalSamples[5][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_5_5(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[5][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[5][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                @Decimal long b = s.decimalSamples[6][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_6_6(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[6][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[6][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                @Decimal long b = s.decimalSamples[7][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_7_7(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[7][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[7][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                @Decimal long b = s.decimalSamples[8][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_8_8(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[8][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[8][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                @Decimal long b = s.decimalSamples[9][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_9_9(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[9][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[9][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                @Decimal long b = s.decimalSamples[10][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_10_10(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[10][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[10][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                @Decimal long b = s.decimalSamples[11][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_11_11(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[11][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[11][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                @Decimal long b = s.decimalSamples[12][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_12_12(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[12][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[12][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                @Decimal long b = s.decimalSamples[13][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_13_13(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[13][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[13][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                @Decimal long b = s.decimalSamples[14][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_14_14(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[14][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[14][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                @Decimal long b = s.decimalSamples[15][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_15_15(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[15][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[15][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_div_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                @Decimal long b = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, b);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_div_16_16(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[16][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return a.divide(b, MathContext.DECIMAL64);
+            }
+        }
+
+        public static class Fma {
+
+            @Benchmark
+            public long decimal64_fma_0_0_0(JmhState s) {
+                @Decimal long a = s.decimalSamples[0][s.idx++];
+                @Decimal long b = s.decimalSamples[0][s.idx++];
+                @Decimal long c = s.decimalSamples[0][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_0_0_0(JmhState s) {
+                @Decimal long a = s.decimalSamples[0][s.idx++];
+                @Decimal long b = s.decimalSamples[0][s.idx++];
+                @Decimal long c = s.decimalSamples[0][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_0_0_0(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[0][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[0][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[0][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_1_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                @Decimal long b = s.decimalSamples[1][s.idx++];
+                @Decimal long c = s.decimalSamples[1][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_1_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                @Decimal long b = s.decimalSamples[1][s.idx++];
+                @Decimal long c = s.decimalSamples[1][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_1_1_1(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[1][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[1][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[1][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_2_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                @Decimal long b = s.decimalSamples[2][s.idx++];
+                @Decimal long c = s.decimalSamples[2][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_2_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                @Decimal long b = s.decimalSamples[2][s.idx++];
+                @Decimal long c = s.decimalSamples[2][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_2_2_2(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[2][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[2][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[2][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_3_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                @Decimal long b = s.decimalSamples[3][s.idx++];
+                @Decimal long c = s.decimalSamples[3][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_3_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                @Decimal long b = s.decimalSamples[3][s.idx++];
+                @Decimal long c = s.decimalSamples[3][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_3_3_3(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[3][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[3][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[3][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_4_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                @Decimal long b = s.decimalSamples[4][s.idx++];
+                @Decimal long c = s.decimalSamples[4][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_4_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                @Decimal long b = s.decimalSamples[4][s.idx++];
+                @Decimal long c = s.decimalSamples[4][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_4_4_4(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[4][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[4][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[4][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_5_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                @Decimal long b = s.decimalSamples[5][s.idx++];
+                @Decimal long c = s.decimalSamples[5][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_5_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                @Decimal long b = s.decimalSamples[5][s.idx++];
+                @Decimal long c = s.decimalSamples[5][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_5_5_5(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[5][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[5][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[5][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_6_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                @Decimal long b = s.decimalSamples[6][s.idx++];
+                @Decimal long c = s.decimalSamples[6][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_6_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                @Decimal long b = s.decimalSamples[6][s.idx++];
+                @Decimal long c = s.decimalSamples[6][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_6_6_6(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[6][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[6][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[6][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_7_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                @Decimal long b = s.decimalSamples[7][s.idx++];
+                @Decimal long c = s.decimalSamples[7][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_7_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                @Decimal long b = s.decimalSamples[7][s.idx++];
+                @Decimal long c = s.decimalSamples[7][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_7_7_7(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[7][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[7][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[7][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_8_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                @Decimal long b = s.decimalSamples[8][s.idx++];
+                @Decimal long c = s.decimalSamples[8][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_8_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                @Decimal long b = s.decimalSamples[8][s.idx++];
+                @Decimal long c = s.decimalSamples[8][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_8_8_8(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[8][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[8][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[8][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_9_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                @Decimal long b = s.decimalSamples[9][s.idx++];
+                @Decimal long c = s.decimalSamples[9][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_9_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                @Decimal long b = s.decimalSamples[9][s.idx++];
+                @Decimal long c = s.decimalSamples[9][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_9_9_9(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[9][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[9][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[9][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_10_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                @Decimal long b = s.decimalSamples[10][s.idx++];
+                @Decimal long c = s.decimalSamples[10][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_10_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                @Decimal long b = s.decimalSamples[10][s.idx++];
+                @Decimal long c = s.decimalSamples[10][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_10_10_10(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[10][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[10][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[10][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_11_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                @Decimal long b = s.decimalSamples[11][s.idx++];
+                @Decimal long c = s.decimalSamples[11][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_11_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                @Decimal long b = s.decimalSamples[11][s.idx++];
+                @Decimal long c = s.decimalSamples[11][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_11_11_11(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[11][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[11][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[11][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_12_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                @Decimal long b = s.decimalSamples[12][s.idx++];
+                @Decimal long c = s.decimalSamples[12][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_12_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                @Decimal long b = s.decimalSamples[12][s.idx++];
+                @Decimal long c = s.decimalSamples[12][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_12_12_12(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[12][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[12][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[12][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_13_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                @Decimal long b = s.decimalSamples[13][s.idx++];
+                @Decimal long c = s.decimalSamples[13][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_13_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                @Decimal long b = s.decimalSamples[13][s.idx++];
+                @Decimal long c = s.decimalSamples[13][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_13_13_13(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[13][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[13][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[13][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_14_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                @Decimal long b = s.decimalSamples[14][s.idx++];
+                @Decimal long c = s.decimalSamples[14][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_14_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                @Decimal long b = s.decimalSamples[14][s.idx++];
+                @Decimal long c = s.decimalSamples[14][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_14_14_14(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[14][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[14][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[14][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_15_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                @Decimal long b = s.decimalSamples[15][s.idx++];
+                @Decimal long c = s.decimalSamples[15][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_15_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                @Decimal long b = s.decimalSamples[15][s.idx++];
+                @Decimal long c = s.decimalSamples[15][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_15_15_15(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[15][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[15][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[15][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_fma_16_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                @Decimal long b = s.decimalSamples[16][s.idx++];
+                @Decimal long c = s.decimalSamples[16][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.fma(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_add_16_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                @Decimal long b = s.decimalSamples[16][s.idx++];
+                @Decimal long c = s.decimalSamples[16][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.add(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_fma_16_16_16(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[16][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[16][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[16][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).add(c, MathContext.DECIMAL64);
+            }
+        }
+
+        public static class MulDiv {
+
+            @Benchmark
+            public long decimal64_mulDiv_1_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                @Decimal long b = s.decimalSamples[1][s.idx++];
+                @Decimal long c = s.decimalSamples[1][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_1_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                @Decimal long b = s.decimalSamples[1][s.idx++];
+                @Decimal long c = s.decimalSamples[1][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_1_1_1(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[1][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[1][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[1][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_2_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                @Decimal long b = s.decimalSamples[2][s.idx++];
+                @Decimal long c = s.decimalSamples[2][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_2_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                @Decimal long b = s.decimalSamples[2][s.idx++];
+                @Decimal long c = s.decimalSamples[2][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_2_2_2(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[2][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[2][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[2][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_3_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                @Decimal long b = s.decimalSamples[3][s.idx++];
+                @Decimal long c = s.decimalSamples[3][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_3_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                @Decimal long b = s.decimalSamples[3][s.idx++];
+                @Decimal long c = s.decimalSamples[3][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_3_3_3(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[3][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[3][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[3][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_4_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                @Decimal long b = s.decimalSamples[4][s.idx++];
+                @Decimal long c = s.decimalSamples[4][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_4_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                @Decimal long b = s.decimalSamples[4][s.idx++];
+                @Decimal long c = s.decimalSamples[4][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_4_4_4(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[4][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[4][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[4][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_5_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                @Decimal long b = s.decimalSamples[5][s.idx++];
+                @Decimal long c = s.decimalSamples[5][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_5_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                @Decimal long b = s.decimalSamples[5][s.idx++];
+                @Decimal long c = s.decimalSamples[5][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_5_5_5(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[5][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[5][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[5][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_6_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                @Decimal long b = s.decimalSamples[6][s.idx++];
+                @Decimal long c = s.decimalSamples[6][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_6_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                @Decimal long b = s.decimalSamples[6][s.idx++];
+                @Decimal long c = s.decimalSamples[6][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_6_6_6(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[6][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[6][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[6][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_7_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                @Decimal long b = s.decimalSamples[7][s.idx++];
+                @Decimal long c = s.decimalSamples[7][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_7_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                @Decimal long b = s.decimalSamples[7][s.idx++];
+                @Decimal long c = s.decimalSamples[7][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_7_7_7(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[7][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[7][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[7][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_8_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                @Decimal long b = s.decimalSamples[8][s.idx++];
+                @Decimal long c = s.decimalSamples[8][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_8_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                @Decimal long b = s.decimalSamples[8][s.idx++];
+                @Decimal long c = s.decimalSamples[8][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_8_8_8(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[8][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[8][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[8][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_9_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                @Decimal long b = s.decimalSamples[9][s.idx++];
+                @Decimal long c = s.decimalSamples[9][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_9_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                @Decimal long b = s.decimalSamples[9][s.idx++];
+                @Decimal long c = s.decimalSamples[9][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_9_9_9(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[9][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[9][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[9][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_10_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                @Decimal long b = s.decimalSamples[10][s.idx++];
+                @Decimal long c = s.decimalSamples[10][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_10_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                @Decimal long b = s.decimalSamples[10][s.idx++];
+                @Decimal long c = s.decimalSamples[10][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_10_10_10(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[10][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[10][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[10][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_11_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                @Decimal long b = s.decimalSamples[11][s.idx++];
+                @Decimal long c = s.decimalSamples[11][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_11_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                @Decimal long b = s.decimalSamples[11][s.idx++];
+                @Decimal long c = s.decimalSamples[11][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_11_11_11(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[11][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[11][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[11][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_12_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                @Decimal long b = s.decimalSamples[12][s.idx++];
+                @Decimal long c = s.decimalSamples[12][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_12_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                @Decimal long b = s.decimalSamples[12][s.idx++];
+                @Decimal long c = s.decimalSamples[12][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_12_12_12(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[12][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[12][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[12][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_13_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                @Decimal long b = s.decimalSamples[13][s.idx++];
+                @Decimal long c = s.decimalSamples[13][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_13_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                @Decimal long b = s.decimalSamples[13][s.idx++];
+                @Decimal long c = s.decimalSamples[13][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_13_13_13(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[13][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[13][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[13][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_14_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                @Decimal long b = s.decimalSamples[14][s.idx++];
+                @Decimal long c = s.decimalSamples[14][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_14_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                @Decimal long b = s.decimalSamples[14][s.idx++];
+                @Decimal long c = s.decimalSamples[14][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_14_14_14(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[14][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[14][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[14][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_15_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                @Decimal long b = s.decimalSamples[15][s.idx++];
+                @Decimal long c = s.decimalSamples[15][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_15_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                @Decimal long b = s.decimalSamples[15][s.idx++];
+                @Decimal long c = s.decimalSamples[15][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_15_15_15(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[15][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[15][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[15][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_mulDiv_16_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                @Decimal long b = s.decimalSamples[16][s.idx++];
+                @Decimal long c = s.decimalSamples[16][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.mulDiv(a, b, c);
+            }
+
+            @Benchmark
+            public long decimal64_mul_div_16_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                @Decimal long b = s.decimalSamples[16][s.idx++];
+                @Decimal long c = s.decimalSamples[16][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return Decimal64.div(Decimal64.mul(a, b), c);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_mulDiv_16_16_16(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[16][s.idx++];
+                BigDecimal b = s.bigDecimalSamples[16][s.idx++];
+                BigDecimal c = s.bigDecimalSamples[16][s.idx++];
+
+                if (s.idx > (s.N - 3)) s.idx = 0;
+
+                return a.multiply(b).divide(c, MathContext.DECIMAL64);
+            }
+        }
+
+        public static class WithI64 {
+
+            @Benchmark
+            public long decimal64_mulByI64_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+                long b = Decimal64.Internal.Data.getMantissa(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+        }
+
+        /** A few 16 digit Decimals and 1 to 9 digit integers, e.g. prices and quantities, small enough to stay in cache */
+        @State(Scope.Thread)
+        public static class I64OperandState {
+
+            private final int N = 1024;
+
+            private final @Decimal long[] decimals = new long[N];
+
+            private final long[] integers = new long[N];
+
+            private int idx = 0;
+
+            @Setup(Level.Trial)
+            public void setup() {
+                var rng = new Random(111);
+                for (int i = 0; i < N; i++) {
+                    decimals[i] = Decimal64.fromParts(rng.nextLong(1_000_000_000_000_000L, 10_000_000_000_000_000L), rng.nextInt(0, 17));
+                    long integer = rng.nextLong(1, FastMath.i64TenToThe(rng.nextInt(1, 10)));
+                    integers[i] = rng.nextBoolean() ? integer : -integer;
+                }
+            }
+        }
+
+        /** Same as {@link WithI64}, without the cost of loading samples from memory, to show the gap between the two calls */
+        public static class WithI64Hot {
+
+            @Benchmark
+            public long decimal64_mulByI64_hot(I64OperandState o) {
+                @Decimal long a = o.decimals[o.idx];
+                long b = o.integers[o.idx];
+
+                o.idx = (o.idx + 1) & (o.N - 1);
+
+                return Decimal64.mulByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_mulByI64_generic_hot(I64OperandState o) {
+                @Decimal long a = o.decimals[o.idx];
+                long b = o.integers[o.idx];
+
+                o.idx = (o.idx + 1) & (o.N - 1);
+
+                return Decimal64.mul(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_hot(I64OperandState o) {
+                @Decimal long a = o.decimals[o.idx];
+                long b = o.integers[o.idx];
+
+                o.idx = (o.idx + 1) & (o.N - 1);
+
+                return Decimal64.divByI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_divByI64_generic_hot(I64OperandState o) {
+                @Decimal long a = o.decimals[o.idx];
+                long b = o.integers[o.idx];
+
+                o.idx = (o.idx + 1) & (o.N - 1);
+
+                return Decimal64.div(a, Decimal64.fromI64(b));
+            }
+
+            @Benchmark
+            public long decimal64_addI64_hot(I64OperandState o) {
+                @Decimal long a = o.decimals[o.idx];
+                long b = o.integers[o.idx];
+
+                o.idx = (o.idx + 1) & (o.N - 1);
+
+                return Decimal64.addI64(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_addI64_generic_hot(I64OperandState o) {
+                @Decimal long a = o.decimals[o.idx];
+                long b = o.integers[o.idx];
+
+                o.idx = (o.idx + 1) & (o.N - 1);
+
+                return Decimal64.add(a, Decimal64.fromI64(b));
+            }
+        }
+
+        public static class MovePoint {
+
+            @Benchmark
+            public long decimal64_movePointLeft_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 1);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 1));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 2);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 2));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 3);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 3));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 4);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 4));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 5);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 5));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 6);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 6));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 7);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 7));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 8);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 8));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 9);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 9));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 10);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 10));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 11);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 11));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 12);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 12));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 13);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 13));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 14);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 14));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 15);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 15));
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.movePointLeft(a, 16);
+            }
+
+            @Benchmark
+            public long decimal64_movePointLeft_generic_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.mul(a, Decimal64.fromParts(1, 16));
+            }
+        }
+
+        public static class Divisor {
+
+            @Benchmark
+            public long decimal64_divisor_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[1].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_1_1(JmhState s) {
+                @Decimal long a = s.decimalSamples[1][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[1].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[2].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_2_2(JmhState s) {
+                @Decimal long a = s.decimalSamples[2][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[2].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[3].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_3_3(JmhState s) {
+                @Decimal long a = s.decimalSamples[3][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[3].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[4].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_4_4(JmhState s) {
+                @Decimal long a = s.decimalSamples[4][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[4].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[5].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_5_5(JmhState s) {
+                @Decimal long a = s.decimalSamples[5][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[5].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[6].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_6_6(JmhState s) {
+                @Decimal long a = s.decimalSamples[6][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[6].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[7].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_7_7(JmhState s) {
+                @Decimal long a = s.decimalSamples[7][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[7].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[8].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_8_8(JmhState s) {
+                @Decimal long a = s.decimalSamples[8][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[8].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[9].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_9_9(JmhState s) {
+                @Decimal long a = s.decimalSamples[9][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[9].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[10].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_10_10(JmhState s) {
+                @Decimal long a = s.decimalSamples[10][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[10].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[11].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_11_11(JmhState s) {
+                @Decimal long a = s.decimalSamples[11][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[11].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[12].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_12_12(JmhState s) {
+                @Decimal long a = s.decimalSamples[12][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[12].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[13].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_13_13(JmhState s) {
+                @Decimal long a = s.decimalSamples[13][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[13].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[14].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_14_14(JmhState s) {
+                @Decimal long a = s.decimalSamples[14][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[14].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[15].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_15_15(JmhState s) {
+                @Decimal long a = s.decimalSamples[15][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[15].getDivisor());
+            }
+
+            @Benchmark
+            public long decimal64_divisor_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return s.divisors[16].divide(a);
+            }
+
+            @Benchmark
+            public long decimal64_divisor_div_16_16(JmhState s) {
+                @Decimal long a = s.decimalSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.div(a, s.divisors[16].getDivisor());
+            }
+        }
+
+        public static class Sqrt {
+
+            @Benchmark
+            public long decimal64_sqrt_1(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_1(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[1][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_2(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_2(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[2][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_3(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_3(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[3][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_4(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_4(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[4][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_5(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_5(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[5][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_6(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_6(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[6][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_7(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_7(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[7][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_8(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_8(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[8][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_9(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_9(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[9][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_10(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_10(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[10][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_11(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_11(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[11][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_12(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_12(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[12][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_13(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_13(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[13][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_14(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_14(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[14][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_15(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_15(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[15][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+
+            @Benchmark
+            public long decimal64_sqrt_16(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.sqrt(a);
+            }
+
+            @Benchmark
+            public BigDecimal bigDecimal_sqrt_16(JmhState s) {
+                BigDecimal a = s.bigDecimalSamples[16][s.idx++].abs();
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return a.sqrt(MathContext.DECIMAL64);
+            }
+        }
+
+        public static class Exp {
+
+            @Benchmark
+            public long decimal64_exp_1(JmhState s) {
+                @Decimal long a = s.unitSamples[1][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_2(JmhState s) {
+                @Decimal long a = s.unitSamples[2][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_3(JmhState s) {
+                @Decimal long a = s.unitSamples[3][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_4(JmhState s) {
+                @Decimal long a = s.unitSamples[4][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_5(JmhState s) {
+                @Decimal long a = s.unitSamples[5][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_6(JmhState s) {
+                @Decimal long a = s.unitSamples[6][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_7(JmhState s) {
+                @Decimal long a = s.unitSamples[7][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_8(JmhState s) {
+                @Decimal long a = s.unitSamples[8][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_9(JmhState s) {
+                @Decimal long a = s.unitSamples[9][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_10(JmhState s) {
+                @Decimal long a = s.unitSamples[10][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_11(JmhState s) {
+                @Decimal long a = s.unitSamples[11][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_12(JmhState s) {
+                @Decimal long a = s.unitSamples[12][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_13(JmhState s) {
+                @Decimal long a = s.unitSamples[13][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_14(JmhState s) {
+                @Decimal long a = s.unitSamples[14][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_15(JmhState s) {
+                @Decimal long a = s.unitSamples[15][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+
+            @Benchmark
+            public long decimal64_exp_16(JmhState s) {
+                @Decimal long a = s.unitSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.exp(a);
+            }
+        }
+
+        public static class Ln {
+
+            @Benchmark
+            public long decimal64_ln_1(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_2(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_3(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_4(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_5(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_6(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_7(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_8(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_9(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_10(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_11(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_12(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_13(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_14(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_15(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+
+            @Benchmark
+            public long decimal64_ln_16(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.ln(a);
+            }
+        }
+
+        public static class Log10 {
+
+            @Benchmark
+            public long decimal64_log10_1(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[1][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_2(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[2][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_3(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[3][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_4(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[4][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_5(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[5][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_6(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[6][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_7(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[7][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_8(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[8][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_9(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[9][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_10(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[10][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_11(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[11][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_12(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[12][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_13(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[13][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_14(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[14][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_15(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[15][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+
+            @Benchmark
+            public long decimal64_log10_16(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.decimalSamples[16][s.idx++]);
+
+                if (s.idx == (s.N - 1)) s.idx = 0;
+
+                return Decimal64.log10(a);
+            }
+        }
+
+        public static class Pow {
+
+            @Benchmark
+            public long decimal64_pow_1(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[1][s.idx++]);
+                @Decimal long b = s.unitSamples[1][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_2(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[2][s.idx++]);
+                @Decimal long b = s.unitSamples[2][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_3(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[3][s.idx++]);
+                @Decimal long b = s.unitSamples[3][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_4(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[4][s.idx++]);
+                @Decimal long b = s.unitSamples[4][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_5(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[5][s.idx++]);
+                @Decimal long b = s.unitSamples[5][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_6(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[6][s.idx++]);
+                @Decimal long b = s.unitSamples[6][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_7(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[7][s.idx++]);
+                @Decimal long b = s.unitSamples[7][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_8(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[8][s.idx++]);
+                @Decimal long b = s.unitSamples[8][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_9(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[9][s.idx++]);
+                @Decimal long b = s.unitSamples[9][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_10(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[10][s.idx++]);
+                @Decimal long b = s.unitSamples[10][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_11(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[11][s.idx++]);
+                @Decimal long b = s.unitSamples[11][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_12(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[12][s.idx++]);
+                @Decimal long b = s.unitSamples[12][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_13(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[13][s.idx++]);
+                @Decimal long b = s.unitSamples[13][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_14(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[14][s.idx++]);
+                @Decimal long b = s.unitSamples[14][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_15(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[15][s.idx++]);
+                @Decimal long b = s.unitSamples[15][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+
+            @Benchmark
+            public long decimal64_pow_16(JmhState s) {
+                @Decimal long a = Decimal64.abs(s.unitSamples[16][s.idx++]);
+                @Decimal long b = s.unitSamples[16][s.idx++];
+
+                if (s.idx == (s.N - 2)) s.idx = 0;
+
+                return Decimal64.pow(a, b);
+            }
+        }
+    }
+
+
+    public static class Convert {
+
+        /**
+         * Parses the samples as Strings, StringBuilders and ByteBufferCharSequences before the trial,
+         * so charAt(..) in the CharSequence parser is megamorphic, as in a service that parses all three.
+         */
+        @State(Scope.Thread)
+        public static class PollutedState {
+
+            @Setup(Level.Trial)
+            public void setup(JmhState s) {
+                for (int round = 0; round < 10; round++) {
+                    for (int i = 0; i < s.M; i++) {
+                        String str = s.stringSamples[16][i];
+                        var buf = ByteBuffer.wrap(str.getBytes(StandardCharsets.US_ASCII));
+                        Decimal64.Internal.Convert.Str.fromString((CharSequence) str, 0, str.length());
+                        Decimal64.Internal.Convert.Str.fromString(new StringBuilder(str), 0, str.length());
+                        Decimal64.Internal.Convert.Str.fromString(new Decimal64.Internal.Convert.Str.ByteBufferCharSequence(buf), 0, str.length());
+                    }
+                }
+            }
+        }
+
+        public static class FromStringPolluted {
+
+            @Benchmark
+            public long decimal64_fromString_charSequence_16(JmhState s) {
+                String str = s.stringSamples[16][s.textIdx];
+                long decimal = Decimal64.Internal.Convert.Str.fromString((CharSequence) str, 0, str.length());
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromString_charSequence_polluted_16(JmhState s, PollutedState p) {
+                String str = s.stringSamples[16][s.textIdx];
+                long decimal = Decimal64.Internal.Convert.Str.fromString((CharSequence) str, 0, str.length());
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromString_string_polluted_16(JmhState s, PollutedState p) {
+                String str = s.stringSamples[16][s.textIdx];
+                long decimal = Decimal64.fromString(str);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromString_chars_polluted_16(JmhState s, PollutedState p) {
+                int offset = s.asciiOffsets[16][s.textIdx];
+                int len = s.asciiOffsets[16][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.charSamples[16], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+        }
+
+        public static class FromAscii {
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_1(JmhState s) {
+                int offset = s.asciiOffsets[1][s.textIdx];
+                int len = s.asciiOffsets[1][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[1], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_1(JmhState s) {
+                int offset = s.asciiOffsets[1][s.textIdx];
+                int len = s.asciiOffsets[1][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[1], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_1(JmhState s) {
+                int offset = s.asciiOffsets[1][s.textIdx];
+                int len = s.asciiOffsets[1][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[1], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_1(JmhState s) {
+                int offset = s.asciiOffsets[1][s.textIdx];
+                int len = s.asciiOffsets[1][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[1][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_2(JmhState s) {
+                int offset = s.asciiOffsets[2][s.textIdx];
+                int len = s.asciiOffsets[2][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[2], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_2(JmhState s) {
+                int offset = s.asciiOffsets[2][s.textIdx];
+                int len = s.asciiOffsets[2][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[2], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_2(JmhState s) {
+                int offset = s.asciiOffsets[2][s.textIdx];
+                int len = s.asciiOffsets[2][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[2], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_2(JmhState s) {
+                int offset = s.asciiOffsets[2][s.textIdx];
+                int len = s.asciiOffsets[2][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[2][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_3(JmhState s) {
+                int offset = s.asciiOffsets[3][s.textIdx];
+                int len = s.asciiOffsets[3][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[3], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_3(JmhState s) {
+                int offset = s.asciiOffsets[3][s.textIdx];
+                int len = s.asciiOffsets[3][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[3], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_3(JmhState s) {
+                int offset = s.asciiOffsets[3][s.textIdx];
+                int len = s.asciiOffsets[3][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[3], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_3(JmhState s) {
+                int offset = s.asciiOffsets[3][s.textIdx];
+                int len = s.asciiOffsets[3][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[3][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_4(JmhState s) {
+                int offset = s.asciiOffsets[4][s.textIdx];
+                int len = s.asciiOffsets[4][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[4], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_4(JmhState s) {
+                int offset = s.asciiOffsets[4][s.textIdx];
+                int len = s.asciiOffsets[4][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[4], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_4(JmhState s) {
+                int offset = s.asciiOffsets[4][s.textIdx];
+                int len = s.asciiOffsets[4][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[4], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_4(JmhState s) {
+                int offset = s.asciiOffsets[4][s.textIdx];
+                int len = s.asciiOffsets[4][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[4][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_5(JmhState s) {
+                int offset = s.asciiOffsets[5][s.textIdx];
+                int len = s.asciiOffsets[5][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[5], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_5(JmhState s) {
+                int offset = s.asciiOffsets[5][s.textIdx];
+                int len = s.asciiOffsets[5][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[5], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_5(JmhState s) {
+                int offset = s.asciiOffsets[5][s.textIdx];
+                int len = s.asciiOffsets[5][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[5], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_5(JmhState s) {
+                int offset = s.asciiOffsets[5][s.textIdx];
+                int len = s.asciiOffsets[5][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[5][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_6(JmhState s) {
+                int offset = s.asciiOffsets[6][s.textIdx];
+                int len = s.asciiOffsets[6][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[6], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_6(JmhState s) {
+                int offset = s.asciiOffsets[6][s.textIdx];
+                int len = s.asciiOffsets[6][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[6], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_6(JmhState s) {
+                int offset = s.asciiOffsets[6][s.textIdx];
+                int len = s.asciiOffsets[6][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[6], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_6(JmhState s) {
+                int offset = s.asciiOffsets[6][s.textIdx];
+                int len = s.asciiOffsets[6][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[6][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_7(JmhState s) {
+                int offset = s.asciiOffsets[7][s.textIdx];
+                int len = s.asciiOffsets[7][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[7], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_7(JmhState s) {
+                int offset = s.asciiOffsets[7][s.textIdx];
+                int len = s.asciiOffsets[7][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[7], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_7(JmhState s) {
+                int offset = s.asciiOffsets[7][s.textIdx];
+                int len = s.asciiOffsets[7][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[7], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_7(JmhState s) {
+                int offset = s.asciiOffsets[7][s.textIdx];
+                int len = s.asciiOffsets[7][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[7][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_8(JmhState s) {
+                int offset = s.asciiOffsets[8][s.textIdx];
+                int len = s.asciiOffsets[8][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[8], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_8(JmhState s) {
+                int offset = s.asciiOffsets[8][s.textIdx];
+                int len = s.asciiOffsets[8][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[8], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_8(JmhState s) {
+                int offset = s.asciiOffsets[8][s.textIdx];
+                int len = s.asciiOffsets[8][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[8], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_8(JmhState s) {
+                int offset = s.asciiOffsets[8][s.textIdx];
+                int len = s.asciiOffsets[8][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[8][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_9(JmhState s) {
+                int offset = s.asciiOffsets[9][s.textIdx];
+                int len = s.asciiOffsets[9][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[9], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_9(JmhState s) {
+                int offset = s.asciiOffsets[9][s.textIdx];
+                int len = s.asciiOffsets[9][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[9], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_9(JmhState s) {
+                int offset = s.asciiOffsets[9][s.textIdx];
+                int len = s.asciiOffsets[9][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[9], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_9(JmhState s) {
+                int offset = s.asciiOffsets[9][s.textIdx];
+                int len = s.asciiOffsets[9][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[9][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_10(JmhState s) {
+                int offset = s.asciiOffsets[10][s.textIdx];
+                int len = s.asciiOffsets[10][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[10], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_10(JmhState s) {
+                int offset = s.asciiOffsets[10][s.textIdx];
+                int len = s.asciiOffsets[10][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[10], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_10(JmhState s) {
+                int offset = s.asciiOffsets[10][s.textIdx];
+                int len = s.asciiOffsets[10][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[10], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_10(JmhState s) {
+                int offset = s.asciiOffsets[10][s.textIdx];
+                int len = s.asciiOffsets[10][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[10][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_11(JmhState s) {
+                int offset = s.asciiOffsets[11][s.textIdx];
+                int len = s.asciiOffsets[11][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[11], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_11(JmhState s) {
+                int offset = s.asciiOffsets[11][s.textIdx];
+                int len = s.asciiOffsets[11][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[11], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_11(JmhState s) {
+                int offset = s.asciiOffsets[11][s.textIdx];
+                int len = s.asciiOffsets[11][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[11], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_11(JmhState s) {
+                int offset = s.asciiOffsets[11][s.textIdx];
+                int len = s.asciiOffsets[11][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[11][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_12(JmhState s) {
+                int offset = s.asciiOffsets[12][s.textIdx];
+                int len = s.asciiOffsets[12][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[12], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_12(JmhState s) {
+                int offset = s.asciiOffsets[12][s.textIdx];
+                int len = s.asciiOffsets[12][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[12], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_12(JmhState s) {
+                int offset = s.asciiOffsets[12][s.textIdx];
+                int len = s.asciiOffsets[12][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[12], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_12(JmhState s) {
+                int offset = s.asciiOffsets[12][s.textIdx];
+                int len = s.asciiOffsets[12][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[12][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_13(JmhState s) {
+                int offset = s.asciiOffsets[13][s.textIdx];
+                int len = s.asciiOffsets[13][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[13], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_13(JmhState s) {
+                int offset = s.asciiOffsets[13][s.textIdx];
+                int len = s.asciiOffsets[13][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[13], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_13(JmhState s) {
+                int offset = s.asciiOffsets[13][s.textIdx];
+                int len = s.asciiOffsets[13][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[13], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_13(JmhState s) {
+                int offset = s.asciiOffsets[13][s.textIdx];
+                int len = s.asciiOffsets[13][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[13][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_14(JmhState s) {
+                int offset = s.asciiOffsets[14][s.textIdx];
+                int len = s.asciiOffsets[14][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[14], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_14(JmhState s) {
+                int offset = s.asciiOffsets[14][s.textIdx];
+                int len = s.asciiOffsets[14][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[14], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_14(JmhState s) {
+                int offset = s.asciiOffsets[14][s.textIdx];
+                int len = s.asciiOffsets[14][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[14], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_14(JmhState s) {
+                int offset = s.asciiOffsets[14][s.textIdx];
+                int len = s.asciiOffsets[14][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[14][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_15(JmhState s) {
+                int offset = s.asciiOffsets[15][s.textIdx];
+                int len = s.asciiOffsets[15][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[15], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_15(JmhState s) {
+                int offset = s.asciiOffsets[15][s.textIdx];
+                int len = s.asciiOffsets[15][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[15], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_15(JmhState s) {
+                int offset = s.asciiOffsets[15][s.textIdx];
+                int len = s.asciiOffsets[15][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[15], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_15(JmhState s) {
+                int offset = s.asciiOffsets[15][s.textIdx];
+                int len = s.asciiOffsets[15][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[15][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_bytes_16(JmhState s) {
+                int offset = s.asciiOffsets[16][s.textIdx];
+                int len = s.asciiOffsets[16][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiSamples[16], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_direct_16(JmhState s) {
+                int offset = s.asciiOffsets[16][s.textIdx];
+                int len = s.asciiOffsets[16][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromAscii(s.asciiDirectSamples[16], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_charSeq_16(JmhState s) {
+                int offset = s.asciiOffsets[16][s.textIdx];
+                int len = s.asciiOffsets[16][s.textIdx + 1] - offset;
+                long decimal = Decimal64.Internal.Convert.Str.fromString(s.asciiCharSeqSamples[16], offset, len);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+
+            @Benchmark
+            public long decimal64_fromAscii_string_16(JmhState s) {
+                int offset = s.asciiOffsets[16][s.textIdx];
+                int len = s.asciiOffsets[16][s.textIdx + 1] - offset;
+                long decimal = Decimal64.fromString(s.stringSamples[16][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return decimal;
+            }
+        }
+
+        /** Signed mantissas with exactly 1 to 16 digits, for {@link Encode} */
+        @State(Scope.Thread)
+        public static class MantissaState {
+
+            private final int M = 10_000;
+
+            private final long[][] mantissas = new long[PRECISION + 1][M];
+
+            private final byte[] bytes = new byte[20];
+
+            private final ByteBuffer buf = ByteBuffer.allocateDirect(20);
+
+            private int idx = 0;
+
+            @Setup(Level.Trial)
+            public void setup() {
+                var rng = new Random(111);
+                for (int p = 1; p <= PRECISION; p++) {
+                    long lo = FastMath.i64TenToThe(p - 1);
+                    for (int i = 0; i < M; i++) {
+                        long mantissa = p == 1 ? rng.nextLong(0, 10) : rng.nextLong(lo, lo * 10);
+                        mantissas[p][i] = rng.nextBoolean() ? mantissa : -mantissa;
+                    }
+                }
+            }
+        }
+
+        public static class Encode {
+
+            @Benchmark
+            public int fastEncoding_writeI64_bytes_1(MantissaState m) {
+                int end = FastEncoding.write_i64(m.mantissas[1][m.idx], m.bytes, 0);
+
+                if (++m.idx == m.M) m.idx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public int fastEncoding_writeI64_bytes_2(MantissaState m) {
+                int end = FastEncoding.write_i64(m.mantissas[2][m.idx], m.bytes, 0);
+
+                if (++m.idx == m.M) m.idx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public int fastEncoding_writeI64_bytes_4(MantissaState m) {
+                int end = FastEncoding.write_i64(m.mantissas[4][m.idx], m.bytes, 0);
+
+                if (++m.idx == m.M) m.idx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public int fastEncoding_writeI64_bytes_8(MantissaState m) {
+                int end = FastEncoding.write_i64(m.mantissas[8][m.idx], m.bytes, 0);
+
+                if (++m.idx == m.M) m.idx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public int fastEncoding_writeI64_bytes_12(MantissaState m) {
+                int end = FastEncoding.write_i64(m.mantissas[12][m.idx], m.bytes, 0);
+
+                if (++m.idx == m.M) m.idx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public int fastEncoding_writeI64_bytes_16(MantissaState m) {
+                int end = FastEncoding.write_i64(m.mantissas[16][m.idx], m.bytes, 0);
+
+                if (++m.idx == m.M) m.idx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public ByteBuffer fastEncoding_writeI64_directBuffer_16(MantissaState m) {
+                m.buf.clear();
+                FastEncoding.write_i64(m.mantissas[16][m.idx], m.buf);
+
+                if (++m.idx == m.M) m.idx = 0;
+
+                return m.buf;
+            }
+
+            @Benchmark
+            public String long_toString_16(MantissaState m) {
+                String str = Long.toString(m.mantissas[16][m.idx]);
+
+                if (++m.idx == m.M) m.idx = 0;
+
+                return str;
+            }
+        }
+
+        /** Reused output for {@link Format} */
+        @State(Scope.Thread)
+        public static class FormatState {
+
+            private final byte[] bytes = new byte[Decimal64.Internal.Convert.Str.MAX_STRING_LENGTH];
+
+            private final char[] chars = new char[Decimal64.Internal.Convert.Str.MAX_STRING_LENGTH];
+
+            private final ByteBuffer buf = ByteBuffer.allocate(Decimal64.Internal.Convert.Str.MAX_STRING_LENGTH);
+
+            private final StringBuilder sb = new StringBuilder(Decimal64.Internal.Convert.Str.MAX_STRING_LENGTH);
+        }
+
+        public static class Format {
+
+            @Benchmark
+            public String decimal64_toString_16(JmhState s) {
+                String str = Decimal64.toString(s.unitSamples[16][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return str;
+            }
+
+            @Benchmark
+            public ByteBuffer decimal64_toString_byteBuffer_16(JmhState s, FormatState f) {
+                f.buf.clear();
+                Decimal64.Internal.Convert.Str.toString(s.unitSamples[16][s.textIdx], f.buf);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return f.buf;
+            }
+
+            @Benchmark
+            public int decimal64_formatTo_bytes_16(JmhState s, FormatState f) {
+                int end = Decimal64.formatTo(s.unitSamples[16][s.textIdx], f.bytes, 0);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public int decimal64_formatTo_chars_16(JmhState s, FormatState f) {
+                int end = Decimal64.formatTo(s.unitSamples[16][s.textIdx], f.chars, 0);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public StringBuilder decimal64_appendTo_stringBuilder_16(JmhState s, FormatState f) {
+                f.sb.setLength(0);
+                Decimal64.appendTo(s.unitSamples[16][s.textIdx], f.sb);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return f.sb;
+            }
+
+            @Benchmark
+            public int decimal64_formatFixed_bytes_16(JmhState s, FormatState f) {
+                int end = Decimal64.formatFixed(s.unitSamples[16][s.textIdx], 4, RoundingMode.HALF_EVEN, 12, f.bytes, 0);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public int decimal64_formattedLength_16(JmhState s) {
+                int len = Decimal64.formattedLength(s.unitSamples[16][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return len;
+            }
+
+            @Benchmark
+            public int decimal64_formatScientific_bytes_16(JmhState s, FormatState f) {
+                int end = Decimal64.formatScientific(s.unitSamples[16][s.textIdx], f.bytes, 0);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public int decimal64_formatShortest_bytes_16(JmhState s, FormatState f) {
+                int end = Decimal64.formatShortest(s.unitSamples[16][s.textIdx], f.bytes, 0);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return end;
+            }
+
+            @Benchmark
+            public String decimal64_toScientificString_16(JmhState s) {
+                String str = Decimal64.toScientificString(s.unitSamples[16][s.textIdx]);
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return str;
+            }
+
+            // BigDecimal caches its toString() on the instance, so after the first pass over the samples this is a field read
+            @Benchmark
+            public String bigDecimal_toString_16(JmhState s) {
+                String str = s.bigDecimalSamples[16][s.textIdx].toString();
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return str;
+            }
+
+            @Benchmark
+            public String bigDecimal_setScale_toPlainString_16(JmhState s) {
+                String str = s.bigDecimalSamples[16][s.textIdx].setScale(4, RoundingMode.HALF_EVEN).toPlainString();
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return str;
+            }
+
+            @Benchmark
+            public String bigDecimal_toPlainString_16(JmhState s) {
+                String str = s.bigDecimalSamples[16][s.textIdx].toPlainString();
+
+                if (++s.textIdx == s.M) s.textIdx = 0;
+
+                return str;
+            }
+        }
+
+        /**
+         * A temp CSV of "id,price,note" rows with random 16 digit prices, for {@link LoadColumn}.
+         */
+        @State(Scope.Benchmark)
+        public static class ColumnFileState {
+
+            private final int nRows = 4_000_000;
+
+            private Path file;
+
+            private long fileSize;
+
+            @Setup(Level.Trial)
+            public void setup() throws IOException {
+                var rng = new Random(111);
+                file = Files.createTempFile("decimal-column", ".csv");
+                try (var out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+                    out.write("id,price,note\n");
+                    for (int i = 0; i < nRows; i++) {
+                        var price = BigDecimal.valueOf(rng.nextLong() % 10_000_000_000_000_000L, rng.nextInt(0, 17));
+                        out.write(i + "," + price.toPlainString() + ",row " + i + "\n");
+                    }
+                }
+                fileSize = Files.size(file);
+            }
+
+            @TearDown(Level.Trial)
+            public void tearDown() throws IOException {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        /** Counts the bytes read, so throughput mode reports bytes per second next to ops per second */
+        @State(Scope.Thread)
+        @AuxCounters(AuxCounters.Type.OPERATIONS)
+        public static class ByteCounter {
+
+            public long bytes;
+        }
+
+        @BenchmarkMode(Mode.Throughput)
+        @OutputTimeUnit(TimeUnit.SECONDS)
+        public static class LoadColumn {
+
+            @Benchmark
+            public long[] decimal64_loadColumn_parallel(ColumnFileState f, ByteCounter c) throws IOException {
+                c.bytes += f.fileSize;
+                return DecimalColumnLoader.load(f.file, 1, ',', true);
+            }
+
+            @Benchmark
+            public long[] decimal64_loadColumn_serial(ColumnFileState f, ByteCounter c) throws IOException {
+                c.bytes += f.fileSize;
+                return DecimalColumnLoader.load(f.file, 1, ',', true, SERIAL_POOL);
+            }
+
+            private static final ForkJoinPool SERIAL_POOL = new ForkJoinPool(1);
+        }
+
+        /**
+         * Dense comma separated prices, 8 per line, for {@link BulkParse}.
+         */
+        @State(Scope.Benchmark)
+        public static class DenseTextState {
+
+            private final int nFields = 100_000;
+
+            private byte[] text;
+
+            private final @Decimal long[] out = new long[nFields];
+
+            @Setup(Level.Trial)
+            public void setup() {
+                var rng = new Random(111);
+                var sb = new StringBuilder();
+                for (int i = 0; i < nFields; i++) {
+                    var price = BigDecimal.valueOf(rng.nextLong() % 10_000_000_000_000_000L, rng.nextInt(0, 17));
+                    sb.append(price.toPlainString()).append(i % 8 == 7 ? '\n' : ',');
+                }
+                text = sb.toString().getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+
+        /** A decoder fed through a reused 64 KB direct buffer, as if read from a channel, for {@link BulkParse} */
+        @State(Scope.Thread)
+        public static class StreamState {
+
+            private final ByteBuffer buf = ByteBuffer.allocateDirect(64 << 10);
+
+            private long sum;
+
+            private final DecimalStreamDecoder decoder = new DecimalStreamDecoder(',', decimal -> sum += decimal);
+        }
+
+        @BenchmarkMode(Mode.Throughput)
+        @OutputTimeUnit(TimeUnit.SECONDS)
+        public static class BulkParse {
+
+            @Benchmark
+            @Fork(jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+            public long[] decimal64_bulkParse_vectorized(DenseTextState d, ByteCounter c) {
+                c.bytes += d.text.length;
+                DecimalBulkParser.parse(d.text, 0, d.text.length, ',', d.out, 0);
+                return d.out;
+            }
+
+            @Benchmark
+            public long[] decimal64_bulkParse_scalar(DenseTextState d, ByteCounter c) {
+                c.bytes += d.text.length;
+                DecimalBulkParser.parse(d.text, 0, d.text.length, ',', d.out, 0);
+                return d.out;
+            }
+
+            @Benchmark
+            public long decimal64_streamDecode_64k(DenseTextState d, StreamState st, ByteCounter c) {
+                c.bytes += d.text.length;
+                st.sum = 0;
+                for (int i = 0; i < d.text.length; i += st.buf.capacity()) {
+                    st.buf.clear();
+                    st.buf.put(d.text, i, Math.min(st.buf.capacity(), d.text.length - i));
+                    st.buf.flip();
+                    st.decoder.feed(st.buf);
+                }
+                st.decoder.finish();
+                return st.sum;
+            }
+
+            @Benchmark
+            public long[] decimal64_fromAsciiPrefix_perField(DenseTextState d, ByteCounter c) {
+                c.bytes += d.text.length;
+                int[] consumed = new int[1];
+                for (int i = 0, field = 0; i < d.text.length; i += consumed[0] + 1) {
+                    d.out[field++] = Decimal64.fromAsciiPrefix(d.text, i, d.text.length - i, consumed);
+                }
+                return d.out;
+            }
+        }
+    }
+
+
+    public static void main(String[] args) throws Exception {
+        var classes = Decimal64Bench.class.getName() + ".*";
+        boolean profile = true;
+        var mode = Mode.All;
+        var outFmt = ResultFormatType.JSON;
+
+        var outFolder = Paths.get(String.format("decimal-benchmarks/results/%s-%s", classes.replaceAll("\\*", ""), mode));
+        Files.createDirectories(outFolder);
+
+        var jmhOpts = new OptionsBuilder()
+                .include(classes)
+                .forks(1)
+                .mode(mode)
+                // warmup
+                .warmupForks(0)
+                .warmupIterations(1)
+                .warmupTime(TimeValue.milliseconds(100))
+                // measurement
+                .measurementIterations(5)
+                .measurementTime(TimeValue.milliseconds(10))
+                // output
+                .result(outFolder + "/summary." + outFmt.name().toLowerCase())
+                .resultFormat(outFmt);
+
+        // reports gc.alloc.rate.norm, i.e. bytes allocated per op
+        jmhOpts.addProfiler(GCProfiler.class);
 
         if (profile) {
             jmhOpts.addProfiler(AsyncProfiler.class, "libPath=/Applications/IntelliJ IDEA.app/Contents/lib/async-profiler/libasyncProfiler.dylib;output=jfr;event=cpu;alloc;dir=decimal-benchmarks/results");